@@ -0,0 +1,124 @@
+package game.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * BalanceProfile holds the numbers behind the derived stat formulas and the
+ * hit chance clamp. Every Stat carries the profile it was built under, and
+ * CombatSystem clamps hit chance with the attacker's profile.
+ *
+ * FORMULAS (see Stat):
+ * - Max HP = baseHp + STR * hpPerStrength
+ * - Evasion = sqrt(AGI) * evasionScaler, Speed = sqrt(AGI) * speedScaler
+ * - Accuracy = baseAccuracy + sqrt(INT) * accuracyScaler
+ * - Cooldown reduction = sqrt(INT - 20) * cdrScaler
+ * - Hit chance = accuracy - evasion, clamped to [minHitChance, maxHitChance]
+ *
+ * PASSING A PROFILE:
+ * - DEFAULT is the shipped balance and the only global; new Stat(...) and
+ *   EntitySystem.createPlayer(...) use it unless given another profile
+ * - Other profiles (balance tuning) are passed to the Stat, EntitySystem or
+ *   CombatantStore that builds the entities; copies keep their source's profile
+ * - Nothing swaps a global, so a tuning run and a live game never see each
+ *   other's numbers
+ *
+ * Design: Immutable; safe to share across threads.
+ */
+public final class BalanceProfile implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The shipped balance.
+     */
+    public static final BalanceProfile DEFAULT = new BalanceProfile(60, 3, 1.8, 2.2, 75, 0.5, 1.5, 5, 95);
+
+    private final int baseHp;
+    private final int hpPerStrength;
+    private final double evasionScaler;
+    private final double accuracyScaler;
+    private final int baseAccuracy;
+    private final double cdrScaler;
+    private final double speedScaler;
+    private final int minHitChance;
+    private final int maxHitChance;
+
+    /**
+     * @throws IllegalArgumentException if a value is negative, the HP would be
+     *         zero, or the hit chance range is outside 0-100 or empty
+     */
+    public BalanceProfile(int baseHp, int hpPerStrength, double evasionScaler, double accuracyScaler,
+                          int baseAccuracy, double cdrScaler, double speedScaler,
+                          int minHitChance, int maxHitChance) {
+        if (baseHp < 1 || hpPerStrength < 0 || baseAccuracy < 0) {
+            throw new IllegalArgumentException("Base HP must be positive and HP per STR / base accuracy non-negative");
+        }
+        if (!(evasionScaler >= 0) || !(accuracyScaler >= 0) || !(cdrScaler >= 0) || !(speedScaler >= 0)) {
+            throw new IllegalArgumentException("Scalers must be non-negative numbers");
+        }
+        if (minHitChance < 0 || maxHitChance > 100 || minHitChance > maxHitChance) {
+            throw new IllegalArgumentException("Hit chance range must satisfy 0 <= min <= max <= 100");
+        }
+
+        this.baseHp = baseHp;
+        this.hpPerStrength = hpPerStrength;
+        this.evasionScaler = evasionScaler;
+        this.accuracyScaler = accuracyScaler;
+        this.baseAccuracy = baseAccuracy;
+        this.cdrScaler = cdrScaler;
+        this.speedScaler = speedScaler;
+        this.minHitChance = minHitChance;
+        this.maxHitChance = maxHitChance;
+    }
+
+    // ===== ACCESSORS =====
+
+    public int getBaseHp() { return baseHp; }
+    public int getHpPerStrength() { return hpPerStrength; }
+    public double getEvasionScaler() { return evasionScaler; }
+    public double getAccuracyScaler() { return accuracyScaler; }
+    public int getBaseAccuracy() { return baseAccuracy; }
+    public double getCdrScaler() { return cdrScaler; }
+    public double getSpeedScaler() { return speedScaler; }
+    public int getMinHitChance() { return minHitChance; }
+    public int getMaxHitChance() { return maxHitChance; }
+
+    // ===== EQUALITY =====
+
+    /**
+     * Profiles are equal if every number is equal.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        BalanceProfile other = (BalanceProfile) obj;
+        return baseHp == other.baseHp && hpPerStrength == other.hpPerStrength
+            && Double.compare(evasionScaler, other.evasionScaler) == 0
+            && Double.compare(accuracyScaler, other.accuracyScaler) == 0
+            && baseAccuracy == other.baseAccuracy
+            && Double.compare(cdrScaler, other.cdrScaler) == 0
+            && Double.compare(speedScaler, other.speedScaler) == 0
+            && minHitChance == other.minHitChance && maxHitChance == other.maxHitChance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(baseHp, hpPerStrength, evasionScaler, accuracyScaler, baseAccuracy,
+            cdrScaler, speedScaler, minHitChance, maxHitChance);
+    }
+
+    /**
+     * Deserialized shipped numbers resolve to DEFAULT itself.
+     */
+    private Object readResolve() {
+        return equals(DEFAULT) ? DEFAULT : this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BalanceProfile{HP %d + %d/STR, evasion %.2f, accuracy %d + %.2f, CDR %.2f, "
+                + "speed %.2f, hit %d-%d%%}", baseHp, hpPerStrength, evasionScaler, baseAccuracy,
+            accuracyScaler, cdrScaler, speedScaler, minHitChance, maxHitChance);
+    }
+}
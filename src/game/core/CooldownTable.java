@@ -0,0 +1,261 @@
+package game.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * CooldownTable stores skill cooldowns for one entity in primitive arrays.
+ * Shared by Player and Enemy instead of a HashMap keyed by skill ID.
+ *
+ * LAYOUT:
+ * - Each skill gets a slot the first time it is registered
+ * - readyAt[slot] = turn number at which the skill is ready again
+ * - turn = this entity's turn counter (advanced by tick())
+ * - remaining cooldown = max(0, readyAt - turn), computed on demand
+ * - readyMask bit N set = slot N is ready (one long per 64 slots)
+ *
+ * ABSOLUTE EXPIRY:
+ * - tick() only advances the turn counter, nothing is decremented
+ * - The ready mask is refreshed only on the turn the earliest cooldown expires
+ * - So a tick is O(1) except on expiry turns, which are O(slots)
+ *
+ * Enemies register their skills up front, so slot == index in getSkills().
+ * Readiness checks by slot are a single bit test, no hashing or boxing.
+ * Any number of slots is supported; the mask grows a word every 64 slots.
+ */
+public class CooldownTable implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Skill[] skills;
+    private transient int[] skillIndices;   // SkillRegistry index per slot (rebuilt on load)
+    private int[] readyAt;
+    private int slotCount;
+    private int turn;
+    private int nextExpiry;     // Earliest readyAt among cooling slots
+    private long[] readyMask;   // Bit (slot & 63) of word (slot >>> 6)
+    private int version;        // Bumped when a cooldown is set or readiness changes
+
+    public CooldownTable() {
+        this.skills = new Skill[INITIAL_CAPACITY];
+        this.skillIndices = new int[INITIAL_CAPACITY];
+        this.readyAt = new int[INITIAL_CAPACITY];
+        this.slotCount = 0;
+        this.turn = 0;
+        this.nextExpiry = Integer.MAX_VALUE;
+        this.readyMask = new long[1];
+    }
+
+    // ======== SLOTS ========
+
+    /**
+     * Register a skill and return its slot.
+     * Registering the same skill again returns the existing slot.
+     *
+     * @param skill The skill
+     * @return Slot index
+     */
+    public int register(Skill skill) {
+        if (skill == null) {
+            throw new IllegalArgumentException("Skill cannot be null");
+        }
+
+        int slot = slotOf(skill);
+        if (slot >= 0) {
+            return slot;
+        }
+
+        if (slotCount == skillIndices.length) {
+            int capacity = skillIndices.length * 2;
+            skills = Arrays.copyOf(skills, capacity);
+            skillIndices = Arrays.copyOf(skillIndices, capacity);
+            readyAt = Arrays.copyOf(readyAt, capacity);
+        }
+
+        slot = slotCount++;
+        if ((slot >>> 6) == readyMask.length) {
+            readyMask = Arrays.copyOf(readyMask, readyMask.length + 1);
+        }
+        skills[slot] = skill;
+        skillIndices[slot] = skill.getIndex();
+        readyAt[slot] = turn;
+        readyMask[slot >>> 6] |= 1L << slot;
+        version++;
+        return slot;
+    }
+
+    /**
+     * Find the slot of a skill by its registry index.
+     *
+     * @return Slot index, or -1 if not registered
+     */
+    public int slotOf(Skill skill) {
+        if (skill == null) return -1;
+
+        int index = skill.getIndex();
+        for (int i = 0; i < slotCount; i++) {
+            if (skillIndices[i] == index) return i;
+        }
+        return -1;
+    }
+
+    public int getSlotCount() { return slotCount; }
+
+    // ======== COOLDOWN ACCESS ========
+
+    /**
+     * Get remaining cooldown for a skill (0 if unknown).
+     */
+    public int get(Skill skill) {
+        int slot = slotOf(skill);
+        return slot >= 0 ? getBySlot(slot) : 0;
+    }
+
+    /**
+     * Set cooldown for a skill, registering it if needed.
+     * Values below 0 are stored as 0 (ready).
+     */
+    public void set(Skill skill, int cooldown) {
+        if (skill == null) return;
+
+        int slot = slotOf(skill);
+        if (slot < 0) {
+            if (cooldown <= 0) return; // Unknown skills are already ready
+            slot = register(skill);
+        }
+        setBySlot(slot, cooldown);
+    }
+
+    /**
+     * Get remaining cooldown by slot.
+     */
+    public int getBySlot(int slot) {
+        return Math.max(0, readyAt[slot] - turn);
+    }
+
+    /**
+     * Set cooldown by slot.
+     */
+    public void setBySlot(int slot, int cooldown) {
+        int value = Math.max(0, cooldown);
+        long bit = 1L << slot; // Shift distance is taken mod 64
+        readyAt[slot] = turn + value;
+
+        if (value == 0) {
+            readyMask[slot >>> 6] |= bit;
+        } else {
+            readyMask[slot >>> 6] &= ~bit;
+            nextExpiry = Math.min(nextExpiry, readyAt[slot]);
+        }
+        version++;
+    }
+
+    /**
+     * Check readiness by slot (single bit test).
+     */
+    public boolean isReady(int slot) {
+        return ((readyMask[slot >>> 6] >>> slot) & 1L) != 0;
+    }
+
+    /**
+     * Get the ready mask of the first 64 slots: bit N set = slot N is ready.
+     * Use isReady() or getReadyCount() for tables with more slots.
+     */
+    public long getReadyMask() {
+        return readyMask[0];
+    }
+
+    /**
+     * Count ready slots.
+     */
+    public int getReadyCount() {
+        int count = 0;
+        for (long word : readyMask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // ======== TURN UPDATES ========
+
+    /**
+     * Advance one turn: every cooldown drops by 1.
+     * Only the turn counter moves; the mask is refreshed when something expires.
+     */
+    public void tick() {
+        turn++;
+        if (turn >= nextExpiry) {
+            refreshMask();
+        }
+    }
+
+    /**
+     * Make every skill ready. Slots are kept.
+     */
+    public void reset() {
+        turn = 0;
+        Arrays.fill(readyAt, 0, slotCount, 0);
+        nextExpiry = Integer.MAX_VALUE;
+        Arrays.fill(readyMask, 0L);
+        for (int i = 0; i < slotCount; i++) {
+            readyMask[i >>> 6] |= 1L << i;
+        }
+        version++;
+    }
+
+    /**
+     * Get this entity's turn counter (ticks since last reset).
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Get readiness version. Changes whenever a cooldown is set or the
+     * ready mask changes; plain ticks that expire nothing keep it.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Rebuild ready mask and next expiry from readyAt.
+     */
+    private void refreshMask() {
+        boolean changed = false;
+        int earliest = Integer.MAX_VALUE;
+        for (int w = 0; w < readyMask.length; w++) {
+            long mask = 0L;
+            int end = Math.min(slotCount, (w + 1) << 6);
+            for (int i = w << 6; i < end; i++) {
+                int at = readyAt[i];
+                if (at <= turn) {
+                    mask |= 1L << i;
+                } else if (at < earliest) {
+                    earliest = at;
+                }
+            }
+            if (mask != readyMask[w]) {
+                readyMask[w] = mask;
+                changed = true;
+            }
+        }
+        if (changed) version++;
+        nextExpiry = earliest;
+    }
+
+    /**
+     * Registry indices are per-JVM, so rebuild them from the (interned) skills.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        skillIndices = new int[skills.length];
+        for (int i = 0; i < slotCount; i++) {
+            skillIndices[i] = skills[i].getIndex();
+        }
+    }
+}
@@ -1,26 +1,38 @@
 package game.core;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Enemy represents an enemy character.
- * Stores cooldown state for all skills using skill IDs as keys.
+ * Stores cooldown state in a CooldownTable where slot == index in getSkills().
  */
 public class Enemy implements Serializable {
 
+    public static final int NO_TYPE = -1; // Enemy not created from a registered template
+    public static final int UNRESOLVED = -2; // Archetype not looked up yet
+
     private final String name;
+    private final int typeId;
+    private int archetypeId; // Cached by EnemyArchetypeRegistry
     private final Stat stats;
     private final Skill[] skills; // Can be empty, but never null
 
-    private final Map<String, Integer> skillCooldowns; // key = skill.getId()
+    private final CooldownTable cooldowns;
 
     public Enemy(String name, Stat stats) {
         this(name, stats, new Skill[0]); // No skills by default
     }
 
     public Enemy(String name, Stat stats, Skill[] skills) {
+        this(name, stats, skills, NO_TYPE);
+    }
+
+    /**
+     * Create an enemy of a registered type.
+     * 
+     * @param typeId Dense template ID from EnemiesData (NO_TYPE if none)
+     */
+    public Enemy(String name, Stat stats, Skill[] skills, int typeId) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Enemy name cannot be null or empty");
         }
@@ -29,10 +41,17 @@ public class Enemy implements Serializable {
         }
 
         this.name = name.trim();
+        this.typeId = typeId;
+        this.archetypeId = typeId >= 0 ? typeId : UNRESOLVED;
         this.stats = stats;
         // Never store null - use empty array instead
         this.skills = (skills != null) ? skills : new Skill[0];
-        this.skillCooldowns = new HashMap<>();
+        this.cooldowns = new CooldownTable();
+        for (Skill skill : this.skills) {
+            if (skill != null) {
+                cooldowns.register(skill); // Slot == skill index
+            }
+        }
     }
 
     // ======== COMBAT METHODS ========
@@ -51,32 +70,22 @@ public class Enemy implements Serializable {
 
     /**
      * Get remaining cooldown for a skill.
-     * Uses skill ID for consistent lookup.
      * 
      * @param skill The skill to check
      * @return Remaining cooldown in turns (0 = ready)
      */
     public int getSkillCooldown(Skill skill) {
-        if (skill == null) return 0;
-        return skillCooldowns.getOrDefault(skill.getId(), 0);
+        return cooldowns.get(skill);
     }
 
     /**
      * Set cooldown for a skill.
-     * Uses skill ID for consistent lookup.
      * 
      * @param skill The skill to set cooldown for
-     * @param cooldown The cooldown value (0 or negative removes cooldown)
+     * @param cooldown The cooldown value (0 or negative makes it ready)
      */
     public void setSkillCooldown(Skill skill, int cooldown) {
-        if (skill == null) return;
-
-        String key = skill.getId();
-        if (cooldown <= 0) {
-            skillCooldowns.remove(key);
-        } else {
-            skillCooldowns.put(key, cooldown);
-        }
+        cooldowns.set(skill, cooldown);
     }
 
     /**
@@ -84,8 +93,7 @@ public class Enemy implements Serializable {
      * Called at the start of each turn.
      */
     public void tickAllCooldowns() {
-        skillCooldowns.replaceAll((key, cd) -> Math.max(0, cd - 1));
-        skillCooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0);
+        cooldowns.tick();
     }
 
     /**
@@ -93,7 +101,14 @@ public class Enemy implements Serializable {
      * Called at the start of a new battle.
      */
     public void resetAllCooldowns() {
-        skillCooldowns.clear();
+        cooldowns.reset();
+    }
+
+    /**
+     * Get the underlying cooldown table (for slot-based fast paths).
+     */
+    public CooldownTable getCooldowns() {
+        return cooldowns;
     }
 
     // ======== GETTERS ========
@@ -101,6 +116,21 @@ public class Enemy implements Serializable {
     public String getName() { return name; }
     public Stat getStats() { return stats; }
     
+    /**
+     * Get template type ID (NO_TYPE for ad-hoc enemies).
+     */
+    public int getTypeId() { return typeId; }
+    
+    /**
+     * Get cached archetype ID (UNRESOLVED until first lookup, NO_TYPE if none matches).
+     */
+    public int getArchetypeId() { return archetypeId; }
+    
+    /**
+     * Cache the archetype ID. Set by the archetype registry on first lookup.
+     */
+    public void setArchetypeId(int archetypeId) { this.archetypeId = archetypeId; }
+    
     /**
      * Get skills array.
      * Never returns null - returns empty array if no skills.
@@ -1,12 +1,10 @@
 package game.core;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Player represents the player character.
- * Stores cooldown state for all skills using skill IDs as keys.
+ * Stores cooldown state for all skills in a primitive CooldownTable.
  */
 public class Player implements Serializable {
 
@@ -14,7 +12,7 @@ public class Player implements Serializable {
     private final Profession profession;
     private final Stat stats;
 
-    private final Map<String, Integer> skillCooldowns; // key = skill.getId()
+    private final CooldownTable cooldowns;
 
     public Player(String name, Profession profession, Stat stats) {
         if (name == null || name.trim().isEmpty()) {
@@ -30,7 +28,7 @@ public class Player implements Serializable {
         this.name = name.trim();
         this.profession = profession;
         this.stats = stats;
-        this.skillCooldowns = new HashMap<>();
+        this.cooldowns = new CooldownTable();
     }
 
     // ======== COMBAT METHODS ========
@@ -49,32 +47,22 @@ public class Player implements Serializable {
 
     /**
      * Get remaining cooldown for a skill.
-     * Uses skill ID for consistent lookup.
      * 
      * @param skill The skill to check
      * @return Remaining cooldown in turns (0 = ready)
      */
     public int getSkillCooldown(Skill skill) {
-        if (skill == null) return 0;
-        return skillCooldowns.getOrDefault(skill.getId(), 0);
+        return cooldowns.get(skill);
     }
 
     /**
      * Set cooldown for a skill.
-     * Uses skill ID for consistent lookup.
      * 
      * @param skill The skill to set cooldown for
-     * @param cooldown The cooldown value (0 or negative removes cooldown)
+     * @param cooldown The cooldown value (0 or negative makes it ready)
      */
     public void setSkillCooldown(Skill skill, int cooldown) {
-        if (skill == null) return;
-        
-        String key = skill.getId();
-        if (cooldown <= 0) {
-            skillCooldowns.remove(key);
-        } else {
-            skillCooldowns.put(key, cooldown);
-        }
+        cooldowns.set(skill, cooldown);
     }
 
     /**
@@ -82,8 +70,7 @@ public class Player implements Serializable {
      * Called at the start of each turn.
      */
     public void tickAllCooldowns() {
-        skillCooldowns.replaceAll((key, cd) -> Math.max(0, cd - 1));
-        skillCooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0);
+        cooldowns.tick();
     }
 
     /**
@@ -91,7 +78,14 @@ public class Player implements Serializable {
      * Called at the start of a new battle.
      */
     public void resetAllCooldowns() {
-        skillCooldowns.clear();
+        cooldowns.reset();
+    }
+
+    /**
+     * Get the underlying cooldown table (for slot-based fast paths).
+     */
+    public CooldownTable getCooldowns() {
+        return cooldowns;
     }
 
     // ======== GETTERS ========
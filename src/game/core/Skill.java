@@ -8,6 +8,10 @@ import java.io.Serializable;
  * 
  * DESIGN: Skills are templates that can be shared across multiple entities.
  * Each skill has a stable ID based on its name for consistent lookups.
+ * Each skill is also interned in SkillRegistry, which gives it a dense int index;
+ * skills with the same ID share the same index, and equality is an int compare.
+ * Short-lived variants (balance tuning candidates) use Skill.unregistered():
+ * they get a negative index of their own and never enter the registry.
  */
 public class Skill implements Serializable {
 
@@ -16,6 +20,8 @@ public class Skill implements Serializable {
     private final Profession allowedProfession; // null = any profession can use
     private final int baseDamage;
     private final int baseCooldown;
+    private final transient int index; // Dense registry index (not stable across runs), < 0 if unregistered
+    private final boolean registered;
 
     /**
      * Creates a new skill template.
@@ -27,6 +33,22 @@ public class Skill implements Serializable {
      * @param baseCooldown Base cooldown in turns (0 = no cooldown)
      */
     public Skill(String name, Profession allowedProfession, int baseDamage, int baseCooldown) {
+        this(name, allowedProfession, baseDamage, baseCooldown, true);
+    }
+
+    /**
+     * Create a skill outside SkillRegistry (e.g. a balance tuning candidate).
+     * It is equal only to itself, is never returned by registry lookups, and
+     * may reuse a registered name with other numbers. Nothing is kept after
+     * the skill becomes unreachable.
+     *
+     * @see #Skill(String, Profession, int, int)
+     */
+    public static Skill unregistered(String name, Profession allowedProfession, int baseDamage, int baseCooldown) {
+        return new Skill(name, allowedProfession, baseDamage, baseCooldown, false);
+    }
+
+    private Skill(String name, Profession allowedProfession, int baseDamage, int baseCooldown, boolean registered) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Skill name cannot be null or empty");
         }
@@ -36,6 +58,13 @@ public class Skill implements Serializable {
         this.allowedProfession = allowedProfession;
         this.baseDamage = Math.max(0, baseDamage);
         this.baseCooldown = Math.max(0, baseCooldown);
+        this.registered = registered;
+        if (registered) {
+            this.index = SkillRegistry.reserve(id, allowedProfession, this.baseDamage, this.baseCooldown);
+            SkillRegistry.publish(this); // Last: every field is set before other threads can see it
+        } else {
+            this.index = SkillRegistry.reserveUnregistered();
+        }
     }
 
     /**
@@ -43,6 +72,13 @@ public class Skill implements Serializable {
      * Same name always produces same ID.
      */
     private String generateStableId(String name) {
+        return idForName(name);
+    }
+
+    /**
+     * Stable ID for a skill name (shared with SkillRegistry name lookups).
+     */
+    static String idForName(String name) {
         // Use lowercase name as ID for stability
         // Could use hash if needed, but name works for most cases
         return "skill_" + name.toLowerCase().replace(" ", "_");
@@ -78,24 +114,47 @@ public class Skill implements Serializable {
     public Profession getAllowedProfession() { return allowedProfession; }
     public int getBaseDamage() { return baseDamage; }
     public int getBaseCooldown() { return baseCooldown; }
+    public int getIndex() { return index; }
+
+    /**
+     * @return false for Skill.unregistered() variants
+     */
+    public boolean isRegistered() { return registered; }
 
     // ======== EQUALITY & HASH ========
 
     /**
      * Skills are equal if they have the same ID.
-     * This allows proper comparison after serialization.
+     * Same ID means same registry index, so this is an int compare.
+     * Unregistered skills have unique indices, so they equal only themselves.
      */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Skill other = (Skill) obj;
-        return id.equals(other.id);
+        return index == other.index;
     }
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return index;
+    }
+
+    /**
+     * Replace deserialized skills with the canonical registered instance.
+     * The index is transient, so it is re-resolved from the stable ID
+     * (unregistered skills get a fresh index of their own).
+     */
+    private Object readResolve() {
+        if (!registered) {
+            return unregistered(name, allowedProfession, baseDamage, baseCooldown);
+        }
+        Skill canonical = SkillRegistry.getById(id);
+        if (canonical != null) {
+            return canonical;
+        }
+        return new Skill(name, allowedProfession, baseDamage, baseCooldown);
     }
 
     @Override
@@ -0,0 +1,180 @@
+package game.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SkillRegistry interns every skill once and gives it a dense int index.
+ *
+ * HOW IT WORKS:
+ * - Each Skill reserves its index first (reserve), then publishes itself once
+ *   fully constructed (publish) - readers never see a half-built skill
+ * - The first skill with a given ID becomes the canonical instance
+ * - Later skills with the same ID share its index (and are equal to it); they
+ *   must carry the same profession, damage and cooldown, otherwise reserve
+ *   throws (equal skills with different numbers would silently swap numbers
+ *   through intern, equals or deserialization)
+ * - Indices are dense (0, 1, 2, ...) so they can index plain arrays
+ * - Skill.unregistered() skills skip the registry: each takes the next
+ *   negative index (-1, -2, ...), which only keeps it distinct, so tuning
+ *   runs that create thousands of variants never grow the tables
+ *
+ * Lookups by index are an array read; lookups by ID or name are one hash lookup.
+ *
+ * Design: Static registry, safe to use from parallel simulations.
+ * Indices are stable for the lifetime of the JVM, not across runs -
+ * persist skill IDs, not indices.
+ */
+public final class SkillRegistry {
+
+    /**
+     * Registered ID: its index, its numbers and (once published) its canonical skill.
+     */
+    private static final class Entry {
+        private final int index;
+        private final Profession profession;
+        private final int baseDamage;
+        private final int baseCooldown;
+        private volatile Skill canonical;
+
+        Entry(int index, Profession profession, int baseDamage, int baseCooldown) {
+            this.index = index;
+            this.profession = profession;
+            this.baseDamage = baseDamage;
+            this.baseCooldown = baseCooldown;
+        }
+    }
+
+    private static final ConcurrentHashMap<String, Entry> ENTRIES_BY_ID = new ConcurrentHashMap<>();
+    private static volatile Entry[] entriesByIndex = new Entry[16];
+    private static int count = 0;
+    private static final AtomicInteger nextUnregistered = new AtomicInteger(-1);
+
+    private SkillRegistry() {
+        // Static registry - no instances
+    }
+
+    // ======== REGISTRATION ========
+
+    /**
+     * Reserve the index for a skill ID.
+     * Called from the Skill constructor before the skill is published.
+     *
+     * @return Dense index shared by all skills with the same ID
+     * @throws IllegalArgumentException if the ID is registered with other numbers
+     */
+    static int reserve(String id, Profession profession, int baseDamage, int baseCooldown) {
+        Entry entry = ENTRIES_BY_ID.get(id);
+        if (entry == null) {
+            synchronized (SkillRegistry.class) {
+                entry = ENTRIES_BY_ID.get(id);
+                if (entry == null) {
+                    entry = new Entry(count++, profession, baseDamage, baseCooldown);
+                    Entry[] table = entriesByIndex;
+                    if (entry.index == table.length) {
+                        table = Arrays.copyOf(table, table.length * 2);
+                    }
+                    table[entry.index] = entry;
+                    entriesByIndex = table;
+                    ENTRIES_BY_ID.put(id, entry); // Index is final before the entry is visible
+                    return entry.index;
+                }
+            }
+        }
+
+        if (entry.profession != profession || entry.baseDamage != baseDamage || entry.baseCooldown != baseCooldown) {
+            throw new IllegalArgumentException("Skill " + id + " is already registered with "
+                + entry.baseDamage + " damage / " + entry.baseCooldown + " cooldown"
+                + (entry.profession != null ? " / " + entry.profession : "")
+                + "; use a different name for different numbers");
+        }
+        return entry.index;
+    }
+
+    /**
+     * Unique negative index for an unregistered skill.
+     * Called from the Skill constructor; nothing is stored.
+     */
+    static int reserveUnregistered() {
+        return nextUnregistered.getAndDecrement();
+    }
+
+    /**
+     * Publish a fully constructed skill as canonical if it is the first of its ID.
+     * Called as the last step of the Skill constructor.
+     */
+    static void publish(Skill skill) {
+        Entry entry = entriesByIndex[skill.getIndex()];
+        if (entry.canonical == null) {
+            synchronized (entry) {
+                if (entry.canonical == null) {
+                    entry.canonical = skill;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the canonical instance of a skill.
+     *
+     * @param skill Any skill instance
+     * @return The first registered skill with the same ID
+     */
+    public static Skill intern(Skill skill) {
+        if (skill == null) return null;
+        Skill canonical = get(skill.getIndex());
+        return canonical != null ? canonical : skill;
+    }
+
+    // ======== LOOKUPS ========
+
+    /**
+     * Get a skill by index.
+     *
+     * @return The canonical skill, or null if the index is unknown
+     */
+    public static Skill get(int index) {
+        Entry[] table = entriesByIndex;
+        Entry entry = index >= 0 && index < table.length ? table[index] : null;
+        return entry != null ? entry.canonical : null;
+    }
+
+    /**
+     * Get a skill by its stable ID (e.g. "skill_fireball").
+     *
+     * @return The canonical skill, or null if not registered
+     */
+    public static Skill getById(String id) {
+        Entry entry = id != null ? ENTRIES_BY_ID.get(id) : null;
+        return entry != null ? entry.canonical : null;
+    }
+
+    /**
+     * Get a skill by display name (case-insensitive).
+     *
+     * @return The canonical skill, or null if not registered
+     */
+    public static Skill getByName(String name) {
+        return name != null ? getById(Skill.idForName(name.trim())) : null;
+    }
+
+    /**
+     * Get the index of a skill ID.
+     *
+     * @return Index, or -1 if not registered
+     */
+    public static int indexOf(String id) {
+        Entry entry = id != null ? ENTRIES_BY_ID.get(id) : null;
+        return entry != null ? entry.index : -1;
+    }
+
+    /**
+     * Number of distinct skills registered so far.
+     */
+    public static int size() {
+        synchronized (SkillRegistry.class) {
+            return count;
+        }
+    }
+}
@@ -8,16 +8,7 @@ import java.io.Serializable;
  */
 public class Stat implements Serializable {
 
-    // ===== BALANCED STAT CONSTANTS =====
-    private static final int BASE_HP = 60;
-    private static final int HP_PER_STRENGTH = 3;
-
-    private static final double EVASION_SCALER = 1.8;
-    private static final double ACCURACY_SCALER = 2.2;
-    private static final int BASE_ACCURACY = 75;
-
-    private static final double CDR_SCALER = 0.5;
-    private static final double SPEED_SCALER = 1.5;
+    private final BalanceProfile balance; // Base HP and scalers for the derived stats
 
     private int strength;
     private int agility;
@@ -31,7 +22,21 @@ public class Stat implements Serializable {
     private int cooldownReduction;
     private int speed;
 
+    private int version; // Bumped on every change (lets systems cache derived results)
+
     public Stat(int strength, int agility, int intelligence) {
+        this(strength, agility, intelligence, BalanceProfile.DEFAULT);
+    }
+
+    /**
+     * Create stats whose derived values follow the given balance profile.
+     */
+    public Stat(int strength, int agility, int intelligence, BalanceProfile balance) {
+        if (balance == null) {
+            throw new IllegalArgumentException("Balance profile cannot be null");
+        }
+
+        this.balance = balance;
         this.strength = Math.max(0, strength);
         this.agility = Math.max(0, agility);
         this.intelligence = Math.max(0, intelligence);
@@ -41,14 +46,56 @@ public class Stat implements Serializable {
 
     // ===== DERIVED STAT CALCULATION =====
     private void calculateDerivedStats() {
-        this.maxHp = BASE_HP + strength * HP_PER_STRENGTH;
-        this.evasion = (int)(Math.sqrt(agility) * EVASION_SCALER);
-        this.accuracy = BASE_ACCURACY + (int)(Math.sqrt(intelligence) * ACCURACY_SCALER);
+        this.maxHp = maxHpFor(balance, strength);
+        this.evasion = evasionFor(balance, agility);
+        this.accuracy = accuracyFor(balance, intelligence);
+        this.cooldownReduction = cooldownReductionFor(balance, intelligence);
+        this.speed = speedFor(balance, agility);
+    }
+
+    // ===== DERIVED STAT FORMULAS =====
+    // Static so column stores (CombatantStore) derive exactly the same values.
+    // The one-argument forms use BalanceProfile.DEFAULT.
+
+    public static int maxHpFor(int strength) {
+        return maxHpFor(BalanceProfile.DEFAULT, strength);
+    }
+
+    public static int maxHpFor(BalanceProfile balance, int strength) {
+        return balance.getBaseHp() + strength * balance.getHpPerStrength();
+    }
+
+    public static int evasionFor(int agility) {
+        return evasionFor(BalanceProfile.DEFAULT, agility);
+    }
 
+    public static int evasionFor(BalanceProfile balance, int agility) {
+        return (int)(Math.sqrt(agility) * balance.getEvasionScaler());
+    }
+
+    public static int accuracyFor(int intelligence) {
+        return accuracyFor(BalanceProfile.DEFAULT, intelligence);
+    }
+
+    public static int accuracyFor(BalanceProfile balance, int intelligence) {
+        return balance.getBaseAccuracy() + (int)(Math.sqrt(intelligence) * balance.getAccuracyScaler());
+    }
+
+    public static int cooldownReductionFor(int intelligence) {
+        return cooldownReductionFor(BalanceProfile.DEFAULT, intelligence);
+    }
+
+    public static int cooldownReductionFor(BalanceProfile balance, int intelligence) {
         int intelligenceAboveBase = Math.max(0, intelligence - 20);
-        this.cooldownReduction = (int)(Math.sqrt(intelligenceAboveBase) * CDR_SCALER);
+        return (int)(Math.sqrt(intelligenceAboveBase) * balance.getCdrScaler());
+    }
+
+    public static int speedFor(int agility) {
+        return speedFor(BalanceProfile.DEFAULT, agility);
+    }
 
-        this.speed = (int)(Math.sqrt(agility) * SPEED_SCALER);
+    public static int speedFor(BalanceProfile balance, int agility) {
+        return (int)(Math.sqrt(agility) * balance.getSpeedScaler());
     }
 
     // ===== STAT INCREASE METHODS =====
@@ -61,18 +108,21 @@ public class Stat implements Serializable {
 
         int hpGain = maxHp - oldMaxHp;
         hp = Math.max(0, Math.min(maxHp, hp + hpGain));
+        version++;
     }
 
     public void increaseAgility(int amount) {
         if (amount == 0) return;
         agility = Math.max(0, agility + amount);
         calculateDerivedStats();
+        version++;
     }
 
     public void increaseIntelligence(int amount) {
         if (amount == 0) return;
         intelligence = Math.max(0, intelligence + amount);
         calculateDerivedStats();
+        version++;
     }
 
     // ===== COMBAT METHODS =====
@@ -81,12 +131,15 @@ public class Stat implements Serializable {
     }
 
     public void takeDamage(int damage) {
-        if (damage < 0) return;
+        if (damage <= 0) return;
         hp = Math.max(0, hp - damage);
+        version++;
     }
 
     public void fullHeal() {
+        if (hp == maxHp) return;
         hp = maxHp;
+        version++;
     }
 
     // ===== GETTERS =====
@@ -101,6 +154,16 @@ public class Stat implements Serializable {
     public int getCooldownReduction() { return cooldownReduction; }
     public int getSpeed() { return speed; }
 
+    /**
+     * Balance profile the derived stats (and this side's hit chance clamp) follow.
+     */
+    public BalanceProfile getBalance() { return balance; }
+
+    /**
+     * Get change counter. Any change to stats or HP increases it.
+     */
+    public int getVersion() { return version; }
+
     @Override
     public String toString() {
         return "Stat{STR=" + strength + ", AGI=" + agility + ", INT=" + intelligence + 
@@ -3,6 +3,11 @@ package game.data;
 import game.core.Enemy;
 import game.core.Stat;
 import game.core.Skill;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * EnemiesData provides enemy templates and definitions.
@@ -22,9 +27,118 @@ import game.core.Skill;
  * 1. Killer Bunny - AGI specialist (fast, evasive) - 20/30/20
  * 2. Minotaur - STR specialist (tank, high damage) - 30/20/20
  * 3. Mindflayer - INT specialist (high accuracy, low cooldowns) - 20/20/30
+ * 
+ * Template Registry:
+ * - Each enemy type is built once as an immutable EnemyTemplate
+ * - Templates have a dense type ID (KILLER_BUNNY, MINOTAUR, MINDFLAYER)
+ * - Lookup by ID is an array read, by name one hash lookup
+ * - instantiate() creates a fresh battle instance: new Stat, shared skill array
  */
 public class EnemiesData {
 
+    // Dense type IDs (index into the template registry)
+    public static final int KILLER_BUNNY = 0;
+    public static final int MINOTAUR = 1;
+    public static final int MINDFLAYER = 2;
+
+    private static final EnemyTemplate[] TEMPLATES = {
+        createKillerBunny(),
+        createMinotaur(),
+        createMindflayer()
+    };
+    private static final List<EnemyTemplate> TEMPLATE_LIST =
+        Collections.unmodifiableList(Arrays.asList(TEMPLATES));
+    private static final Map<String, EnemyTemplate> TEMPLATES_BY_NAME = new HashMap<>();
+
+    static {
+        for (EnemyTemplate template : TEMPLATES) {
+            TEMPLATES_BY_NAME.put(template.getName().toLowerCase(), template);
+        }
+    }
+
+    // ===== ENEMY TEMPLATE CLASS =====
+
+    /**
+     * Immutable definition of an enemy type.
+     * Instances for battle are created with instantiate().
+     */
+    public static final class EnemyTemplate {
+        private final int id;
+        private final String name;
+        private final int strength;
+        private final int agility;
+        private final int intelligence;
+        private final Skill[] skills; // Shared by all instances - never modified
+        private final String specialization;
+        private final String aiDescription;
+
+        private EnemyTemplate(int id, String name, int strength, int agility, int intelligence, Skill[] skills,
+                              String specialization, String aiDescription) {
+            this.id = id;
+            this.name = name;
+            this.strength = strength;
+            this.agility = agility;
+            this.intelligence = intelligence;
+            this.skills = skills;
+            this.specialization = specialization;
+            this.aiDescription = aiDescription;
+        }
+
+        /**
+         * Create a fresh enemy of this type.
+         * Only the Stat (HP and trainable stats) is new; skills are shared.
+         * 
+         * @return New enemy at full HP
+         */
+        public Enemy instantiate() {
+            return new Enemy(name, new Stat(strength, agility, intelligence), skills, id);
+        }
+
+        public int getId() { return id; }
+        public String getName() { return name; }
+        public int getStrength() { return strength; }
+        public int getAgility() { return agility; }
+        public int getIntelligence() { return intelligence; }
+        public int getSkillCount() { return skills.length; }
+        public Skill getSkill(int index) { return skills[index]; }
+        public String getSpecialization() { return specialization; }
+        public String getAIDescription() { return aiDescription; }
+
+        @Override
+        public String toString() {
+            return "EnemyTemplate{" + id + ", " + name + ", " + strength + "/" + agility + "/" + intelligence + "}";
+        }
+    }
+
+    // ===== TEMPLATE LOOKUP =====
+
+    /**
+     * Get an enemy template by type ID.
+     * 
+     * @param id Type ID (KILLER_BUNNY, MINOTAUR, MINDFLAYER)
+     * @return Template, or null if invalid ID
+     */
+    public static EnemyTemplate getTemplate(int id) {
+        return id >= 0 && id < TEMPLATES.length ? TEMPLATES[id] : null;
+    }
+
+    /**
+     * Get an enemy template by name (case-insensitive).
+     * 
+     * @param name Enemy name
+     * @return Template, or null if not found
+     */
+    public static EnemyTemplate getTemplate(String name) {
+        return name != null ? TEMPLATES_BY_NAME.get(name.trim().toLowerCase()) : null;
+    }
+
+    /**
+     * Get all templates in type ID order (read-only).
+     */
+    public static List<EnemyTemplate> getTemplates() {
+        return TEMPLATE_LIST;
+    }
+
     /**
      * Get all enemy types for the game.
      * Returns an array of 3 enemies in order.
@@ -32,11 +146,11 @@ public class EnemiesData {
      * @return Array of enemy templates
      */
     public static Enemy[] getAllEnemyTypes() {
-        return new Enemy[] {
-            createKillerBunny(),
-            createMinotaur(),
-            createMindflayer()
-        };
+        Enemy[] enemies = new Enemy[TEMPLATES.length];
+        for (int i = 0; i < TEMPLATES.length; i++) {
+            enemies[i] = TEMPLATES[i].instantiate();
+        }
+        return enemies;
     }
 
     /**
@@ -46,11 +160,8 @@ public class EnemiesData {
      * @return Enemy template, or null if invalid index
      */
     public static Enemy getEnemyByIndex(int index) {
-        Enemy[] enemies = getAllEnemyTypes();
-        if (index >= 0 && index < enemies.length) {
-            return enemies[index];
-        }
-        return null;
+        EnemyTemplate template = getTemplate(index);
+        return template != null ? template.instantiate() : null;
     }
 
     /**
@@ -60,35 +171,8 @@ public class EnemiesData {
      * @return Enemy template, or null if not found
      */
     public static Enemy getEnemyByName(String name) {
-        if (name == null) return null;
-
-        Enemy[] enemies = getAllEnemyTypes();
-        for (Enemy enemy : enemies) {
-            if (enemy.getName().equalsIgnoreCase(name)) {
-                return enemy;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Create a copy of an enemy template.
-     * Useful for creating multiple instances with fresh state.
-     * 
-     * @param template Enemy to copy
-     * @return New enemy with same stats and skills
-     */
-    public static Enemy copyEnemy(Enemy template) {
-        if (template == null) return null;
-
-        Stat stats = template.getStats();
-        Stat newStats = new Stat(
-            stats.getStrength(),
-            stats.getAgility(),
-            stats.getIntelligence()
-        );
-
-        return new Enemy(template.getName(), newStats, template.getSkills());
+        EnemyTemplate template = getTemplate(name);
+        return template != null ? template.instantiate() : null;
     }
 
     // ===== ENEMY DEFINITIONS =====
@@ -114,17 +198,16 @@ public class EnemiesData {
      * - Pounce: 38 total damage
      * - Frenzy: 48 total damage
      */
-    private static Enemy createKillerBunny() {
+    private static EnemyTemplate createKillerBunny() {
         // AGI specialist: baseline 20, specialized 30
-        Stat stats = new Stat(20, 30, 20);
-
         Skill[] skills = new Skill[] {
             new Skill("Rapid Bite", null, 8, 0),      // Basic
             new Skill("Pounce", null, 18, 2),         // Normal
             new Skill("Frenzy", null, 28, 3)          // Ultimate
         };
 
-        return new Enemy("Killer Bunny", stats, skills);
+        return new EnemyTemplate(KILLER_BUNNY, "Killer Bunny", 20, 30, 20, skills,
+            "AGILITY", "Aggressive: Prioritizes burst damage");
     }
 
     /**
@@ -148,17 +231,16 @@ public class EnemiesData {
      * - Charge: 50 total damage
      * - Earthquake: 65 total damage (devastating!)
      */
-    private static Enemy createMinotaur() {
+    private static EnemyTemplate createMinotaur() {
         // STR specialist: baseline 20, specialized 30
-        Stat stats = new Stat(30, 20, 20);
-
         Skill[] skills = new Skill[] {
             new Skill("Axe Swing", null, 10, 0),      // Basic
             new Skill("Charge", null, 20, 2),         // Normal
             new Skill("Earthquake", null, 35, 3)      // Ultimate
         };
 
-        return new Enemy("Minotaur", stats, skills);
+        return new EnemyTemplate(MINOTAUR, "Minotaur", 30, 20, 20, skills,
+            "STRENGTH", "Strategic: Uses ultimate for executes");
     }
 
     /**
@@ -184,17 +266,16 @@ public class EnemiesData {
      * 
      * Special: INT 30 gives CDR 1 (abilities come back 1 turn faster!)
      */
-    private static Enemy createMindflayer() {
+    private static EnemyTemplate createMindflayer() {
         // INT specialist: baseline 20, specialized 30
-        Stat stats = new Stat(20, 20, 30);
-
         Skill[] skills = new Skill[] {
             new Skill("Mind Spike", null, 7, 0),      // Basic
             new Skill("Psychic Blast", null, 19, 3),  // Normal
             new Skill("Mind Shatter", null, 40, 5)    // Ultimate
         };
 
-        return new Enemy("Mindflayer", stats, skills);
+        return new EnemyTemplate(MINDFLAYER, "Mindflayer", 20, 20, 30, skills,
+            "INTELLIGENCE", "Adaptive: Adjusts strategy based on your HP");
     }
 
     // ===== ENEMY INFORMATION =====
@@ -205,7 +286,7 @@ public class EnemiesData {
      * @return Number of enemy types (currently 3)
      */
     public static int getEnemyCount() {
-        return 3;
+        return TEMPLATES.length;
     }
 
     /**
@@ -214,11 +295,11 @@ public class EnemiesData {
      * @return Array of enemy names
      */
     public static String[] getEnemyNames() {
-        return new String[] {
-            "Killer Bunny",
-            "Minotaur",
-            "Mindflayer"
-        };
+        String[] names = new String[TEMPLATES.length];
+        for (int i = 0; i < TEMPLATES.length; i++) {
+            names[i] = TEMPLATES[i].getName();
+        }
+        return names;
     }
 
     /**
@@ -228,17 +309,8 @@ public class EnemiesData {
      * @return Specialization ("STRENGTH", "AGILITY", "INTELLIGENCE")
      */
     public static String getEnemySpecialization(String enemyName) {
-        if (enemyName == null) return "UNKNOWN";
-
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return "AGILITY";
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return "STRENGTH";
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return "INTELLIGENCE";
-        }
-
-        return "UNKNOWN";
+        EnemyTemplate template = getTemplate(enemyName);
+        return template != null ? template.getSpecialization() : "UNKNOWN";
     }
 
     /**
@@ -250,14 +322,7 @@ public class EnemiesData {
     public static String getEnemyAIDescription(String enemyName) {
         if (enemyName == null) return "Unknown";
 
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return "Aggressive: Prioritizes burst damage";
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return "Strategic: Uses ultimate for executes";
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return "Adaptive: Adjusts strategy based on your HP";
-        }
-
-        return "Standard AI";
+        EnemyTemplate template = getTemplate(enemyName);
+        return template != null ? template.getAIDescription() : "Standard AI";
     }
 }
\ No newline at end of file
@@ -2,6 +2,10 @@ package game.data;
 
 import game.core.Skill;
 import game.core.Profession;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * SkillsData provides skill templates for each profession.
@@ -23,30 +27,55 @@ import game.core.Profession;
  * - WARRIOR: Consistent damage, balanced (STR 25)
  * - MAGE: Highest burst, longest cooldowns (INT 25)
  * - ROGUE: Fast attacks, speed advantage (AGI 25)
+ * 
+ * Skill Tables:
+ * - Built once at class load, indexed by Profession.ordinal()
+ * - Lookups return shared tables with zero allocation
+ * - Shared arrays must not be modified - use getSkillList() for a read-only view
  */
 public class SkillsData {
 
+    // Shared skill tables, indexed by Profession.ordinal()
+    private static final Skill[][] SKILL_TABLES = new Skill[Profession.values().length][];
+    private static final List<List<Skill>> SKILL_LISTS;
+
+    static {
+        SKILL_TABLES[Profession.WARRIOR.ordinal()] = getWarriorSkills();
+        SKILL_TABLES[Profession.MAGE.ordinal()] = getMageSkills();
+        SKILL_TABLES[Profession.ROGUE.ordinal()] = getRogueSkills();
+
+        List<List<Skill>> lists = new ArrayList<>(SKILL_TABLES.length);
+        for (Skill[] table : SKILL_TABLES) {
+            lists.add(Collections.unmodifiableList(Arrays.asList(table)));
+        }
+        SKILL_LISTS = Collections.unmodifiableList(lists);
+    }
+
     /**
      * Get skills for a specific profession.
+     * Returns the shared table - do not modify.
      * 
      * @param profession The profession
      * @return Array of 3 skills for that profession
      */
     public static Skill[] getSkillsForProfession(Profession profession) {
         if (profession == null) {
-            return getWarriorSkills(); // Default to warrior
+            return SKILL_TABLES[Profession.WARRIOR.ordinal()]; // Default to warrior
         }
+        return SKILL_TABLES[profession.ordinal()];
+    }
 
-        switch (profession) {
-            case WARRIOR:
-                return getWarriorSkills();
-            case MAGE:
-                return getMageSkills();
-            case ROGUE:
-                return getRogueSkills();
-            default:
-                return getWarriorSkills();
+    /**
+     * Get a read-only view of a profession's skills.
+     * 
+     * @param profession The profession
+     * @return Unmodifiable list of skills
+     */
+    public static List<Skill> getSkillList(Profession profession) {
+        if (profession == null) {
+            return SKILL_LISTS.get(Profession.WARRIOR.ordinal());
         }
+        return SKILL_LISTS.get(profession.ordinal());
     }
 
     /**
@@ -174,7 +203,7 @@ public class SkillsData {
      * @return Number of skills (always 3)
      */
     public static int getSkillCount(Profession profession) {
-        return 3;
+        return getSkillsForProfession(profession).length;
     }
 
     /**
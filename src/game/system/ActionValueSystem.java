@@ -25,6 +25,11 @@ import java.util.*;
  * 3. That combatant acts (AV becomes 0)
  * 4. Reset their AV based on speed
  * 5. Repeat
+ *
+ * Steps 1-4 are delegated to a TurnScheduler (indexed min-heap), so the
+ * same machinery scales to battles with any number of combatants.
+ * The scheduler keeps time in integer ticks; the double AV values returned
+ * here are converted for display only, so turn order is exact and replayable.
  * 
  * Responsibilities:
  * - Track AV for all combatants
@@ -45,8 +50,9 @@ public class ActionValueSystem {
     private static final int MIN_SPEED = 1;     // Minimum speed to prevent division by zero
     
     // Combatant tracking
-    private CombatantAV playerAV;
-    private CombatantAV enemyAV;
+    private final TurnScheduler scheduler;
+    private int playerHandle;
+    private int enemyHandle;
     
     private boolean battleActive;
 
@@ -56,54 +62,12 @@ public class ActionValueSystem {
         }
         
         this.entitySystem = entitySystem;
+        this.scheduler = new TurnScheduler(BASE_AV);
+        this.playerHandle = -1;
+        this.enemyHandle = -1;
         this.battleActive = false;
     }
 
-    // ===== COMBATANT AV CLASS =====
-
-    /**
-     * Internal class to track AV state for a combatant.
-     */
-    private static class CombatantAV {
-        private final String name;
-        private final boolean isPlayer;
-        private int speed;
-        private double actionValue;
-        
-        public CombatantAV(String name, boolean isPlayer, int speed) {
-            this.name = name;
-            this.isPlayer = isPlayer;
-            this.speed = Math.max(MIN_SPEED, speed);
-            this.actionValue = calculateInitialAV(this.speed);
-        }
-        
-        private double calculateInitialAV(int speed) {
-            return (double) BASE_AV / Math.max(MIN_SPEED, speed);
-        }
-        
-        public void resetAV() {
-            this.actionValue = calculateInitialAV(this.speed);
-        }
-        
-        public void reduceAV(double amount) {
-            this.actionValue = Math.max(0, this.actionValue - amount);
-        }
-        
-        public void updateSpeed(int newSpeed) {
-            this.speed = Math.max(MIN_SPEED, newSpeed);
-        }
-        
-        public String getName() { return name; }
-        public boolean isPlayer() { return isPlayer; }
-        public int getSpeed() { return speed; }
-        public double getActionValue() { return actionValue; }
-        
-        @Override
-        public String toString() {
-            return name + " [AV: " + String.format("%.2f", actionValue) + ", SPD: " + speed + "]";
-        }
-    }
-
     // ===== TURN ORDER ENTRY =====
 
     /**
@@ -154,8 +118,9 @@ public class ActionValueSystem {
         int playerSpeed = entitySystem.getSpeed(player);
         int enemySpeed = entitySystem.getSpeed(enemy);
         
-        this.playerAV = new CombatantAV(player.getName(), true, playerSpeed);
-        this.enemyAV = new CombatantAV(enemy.getName(), false, enemySpeed);
+        scheduler.clear();
+        this.playerHandle = scheduler.add(player.getName(), true, playerSpeed);
+        this.enemyHandle = scheduler.add(enemy.getName(), false, enemySpeed);
         this.battleActive = true;
         
         return true;
@@ -165,8 +130,9 @@ public class ActionValueSystem {
      * End current battle and clear AV state.
      */
     public void endBattle() {
-        this.playerAV = null;
-        this.enemyAV = null;
+        scheduler.clear();
+        this.playerHandle = -1;
+        this.enemyHandle = -1;
         this.battleActive = false;
     }
 
@@ -186,22 +152,18 @@ public class ActionValueSystem {
      * @return 1 = player's turn, -1 = enemy's turn, 0 = tie/invalid
      */
     public int getCurrentTurn() {
-        if (!battleActive || playerAV == null || enemyAV == null) {
+        if (!battleActive || scheduler.isEmpty()) {
             return 0;
         }
         
-        double playerCurrentAV = playerAV.getActionValue();
-        double enemyCurrentAV = enemyAV.getActionValue();
-        
-        // Who has lower AV acts first
-        if (playerCurrentAV < enemyCurrentAV) {
+        // Lowest AV is on top of the heap (ties: player first)
+        int next = scheduler.peek();
+        if (next == playerHandle) {
             return 1;  // Player's turn
-        } else if (enemyCurrentAV < playerCurrentAV) {
+        } else if (next == enemyHandle) {
             return -1; // Enemy's turn
-        } else {
-            // Tie: player acts first (tie-breaker)
-            return 1;
         }
+        return 0;
     }
 
     /**
@@ -224,10 +186,8 @@ public class ActionValueSystem {
     public String getCurrentTurnName() {
         if (!battleActive) return "Unknown";
         
-        int turn = getCurrentTurn();
-        if (turn == 1) return playerAV.getName();
-        if (turn == -1) return enemyAV.getName();
-        return "Unknown";
+        int next = scheduler.peek();
+        return next >= 0 ? scheduler.getName(next) : "Unknown";
     }
 
     // ===== AV ADVANCEMENT =====
@@ -241,35 +201,12 @@ public class ActionValueSystem {
      * @return true if advancement successful
      */
     public boolean advanceToNextTurn() {
-        if (!battleActive || playerAV == null || enemyAV == null) {
+        if (!battleActive || scheduler.isEmpty()) {
             return false;
         }
         
-        // Find who acts (lowest AV)
-        int currentTurn = getCurrentTurn();
-        
-        if (currentTurn == 1) {
-            // Player acts
-            double timeAdvance = playerAV.getActionValue();
-            
-            // Advance time (reduce all AVs)
-            playerAV.reduceAV(timeAdvance);
-            enemyAV.reduceAV(timeAdvance);
-            
-            // Reset player's AV
-            playerAV.resetAV();
-            
-        } else if (currentTurn == -1) {
-            // Enemy acts
-            double timeAdvance = enemyAV.getActionValue();
-            
-            // Advance time
-            playerAV.reduceAV(timeAdvance);
-            enemyAV.reduceAV(timeAdvance);
-            
-            // Reset enemy's AV
-            enemyAV.resetAV();
-        }
+        // Current actor reaches AV 0, then its AV resets based on speed
+        scheduler.advance();
         
         return true;
     }
@@ -284,48 +221,17 @@ public class ActionValueSystem {
      * @return List of turn order entries
      */
     public List<TurnOrderEntry> calculateTurnOrder(int turnsAhead) {
-        if (!battleActive || playerAV == null || enemyAV == null) {
+        if (!battleActive || scheduler.isEmpty() || turnsAhead <= 0) {
             return new ArrayList<>();
         }
         
-        // Create simulation state (don't modify actual AV)
-        double simPlayerAV = playerAV.getActionValue();
-        double simEnemyAV = enemyAV.getActionValue();
-        int playerSpeed = playerAV.getSpeed();
-        int enemySpeed = enemyAV.getSpeed();
-        
-        List<TurnOrderEntry> turnOrder = new ArrayList<>();
-        
+        // Read from the scheduler's cached turn cycle (actual AV untouched)
+        List<TurnOrderEntry> turnOrder = new ArrayList<>(turnsAhead);
         for (int i = 0; i < turnsAhead; i++) {
-            // Find who acts next
-            if (simPlayerAV <= simEnemyAV) {
-                // Player acts
-                turnOrder.add(new TurnOrderEntry(
-                    playerAV.getName(), true, simPlayerAV, i + 1
-                ));
-                
-                // Advance time
-                double timeAdvance = simPlayerAV;
-                simPlayerAV = 0;
-                simEnemyAV -= timeAdvance;
-                
-                // Reset player AV
-                simPlayerAV = (double) BASE_AV / playerSpeed;
-                
-            } else {
-                // Enemy acts
-                turnOrder.add(new TurnOrderEntry(
-                    enemyAV.getName(), false, simEnemyAV, i + 1
-                ));
-                
-                // Advance time
-                double timeAdvance = simEnemyAV;
-                simEnemyAV = 0;
-                simPlayerAV -= timeAdvance;
-                
-                // Reset enemy AV
-                simEnemyAV = (double) BASE_AV / enemySpeed;
-            }
+            int actor = scheduler.peekAhead(i);
+            turnOrder.add(new TurnOrderEntry(
+                scheduler.getName(actor), scheduler.isPlayer(actor), scheduler.getActionValueAhead(i), i + 1
+            ));
         }
         
         return turnOrder;
@@ -355,28 +261,28 @@ public class ActionValueSystem {
      * Get player's current action value.
      */
     public double getPlayerAV() {
-        return playerAV != null ? playerAV.getActionValue() : 0;
+        return scheduler.getActionValue(playerHandle);
     }
 
     /**
      * Get enemy's current action value.
      */
     public double getEnemyAV() {
-        return enemyAV != null ? enemyAV.getActionValue() : 0;
+        return scheduler.getActionValue(enemyHandle);
     }
 
     /**
      * Get player's speed.
      */
     public int getPlayerSpeed() {
-        return playerAV != null ? playerAV.getSpeed() : 0;
+        return scheduler.getSpeed(playerHandle);
     }
 
     /**
      * Get enemy's speed.
      */
     public int getEnemySpeed() {
-        return enemyAV != null ? enemyAV.getSpeed() : 0;
+        return scheduler.getSpeed(enemyHandle);
     }
 
     /**
@@ -389,10 +295,10 @@ public class ActionValueSystem {
      * @return Percentage until next action (0.0 = ready, 1.0 = just acted)
      */
     public double getPlayerAVPercentage() {
-        if (playerAV == null) return 0.0;
+        if (!scheduler.isActive(playerHandle)) return 0.0;
         
-        double maxAV = (double) BASE_AV / playerAV.getSpeed();
-        double currentAV = playerAV.getActionValue();
+        double maxAV = scheduler.getFullActionValue(playerHandle);
+        double currentAV = scheduler.getActionValue(playerHandle);
         
         // Invert so 0 = ready to act, 1 = just acted
         return Math.min(1.0, currentAV / maxAV);
@@ -402,10 +308,10 @@ public class ActionValueSystem {
      * Get AV percentage for enemy.
      */
     public double getEnemyAVPercentage() {
-        if (enemyAV == null) return 0.0;
+        if (!scheduler.isActive(enemyHandle)) return 0.0;
         
-        double maxAV = (double) BASE_AV / enemyAV.getSpeed();
-        double currentAV = enemyAV.getActionValue();
+        double maxAV = scheduler.getFullActionValue(enemyHandle);
+        double currentAV = scheduler.getActionValue(enemyHandle);
         
         return Math.min(1.0, currentAV / maxAV);
     }
@@ -436,19 +342,9 @@ public class ActionValueSystem {
      * @param player The player
      */
     public void updatePlayerSpeed(Player player) {
-        if (playerAV != null && player != null) {
-            int newSpeed = entitySystem.getSpeed(player);
-            
-            // Store progress ratio
-            double maxAV = (double) BASE_AV / playerAV.getSpeed();
-            double progressRatio = playerAV.getActionValue() / maxAV;
-            
-            // Update speed
-            playerAV.updateSpeed(newSpeed);
-            
-            // Recalculate AV maintaining progress
-            double newMaxAV = (double) BASE_AV / newSpeed;
-            playerAV.actionValue = newMaxAV * progressRatio;
+        if (player != null) {
+            // Scheduler keeps progress ratio and re-sorts in O(log n)
+            scheduler.setSpeed(playerHandle, entitySystem.getSpeed(player));
         }
     }
 
@@ -458,16 +354,8 @@ public class ActionValueSystem {
      * @param enemy The enemy
      */
     public void updateEnemySpeed(Enemy enemy) {
-        if (enemyAV != null && enemy != null) {
-            int newSpeed = entitySystem.getSpeed(enemy);
-            
-            double maxAV = (double) BASE_AV / enemyAV.getSpeed();
-            double progressRatio = enemyAV.getActionValue() / maxAV;
-            
-            enemyAV.updateSpeed(newSpeed);
-            
-            double newMaxAV = (double) BASE_AV / newSpeed;
-            enemyAV.actionValue = newMaxAV * progressRatio;
+        if (enemy != null) {
+            scheduler.setSpeed(enemyHandle, entitySystem.getSpeed(enemy));
         }
     }
 
@@ -481,25 +369,14 @@ public class ActionValueSystem {
      * @return Array [playerTurns, enemyTurns]
      */
     public int[] calculateTurnDistribution(int playerTurns) {
-        if (!battleActive) return new int[]{0, 0};
-        
-        List<TurnOrderEntry> order = calculateTurnOrder(playerTurns * 3); // Overshoot to ensure we get enough
+        if (!battleActive || playerTurns <= 0) return new int[]{0, 0};
         
-        int playerCount = 0;
-        int enemyCount = 0;
+        // Every turn before the player's N-th action that isn't the player's is the enemy's
+        int turnsBefore = scheduler.turnsUntil(playerHandle, playerTurns);
+        if (turnsBefore < 0) return new int[]{0, 0};
         
-        for (TurnOrderEntry entry : order) {
-            if (entry.isPlayer()) {
-                playerCount++;
-                if (playerCount >= playerTurns) {
-                    break; // Stop when we reach desired player turns
-                }
-            } else {
-                if (playerCount < playerTurns) {
-                    enemyCount++;
-                }
-            }
-        }
+        int playerCount = playerTurns;
+        int enemyCount = turnsBefore - (playerTurns - 1);
         
         return new int[]{playerCount, enemyCount};
     }
@@ -513,8 +390,8 @@ public class ActionValueSystem {
     public double calculateSpeedAdvantage() {
         if (!battleActive) return 0.0;
         
-        int playerSpeed = playerAV.getSpeed();
-        int enemySpeed = enemyAV.getSpeed();
+        int playerSpeed = getPlayerSpeed();
+        int enemySpeed = getEnemySpeed();
         
         return ((double)(playerSpeed - enemySpeed) / enemySpeed) * 100.0;
     }
@@ -527,15 +404,7 @@ public class ActionValueSystem {
     public int getTurnsUntilPlayerActs() {
         if (!battleActive) return 0;
         
-        List<TurnOrderEntry> order = calculateTurnOrder(10);
-        
-        for (int i = 0; i < order.size(); i++) {
-            if (order.get(i).isPlayer()) {
-                return i;
-            }
-        }
-        
-        return 0;
+        return Math.max(0, scheduler.turnsUntil(playerHandle, 1));
     }
 
     /**
@@ -544,15 +413,7 @@ public class ActionValueSystem {
     public int getTurnsUntilEnemyActs() {
         if (!battleActive) return 0;
         
-        List<TurnOrderEntry> order = calculateTurnOrder(10);
-        
-        for (int i = 0; i < order.size(); i++) {
-            if (!order.get(i).isPlayer()) {
-                return i;
-            }
-        }
-        
-        return 0;
+        return Math.max(0, scheduler.turnsUntil(enemyHandle, 1));
     }
 
     // ===== GUI HELPER METHODS =====
@@ -590,15 +451,21 @@ public class ActionValueSystem {
         
         StringBuilder sb = new StringBuilder();
         sb.append("=== Battle Status ===\n");
-        sb.append(playerAV.toString()).append("\n");
-        sb.append(enemyAV.toString()).append("\n");
+        sb.append(formatCombatant(playerHandle)).append("\n");
+        sb.append(formatCombatant(enemyHandle)).append("\n");
         sb.append("Current Turn: ").append(getCurrentTurnName()).append("\n");
         
         return sb.toString();
     }
 
+    private String formatCombatant(int handle) {
+        return scheduler.getName(handle) + " [AV: " + String.format("%.2f", scheduler.getActionValue(handle))
+            + ", SPD: " + scheduler.getSpeed(handle) + "]";
+    }
+
     // ===== ACCESSORS =====
 
     public EntitySystem getEntitySystem() { return entitySystem; }
+    public TurnScheduler getScheduler() { return scheduler; }
     public int getBaseAV() { return BASE_AV; }
 }
\ No newline at end of file
@@ -0,0 +1,619 @@
+package game.system;
+
+import game.core.*;
+import game.data.EnemiesData;
+import game.data.SkillsData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * BalanceTunerSystem searches balance numbers that hit target win rates for
+ * every profession x enemy pair (starting builds, one battle each).
+ *
+ * PARAMETER VECTOR (grouped, each group can be frozen):
+ * - STAT_FORMULAS: BalanceProfile base HP, HP per STR, evasion / accuracy /
+ *   CDR / speed scalers, base accuracy
+ * - HIT_CHANCE: BalanceProfile min / max hit chance
+ * - PLAYER_SKILLS: base damage and cooldown of every SkillsData skill
+ * - ENEMY_SKILLS: base damage and cooldown of every EnemiesData skill
+ * Each parameter has bounds; integers stay integers,
+ * scalers are kept to two decimals.
+ *
+ * OBJECTIVE:
+ * - Sum over pairs of (win rate - target)^2, plus a small pull towards the
+ *   shipped values, so among equally good vectors the smallest change wins
+ *
+ * SEARCH (coordinate search, derivative-free):
+ * - One parameter at a time, try offsets of 1, 2, 4, ... resolution steps in
+ *   both directions and move to the best point if it lowers the objective
+ * - Repeat sweeps until every pair is within tolerance, a whole sweep finds
+ *   no better point, or the evaluation budget runs out
+ * Damage is deterministic, so win rates only move when a number crosses a
+ * hits-to-kill breakpoint: the objective is a step function. Far probes walk
+ * off flat stretches where a shrinking-step search would stall, and nothing
+ * here needs gradients or a covariance estimate.
+ *
+ * EVALUATION:
+ * - Each candidate builds the starting builds and enemies under its own
+ *   BalanceProfile (passed to EntitySystem / Stat, never made global), with
+ *   its own skills, and runs every pair through BatchBattleKernel
+ * - Pairs run in parallel with fork/join (one kernel per worker)
+ * - Common random numbers: every candidate uses the same seed, so two
+ *   candidates differ only by their numbers, not by luck
+ * - The tuned vector is re-run on a different seed (validation) to show how
+ *   much of the fit is specific to the tuning rolls
+ *
+ * Responsibilities:
+ * - Tune the parameter vector towards a target win rate matrix
+ * - Report the tuned numbers, before / after / validation win rates
+ *
+ * Design: Candidates live only in the entities built for them, so tuning
+ * runs, simulations and a live game can share the JVM.
+ * GUI-Friendly: TuningResult lists every changed number by its code name.
+ */
+public class BalanceTunerSystem {
+
+    public static final int DEFAULT_BATTLES = 10_000;       // Per pair and candidate
+    public static final int DEFAULT_MAX_EVALUATIONS = 4_000;
+    public static final double DEFAULT_TOLERANCE = 0.01;    // Max |win rate - target|
+    private static final double REGULARIZATION = 1e-3;      // Pull towards the shipped values
+    private static final double SCALER_RESOLUTION = 0.01;
+    private static final long VALIDATION_SEED_OFFSET = 1L;
+    private static final String PLAYER_NAME = "Hero";
+
+    private final ForkJoinPool pool;
+    private final PlayerPolicy policy;
+    private final int battles;
+    private final long seed;
+
+    private final List<Parameter> parameters = new ArrayList<>();
+
+    public BalanceTunerSystem() {
+        this(ForkJoinPool.commonPool(), PlayerPolicySystem.HIGHEST_READY, DEFAULT_BATTLES, 42L);
+    }
+
+    /**
+     * @param pool Pool for the per-pair battle batches
+     * @param policy Player policy (must only read ready skills - BatchBattleKernel rule)
+     * @param battles Battles per pair and candidate
+     * @param seed Seed shared by every candidate (common random numbers)
+     */
+    public BalanceTunerSystem(ForkJoinPool pool, PlayerPolicy policy, int battles, long seed) {
+        if (pool == null || policy == null) {
+            throw new IllegalArgumentException("Pool and policy cannot be null");
+        }
+        if (policy.readsCooldownTimers()) {
+            throw new IllegalArgumentException("Tuner needs a policy that only reads ready skills");
+        }
+        if (battles < 1) {
+            throw new IllegalArgumentException("Battle count must be positive");
+        }
+
+        this.pool = pool;
+        this.policy = policy;
+        this.battles = battles;
+        this.seed = seed;
+        buildParameters();
+    }
+
+    // ===== PARAMETERS =====
+
+    /**
+     * Groups of parameters that can be tuned or frozen together.
+     */
+    public enum ParameterGroup {
+        STAT_FORMULAS,
+        HIT_CHANCE,
+        PLAYER_SKILLS,
+        ENEMY_SKILLS
+    }
+
+    /**
+     * One entry of the parameter vector.
+     */
+    private static final class Parameter {
+        private final String name;
+        private final ParameterGroup group;
+        private final double initial;
+        private final double min;
+        private final double max;
+        private final boolean integer;
+
+        Parameter(String name, ParameterGroup group, double initial, double min, double max, boolean integer) {
+            this.name = name;
+            this.group = group;
+            this.initial = initial;
+            this.min = min;
+            this.max = max;
+            this.integer = integer;
+        }
+
+        /**
+         * Offsets tried around the current value: resolution * 1, 2, 4, ...
+         * up to half the range (win rates move in steps, so near probes
+         * alone get stuck on flat stretches).
+         */
+        List<Double> ladder() {
+            List<Double> offsets = new ArrayList<>();
+            for (double offset = integer ? 1.0 : SCALER_RESOLUTION; offset <= (max - min) / 2; offset *= 2) {
+                offsets.add(offset);
+            }
+            return offsets;
+        }
+
+        /**
+         * Clamp to bounds and round to the parameter's resolution.
+         */
+        double snap(double value) {
+            double clamped = Math.max(min, Math.min(max, value));
+            return integer ? Math.round(clamped)
+                : Math.round(clamped / SCALER_RESOLUTION) * SCALER_RESOLUTION;
+        }
+    }
+
+    /**
+     * Vector layout: profile (9), player skills (damage, cooldown) by
+     * profession, enemy skills (damage, cooldown) by type ID.
+     */
+    private void buildParameters() {
+        BalanceProfile b = BalanceProfile.DEFAULT;
+        ParameterGroup stat = ParameterGroup.STAT_FORMULAS;
+        parameters.add(new Parameter("BalanceProfile.baseHp", stat, b.getBaseHp(), 20, 200, true));
+        parameters.add(new Parameter("BalanceProfile.hpPerStrength", stat, b.getHpPerStrength(), 0, 10, true));
+        parameters.add(new Parameter("BalanceProfile.evasionScaler", stat, b.getEvasionScaler(), 0.0, 5.0, false));
+        parameters.add(new Parameter("BalanceProfile.accuracyScaler", stat, b.getAccuracyScaler(), 0.0, 5.0, false));
+        parameters.add(new Parameter("BalanceProfile.baseAccuracy", stat, b.getBaseAccuracy(), 40, 100, true));
+        parameters.add(new Parameter("BalanceProfile.cdrScaler", stat, b.getCdrScaler(), 0.0, 2.0, false));
+        parameters.add(new Parameter("BalanceProfile.speedScaler", stat, b.getSpeedScaler(), 0.5, 4.0, false));
+        parameters.add(new Parameter("BalanceProfile.minHitChance", ParameterGroup.HIT_CHANCE,
+            b.getMinHitChance(), 0, 50, true));
+        parameters.add(new Parameter("BalanceProfile.maxHitChance", ParameterGroup.HIT_CHANCE,
+            b.getMaxHitChance(), 50, 100, true));
+
+        for (Profession profession : Profession.values()) {
+            for (Skill skill : SkillsData.getSkillsForProfession(profession)) {
+                addSkillParameters(skill, ParameterGroup.PLAYER_SKILLS);
+            }
+        }
+        for (int id = 0; id < EnemiesData.getEnemyCount(); id++) {
+            EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(id);
+            for (int i = 0; i < template.getSkillCount(); i++) {
+                addSkillParameters(template.getSkill(i), ParameterGroup.ENEMY_SKILLS);
+            }
+        }
+    }
+
+    private void addSkillParameters(Skill skill, ParameterGroup group) {
+        int damage = skill.getBaseDamage();
+        parameters.add(new Parameter(skill.getName() + ".damage", group, damage,
+            0, Math.max(20, damage * 3), true));
+        parameters.add(new Parameter(skill.getName() + ".cooldown", group, skill.getBaseCooldown(),
+            0, 8, true));
+    }
+
+    // ===== TUNING RESULT CLASS =====
+
+    /**
+     * TuningResult holds the tuned vector and the win rates around it.
+     * Win rate arrays are indexed [profession ordinal][enemy type ID].
+     */
+    public static class TuningResult {
+        private final String[] names;
+        private final double[] initial;
+        private final double[] tuned;
+        private final boolean[] integer;
+        private final double[][] targets;
+        private final double[][] initialWinRates;
+        private final double[][] tunedWinRates;
+        private final double[][] validationWinRates;
+        private final BalanceProfile profile;
+        private final Skill[][] playerSkills;
+        private final Skill[][] enemySkills;
+        private final int evaluations;
+        private final int sweeps;
+        private final boolean converged;
+        private final long elapsedNanos;
+
+        private TuningResult(String[] names, double[] initial, double[] tuned, boolean[] integer,
+                             double[][] targets, double[][] initialWinRates, double[][] tunedWinRates,
+                             double[][] validationWinRates, Candidate candidate,
+                             int evaluations, int sweeps, boolean converged, long elapsedNanos) {
+            this.names = names;
+            this.initial = initial;
+            this.tuned = tuned;
+            this.integer = integer;
+            this.targets = targets;
+            this.initialWinRates = initialWinRates;
+            this.tunedWinRates = tunedWinRates;
+            this.validationWinRates = validationWinRates;
+            this.profile = candidate.profile;
+            this.playerSkills = candidate.playerSkills;
+            this.enemySkills = candidate.enemySkills;
+            this.evaluations = evaluations;
+            this.sweeps = sweeps;
+            this.converged = converged;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Tuned stat formulas and hit chance clamp.
+         */
+        public BalanceProfile getProfile() { return profile; }
+
+        /**
+         * Tuned copies of a profession's skills (SkillsData order).
+         * Changed skills are named "Name [damage/cooldown]"; unchanged ones are the shipped skills.
+         */
+        public Skill[] getPlayerSkills(Profession profession) { return playerSkills[profession.ordinal()].clone(); }
+
+        /**
+         * Tuned copies of an enemy's skills (EnemiesData order).
+         */
+        public Skill[] getEnemySkills(int typeId) { return enemySkills[typeId].clone(); }
+
+        public double getTarget(Profession profession, int enemyId) { return targets[profession.ordinal()][enemyId]; }
+        public double getInitialWinRate(Profession profession, int enemyId) { return initialWinRates[profession.ordinal()][enemyId]; }
+        public double getWinRate(Profession profession, int enemyId) { return tunedWinRates[profession.ordinal()][enemyId]; }
+        public double getValidationWinRate(Profession profession, int enemyId) { return validationWinRates[profession.ordinal()][enemyId]; }
+
+        public int getParameterCount() { return names.length; }
+        public String getParameterName(int i) { return names[i]; }
+        public double getInitialValue(int i) { return initial[i]; }
+        public double getTunedValue(int i) { return tuned[i]; }
+
+        /**
+         * Candidates evaluated during the search (at most the budget; excludes validation).
+         */
+        public int getEvaluations() { return evaluations; }
+        public int getSweeps() { return sweeps; }
+        public boolean isConverged() { return converged; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /**
+         * Largest |win rate - target| over all pairs (on the tuning seed).
+         */
+        public double getMaxError() {
+            return maxError(tunedWinRates, targets);
+        }
+
+        /**
+         * Get formatted tuning report for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Tuning: %s after %d evaluations / %d sweeps | max error %.2f%% | %.1f s%n",
+                converged ? "converged" : "stopped", evaluations, sweeps, getMaxError() * 100,
+                elapsedNanos / 1_000_000_000.0));
+
+            sb.append("Win rates (target | shipped -> tuned | validation):\n");
+            for (Profession profession : Profession.values()) {
+                for (int id = 0; id < targets[profession.ordinal()].length; id++) {
+                    sb.append(String.format("  %-8s vs %-13s %5.1f%% | %5.1f%% -> %5.1f%% | %5.1f%%%n",
+                        profession, EnemiesData.getTemplate(id).getName(),
+                        getTarget(profession, id) * 100, getInitialWinRate(profession, id) * 100,
+                        getWinRate(profession, id) * 100, getValidationWinRate(profession, id) * 100));
+                }
+            }
+
+            sb.append("Changed numbers:\n");
+            int changed = 0;
+            for (int i = 0; i < names.length; i++) {
+                if (initial[i] == tuned[i]) continue;
+                changed++;
+                sb.append("  ").append(names[i]).append(": ")
+                  .append(format(initial[i], integer[i])).append(" -> ")
+                  .append(format(tuned[i], integer[i])).append("\n");
+            }
+            if (changed == 0) {
+                sb.append("  (none)\n");
+            }
+            return sb.toString().trim();
+        }
+
+        private static String format(double value, boolean integer) {
+            return integer ? String.valueOf((long) value) : String.format("%.2f", value);
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== TUNING =====
+
+    /**
+     * Tune every parameter group with the default budget and tolerance.
+     *
+     * @see #tune(double[][], Set, int, double)
+     */
+    public TuningResult tune(double[][] targets) {
+        return tune(targets, EnumSet.allOf(ParameterGroup.class), DEFAULT_MAX_EVALUATIONS, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Search the parameter vector for the target win rates.
+     *
+     * @param targets Target win rate per [profession ordinal][enemy type ID] (0.0 - 1.0)
+     * @param groups Parameter groups to tune (the rest keep their shipped values)
+     * @param maxEvaluations Candidate evaluation budget (the validation run is extra)
+     * @param tolerance Stop once every pair is within this distance of its target
+     * @return TuningResult with the tuned numbers and win rates
+     */
+    public TuningResult tune(double[][] targets, Set<ParameterGroup> groups, int maxEvaluations, double tolerance) {
+        validateTargets(targets);
+        if (groups == null || groups.isEmpty()) {
+            throw new IllegalArgumentException("At least one parameter group must be tuned");
+        }
+        if (maxEvaluations < 1 || !(tolerance >= 0)) {
+            throw new IllegalArgumentException("Evaluation budget must be positive and tolerance non-negative");
+        }
+
+        long start = System.nanoTime();
+        int evaluations = 0;
+        int n = parameters.size();
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) x[i] = parameters.get(i).initial;
+
+        double[][] initialWinRates = evaluate(x, seed);
+        evaluations++;
+        double[][] bestWinRates = initialWinRates;
+        double best = objective(x, initialWinRates, targets);
+
+        int sweeps = 0;
+        boolean converged = maxError(bestWinRates, targets) <= tolerance;
+        while (!converged && evaluations < maxEvaluations) {
+            sweeps++;
+            boolean improved = false;
+
+            for (int i = 0; i < n && !converged && evaluations < maxEvaluations; i++) {
+                Parameter p = parameters.get(i);
+                if (!groups.contains(p.group)) continue;
+
+                // Line search along this coordinate: best point of the offset ladder
+                double[] bestPoint = null;
+                for (double offset : p.ladder()) {
+                    for (int direction = 1; direction >= -1 && evaluations < maxEvaluations; direction -= 2) {
+                        double[] y = x.clone();
+                        y[i] = p.snap(x[i] + direction * offset);
+                        if (y[i] == x[i]) continue;
+
+                        double[][] winRates = evaluate(y, seed);
+                        evaluations++;
+                        double value = objective(y, winRates, targets);
+                        if (value < best) {
+                            best = value;
+                            bestPoint = y;
+                            bestWinRates = winRates;
+                        }
+                    }
+                }
+
+                if (bestPoint != null) {
+                    x = bestPoint;
+                    improved = true;
+                    converged = maxError(bestWinRates, targets) <= tolerance;
+                }
+            }
+
+            if (!improved) break; // No single number gets closer: local optimum
+        }
+
+        double[][] validationWinRates = evaluate(x, seed + VALIDATION_SEED_OFFSET); // Not in the budget
+        String[] names = new String[n];
+        double[] initial = new double[n];
+        boolean[] integer = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = parameters.get(i).name;
+            initial[i] = parameters.get(i).initial;
+            integer[i] = parameters.get(i).integer;
+        }
+
+        return new TuningResult(names, initial, x, integer, copy(targets), initialWinRates, bestWinRates,
+            validationWinRates, decode(x), evaluations, sweeps, converged, System.nanoTime() - start);
+    }
+
+    /**
+     * Win rates of the shipped balance (no tuning).
+     *
+     * @return Win rate per [profession ordinal][enemy type ID]
+     */
+    public double[][] evaluateShipped() {
+        double[] x = new double[parameters.size()];
+        for (int i = 0; i < x.length; i++) x[i] = parameters.get(i).initial;
+        return evaluate(x, seed);
+    }
+
+    // ===== EVALUATION =====
+
+    /**
+     * A decoded parameter vector: profile plus tuned skill tables.
+     */
+    private static final class Candidate {
+        private BalanceProfile profile;
+        private Skill[][] playerSkills;   // [profession ordinal]
+        private Skill[][] enemySkills;    // [enemy type ID]
+    }
+
+    private Candidate decode(double[] x) {
+        Candidate c = new Candidate();
+        int k = 0;
+        c.profile = new BalanceProfile((int) x[k++], (int) x[k++], x[k++], x[k++], (int) x[k++],
+            x[k++], x[k++], (int) x[k++], (int) x[k++]);
+
+        Profession[] professions = Profession.values();
+        c.playerSkills = new Skill[professions.length][];
+        for (Profession profession : professions) {
+            Skill[] shipped = SkillsData.getSkillsForProfession(profession);
+            Skill[] tuned = new Skill[shipped.length];
+            for (int i = 0; i < shipped.length; i++) {
+                tuned[i] = tunedSkill(shipped[i], (int) x[k++], (int) x[k++]);
+            }
+            c.playerSkills[profession.ordinal()] = tuned;
+        }
+
+        c.enemySkills = new Skill[EnemiesData.getEnemyCount()][];
+        for (int id = 0; id < c.enemySkills.length; id++) {
+            EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(id);
+            Skill[] tuned = new Skill[template.getSkillCount()];
+            for (int i = 0; i < tuned.length; i++) {
+                tuned[i] = tunedSkill(template.getSkill(i), (int) x[k++], (int) x[k++]);
+            }
+            c.enemySkills[id] = tuned;
+        }
+        return c;
+    }
+
+    /**
+     * The shipped skill if its numbers are unchanged, otherwise an unregistered
+     * skill of its own (name suffixed with the numbers, e.g. "Fireball [24/3]").
+     * Tuned numbers never share an index or equality with the shipped skill,
+     * and candidates are not interned, so SkillRegistry does not grow with
+     * the number of evaluations.
+     */
+    private static Skill tunedSkill(Skill shipped, int damage, int cooldown) {
+        if (damage == shipped.getBaseDamage() && cooldown == shipped.getBaseCooldown()) {
+            return shipped;
+        }
+        return Skill.unregistered(shipped.getName() + " [" + damage + "/" + cooldown + "]",
+            shipped.getAllowedProfession(), damage, cooldown);
+    }
+
+    /**
+     * Build every pair under the candidate's profile and run it.
+     */
+    private double[][] evaluate(double[] x, long runSeed) {
+        Candidate c = decode(x);
+
+        // Derived stats and hit chance clamps follow the candidate profile
+        EntitySystem entitySystem = new EntitySystem();
+        Profession[] professions = Profession.values();
+        Player[] builds = new Player[professions.length];
+        for (Profession profession : professions) {
+            builds[profession.ordinal()] = entitySystem.createPlayer(PLAYER_NAME, profession, c.profile);
+        }
+        Enemy[] enemies = new Enemy[c.enemySkills.length];
+        for (int id = 0; id < enemies.length; id++) {
+            EnemiesData.EnemyTemplate t = EnemiesData.getTemplate(id);
+            enemies[id] = new Enemy(t.getName(),
+                new Stat(t.getStrength(), t.getAgility(), t.getIntelligence(), c.profile), c.enemySkills[id], id);
+        }
+
+        double[][] winRates = new double[professions.length][enemies.length];
+        pool.invoke(new PairTask(builds, c.playerSkills, enemies, winRates, runSeed, 0, builds.length * enemies.length));
+        return winRates;
+    }
+
+    /**
+     * Fork/join task over (profession, enemy) pairs.
+     */
+    private class PairTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Player[] builds;
+        private final Skill[][] playerSkills;
+        private final Enemy[] enemies;
+        private final double[][] winRates;
+        private final long runSeed;
+        private final int from;
+        private final int to;
+
+        PairTask(Player[] builds, Skill[][] playerSkills, Enemy[] enemies, double[][] winRates,
+                 long runSeed, int from, int to) {
+            this.builds = builds;
+            this.playerSkills = playerSkills;
+            this.enemies = enemies;
+            this.winRates = winRates;
+            this.runSeed = runSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int p = from / enemies.length;
+                int e = from % enemies.length;
+                BatchBattleKernel kernel = new BatchBattleKernel();
+                winRates[p][e] = kernel.run(builds[p], playerSkills[p], enemies[e], policy, battles, runSeed)
+                    .getWinRate();
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new PairTask(builds, playerSkills, enemies, winRates, runSeed, from, mid),
+                new PairTask(builds, playerSkills, enemies, winRates, runSeed, mid, to));
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private double objective(double[] x, double[][] winRates, double[][] targets) {
+        double error = 0.0;
+        for (int p = 0; p < targets.length; p++) {
+            for (int e = 0; e < targets[p].length; e++) {
+                double d = winRates[p][e] - targets[p][e];
+                error += d * d;
+            }
+        }
+
+        double drift = 0.0;
+        for (int i = 0; i < x.length; i++) {
+            Parameter param = parameters.get(i);
+            double d = (x[i] - param.initial) / (param.max - param.min);
+            drift += d * d;
+        }
+        return error + REGULARIZATION * drift;
+    }
+
+    private static double maxError(double[][] winRates, double[][] targets) {
+        double max = 0.0;
+        for (int p = 0; p < targets.length; p++) {
+            for (int e = 0; e < targets[p].length; e++) {
+                max = Math.max(max, Math.abs(winRates[p][e] - targets[p][e]));
+            }
+        }
+        return max;
+    }
+
+    private static void validateTargets(double[][] targets) {
+        if (targets == null || targets.length != Profession.values().length) {
+            throw new IllegalArgumentException("Targets need one row per profession");
+        }
+        for (double[] row : targets) {
+            if (row == null || row.length != EnemiesData.getEnemyCount()) {
+                throw new IllegalArgumentException("Targets need one column per enemy type");
+            }
+            for (double target : row) {
+                if (!(target >= 0.0 && target <= 1.0)) {
+                    throw new IllegalArgumentException("Targets must be win rates between 0 and 1");
+                }
+            }
+        }
+    }
+
+    private static double[][] copy(double[][] matrix) {
+        double[][] result = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) result[i] = matrix[i].clone();
+        return result;
+    }
+
+    /**
+     * Target matrix with the same win rate for every pair.
+     */
+    public static double[][] uniformTargets(double winRate) {
+        double[][] targets = new double[Profession.values().length][EnemiesData.getEnemyCount()];
+        for (double[] row : targets) Arrays.fill(row, winRate);
+        return targets;
+    }
+
+    // ===== ACCESSORS =====
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getBattles() { return battles; }
+    public int getParameterCount() { return parameters.size(); }
+}
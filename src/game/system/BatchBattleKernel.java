@@ -0,0 +1,542 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import game.core.Stat;
+import java.util.Arrays;
+
+/**
+ * BatchBattleKernel steps many copies of one matchup in lockstep.
+ * Every lane is one battle; all lanes share the matchup, so they share the
+ * turn order and the per-skill numbers, and only HP, cooldowns and hit rolls
+ * differ per lane.
+ *
+ * HOW A STEP WORKS (same turn of the AV cycle in every lane):
+ * - Tick the actor's cooldowns
+ * - Look up the action from a decision table by (ready-skill mask, target HP)
+ * - Roll 1-100 against the fixed hit chance, subtract damage, clamp HP at 0
+ * - Put the used skill on cooldown
+ * - Finished lanes are masked off (mask = 0) instead of branched around
+ *
+ * BRANCH-FREE LANES:
+ * - Per-lane values live in int columns (one array per field / cooldown slot)
+ * - Hit, alive and "this slot was used" are -1/0 masks built from sign bits,
+ *   so the lane loop has no data-dependent branches
+ * - Each lane rolls from its own SplitMix64 stream seeded like
+ *   BattleSimulationSystem (battleSeed(seed, i)), so results depend only on the seed
+ *
+ * SAME RULES AS THE SCALAR PATH:
+ * - Damage, cooldowns, hit chances and turn cycle come from BattleState.Model
+ *   (CombatSystem / SkillSystem / CooldownSystem formulas)
+ * - Decision tables are filled by replaying the real PlayerPolicy and
+ *   EnemyAISystem on scratch entities for every (ready mask, target HP)
+ * - Requires decisions that depend only on ready skills and the target's HP:
+ *   true for the built-in enemy AIs and every built-in player policy except
+ *   LOOKAHEAD; hard mode, perfect play and timer-reading policies are rejected
+ *
+ * PLAIN JAVA (no Vector API):
+ * - The kernel is scalar Java over int arrays; it does not use
+ *   jdk.incubator.vector (incubator-only on JDK 17, needs --add-modules)
+ * - "Lanes" are battles, not SIMD lanes: the gain comes from sharing the
+ *   per-matchup numbers, table lookups instead of policy calls, and loops
+ *   without data-dependent branches; any machine-level vectorization of the
+ *   column loops is up to the JIT and not relied on
+ *
+ * COLUMN STORE PATH (runStore):
+ * - Same tables and rolls, but lane state lives in a CombatantStore
+ *   (players at [0, lanes), enemies at [lanes, 2 * lanes)) and each turn is
+ *   a bulk cooldown tick, a decision pass and one bulk damage sweep
+ * - Results match run() exactly for the same seed
+ *
+ * Responsibilities:
+ * - Run N battles of one matchup and report win / loss / timeout counts and turns
+ *
+ * Design: Owns private systems for building the model and the tables.
+ * Not thread-safe - use one kernel per thread.
+ */
+public class BatchBattleKernel {
+
+    public static final int DEFAULT_LANES = 1024;
+    private static final int MAX_TURNS = 1000;          // Same safety cap as BattleSimulationSystem
+    private static final int MAX_SKILLS = 8;            // Decision tables have 2^skills rows
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final EnemyAISystem enemyAISystem;
+    private final BattleSolverSystem solverSystem;
+    private final int lanes;
+
+    // Lane columns (reused across blocks)
+    private final int[] playerHp;
+    private final int[] enemyHp;
+    private final int[] alive;
+    private final int[] turns;
+    private final long[] rng;
+
+    public BatchBattleKernel() {
+        this(DEFAULT_LANES);
+    }
+
+    /**
+     * @param lanes Battles stepped together per block
+     */
+    public BatchBattleKernel(int lanes) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        this.enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        this.solverSystem = new BattleSolverSystem();
+        this.lanes = lanes;
+
+        this.playerHp = new int[lanes];
+        this.enemyHp = new int[lanes];
+        this.alive = new int[lanes];
+        this.turns = new int[lanes];
+        this.rng = new long[lanes];
+    }
+
+    // ===== BATCH RESULT CLASS =====
+
+    /**
+     * BatchResult holds outcome counts for one batch run.
+     * Turns are counted as actions by either side, as in SimulationResult.
+     */
+    public static class BatchResult {
+        private final int battles;
+        private final int playerWins;
+        private final int enemyWins;
+        private final int timeouts;
+        private final long turnsSum;
+        private final long elapsedNanos;
+
+        public BatchResult(int battles, int playerWins, int enemyWins, int timeouts,
+                           long turnsSum, long elapsedNanos) {
+            this.battles = battles;
+            this.playerWins = playerWins;
+            this.enemyWins = enemyWins;
+            this.timeouts = timeouts;
+            this.turnsSum = turnsSum;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getBattles() { return battles; }
+        public int getPlayerWins() { return playerWins; }
+        public int getEnemyWins() { return enemyWins; }
+        public int getTimeouts() { return timeouts; }
+        public double getWinRate() { return battles == 0 ? 0.0 : (double) playerWins / battles; }
+        public double getAverageTurns() { return battles == 0 ? 0.0 : (double) turnsSum / battles; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public double getBattlesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : battles * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Battles: %d | Win rate: %.2f%% | Timeouts: %d | Turns: avg %.2f | %.0f battles/s",
+                battles, getWinRate() * 100, timeouts, getAverageTurns(), getBattlesPerSecond());
+        }
+    }
+
+    // ===== MATCHUP TABLES =====
+
+    /**
+     * Everything the lane loop needs, flattened to int arrays.
+     */
+    private static class Tables {
+        int[] cycle;                // 1 = player acts
+        int playerHitChance;
+        int enemyHitChance;
+
+        int playerSkills;
+        int enemySkills;
+        int[] playerDamage;         // By skill
+        int[] playerCooldown;
+        int[] enemyDamage;          // By action + 1 (0 = basic attack)
+        int[] enemyCooldown;
+
+        int enemyHpStride;          // Enemy max HP + 1
+        int playerHpStride;         // Player max HP + 1
+        int[] playerAction;         // [mask * enemyHpStride + enemyHp] -> skill
+        int[] enemyAction;          // [mask * playerHpStride + playerHp] -> skill, or -1 basic
+
+        int playerMaxHp;
+        int enemyMaxHp;
+    }
+
+    private Tables buildTables(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                               PlayerPolicy policy) {
+        Stat s = build.getStats();
+        Player player = entitySystem.createPlayer(build.getName(), build.getProfession(),
+            s.getStrength(), s.getAgility(), s.getIntelligence(), s.getBalance());
+        Enemy enemy = entitySystem.copyEnemy(enemyTemplate);
+        combatSystem.prepareBattle(player, enemy);
+
+        EnemyAISystem.AIType aiType = enemyAISystem.getAIType(enemy);
+        if (aiType == EnemyAISystem.AIType.SEARCH || aiType == EnemyAISystem.AIType.PERFECT) {
+            throw new IllegalArgumentException("Batch kernel needs table-driven enemy AI, not " + aiType);
+        }
+        if (policy.readsCooldownTimers()) {
+            throw new IllegalArgumentException("Batch kernel needs a policy that only reads ready skills");
+        }
+
+        Skill[] enemySkills = enemy.getSkills();
+        if (playerSkills.length > MAX_SKILLS || enemySkills.length > MAX_SKILLS) {
+            throw new IllegalArgumentException("Batch kernel supports at most " + MAX_SKILLS + " skills per side");
+        }
+
+        BattleState.Model model = BattleState.createModel(player, playerSkills, enemy,
+            solverSystem.calculateTurnCycle(player, enemy),
+            entitySystem, skillSystem, cooldownSystem, combatSystem);
+
+        Tables t = new Tables();
+        t.cycle = new int[model.getCycleLength()];
+        for (int i = 0; i < t.cycle.length; i++) {
+            t.cycle[i] = model.isPlayerTurn(i) ? 1 : 0;
+        }
+        t.playerHitChance = model.getPlayerHitChance();
+        t.enemyHitChance = model.getEnemyHitChance();
+        t.playerMaxHp = model.getPlayerMaxHp();
+        t.enemyMaxHp = model.getEnemyMaxHp();
+
+        t.playerSkills = playerSkills.length;
+        t.playerDamage = new int[t.playerSkills];
+        t.playerCooldown = new int[t.playerSkills];
+        for (int i = 0; i < t.playerSkills; i++) {
+            t.playerDamage[i] = model.getPlayerDamage(i);
+            t.playerCooldown[i] = model.getPlayerCooldown(i);
+        }
+
+        t.enemySkills = enemySkills.length;
+        t.enemyDamage = new int[t.enemySkills + 1];
+        t.enemyCooldown = new int[t.enemySkills + 1];
+        t.enemyDamage[0] = model.getEnemyDamage(BattleState.BASIC_ATTACK);
+        for (int i = 0; i < t.enemySkills; i++) {
+            t.enemyDamage[i + 1] = model.getEnemyDamage(i);
+            t.enemyCooldown[i + 1] = model.getEnemyCooldown(i);
+        }
+
+        // Player decisions by (ready mask, enemy HP)
+        t.enemyHpStride = t.enemyMaxHp + 1;
+        t.playerAction = new int[(1 << t.playerSkills) * t.enemyHpStride];
+        for (int mask = 0; mask < 1 << t.playerSkills; mask++) {
+            for (int i = 0; i < t.playerSkills; i++) {
+                cooldownSystem.setSkillCooldown(player, playerSkills[i], (mask >> i & 1) != 0 ? 0 : 1);
+            }
+            for (int hp = 0; hp <= t.enemyMaxHp; hp++) {
+                setHp(enemy, hp);
+                t.playerAction[mask * t.enemyHpStride + hp] = choosePlayerSkill(player, enemy, playerSkills, policy);
+            }
+        }
+        entitySystem.fullHeal(enemy);
+
+        // Enemy decisions by (ready mask, player HP)
+        t.playerHpStride = t.playerMaxHp + 1;
+        t.enemyAction = new int[(1 << t.enemySkills) * t.playerHpStride];
+        for (int mask = 0; mask < 1 << t.enemySkills; mask++) {
+            for (int i = 0; i < t.enemySkills; i++) {
+                cooldownSystem.setSkillCooldown(enemy, enemySkills[i], (mask >> i & 1) != 0 ? 0 : 1);
+            }
+            for (int hp = 0; hp <= t.playerMaxHp; hp++) {
+                setHp(player, hp);
+                EnemyAISystem.AIDecision decision = enemyAISystem.chooseSkill(enemy, player);
+                t.enemyAction[mask * t.playerHpStride + hp] = decision.isBasicAttack() ? -1 : decision.getSkillIndex();
+            }
+        }
+        return t;
+    }
+
+    private int choosePlayerSkill(Player player, Enemy enemy, Skill[] skills, PlayerPolicy policy) {
+        return PlayerPolicySystem.chooseUsableSkillIndex(policy, player, enemy, skills, cooldownSystem);
+    }
+
+    private void setHp(Player player, int hp) {
+        entitySystem.fullHeal(player);
+        entitySystem.applyDamage(player, entitySystem.getMaxHP(player) - hp);
+    }
+
+    private void setHp(Enemy enemy, int hp) {
+        entitySystem.fullHeal(enemy);
+        entitySystem.applyDamage(enemy, entitySystem.getMaxHP(enemy) - hp);
+    }
+
+    // ===== RUN =====
+
+    /**
+     * Run battles of one matchup through the lockstep kernel.
+     *
+     * @param build Player build (stats are copied)
+     * @param playerSkills Player skills
+     * @param enemyTemplate Enemy template (copied)
+     * @param policy Player policy (must depend only on ready skills and enemy HP)
+     * @param battles Number of battles
+     * @param seed Seed for all hit rolls
+     * @return BatchResult
+     */
+    public BatchResult run(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                           PlayerPolicy policy, int battles, long seed) {
+        if (build == null || playerSkills == null || playerSkills.length == 0 || enemyTemplate == null || policy == null) {
+            throw new IllegalArgumentException("Build, skills, enemy and policy must be non-null");
+        }
+        if (battles < 1) {
+            throw new IllegalArgumentException("Battle count must be positive");
+        }
+
+        long start = System.nanoTime();
+        Tables t = buildTables(build, playerSkills, enemyTemplate, policy);
+
+        int[][] playerCd = new int[t.playerSkills][lanes];
+        int[][] enemyCd = new int[t.enemySkills][lanes];
+        long[] counts = new long[4]; // player wins, enemy wins, timeouts, turns
+
+        for (int first = 0; first < battles; first += lanes) {
+            int n = Math.min(lanes, battles - first);
+            runBlock(t, playerCd, enemyCd, n, first, seed, counts);
+        }
+
+        return new BatchResult(battles, (int) counts[0], (int) counts[1], (int) counts[2],
+            counts[3], System.nanoTime() - start);
+    }
+
+    private void runBlock(Tables t, int[][] playerCd, int[][] enemyCd, int n, int first, long seed, long[] counts) {
+        for (int lane = 0; lane < n; lane++) {
+            playerHp[lane] = t.playerMaxHp;
+            enemyHp[lane] = t.enemyMaxHp;
+            alive[lane] = -1;
+            turns[lane] = 0;
+            rng[lane] = BattleSimulationSystem.battleSeed(seed, first + lane);
+        }
+        for (int[] column : playerCd) Arrays.fill(column, 0, n, 0);
+        for (int[] column : enemyCd) Arrays.fill(column, 0, n, 0);
+
+        int running = n;
+        for (int turn = 0; turn < MAX_TURNS && running > 0; turn++) {
+            if (t.cycle[turn % t.cycle.length] == 1) {
+                running = step(n, playerCd, t.playerDamage, t.playerCooldown, 0, t.playerAction, t.enemyHpStride,
+                    t.playerHitChance, enemyHp);
+            } else {
+                running = step(n, enemyCd, t.enemyDamage, t.enemyCooldown, 1, t.enemyAction, t.playerHpStride,
+                    t.enemyHitChance, playerHp);
+            }
+        }
+
+        for (int lane = 0; lane < n; lane++) {
+            boolean playerAlive = playerHp[lane] > 0;
+            boolean enemyAlive = enemyHp[lane] > 0;
+            if (playerAlive && !enemyAlive) counts[0]++;
+            else if (enemyAlive && !playerAlive) counts[1]++;
+            else counts[2]++;
+            counts[3] += turns[lane];
+        }
+    }
+
+    /**
+     * One turn for the acting side in every lane.
+     *
+     * @param cd Actor cooldown columns (one per skill)
+     * @param damage Damage by table action + offset
+     * @param cooldown Cooldown by table action + offset
+     * @param offset 0 for the player, 1 for the enemy (action -1 = basic attack)
+     * @param actions Decision table [mask * stride + targetHp]
+     * @param targetHp Target HP column
+     * @return Lanes still running
+     */
+    private int step(int n, int[][] cd, int[] damage, int[] cooldown, int offset, int[] actions, int stride,
+                     int hitChance, int[] targetHp) {
+        int skills = cd.length;
+
+        // Tick cooldowns (finished lanes tick too - harmless)
+        for (int s = 0; s < skills; s++) {
+            int[] column = cd[s];
+            for (int lane = 0; lane < n; lane++) {
+                int c = column[lane];
+                column[lane] = c - (-c >>> 31);             // c > 0 ? c - 1 : 0
+            }
+        }
+
+        int running = 0;
+        for (int lane = 0; lane < n; lane++) {
+            int live = alive[lane];
+
+            int mask = 0;
+            for (int s = 0; s < skills; s++) {
+                mask |= ((cd[s][lane] - 1) >>> 31) << s;    // Bit set = ready
+            }
+            int hp = targetHp[lane];
+            int action = actions[mask * stride + hp] + offset;  // >= 0
+
+            int hit = (roll(lane) - hitChance - 1) >> 31;  // -1 if roll <= hitChance
+
+            int left = hp - (damage[action] & hit & live);
+            left &= ~(left >> 31);                          // max(0, left)
+            targetHp[lane] = left;
+
+            // Put the used skill on cooldown
+            for (int s = 0; s < skills; s++) {
+                int used = (((s + offset) ^ action) - 1) >> 31 & live;  // -1 if this slot was used
+                cd[s][lane] = (cd[s][lane] & ~used) | (cooldown[action] & used);
+            }
+
+            turns[lane] -= live;                            // +1 while running
+            live &= ~((left - 1) >> 31);                    // Target dead -> lane off
+            alive[lane] = live;
+            running -= live;
+        }
+        return running;
+    }
+
+    /**
+     * Roll 1-100 from the lane's SplitMix64 stream.
+     */
+    private int roll(int lane) {
+        long z = rng[lane] += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) (((z >>> 32) * 100) >>> 32) + 1;
+    }
+
+    // ===== COLUMN STORE RUN =====
+
+    /**
+     * Run battles of one matchup with lane state held in a CombatantStore.
+     * Same tables, rolls and rules as run(), so the counts are identical.
+     *
+     * @param build Player build (stats are copied)
+     * @param playerSkills Player skills (at most CombatantStore.COOLDOWN_SLOTS)
+     * @param enemyTemplate Enemy template (copied)
+     * @param policy Player policy (must depend only on ready skills and enemy HP)
+     * @param battles Number of battles
+     * @param seed Seed for all hit rolls
+     * @return BatchResult
+     */
+    public BatchResult runStore(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                                PlayerPolicy policy, int battles, long seed) {
+        if (build == null || playerSkills == null || playerSkills.length == 0 || enemyTemplate == null || policy == null) {
+            throw new IllegalArgumentException("Build, skills, enemy and policy must be non-null");
+        }
+        if (battles < 1) {
+            throw new IllegalArgumentException("Battle count must be positive");
+        }
+        Skill[] enemySkills = enemyTemplate.getSkills();
+        if (playerSkills.length > CombatantStore.COOLDOWN_SLOTS || enemySkills.length > CombatantStore.COOLDOWN_SLOTS) {
+            throw new IllegalArgumentException("Column store supports at most "
+                + CombatantStore.COOLDOWN_SLOTS + " skills per side");
+        }
+        if (!build.getStats().getBalance().equals(enemyTemplate.getStats().getBalance())) {
+            throw new IllegalArgumentException("Player and enemy must share a balance profile");
+        }
+
+        long start = System.nanoTime();
+        Tables t = buildTables(build, playerSkills, enemyTemplate, policy);
+
+        CombatantStore store = new CombatantStore(2 * lanes, build.getStats().getBalance());
+        Stat p = build.getStats();
+        Stat e = enemyTemplate.getStats();
+        for (int lane = 0; lane < lanes; lane++) store.add(p.getStrength(), p.getAgility(), p.getIntelligence());
+        for (int lane = 0; lane < lanes; lane++) store.add(e.getStrength(), e.getAgility(), e.getIntelligence());
+
+        int[] targets = new int[lanes];
+        int[] damage = new int[lanes];
+        long[] counts = new long[4]; // player wins, enemy wins, timeouts, turns
+
+        for (int first = 0; first < battles; first += lanes) {
+            int n = Math.min(lanes, battles - first);
+            runStoreBlock(t, store, playerSkills, enemySkills, targets, damage, n, first, seed, counts);
+        }
+
+        return new BatchResult(battles, (int) counts[0], (int) counts[1], (int) counts[2],
+            counts[3], System.nanoTime() - start);
+    }
+
+    private void runStoreBlock(Tables t, CombatantStore store, Skill[] playerSkills, Skill[] enemySkills,
+                               int[] targets, int[] damage, int n, int first, long seed, long[] counts) {
+        store.fullHeal(0, n);
+        store.fullHeal(lanes, lanes + n);
+        store.resetCooldowns(0, n);
+        store.resetCooldowns(lanes, lanes + n);
+        for (int lane = 0; lane < n; lane++) {
+            alive[lane] = -1;
+            turns[lane] = 0;
+            rng[lane] = BattleSimulationSystem.battleSeed(seed, first + lane);
+        }
+
+        int running = n;
+        for (int turn = 0; turn < MAX_TURNS && running > 0; turn++) {
+            if (t.cycle[turn % t.cycle.length] == 1) {
+                running = storeStep(store, 0, lanes, n, playerSkills, t.playerDamage, 0, t.playerAction,
+                    t.enemyHpStride, t.playerHitChance, targets, damage);
+            } else {
+                running = storeStep(store, lanes, 0, n, enemySkills, t.enemyDamage, 1, t.enemyAction,
+                    t.playerHpStride, t.enemyHitChance, targets, damage);
+            }
+        }
+
+        for (int lane = 0; lane < n; lane++) {
+            boolean playerAlive = store.isAlive(lane);
+            boolean enemyAlive = store.isAlive(lanes + lane);
+            if (playerAlive && !enemyAlive) counts[0]++;
+            else if (enemyAlive && !playerAlive) counts[1]++;
+            else counts[2]++;
+            counts[3] += turns[lane];
+        }
+    }
+
+    /**
+     * One turn for the acting side in every running lane, on the column store.
+     *
+     * @param actorBase Store index of lane 0's actor
+     * @param targetBase Store index of lane 0's target
+     * @param damage Damage by table action + offset
+     * @param offset 0 for the player, 1 for the enemy (action -1 = basic attack)
+     * @return Lanes still running
+     */
+    private int storeStep(CombatantStore store, int actorBase, int targetBase, int n, Skill[] skills,
+                          int[] damage, int offset, int[] actions, int stride, int hitChance,
+                          int[] targets, int[] hitDamage) {
+        store.tickCooldowns(actorBase, actorBase + n);
+
+        int hits = 0;
+        for (int lane = 0; lane < n; lane++) {
+            if (alive[lane] == 0) continue;
+            int actor = actorBase + lane;
+            int target = targetBase + lane;
+
+            int mask = 0;
+            for (int s = 0; s < skills.length; s++) {
+                if (store.isSkillReady(actor, s)) mask |= 1 << s;
+            }
+            int action = actions[mask * stride + store.getHp(target)];
+
+            if (roll(lane) <= hitChance) {
+                targets[hits] = target;
+                hitDamage[hits++] = damage[action + offset];
+            }
+            if (action >= 0) {
+                store.applySkillCooldown(actor, action, skills[action]);
+            }
+            turns[lane]++;
+        }
+        store.applyDamage(targets, hitDamage, hits);
+
+        int running = 0;
+        for (int lane = 0; lane < n; lane++) {
+            if (alive[lane] != 0 && !store.isAlive(targetBase + lane)) alive[lane] = 0;
+            running -= alive[lane];
+        }
+        return running;
+    }
+
+    public int getLanes() {
+        return lanes;
+    }
+}
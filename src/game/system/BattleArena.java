@@ -0,0 +1,367 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import game.core.Stat;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * BattleArena holds the state of many battles off-heap, in one direct ByteBuffer.
+ * For population-scale runs (millions of battles held at once) where object
+ * headers and GC dominate: a battle here is a fixed 128-byte record, not a
+ * Player + Enemy + Stat + CooldownTable object graph.
+ *
+ * LAYOUT (native byte order, int fields):
+ * - Battle b starts at b * RECORD_BYTES
+ * - Header (16 bytes): turn, winner (0 running, 1 player, 2 enemy), 2 spare
+ * - Player side at +16, enemy side at +72 (56 bytes each):
+ *   STR, AGI, INT, HP, max HP, speed, accuracy, evasion, CDR, 4 cooldowns, spare
+ * - Cooldown slot s is the skill at index s of that side's skill array
+ *
+ * FLYWEIGHT ACCESS:
+ * - A Combatant is a movable view (battle, side) over the buffer
+ * - Create a few per worker and moveTo() them; no object per battle
+ * - CombatSystem.resolveAttack and SkillSystem.calculateDamage accept views,
+ *   so arena battles follow the same rules as object battles
+ *
+ * LIFETIME:
+ * - reset() empties the arena and reuses the same memory (flat footprint)
+ * - close() frees the native memory in one call (runs the buffer's cleaner
+ *   through sun.misc.Unsafe.invokeCleaner); views and the arena are unusable after
+ * - If that hook is unavailable, close() only drops the buffer and the memory
+ *   is returned when the buffer is garbage collected
+ * - Direct memory is capped by -XX:MaxDirectMemorySize (defaults to the max heap size)
+ *
+ * Design: Not thread-safe for the same battle; disjoint battle ranges may be
+ * stepped by different threads, each with its own views.
+ */
+public class BattleArena implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 128;
+    public static final int COOLDOWN_SLOTS = 4;
+    public static final int MAX_BATTLES = Integer.MAX_VALUE / RECORD_BYTES;
+
+    public static final int SIDE_PLAYER = 0;
+    public static final int SIDE_ENEMY = 1;
+
+    public static final int RUNNING = 0;
+    public static final int PLAYER_WON = 1;
+    public static final int ENEMY_WON = 2;
+
+    // Header offsets
+    private static final int TURN = 0;
+    private static final int WINNER = 4;
+    private static final int HEADER_BYTES = 16;
+
+    // Combatant offsets (relative to the side's base)
+    private static final int SIDE_BYTES = 56;
+    private static final int STR = 0;
+    private static final int AGI = 4;
+    private static final int INT = 8;
+    private static final int HP = 12;
+    private static final int MAX_HP = 16;
+    private static final int SPEED = 20;
+    private static final int ACCURACY = 24;
+    private static final int EVASION = 28;
+    private static final int CDR = 32;
+    private static final int COOLDOWNS = 36;
+
+    private static final MethodHandle INVOKE_CLEANER = findCleaner(); // null = free on GC
+
+    private ByteBuffer buffer;
+    private final int capacity;
+    private int size;
+
+    /**
+     * @param capacity Maximum number of battles held at once
+     */
+    public BattleArena(int capacity) {
+        if (capacity < 1 || capacity > MAX_BATTLES) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_BATTLES);
+        }
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity * RECORD_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    // ===== FLYWEIGHT VIEW =====
+
+    /**
+     * Combatant is a movable view of one side of one battle.
+     * Reads and writes go straight to the arena buffer.
+     */
+    public static final class Combatant {
+        private final BattleArena arena;
+        private int base;
+
+        private Combatant(BattleArena arena) {
+            this.arena = arena;
+        }
+
+        /**
+         * Point this view at a battle side.
+         *
+         * @param battle Battle index
+         * @param side SIDE_PLAYER or SIDE_ENEMY
+         * @return this (for chaining)
+         */
+        public Combatant moveTo(int battle, int side) {
+            arena.checkBattle(battle);
+            if (side != SIDE_PLAYER && side != SIDE_ENEMY) {
+                throw new IllegalArgumentException("Unknown side: " + side);
+            }
+            base = battle * RECORD_BYTES + HEADER_BYTES + side * SIDE_BYTES;
+            return this;
+        }
+
+        private int get(int offset) { return arena.buffer().getInt(base + offset); }
+        private void put(int offset, int value) { arena.buffer().putInt(base + offset, value); }
+
+        public int getStrength() { return get(STR); }
+        public int getAgility() { return get(AGI); }
+        public int getIntelligence() { return get(INT); }
+        public int getHp() { return get(HP); }
+        public int getMaxHp() { return get(MAX_HP); }
+        public int getSpeed() { return get(SPEED); }
+        public int getAccuracy() { return get(ACCURACY); }
+        public int getEvasion() { return get(EVASION); }
+        public int getCooldownReduction() { return get(CDR); }
+
+        public boolean isAlive() {
+            return get(HP) > 0;
+        }
+
+        /**
+         * Apply damage (HP floors at 0, non-positive damage ignored).
+         */
+        public void takeDamage(int damage) {
+            if (damage > 0) {
+                put(HP, Math.max(0, get(HP) - damage));
+            }
+        }
+
+        public void fullHeal() {
+            put(HP, get(MAX_HP));
+        }
+
+        public int getCooldown(int slot) {
+            return get(COOLDOWNS + 4 * checkSlot(slot));
+        }
+
+        public void setCooldown(int slot, int turns) {
+            put(COOLDOWNS + 4 * checkSlot(slot), Math.max(0, turns));
+        }
+
+        public boolean isSkillReady(int slot) {
+            return getCooldown(slot) == 0;
+        }
+
+        /**
+         * Tick every cooldown down by one turn.
+         */
+        public void tickCooldowns() {
+            for (int slot = 0; slot < COOLDOWN_SLOTS; slot++) {
+                int offset = COOLDOWNS + 4 * slot;
+                put(offset, Math.max(0, get(offset) - 1));
+            }
+        }
+
+        public void resetCooldowns() {
+            for (int slot = 0; slot < COOLDOWN_SLOTS; slot++) {
+                put(COOLDOWNS + 4 * slot, 0);
+            }
+        }
+
+        private void load(int str, int agi, int intel, int hp) {
+            put(STR, str);
+            put(AGI, agi);
+            put(INT, intel);
+            put(MAX_HP, Stat.maxHpFor(str));
+            put(HP, hp);
+            put(SPEED, Stat.speedFor(agi));
+            put(ACCURACY, Stat.accuracyFor(intel));
+            put(EVASION, Stat.evasionFor(agi));
+            put(CDR, Stat.cooldownReductionFor(intel));
+            resetCooldowns();
+        }
+
+        private static int checkSlot(int slot) {
+            if (slot < 0 || slot >= COOLDOWN_SLOTS) {
+                throw new IndexOutOfBoundsException("Cooldown slot " + slot);
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Create a view (reuse it with moveTo; one or two per worker is enough).
+     */
+    public Combatant newView() {
+        buffer();
+        return new Combatant(this);
+    }
+
+    // ===== BATTLES =====
+
+    /**
+     * Add a battle between copies of a player and an enemy (current stats and HP).
+     *
+     * @param player The player
+     * @param playerSkills Player skills (skill s -> cooldown slot s)
+     * @param enemy The enemy (skill s -> cooldown slot s)
+     * @return Battle index
+     */
+    public int add(Player player, Skill[] playerSkills, Enemy enemy) {
+        if (player == null || enemy == null) {
+            throw new IllegalArgumentException("Player and enemy cannot be null");
+        }
+        int battle = addBattle();
+
+        Combatant view = newView();
+        Stat p = player.getStats();
+        view.moveTo(battle, SIDE_PLAYER).load(p.getStrength(), p.getAgility(), p.getIntelligence(), p.getHp());
+        if (playerSkills != null) {
+            for (int s = 0; s < Math.min(playerSkills.length, COOLDOWN_SLOTS); s++) {
+                view.setCooldown(s, player.getSkillCooldown(playerSkills[s]));
+            }
+        }
+
+        Stat e = enemy.getStats();
+        view.moveTo(battle, SIDE_ENEMY).load(e.getStrength(), e.getAgility(), e.getIntelligence(), e.getHp());
+        Skill[] enemySkills = enemy.getSkills();
+        for (int s = 0; s < Math.min(enemySkills.length, COOLDOWN_SLOTS); s++) {
+            view.setCooldown(s, enemy.getSkillCooldown(enemySkills[s]));
+        }
+        return battle;
+    }
+
+    /**
+     * Add count copies of the same matchup, at full HP with no cooldowns.
+     *
+     * @return Index of the first added battle
+     */
+    public int addCopies(int[] playerStats, int[] enemyStats, int count) {
+        if (count < 1 || count > capacity - size) {
+            throw new IllegalArgumentException("Count must be between 1 and " + (capacity - size));
+        }
+
+        int first = size;
+        Combatant view = newView();
+        for (int k = 0; k < count; k++) {
+            int battle = addBattle();
+            view.moveTo(battle, SIDE_PLAYER).load(playerStats[0], playerStats[1], playerStats[2],
+                Stat.maxHpFor(playerStats[0]));
+            view.moveTo(battle, SIDE_ENEMY).load(enemyStats[0], enemyStats[1], enemyStats[2],
+                Stat.maxHpFor(enemyStats[0]));
+        }
+        return first;
+    }
+
+    private int addBattle() {
+        ByteBuffer buf = buffer();
+        if (size == capacity) {
+            throw new IllegalStateException("Arena is full (" + capacity + " battles)");
+        }
+        int battle = size++;
+        buf.putInt(battle * RECORD_BYTES + TURN, 0);
+        buf.putInt(battle * RECORD_BYTES + WINNER, RUNNING);
+        return battle;
+    }
+
+    public int getTurn(int battle) {
+        checkBattle(battle);
+        return buffer.getInt(battle * RECORD_BYTES + TURN);
+    }
+
+    public void setTurn(int battle, int turn) {
+        checkBattle(battle);
+        buffer.putInt(battle * RECORD_BYTES + TURN, turn);
+    }
+
+    /**
+     * @return RUNNING, PLAYER_WON or ENEMY_WON
+     */
+    public int getWinner(int battle) {
+        checkBattle(battle);
+        return buffer.getInt(battle * RECORD_BYTES + WINNER);
+    }
+
+    public void setWinner(int battle, int winner) {
+        checkBattle(battle);
+        buffer.putInt(battle * RECORD_BYTES + WINNER, winner);
+    }
+
+    // ===== LIFETIME =====
+
+    /**
+     * Drop every battle and keep the memory for the next run.
+     */
+    public void reset() {
+        buffer();
+        size = 0;
+    }
+
+    /**
+     * Free the arena memory now. The arena and its views cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        ByteBuffer released = buffer;
+        buffer = null;
+        size = 0;
+        if (released == null || INVOKE_CLEANER == null) return;
+
+        try {
+            INVOKE_CLEANER.invokeExact(released);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not free arena memory", e);
+        }
+    }
+
+    /**
+     * Whether close() frees memory immediately (false = when the buffer is collected).
+     */
+    public static boolean isExplicitRelease() {
+        return INVOKE_CLEANER != null;
+    }
+
+    /**
+     * Unsafe.invokeCleaner(ByteBuffer) bound to the Unsafe instance, looked up
+     * reflectively (jdk.unsupported), or null if not available.
+     */
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public boolean isClosed() { return buffer == null; }
+    public int size() { return size; }
+    public int getCapacity() { return capacity; }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("Arena is closed");
+        }
+        return buffer;
+    }
+
+    private void checkBattle(int battle) {
+        buffer();
+        if (battle < 0 || battle >= size) {
+            throw new IndexOutOfBoundsException("Battle " + battle + " (size " + size + ")");
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package game.system;
+
+import game.core.Player;
+import game.core.Enemy;
+import game.core.Skill;
+import game.core.Stat;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * BattleSimulationSystem runs headless Monte Carlo battles for balance analysis.
+ * Plays complete battles through the real combat systems, without any UI.
+ *
+ * HOW IT WORKS:
+ * - Each battle starts from a fresh copy of the player build and the enemy template
+ * - Turn order comes from ActionValueSystem (same AV rules as the game)
+ * - The acting side ticks its own cooldowns at the start of its turn
+ * - The player acts through a PlayerPolicy (see PlayerPolicySystem for built-ins),
+ *   the enemy through EnemyAISystem.chooseSkill
+ * - Attacks resolve through CombatSystem.resolvePlayerAttack / resolveEnemyAttack
+ *   into one reused AttackOutcome, so no result objects or messages per turn
+ *
+ * PARALLELISM:
+ * - Battles are split into batches with fork/join
+ * - Each leaf task owns its own set of systems (ActionValueSystem is stateful)
+ * - Leaf tallies are merged on the way back up, so no shared mutable state
+ *
+ * REPRODUCIBILITY:
+ * - Battle i rolls from its own SplittableRandom seeded from (seed, i)
+ * - Results depend only on the seed, never on thread count or batch size
+ *
+ * Responsibilities:
+ * - Run N battles for a player build vs an enemy template
+ * - Spread the work across all cores
+ * - Report win rate, turns-to-kill and damage distributions
+ *
+ * Design: Stateless runner - all battle state lives in per-task systems.
+ * GUI-Friendly: Returns a SimulationResult with simple queries and a summary string.
+ */
+public class BattleSimulationSystem {
+
+    // Simulation constants
+    private static final int MAX_TURNS = 1000;          // Safety cap per battle (counted as timeout)
+    private static final int DEFAULT_BATCH_SIZE = 1024; // Battles per fork/join leaf
+    private static final int DAMAGE_BUCKET = 10;        // Width of damage histogram buckets
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L; // Golden-ratio increment (SplitMix64)
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    public BattleSimulationSystem() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public BattleSimulationSystem(ForkJoinPool pool, int batchSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    // ===== SIMULATION RESULT CLASS =====
+
+    /**
+     * SimulationResult holds aggregated statistics over many battles.
+     * Turns are counted as actions by either side (one AV turn = one action).
+     */
+    public static class SimulationResult {
+        private final Tally tally;
+        private final long elapsedNanos;
+
+        private SimulationResult(Tally tally, long elapsedNanos) {
+            this.tally = tally;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // Outcome counts
+        public int getBattles() { return tally.battles; }
+        public int getPlayerWins() { return tally.playerWins; }
+        public int getEnemyWins() { return tally.enemyWins; }
+        public int getTimeouts() { return tally.timeouts; }
+
+        /**
+         * Player win rate (0.0 to 1.0).
+         */
+        public double getWinRate() {
+            return tally.battles == 0 ? 0.0 : (double) tally.playerWins / tally.battles;
+        }
+
+        // Turn distribution
+        public double getAverageTurns() { return mean(tally.turnsSum, tally.battles); }
+        public double getTurnsStdDev() { return stdDev(tally.turnsSum, tally.turnsSumSq, tally.battles); }
+
+        /**
+         * Average turns for battles the player won (turns-to-kill).
+         */
+        public double getAverageTurnsToKill() { return mean(tally.winTurnsSum, tally.playerWins); }
+
+        /**
+         * Get the turn count at a percentile of all battles.
+         *
+         * @param percentile Percentile (0.0 to 1.0)
+         * @return Turn count at that percentile
+         */
+        public int getTurnsPercentile(double percentile) {
+            return histogramPercentile(tally.turnsHistogram, tally.battles, percentile, 1);
+        }
+
+        /**
+         * Get histogram of turn counts (index = turns, value = battles).
+         */
+        public int[] getTurnsHistogram() { return tally.turnsHistogram.clone(); }
+
+        // Damage distributions
+        public double getAverageDamageDealt() { return mean(tally.dealtSum, tally.battles); }
+        public double getDamageDealtStdDev() { return stdDev(tally.dealtSum, tally.dealtSumSq, tally.battles); }
+        public double getAverageDamageTaken() { return mean(tally.takenSum, tally.battles); }
+        public double getDamageTakenStdDev() { return stdDev(tally.takenSum, tally.takenSumSq, tally.battles); }
+
+        /**
+         * Get damage dealt at a percentile (resolution = bucket width).
+         */
+        public int getDamageDealtPercentile(double percentile) {
+            return histogramPercentile(tally.dealtHistogram, tally.battles, percentile, DAMAGE_BUCKET);
+        }
+
+        /**
+         * Get damage taken at a percentile (resolution = bucket width).
+         */
+        public int getDamageTakenPercentile(double percentile) {
+            return histogramPercentile(tally.takenHistogram, tally.battles, percentile, DAMAGE_BUCKET);
+        }
+
+        public int getDamageBucketWidth() { return DAMAGE_BUCKET; }
+        public int[] getDamageDealtHistogram() { return tally.dealtHistogram.clone(); }
+        public int[] getDamageTakenHistogram() { return tally.takenHistogram.clone(); }
+
+        // Throughput
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public double getBattlesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : tally.battles / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * Get formatted summary for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Battles: ").append(tally.battles)
+              .append(" | Win rate: ").append(String.format("%.2f%%", getWinRate() * 100))
+              .append(" | Timeouts: ").append(tally.timeouts).append("\n");
+            sb.append("Turns: avg ").append(String.format("%.2f", getAverageTurns()))
+              .append(" (sd ").append(String.format("%.2f", getTurnsStdDev())).append(")")
+              .append(" | p50 ").append(getTurnsPercentile(0.5))
+              .append(" | p95 ").append(getTurnsPercentile(0.95))
+              .append(" | to kill ").append(String.format("%.2f", getAverageTurnsToKill())).append("\n");
+            sb.append("Damage dealt: avg ").append(String.format("%.1f", getAverageDamageDealt()))
+              .append(" | taken: avg ").append(String.format("%.1f", getAverageDamageTaken())).append("\n");
+            sb.append("Throughput: ").append(String.format("%.0f", getBattlesPerSecond())).append(" battles/s");
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== SIMULATION =====
+
+    /**
+     * Simulate many battles with a random seed.
+     *
+     * @see #simulate(Player, Skill[], Enemy, PlayerPolicy, int, long)
+     */
+    public SimulationResult simulate(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                                     PlayerPolicy policy, int battles) {
+        return simulate(build, playerSkills, enemyTemplate, policy, battles, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Simulate many battles of a player build against an enemy template.
+     * Neither the build nor the template is modified.
+     * The same seed always produces the same result.
+     *
+     * @param build Player build (stats are copied for every battle)
+     * @param playerSkills Skills the player can use
+     * @param enemyTemplate Enemy to fight (copied for every battle)
+     * @param policy Player decision policy
+     * @param battles Number of battles to run
+     * @param seed Seed for all hit rolls
+     * @return SimulationResult with aggregated statistics
+     */
+    public SimulationResult simulate(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                                     PlayerPolicy policy, int battles, long seed) {
+        if (build == null || enemyTemplate == null || policy == null) {
+            throw new IllegalArgumentException("Build, enemy and policy must be non-null");
+        }
+        if (playerSkills == null || playerSkills.length == 0) {
+            throw new IllegalArgumentException("Player must have at least one skill");
+        }
+
+        long start = System.nanoTime();
+        Tally tally = battles <= 0
+            ? new Tally()
+            : pool.invoke(new BattleTask(build, playerSkills, enemyTemplate, policy, seed, 0, battles));
+        long elapsed = System.nanoTime() - start;
+
+        return new SimulationResult(tally, elapsed);
+    }
+
+    /**
+     * Fork/join task over a range of battle indices.
+     */
+    private class BattleTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+        private final Player build;
+        private final Skill[] playerSkills;
+        private final Enemy enemyTemplate;
+        private final PlayerPolicy policy;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        BattleTask(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                   PlayerPolicy policy, long seed, int from, int to) {
+            this.build = build;
+            this.playerSkills = playerSkills;
+            this.enemyTemplate = enemyTemplate;
+            this.policy = policy;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= batchSize) {
+                BattleRunner runner = new BattleRunner();
+                Tally tally = new Tally();
+                for (int i = from; i < to; i++) {
+                    runner.combatSystem.setRandom(new SplittableRandom(battleSeed(seed, i)));
+                    runner.runBattle(build, playerSkills, enemyTemplate, policy, tally);
+                }
+                return tally;
+            }
+
+            int mid = (from + to) >>> 1;
+            BattleTask left = new BattleTask(build, playerSkills, enemyTemplate, policy, seed, from, mid);
+            BattleTask right = new BattleTask(build, playerSkills, enemyTemplate, policy, seed, mid, to);
+            left.fork();
+            Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+    }
+
+    // ===== BATTLE RUNNER =====
+
+    /**
+     * Runs battles on one thread with its own set of systems.
+     */
+    private static class BattleRunner {
+        private final EntitySystem entitySystem = new EntitySystem();
+        private final SkillSystem skillSystem = new SkillSystem();
+        private final CooldownSystem cooldownSystem = new CooldownSystem();
+        private final CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        private final EnemyAISystem enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        private final ActionValueSystem actionValueSystem = new ActionValueSystem(entitySystem);
+        private final CombatSystem.AttackOutcome outcome = new CombatSystem.AttackOutcome();
+
+        void runBattle(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                       PlayerPolicy policy, Tally tally) {
+            Stat s = build.getStats();
+            Player player = entitySystem.createPlayer(build.getName(), build.getProfession(),
+                s.getStrength(), s.getAgility(), s.getIntelligence(), s.getBalance());
+            Enemy enemy = entitySystem.copyEnemy(enemyTemplate);
+
+            combatSystem.prepareBattle(player, enemy);
+            actionValueSystem.initializeBattle(player, enemy);
+
+            int turns = 0;
+            long dealt = 0;
+            long taken = 0;
+
+            while (turns < MAX_TURNS && entitySystem.isAlive(player) && entitySystem.isAlive(enemy)) {
+                turns++;
+
+                if (actionValueSystem.isPlayerTurn()) {
+                    cooldownSystem.tickPlayerCooldowns(player);
+                    Skill skill = choosePlayerSkill(player, enemy, playerSkills, policy);
+                    combatSystem.resolvePlayerAttack(player, enemy, skill, outcome);
+                    dealt += outcome.getDamage();
+                } else {
+                    cooldownSystem.tickEnemyCooldowns(enemy);
+                    enemyTurn(enemy, player);
+                    taken += outcome.getDamage();
+                }
+
+                actionValueSystem.advanceToNextTurn();
+            }
+
+            actionValueSystem.endBattle();
+            tally.record(combatSystem.getCombatWinner(player, enemy), turns, dealt, taken);
+        }
+
+        private Skill choosePlayerSkill(Player player, Enemy enemy, Skill[] skills, PlayerPolicy policy) {
+            return skills[PlayerPolicySystem.chooseUsableSkillIndex(policy, player, enemy, skills, cooldownSystem)];
+        }
+
+        private void enemyTurn(Enemy enemy, Player player) {
+            EnemyAISystem.AIDecision decision = enemyAISystem.chooseSkill(enemy, player);
+
+            if (decision.isBasicAttack()) {
+                combatSystem.resolveEnemyBasicAttack(enemy, player, outcome);
+                return;
+            }
+
+            Skill skill = enemy.getSkills()[decision.getSkillIndex()];
+            combatSystem.resolveEnemyAttack(enemy, player, skill, outcome);
+        }
+    }
+
+    // ===== TALLY =====
+
+    /**
+     * Mergeable per-task statistics.
+     */
+    private static class Tally {
+        private int battles;
+        private int playerWins;
+        private int enemyWins;
+        private int timeouts;
+
+        private long turnsSum;
+        private long turnsSumSq;
+        private long winTurnsSum;
+        private final int[] turnsHistogram = new int[MAX_TURNS + 1];
+
+        private long dealtSum;
+        private long dealtSumSq;
+        private long takenSum;
+        private long takenSumSq;
+        private int[] dealtHistogram = new int[0];
+        private int[] takenHistogram = new int[0];
+
+        void record(int winner, int turns, long dealt, long taken) {
+            battles++;
+            if (winner == 1) {
+                playerWins++;
+                winTurnsSum += turns;
+            } else if (winner == -1) {
+                enemyWins++;
+            } else {
+                timeouts++;
+            }
+
+            turnsSum += turns;
+            turnsSumSq += (long) turns * turns;
+            turnsHistogram[turns]++;
+
+            dealtSum += dealt;
+            dealtSumSq += dealt * dealt;
+            dealtHistogram = increment(dealtHistogram, (int) (dealt / DAMAGE_BUCKET));
+
+            takenSum += taken;
+            takenSumSq += taken * taken;
+            takenHistogram = increment(takenHistogram, (int) (taken / DAMAGE_BUCKET));
+        }
+
+        Tally merge(Tally other) {
+            battles += other.battles;
+            playerWins += other.playerWins;
+            enemyWins += other.enemyWins;
+            timeouts += other.timeouts;
+
+            turnsSum += other.turnsSum;
+            turnsSumSq += other.turnsSumSq;
+            winTurnsSum += other.winTurnsSum;
+            for (int i = 0; i < turnsHistogram.length; i++) {
+                turnsHistogram[i] += other.turnsHistogram[i];
+            }
+
+            dealtSum += other.dealtSum;
+            dealtSumSq += other.dealtSumSq;
+            takenSum += other.takenSum;
+            takenSumSq += other.takenSumSq;
+            dealtHistogram = add(dealtHistogram, other.dealtHistogram);
+            takenHistogram = add(takenHistogram, other.takenHistogram);
+            return this;
+        }
+
+        private static int[] increment(int[] histogram, int bucket) {
+            if (bucket >= histogram.length) {
+                int[] grown = new int[Math.max(bucket + 1, histogram.length * 2)];
+                System.arraycopy(histogram, 0, grown, 0, histogram.length);
+                histogram = grown;
+            }
+            histogram[bucket]++;
+            return histogram;
+        }
+
+        private static int[] add(int[] a, int[] b) {
+            int[] result = a.length >= b.length ? a : b;
+            int[] other = result == a ? b : a;
+            for (int i = 0; i < other.length; i++) {
+                result[i] += other[i];
+            }
+            return result;
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    /**
+     * Derive an independent seed for one battle (SplitMix64 finalizer).
+     * Same (seed, index) always gives the same battle seed.
+     *
+     * @param seed Simulation seed
+     * @param battleIndex Battle index
+     * @return Seed for that battle
+     */
+    public static long battleSeed(long seed, long battleIndex) {
+        long z = seed + (battleIndex + 1) * SEED_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double mean(long sum, int count) {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    private static double stdDev(long sum, long sumSq, int count) {
+        if (count == 0) return 0.0;
+        double mean = (double) sum / count;
+        return Math.sqrt(Math.max(0.0, (double) sumSq / count - mean * mean));
+    }
+
+    private static int histogramPercentile(int[] histogram, int count, double percentile, int bucketWidth) {
+        if (count == 0) return 0;
+
+        long target = (long) Math.ceil(Math.max(0.0, Math.min(1.0, percentile)) * count);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= target && seen > 0) {
+                return i * bucketWidth;
+            }
+        }
+        return (histogram.length - 1) * bucketWidth;
+    }
+
+    // ===== ACCESSORS =====
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getBatchSize() { return batchSize; }
+    public int getMaxTurns() { return MAX_TURNS; }
+}
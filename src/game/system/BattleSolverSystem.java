@@ -0,0 +1,472 @@
+package game.system;
+
+import game.core.Player;
+import game.core.Enemy;
+import game.core.Skill;
+import game.core.Stat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BattleSolverSystem computes exact battle outcomes without sampling.
+ * Treats a battle as a finite Markov chain and solves it with memoized DP.
+ *
+ * WHY IT IS EXACT:
+ * - Hit chance is fixed for the whole battle (accuracy - evasion, clamped)
+ * - Damage is deterministic (base damage + STR)
+ * - Cooldowns are small integers
+ * - Turn order is periodic: with speeds sp and se the AV timeline repeats
+ *   every (sp + se) / gcd(sp, se) turns
+ * - Both sides decide deterministically (player policy + EnemyAISystem)
+ *
+ * STATE: (playerHP, enemyHP, player cooldowns, enemy cooldowns, AV phase)
+ *
+ * HOW IT SOLVES:
+ * - A hit moves to a lower HP level, so levels are solved bottom-up by recursion
+ * - Within one HP level a miss leads to exactly one next state, so misses form
+ *   a chain that ends in a solved state or a cycle
+ * - A cycle is solved in closed form: V = C / (1 - M), where M is the chance
+ *   to miss all the way around the cycle
+ *
+ * Responsibilities:
+ * - Exact win probability for a player build vs an enemy template
+ * - Exact expected battle length (in turns, both sides counted)
+ *
+ * Design: Owns private systems for replaying decisions on scratch entities.
+ * Not thread-safe - use one solver per thread.
+ */
+public class BattleSolverSystem {
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final EnemyAISystem enemyAISystem;
+    private final ActionValueSystem actionValueSystem;
+
+    public BattleSolverSystem() {
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        this.enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        this.actionValueSystem = new ActionValueSystem(entitySystem);
+    }
+
+    // ===== SOLVER RESULT CLASS =====
+
+    /**
+     * SolverResult holds the exact outcome of a matchup.
+     */
+    public static class SolverResult {
+        private final double winProbability;
+        private final double expectedTurns;
+        private final int statesSolved;
+        private final int turnCycleLength;
+        private final long elapsedNanos;
+
+        public SolverResult(double winProbability, double expectedTurns, int statesSolved,
+                            int turnCycleLength, long elapsedNanos) {
+            this.winProbability = winProbability;
+            this.expectedTurns = expectedTurns;
+            this.statesSolved = statesSolved;
+            this.turnCycleLength = turnCycleLength;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public double getWinProbability() { return winProbability; }
+        public double getLossProbability() { return 1.0 - winProbability; }
+        public double getExpectedTurns() { return expectedTurns; }
+        public int getStatesSolved() { return statesSolved; }
+        public int getTurnCycleLength() { return turnCycleLength; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        @Override
+        public String toString() {
+            return String.format("Win: %.4f%% | Expected turns: %.3f | States: %d | %.2f ms",
+                winProbability * 100, expectedTurns, statesSolved, elapsedNanos / 1_000_000.0);
+        }
+    }
+
+    // ===== SOLVING =====
+
+    /**
+     * Solve a matchup exactly.
+     * The policy must be deterministic (same state = same choice).
+     *
+     * @param build Player build (not modified)
+     * @param playerSkills Player's skills
+     * @param enemyTemplate Enemy to fight (not modified)
+     * @param policy Deterministic player policy
+     * @return SolverResult with exact win probability and expected turns
+     * @throws IllegalArgumentException if inputs are invalid or the state space is too large to encode
+     */
+    public SolverResult solve(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+                              PlayerPolicy policy) {
+        if (build == null || enemyTemplate == null || policy == null) {
+            throw new IllegalArgumentException("Build, enemy and policy must be non-null");
+        }
+        if (playerSkills == null || playerSkills.length == 0) {
+            throw new IllegalArgumentException("Player must have at least one skill");
+        }
+
+        long start = System.nanoTime();
+        Solver solver = new Solver(build, playerSkills, enemyTemplate, policy);
+        double[] value = solver.solve(solver.initialState());
+        long elapsed = System.nanoTime() - start;
+
+        return new SolverResult(value[0], value[1], solver.memo.size(), solver.schedule.length, elapsed);
+    }
+
+    /**
+     * Calculate the repeating turn schedule for a pair of speeds.
+     * Entry i is true if the player acts on turn i of the cycle.
+     *
+     * @param player The player
+     * @param enemy The enemy
+     * @return One full AV cycle, starting from a fresh battle
+     */
+    public boolean[] calculateTurnCycle(Player player, Enemy enemy) {
+        int playerSpeed = Math.max(1, entitySystem.getSpeed(player));
+        int enemySpeed = Math.max(1, entitySystem.getSpeed(enemy));
+        int g = gcd(playerSpeed, enemySpeed);
+        int period = (playerSpeed + enemySpeed) / g;
+
+        actionValueSystem.initializeBattle(player, enemy);
+        List<ActionValueSystem.TurnOrderEntry> order = actionValueSystem.calculateTurnOrder(period);
+        actionValueSystem.endBattle();
+
+        boolean[] cycle = new boolean[period];
+        for (int i = 0; i < period; i++) {
+            cycle[i] = order.get(i).isPlayer();
+        }
+        return cycle;
+    }
+
+    // ===== SOLVER STATE =====
+
+    /**
+     * One solve: scratch entities, key layout and memo table.
+     * Values are double[]{winProbability, expectedTurns}.
+     */
+    private class Solver {
+        private final Skill[] playerSkills;
+        private final Skill[] enemySkills;
+        private final PlayerPolicy policy;
+
+        // Scratch entities used to replay decisions for a state
+        private final Player player;
+        private final Enemy enemy;
+
+        private final boolean[] schedule;
+        private final int playerHitChance;
+        private final int enemyHitChance;
+
+        // Key layout
+        private final int hpBits;
+        private final int cdBits;
+        private final int phaseBits;
+
+        private final Map<Long, double[]> memo = new HashMap<>();
+
+        Solver(Player build, Skill[] playerSkills, Enemy enemyTemplate,
+               PlayerPolicy policy) {
+            Stat s = build.getStats();
+            this.player = entitySystem.createPlayer(build.getName(), build.getProfession(),
+                s.getStrength(), s.getAgility(), s.getIntelligence(), s.getBalance());
+            this.enemy = entitySystem.copyEnemy(enemyTemplate);
+            this.playerSkills = playerSkills;
+            this.enemySkills = enemy.getSkills();
+            this.policy = policy;
+
+            combatSystem.prepareBattle(player, enemy);
+            this.schedule = calculateTurnCycle(player, enemy);
+            this.playerHitChance = combatSystem.calculateHitChance(player, enemy);
+            this.enemyHitChance = combatSystem.calculateHitChance(enemy, player);
+
+            int maxCooldown = 0;
+            for (Skill skill : playerSkills) maxCooldown = Math.max(maxCooldown, skill.getBaseCooldown());
+            for (Skill skill : enemySkills) maxCooldown = Math.max(maxCooldown, skill.getBaseCooldown());
+
+            this.hpBits = bitsFor(Math.max(entitySystem.getMaxHP(player), entitySystem.getMaxHP(enemy)));
+            this.cdBits = bitsFor(maxCooldown);
+            this.phaseBits = bitsFor(schedule.length - 1);
+
+            int totalBits = 2 * hpBits + (playerSkills.length + enemySkills.length) * cdBits + phaseBits;
+            if (totalBits > 64) {
+                throw new IllegalArgumentException("State space too large for exact solve (" + totalBits + " bits)");
+            }
+        }
+
+        long initialState() {
+            return encode(entitySystem.getMaxHP(player), entitySystem.getMaxHP(enemy),
+                new int[playerSkills.length], new int[enemySkills.length], 0);
+        }
+
+        /**
+         * Solve a state and everything reachable from it.
+         */
+        double[] solve(long state) {
+            double[] known = memo.get(state);
+            if (known != null) return known;
+
+            // Follow the miss chain within this HP level
+            List<Long> path = new ArrayList<>();
+            List<Transition> transitions = new ArrayList<>();
+            Map<Long, Integer> onPath = new HashMap<>();
+            long current = state;
+            double[] tail = null;
+            int cycleStart = -1;
+
+            while (true) {
+                tail = memo.get(current);
+                if (tail != null) break;
+
+                Integer seen = onPath.get(current);
+                if (seen != null) {
+                    cycleStart = seen;
+                    break;
+                }
+
+                onPath.put(current, path.size());
+                path.add(current);
+                Transition t = expand(current);
+                transitions.add(t);
+                current = t.missState;
+            }
+
+            // Per-state affine form: V = c + m * V(next miss state)
+            int n = path.size();
+            double[] cWin = new double[n];
+            double[] cTurns = new double[n];
+            double[] m = new double[n];
+
+            for (int i = 0; i < n; i++) {
+                Transition t = transitions.get(i);
+                double hit = t.hitProbability;
+                double hitWin;
+                double hitTurns;
+
+                if (hit == 0.0) {
+                    hitWin = 0.0;
+                    hitTurns = 0.0;
+                } else if (t.hitEndsBattle) {
+                    hitWin = t.playerActs ? 1.0 : 0.0;
+                    hitTurns = 0.0;
+                } else {
+                    double[] hitValue = solve(t.hitState);
+                    hitWin = hitValue[0];
+                    hitTurns = hitValue[1];
+                }
+
+                cWin[i] = hit * hitWin;
+                cTurns[i] = 1.0 + hit * hitTurns;
+                m[i] = 1.0 - hit;
+            }
+
+            // Value of the state the chain ends in
+            double endWin;
+            double endTurns;
+
+            if (cycleStart >= 0) {
+                // Fold the cycle: V(start) = C + M * V(start)
+                double cw = 0.0, ct = 0.0, mm = 1.0;
+                for (int i = n - 1; i >= cycleStart; i--) {
+                    cw = cWin[i] + m[i] * cw;
+                    ct = cTurns[i] + m[i] * ct;
+                    mm = m[i] * mm;
+                }
+
+                if (mm >= 1.0) {
+                    // Nobody can ever land a damaging hit - battle never ends
+                    endWin = 0.0;
+                    endTurns = Double.POSITIVE_INFINITY;
+                } else {
+                    endWin = cw / (1.0 - mm);
+                    endTurns = ct / (1.0 - mm);
+                }
+            } else {
+                endWin = tail[0];
+                endTurns = tail[1];
+            }
+
+            // Back-substitute along the path
+            double nextWin = endWin;
+            double nextTurns = endTurns;
+            for (int i = n - 1; i >= 0; i--) {
+                double win = cWin[i] + m[i] * nextWin;
+                double turns = cTurns[i] + m[i] * nextTurns;
+                memo.put(path.get(i), new double[]{win, turns});
+                nextWin = win;
+                nextTurns = turns;
+            }
+
+            if (cycleStart >= 0) {
+                memo.put(path.get(cycleStart), new double[]{endWin, endTurns});
+            }
+
+            return memo.get(state);
+        }
+
+        /**
+         * Replay one turn from a state on the scratch entities.
+         */
+        Transition expand(long state) {
+            int[] playerCd = new int[playerSkills.length];
+            int[] enemyCd = new int[enemySkills.length];
+            int[] hp = decode(state, playerCd, enemyCd);
+            int playerHp = hp[0];
+            int enemyHp = hp[1];
+            int phase = hp[2];
+            int nextPhase = (phase + 1) % schedule.length;
+
+            load(playerHp, enemyHp, playerCd, enemyCd);
+
+            Transition t = new Transition();
+            t.playerActs = schedule[phase];
+
+            int damage;
+            if (t.playerActs) {
+                cooldownSystem.tickPlayerCooldowns(player);
+                Skill skill = choosePlayerSkill();
+                damage = skillSystem.calculateDamage(player, skill);
+                cooldownSystem.applySkillCooldown(player, skill);
+                t.hitProbability = playerHitChance / 100.0;
+            } else {
+                cooldownSystem.tickEnemyCooldowns(enemy);
+                EnemyAISystem.AIDecision decision = enemyAISystem.chooseSkill(enemy, player);
+                if (decision.isBasicAttack()) {
+                    damage = enemy.getStats().getStrength();
+                } else {
+                    Skill skill = enemySkills[decision.getSkillIndex()];
+                    damage = skillSystem.calculateDamage(enemy, skill);
+                    cooldownSystem.applySkillCooldown(enemy, skill);
+                }
+                t.hitProbability = enemyHitChance / 100.0;
+            }
+
+            readCooldowns(playerCd, enemyCd);
+            t.missState = encode(playerHp, enemyHp, playerCd, enemyCd, nextPhase);
+
+            if (damage <= 0) {
+                t.hitProbability = 0.0; // A hit changes nothing - same as a miss
+                return t;
+            }
+
+            int targetHp = t.playerActs ? enemyHp : playerHp;
+            int afterHit = Math.max(0, targetHp - damage);
+            if (afterHit == 0) {
+                t.hitEndsBattle = true;
+            } else if (t.playerActs) {
+                t.hitState = encode(playerHp, afterHit, playerCd, enemyCd, nextPhase);
+            } else {
+                t.hitState = encode(afterHit, enemyHp, playerCd, enemyCd, nextPhase);
+            }
+            return t;
+        }
+
+        private Skill choosePlayerSkill() {
+            int index = policy.chooseSkillIndex(player, enemy, playerSkills, cooldownSystem);
+            if (skillSystem.isValidSkillIndex(playerSkills, index)
+                    && cooldownSystem.isSkillReady(player, playerSkills[index])) {
+                return playerSkills[index];
+            }
+            for (Skill skill : playerSkills) {
+                if (cooldownSystem.isSkillReady(player, skill)) {
+                    return skill;
+                }
+            }
+            return playerSkills[0];
+        }
+
+        private void load(int playerHp, int enemyHp, int[] playerCd, int[] enemyCd) {
+            setHp(player.getStats(), playerHp);
+            setHp(enemy.getStats(), enemyHp);
+            for (int i = 0; i < playerSkills.length; i++) {
+                cooldownSystem.setSkillCooldown(player, playerSkills[i], playerCd[i]);
+            }
+            for (int i = 0; i < enemySkills.length; i++) {
+                cooldownSystem.setSkillCooldown(enemy, enemySkills[i], enemyCd[i]);
+            }
+        }
+
+        private void readCooldowns(int[] playerCd, int[] enemyCd) {
+            for (int i = 0; i < playerSkills.length; i++) {
+                playerCd[i] = cooldownSystem.getRemainingCooldown(player, playerSkills[i]);
+            }
+            for (int i = 0; i < enemySkills.length; i++) {
+                enemyCd[i] = cooldownSystem.getRemainingCooldown(enemy, enemySkills[i]);
+            }
+        }
+
+        // ===== KEY ENCODING =====
+
+        long encode(int playerHp, int enemyHp, int[] playerCd, int[] enemyCd, int phase) {
+            long key = playerHp;
+            key = (key << hpBits) | enemyHp;
+            for (int cd : playerCd) key = (key << cdBits) | cd;
+            for (int cd : enemyCd) key = (key << cdBits) | cd;
+            key = (key << phaseBits) | phase;
+            return key;
+        }
+
+        /**
+         * Decode a key into cooldown arrays.
+         *
+         * @return {playerHp, enemyHp, phase}
+         */
+        int[] decode(long key, int[] playerCd, int[] enemyCd) {
+            int phase = (int) (key & mask(phaseBits));
+            key >>>= phaseBits;
+            for (int i = enemyCd.length - 1; i >= 0; i--) {
+                enemyCd[i] = (int) (key & mask(cdBits));
+                key >>>= cdBits;
+            }
+            for (int i = playerCd.length - 1; i >= 0; i--) {
+                playerCd[i] = (int) (key & mask(cdBits));
+                key >>>= cdBits;
+            }
+            int enemyHp = (int) (key & mask(hpBits));
+            key >>>= hpBits;
+            int playerHp = (int) key;
+            return new int[]{playerHp, enemyHp, phase};
+        }
+    }
+
+    /**
+     * Outcome of one turn from a state.
+     */
+    private static class Transition {
+        private boolean playerActs;
+        private double hitProbability;
+        private boolean hitEndsBattle;
+        private long hitState;
+        private long missState;
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static void setHp(Stat stats, int hp) {
+        stats.fullHeal();
+        stats.takeDamage(stats.getMaxHp() - hp);
+    }
+
+    private static int bitsFor(int maxValue) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(0, maxValue)));
+    }
+
+    private static long mask(int bits) {
+        return bits >= 64 ? -1L : (1L << bits) - 1;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
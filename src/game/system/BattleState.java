@@ -0,0 +1,496 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * BattleState is a compact, copyable snapshot of a 1v1 battle for lookahead.
+ * Search code clones and mutates it millions of times, so it holds only ints.
+ *
+ * STATE (mutable):
+ * - Player HP, enemy HP
+ * - Remaining cooldown per player skill and per enemy skill
+ * - Turn phase: position in the repeating AV turn cycle
+ *
+ * MODEL (immutable, shared by all states of one matchup):
+ * - Damage and final cooldown per skill (CDR already applied)
+ * - Hit chance for each side
+ * - The AV turn cycle (who acts on each phase)
+ *
+ * TURN RULES (same as the live battle loop):
+ * - The actor's cooldowns tick at the start of its turn
+ * - The actor uses a ready skill; the enemy falls back to a basic attack
+ *   (damage = STR, no cooldown) if nothing is ready
+ * - A hit deals the skill's damage; a miss deals nothing
+ * - Cooldown is applied either way, then the next phase's actor begins its turn
+ *
+ * ZOBRIST HASH:
+ * - The model holds a random 64-bit key per (HP value), (skill, cooldown value)
+ *   and phase, for each side
+ * - The hash is the XOR of the keys of the current values, plus a signature
+ *   of the model (so different matchups never share positions)
+ * - apply() updates it incrementally: XOR out the old value, XOR in the new one
+ * - Keys come from a fixed seed, so the same position hashes the same across
+ *   turns and across models built for the same matchup
+ *
+ * Design: States on a search path are reused through copyFrom() to avoid allocation.
+ */
+public final class BattleState {
+
+    public static final int BASIC_ATTACK = -1;
+    private static final long ZOBRIST_SEED = 0x5DEECE66DL;
+    private static final int FALLBACK_CYCLE = 256; // Turns previewed if the AV cycle is too long to cache
+
+    // ===== MODEL =====
+
+    /**
+     * Immutable matchup constants.
+     */
+    public static final class Model {
+        private final int playerMaxHp;
+        private final int enemyMaxHp;
+        private final int[] playerDamage;
+        private final int[] playerCooldown;
+        private final int[] enemyDamage;
+        private final int[] enemyCooldown;
+        private final int enemyBasicDamage;
+        private final int playerHitChance;
+        private final int enemyHitChance;
+        private final boolean[] playerTurn; // Turn cycle: true = player acts on that phase
+
+        // Zobrist keys
+        private final long signature;
+        private final long[] playerHpKeys;
+        private final long[] enemyHpKeys;
+        private final long[][] playerCdKeys;
+        private final long[][] enemyCdKeys;
+        private final long[] phaseKeys;
+
+        private Model(int playerMaxHp, int enemyMaxHp, int[] playerDamage, int[] playerCooldown,
+                      int[] enemyDamage, int[] enemyCooldown, int enemyBasicDamage,
+                      int playerHitChance, int enemyHitChance, boolean[] playerTurn) {
+            this.playerMaxHp = playerMaxHp;
+            this.enemyMaxHp = enemyMaxHp;
+            this.playerDamage = playerDamage;
+            this.playerCooldown = playerCooldown;
+            this.enemyDamage = enemyDamage;
+            this.enemyCooldown = enemyCooldown;
+            this.enemyBasicDamage = enemyBasicDamage;
+            this.playerHitChance = playerHitChance;
+            this.enemyHitChance = enemyHitChance;
+            this.playerTurn = playerTurn;
+
+            SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+            int maxCooldown = getMaxCooldown();
+            this.playerHpKeys = randomKeys(random, playerMaxHp + 1);
+            this.enemyHpKeys = randomKeys(random, enemyMaxHp + 1);
+            this.playerCdKeys = new long[playerDamage.length][];
+            this.enemyCdKeys = new long[enemyDamage.length][];
+            for (int i = 0; i < playerCdKeys.length; i++) playerCdKeys[i] = randomKeys(random, maxCooldown + 1);
+            for (int i = 0; i < enemyCdKeys.length; i++) enemyCdKeys[i] = randomKeys(random, maxCooldown + 1);
+            this.phaseKeys = randomKeys(random, playerTurn.length);
+            this.signature = computeSignature();
+        }
+
+        private static long[] randomKeys(SplittableRandom random, int count) {
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) keys[i] = random.nextLong();
+            return keys;
+        }
+
+        /**
+         * Hash of every model constant (FNV-style, SplitMix64 finalizer).
+         */
+        private long computeSignature() {
+            long h = 0xCBF29CE484222325L;
+            h = mix(h, playerMaxHp);
+            h = mix(h, enemyMaxHp);
+            h = mix(h, enemyBasicDamage);
+            h = mix(h, playerHitChance);
+            h = mix(h, enemyHitChance);
+            for (int i = 0; i < playerDamage.length; i++) h = mix(mix(h, playerDamage[i]), playerCooldown[i]);
+            h = mix(h, -1);
+            for (int i = 0; i < enemyDamage.length; i++) h = mix(mix(h, enemyDamage[i]), enemyCooldown[i]);
+            h = mix(h, -1);
+            for (boolean turn : playerTurn) h = mix(h, turn ? 1 : 0);
+
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        private static long mix(long h, int value) {
+            return (h ^ value) * 0x100000001B3L;
+        }
+
+        private long playerHpKey(int hp) { return playerHpKeys[Math.min(Math.max(hp, 0), playerMaxHp)]; }
+        private long enemyHpKey(int hp) { return enemyHpKeys[Math.min(Math.max(hp, 0), enemyMaxHp)]; }
+        private static long cdKey(long[] keys, int cd) { return keys[Math.min(cd, keys.length - 1)]; }
+
+        public int getPlayerMaxHp() { return playerMaxHp; }
+        public int getEnemyMaxHp() { return enemyMaxHp; }
+        public int getPlayerSkillCount() { return playerDamage.length; }
+        public int getEnemySkillCount() { return enemyDamage.length; }
+        public int getPlayerDamage(int skill) { return playerDamage[skill]; }
+        public int getEnemyDamage(int skill) { return skill == BASIC_ATTACK ? enemyBasicDamage : enemyDamage[skill]; }
+        public int getPlayerCooldown(int skill) { return playerCooldown[skill]; }
+        public int getEnemyCooldown(int skill) { return enemyCooldown[skill]; }
+        public int getPlayerHitChance() { return playerHitChance; }
+        public int getEnemyHitChance() { return enemyHitChance; }
+        public int getCycleLength() { return playerTurn.length; }
+        public boolean isPlayerTurn(int phase) { return playerTurn[phase]; }
+        public long getSignature() { return signature; }
+
+        /**
+         * Largest final cooldown on either side (for state encodings).
+         */
+        public int getMaxCooldown() {
+            int max = 0;
+            for (int cd : playerCooldown) max = Math.max(max, cd);
+            for (int cd : enemyCooldown) max = Math.max(max, cd);
+            return max;
+        }
+    }
+
+    /**
+     * Build the matchup model from live entities.
+     *
+     * @param turnCycle Turn cycle starting at the current turn (true = player acts)
+     */
+    public static Model createModel(Player player, Skill[] playerSkills, Enemy enemy, boolean[] turnCycle,
+                                    EntitySystem entitySystem, SkillSystem skillSystem,
+                                    CooldownSystem cooldownSystem, CombatSystem combatSystem) {
+        if (player == null || playerSkills == null || enemy == null || turnCycle == null || turnCycle.length == 0) {
+            throw new IllegalArgumentException("Player, skills, enemy and turn cycle must be non-null");
+        }
+
+        Skill[] enemySkills = enemy.getSkills();
+        int[] playerDamage = new int[playerSkills.length];
+        int[] playerCooldown = new int[playerSkills.length];
+        int[] enemyDamage = new int[enemySkills.length];
+        int[] enemyCooldown = new int[enemySkills.length];
+
+        for (int i = 0; i < playerSkills.length; i++) {
+            playerDamage[i] = skillSystem.calculateDamage(player, playerSkills[i]);
+            playerCooldown[i] = cooldownSystem.calculateFinalCooldown(player, playerSkills[i]);
+        }
+        for (int i = 0; i < enemySkills.length; i++) {
+            enemyDamage[i] = skillSystem.calculateDamage(enemy, enemySkills[i]);
+            enemyCooldown[i] = cooldownSystem.calculateFinalCooldown(enemy, enemySkills[i]);
+        }
+
+        return new Model(entitySystem.getMaxHP(player), entitySystem.getMaxHP(enemy),
+            playerDamage, playerCooldown, enemyDamage, enemyCooldown,
+            enemy.getStats().getStrength(),
+            combatSystem.calculateHitChance(player, enemy),
+            combatSystem.calculateHitChance(enemy, player),
+            turnCycle.clone());
+    }
+
+    // ===== STATE =====
+
+    private final Model model;
+    private int playerHp;
+    private int enemyHp;
+    private final int[] playerCd;
+    private final int[] enemyCd;
+    private int phase;
+    private long hash;
+
+    public BattleState(Model model) {
+        if (model == null) {
+            throw new IllegalArgumentException("Model cannot be null");
+        }
+
+        this.model = model;
+        this.playerHp = model.playerMaxHp;
+        this.enemyHp = model.enemyMaxHp;
+        this.playerCd = new int[model.playerDamage.length];
+        this.enemyCd = new int[model.enemyDamage.length];
+        this.phase = 0;
+        this.hash = computeHash();
+    }
+
+    /**
+     * Snapshot live entities. Phase 0 is the current turn, already begun
+     * (the actor's cooldowns have been ticked).
+     */
+    public static BattleState capture(Model model, Player player, Skill[] playerSkills, Enemy enemy,
+                                      CooldownSystem cooldownSystem) {
+        return capture(model, player, playerSkills, enemy, cooldownSystem, 0);
+    }
+
+    /**
+     * Snapshot live entities at a given phase of the turn cycle.
+     * The actor of that phase has already begun its turn.
+     */
+    public static BattleState capture(Model model, Player player, Skill[] playerSkills, Enemy enemy,
+                                      CooldownSystem cooldownSystem, int phase) {
+        if (phase < 0 || phase >= model.getCycleLength()) {
+            throw new IllegalArgumentException("Phase out of range: " + phase);
+        }
+
+        BattleState state = new BattleState(model);
+        state.phase = phase;
+        state.playerHp = player.getStats().getHp();
+        state.enemyHp = enemy.getStats().getHp();
+        for (int i = 0; i < playerSkills.length; i++) {
+            state.playerCd[i] = cooldownSystem.getRemainingCooldown(player, playerSkills[i]);
+        }
+        Skill[] enemySkills = enemy.getSkills();
+        for (int i = 0; i < enemySkills.length; i++) {
+            state.enemyCd[i] = cooldownSystem.getRemainingCooldown(enemy, enemySkills[i]);
+        }
+        state.hash = state.computeHash();
+        return state;
+    }
+
+    /**
+     * Snapshot a live battle for the side to move.
+     * The turn cycle is stored in canonical rotation (same model on every turn),
+     * and the phase points at the side to move's current turn.
+     *
+     * @param playerToMove true = player's turn, false = enemy's turn
+     * @param turnOrder Live turn order, or null to rebuild it from speeds
+     */
+    public static BattleState captureLive(Player player, Skill[] playerSkills, Enemy enemy, boolean playerToMove,
+                                          ActionValueSystem turnOrder, EntitySystem entitySystem,
+                                          SkillSystem skillSystem, CooldownSystem cooldownSystem,
+                                          CombatSystem combatSystem) {
+        boolean[] cycle = buildTurnCycle(player, enemy, playerToMove, turnOrder, entitySystem);
+        int rotation = canonicalRotation(cycle);
+        boolean[] canonical = new boolean[cycle.length];
+        for (int i = 0; i < cycle.length; i++) {
+            canonical[i] = cycle[(rotation + i) % cycle.length];
+        }
+
+        Model model = createModel(player, playerSkills, enemy, canonical,
+            entitySystem, skillSystem, cooldownSystem, combatSystem);
+        int phase = (cycle.length - rotation) % cycle.length; // Where the current turn sits in the canonical cycle
+        return capture(model, player, playerSkills, enemy, cooldownSystem, phase);
+    }
+
+    /**
+     * Turn cycle starting at the given side's current (or next) turn.
+     */
+    private static boolean[] buildTurnCycle(Player player, Enemy enemy, boolean playerToMove,
+                                            ActionValueSystem turnOrder, EntitySystem entitySystem) {
+        if (turnOrder == null || !turnOrder.isBattleActive()) {
+            turnOrder = new ActionValueSystem(entitySystem);
+            turnOrder.initializeBattle(player, enemy);
+        }
+        TurnScheduler scheduler = turnOrder.getScheduler();
+
+        int length = scheduler.getCycleLength();
+        if (length == 0) length = FALLBACK_CYCLE;
+        int[] actors = new int[length];
+        int produced = scheduler.preview(length, actors, null);
+
+        int start = 0;
+        while (start < produced && scheduler.isPlayer(actors[start]) != playerToMove) start++;
+        if (start == produced) start = 0;
+
+        boolean[] cycle = new boolean[produced];
+        for (int i = 0; i < produced; i++) {
+            cycle[i] = scheduler.isPlayer(actors[(start + i) % produced]);
+        }
+        return cycle;
+    }
+
+    /**
+     * Start index of the lexicographically smallest rotation of a cycle.
+     * Every rotation of the same cycle maps to the same canonical form.
+     */
+    public static int canonicalRotation(boolean[] cycle) {
+        int n = cycle.length;
+        int best = 0;
+        for (int candidate = 1; candidate < n; candidate++) {
+            for (int i = 0; i < n; i++) {
+                boolean a = cycle[(candidate + i) % n];
+                boolean b = cycle[(best + i) % n];
+                if (a != b) {
+                    if (!a) best = candidate; // false < true
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    public BattleState copy() {
+        BattleState copy = new BattleState(model);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Overwrite this state with another state of the same model.
+     */
+    public void copyFrom(BattleState other) {
+        this.playerHp = other.playerHp;
+        this.enemyHp = other.enemyHp;
+        System.arraycopy(other.playerCd, 0, playerCd, 0, playerCd.length);
+        System.arraycopy(other.enemyCd, 0, enemyCd, 0, enemyCd.length);
+        this.phase = other.phase;
+        this.hash = other.hash;
+    }
+
+    /**
+     * Overwrite every field (used to enumerate states).
+     * Cooldown arrays must match the model's skill counts.
+     */
+    public void load(int playerHp, int enemyHp, int[] playerCd, int[] enemyCd, int phase) {
+        this.playerHp = playerHp;
+        this.enemyHp = enemyHp;
+        System.arraycopy(playerCd, 0, this.playerCd, 0, this.playerCd.length);
+        System.arraycopy(enemyCd, 0, this.enemyCd, 0, this.enemyCd.length);
+        this.phase = phase;
+        this.hash = computeHash();
+    }
+
+    // ===== TURN LOGIC =====
+
+    public boolean isTerminal() {
+        return playerHp <= 0 || enemyHp <= 0;
+    }
+
+    public boolean isPlayerTurn() {
+        return model.playerTurn[phase];
+    }
+
+    /**
+     * Check if the current actor can use a skill.
+     */
+    public boolean isReady(int skill) {
+        if (skill == BASIC_ATTACK) return !isPlayerTurn();
+        return isPlayerTurn() ? playerCd[skill] == 0 : enemyCd[skill] == 0;
+    }
+
+    /**
+     * Write the current actor's legal actions.
+     * The enemy uses BASIC_ATTACK only when no skill is ready; the player
+     * falls back to skill 0.
+     *
+     * @param out Output buffer (length >= skill count)
+     * @return Number of actions written
+     */
+    public int legalActions(int[] out) {
+        boolean player = isPlayerTurn();
+        int[] cds = player ? playerCd : enemyCd;
+        int count = 0;
+        for (int i = 0; i < cds.length; i++) {
+            if (cds[i] == 0) {
+                out[count++] = i;
+            }
+        }
+        if (count == 0) {
+            out[count++] = player ? 0 : BASIC_ATTACK;
+        }
+        return count;
+    }
+
+    /**
+     * Hit chance of the current actor (0.0 - 1.0).
+     */
+    public double hitProbability() {
+        return (isPlayerTurn() ? model.playerHitChance : model.enemyHitChance) / 100.0;
+    }
+
+    /**
+     * Damage the current actor would deal with a skill.
+     */
+    public int damageOf(int skill) {
+        return isPlayerTurn() ? model.playerDamage[skill] : model.getEnemyDamage(skill);
+    }
+
+    /**
+     * Resolve the current actor's action and begin the next turn.
+     *
+     * @param skill Skill index (or BASIC_ATTACK for the enemy)
+     * @param hit Whether the attack lands
+     */
+    public void apply(int skill, boolean hit) {
+        if (isPlayerTurn()) {
+            if (hit) {
+                int hp = Math.max(0, enemyHp - model.playerDamage[skill]);
+                hash ^= model.enemyHpKey(enemyHp) ^ model.enemyHpKey(hp);
+                enemyHp = hp;
+            }
+            setCooldown(playerCd, model.playerCdKeys[skill], skill, model.playerCooldown[skill]);
+        } else {
+            if (hit) {
+                int hp = Math.max(0, playerHp - model.getEnemyDamage(skill));
+                hash ^= model.playerHpKey(playerHp) ^ model.playerHpKey(hp);
+                playerHp = hp;
+            }
+            if (skill != BASIC_ATTACK) {
+                setCooldown(enemyCd, model.enemyCdKeys[skill], skill, model.enemyCooldown[skill]);
+            }
+        }
+
+        int next = phase + 1 == model.playerTurn.length ? 0 : phase + 1;
+        hash ^= model.phaseKeys[phase] ^ model.phaseKeys[next];
+        phase = next;
+        beginTurn();
+    }
+
+    private void setCooldown(int[] cds, long[] keys, int skill, int value) {
+        hash ^= Model.cdKey(keys, cds[skill]) ^ Model.cdKey(keys, value);
+        cds[skill] = value;
+    }
+
+    /**
+     * Tick the current actor's cooldowns (start of its turn).
+     */
+    private void beginTurn() {
+        boolean player = model.playerTurn[phase];
+        int[] cds = player ? playerCd : enemyCd;
+        long[][] keys = player ? model.playerCdKeys : model.enemyCdKeys;
+        for (int i = 0; i < cds.length; i++) {
+            if (cds[i] > 0) setCooldown(cds, keys[i], i, cds[i] - 1);
+        }
+    }
+
+    /**
+     * Full Zobrist hash from scratch (apply() keeps it up to date incrementally).
+     */
+    public long computeHash() {
+        long h = model.signature ^ model.playerHpKey(playerHp) ^ model.enemyHpKey(enemyHp) ^ model.phaseKeys[phase];
+        for (int i = 0; i < playerCd.length; i++) h ^= Model.cdKey(model.playerCdKeys[i], playerCd[i]);
+        for (int i = 0; i < enemyCd.length; i++) h ^= Model.cdKey(model.enemyCdKeys[i], enemyCd[i]);
+        return h;
+    }
+
+    /**
+     * Static evaluation from the enemy's point of view, in [-1, 1].
+     * +1 = enemy won, -1 = player won, otherwise HP fraction difference.
+     */
+    public double evaluateForEnemy() {
+        if (playerHp <= 0) return 1.0;
+        if (enemyHp <= 0) return -1.0;
+        double enemyFraction = (double) enemyHp / model.enemyMaxHp;
+        double playerFraction = (double) playerHp / model.playerMaxHp;
+        return 0.5 * (enemyFraction - playerFraction);
+    }
+
+    // ===== ACCESSORS =====
+
+    public Model getModel() { return model; }
+    public int getPlayerHp() { return playerHp; }
+    public int getEnemyHp() { return enemyHp; }
+    public int getPlayerCooldown(int skill) { return playerCd[skill]; }
+    public int getEnemyCooldown(int skill) { return enemyCd[skill]; }
+    public int getPhase() { return phase; }
+    public long getHash() { return hash; }
+
+    @Override
+    public String toString() {
+        return "BattleState{P " + playerHp + " " + Arrays.toString(playerCd)
+            + ", E " + enemyHp + " " + Arrays.toString(enemyCd)
+            + ", phase " + phase + "/" + model.playerTurn.length + "}";
+    }
+}
@@ -0,0 +1,468 @@
+package game.system;
+
+import game.core.*;
+import game.data.EnemiesData;
+import game.data.SkillsData;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * CampaignSimulationSystem plays whole games headlessly through GameFlowSystem.
+ * A campaign is what a real run looks like: initializeGame, then for each enemy
+ * in a shuffled queue 3-7 training cycles followed by a battle, until the
+ * player clears the queue or falls. Single-battle numbers miss how training
+ * choices compound; this measures them.
+ *
+ * CAMPAIGN FLOW (GameFlowSystem rules, the engine's game loop):
+ * - Enemy queue: all enemy types, Fisher-Yates shuffled
+ * - Training: 3-7 cycles per enemy; each cycle the player trains +5 in the stat
+ *   the PlayerPolicy picks and every enemy group-trains +3 (GameFlowSystem.trainEnemies)
+ * - Battle: player acts, both cooldowns tick, enemy acts through EnemyAISystem;
+ *   strict alternation, repeat until one falls
+ * - MAX_TURNS actions without a winner ends the campaign as a timeout
+ *
+ * DIFFERENCES FROM THE JAVAFX SCREENS (same cycle counts and training amounts):
+ * - TrainingScreen trains only the current enemy, +3 in the stat the player picked,
+ *   instead of group-training every enemy by its specialization
+ * - BattleScreen takes turns by AV (ActionValueSystem) and its enemy uses its
+ *   first skill when ready, otherwise a basic attack, instead of EnemyAISystem
+ * - So funnels describe the GameFlowSystem campaign, not exact GUI odds
+ *
+ * FUNNEL (per profession):
+ * - Campaigns that won at least k battles, for k = 0..enemy count (last = victory)
+ * - Defeats by enemy type and by stage, timeouts
+ * - Average training cycles, battle actions and final stats
+ *
+ * Design:
+ * - Fork/join over campaign indices; every leaf owns its systems
+ * - Campaign i draws everything from battleSeed(seed, i), so the same seed
+ *   gives the same funnel on any number of threads
+ * - One PlayerPolicy makes every player decision, training and battle
+ *   (PlayerPolicySystem.withTraining pairs any battle policy with a training style)
+ * - Policies must be stateless (they are shared across threads)
+ */
+public class CampaignSimulationSystem {
+
+    // Campaign constants (same numbers as the JavaFX screens)
+    private static final int MIN_TRAINING_CYCLES = 3;
+    private static final int MAX_TRAINING_CYCLES = 7;
+    private static final int PLAYER_TRAINING_AMOUNT = 5;
+    private static final int ENEMY_TRAINING_AMOUNT = 3;
+    private static final int MAX_TURNS = 1000;          // Safety cap per battle (counted as timeout)
+    private static final int DEFAULT_BATCH_SIZE = 256;  // Campaigns per fork/join leaf
+    private static final String PLAYER_NAME = "Hero";
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    public CampaignSimulationSystem() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public CampaignSimulationSystem(ForkJoinPool pool, int batchSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    // ===== CAMPAIGN RESULT CLASS =====
+
+    /**
+     * CampaignResult holds the completion funnel of many campaigns.
+     */
+    public static class CampaignResult {
+        private final Profession profession;
+        private final Tally tally;
+        private final long elapsedNanos;
+
+        private CampaignResult(Profession profession, Tally tally, long elapsedNanos) {
+            this.profession = profession;
+            this.tally = tally;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Profession getProfession() { return profession; }
+        public int getCampaigns() { return tally.campaigns; }
+        public int getVictories() { return tally.cleared[tally.cleared.length - 1]; }
+        public int getTimeouts() { return tally.timeouts; }
+        public int getStages() { return tally.cleared.length - 1; }
+
+        /**
+         * Share of campaigns that beat every enemy (0.0 to 1.0).
+         */
+        public double getVictoryRate() {
+            return rate(getVictories(), tally.campaigns);
+        }
+
+        /**
+         * Campaigns that won at least the given number of battles.
+         *
+         * @param battlesWon 0 (every campaign) to getStages() (victories)
+         */
+        public int getReached(int battlesWon) {
+            if (battlesWon < 0 || battlesWon >= tally.cleared.length) return 0;
+            int reached = 0;
+            for (int k = battlesWon; k < tally.cleared.length; k++) {
+                reached += tally.cleared[k];
+            }
+            return reached;
+        }
+
+        /**
+         * Share of campaigns that won battle k given they reached it (0.0 to 1.0).
+         *
+         * @param stage Battle index (0 = first enemy in the queue)
+         */
+        public double getStageWinRate(int stage) {
+            return rate(getReached(stage + 1), getReached(stage));
+        }
+
+        /**
+         * Defeats at the hands of an enemy type (EnemiesData ids).
+         */
+        public int getDefeatsByEnemy(int typeId) {
+            return typeId >= 0 && typeId < tally.defeatsByEnemy.length ? tally.defeatsByEnemy[typeId] : 0;
+        }
+
+        /**
+         * Defeats in battle k of the queue (0 = first enemy).
+         */
+        public int getDefeatsAtStage(int stage) {
+            return stage >= 0 && stage < tally.defeatsByStage.length ? tally.defeatsByStage[stage] : 0;
+        }
+
+        // Averages per campaign
+        public double getAverageTrainingCycles() { return mean(tally.cyclesSum, tally.campaigns); }
+        public double getAverageBattleActions() { return mean(tally.actionsSum, tally.campaigns); }
+        public double getAverageFinalStrength() { return mean(tally.statSums[0], tally.campaigns); }
+        public double getAverageFinalAgility() { return mean(tally.statSums[1], tally.campaigns); }
+        public double getAverageFinalIntelligence() { return mean(tally.statSums[2], tally.campaigns); }
+
+        // Throughput
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public double getCampaignsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : tally.campaigns / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * Get formatted funnel for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(profession).append(": ").append(tally.campaigns).append(" campaigns")
+              .append(" | Victory: ").append(String.format("%.2f%%", getVictoryRate() * 100))
+              .append(" | Timeouts: ").append(tally.timeouts).append("\n");
+
+            sb.append("Funnel:");
+            for (int k = 1; k < tally.cleared.length; k++) {
+                sb.append(" won ").append(k).append(" ")
+                  .append(String.format("%.2f%%", rate(getReached(k), tally.campaigns) * 100))
+                  .append(" (").append(String.format("%.1f%%", getStageWinRate(k - 1) * 100)).append(")");
+                if (k < tally.cleared.length - 1) sb.append(" ->");
+            }
+            sb.append("\n");
+
+            sb.append("Defeats by:");
+            for (int id = 0; id < tally.defeatsByEnemy.length; id++) {
+                EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(id);
+                sb.append(" ").append(template != null ? template.getName() : "#" + id)
+                  .append(" ").append(tally.defeatsByEnemy[id]);
+                if (id < tally.defeatsByEnemy.length - 1) sb.append(",");
+            }
+            sb.append("\n");
+
+            sb.append("Avg cycles ").append(String.format("%.2f", getAverageTrainingCycles()))
+              .append(" | actions ").append(String.format("%.1f", getAverageBattleActions()))
+              .append(" | final STR/AGI/INT ")
+              .append(String.format("%.1f/%.1f/%.1f", getAverageFinalStrength(),
+                  getAverageFinalAgility(), getAverageFinalIntelligence())).append("\n");
+            sb.append("Throughput: ").append(String.format("%.0f", getCampaignsPerSecond())).append(" campaigns/s");
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== SIMULATION =====
+
+    /**
+     * Simulate campaigns for every profession with the same policies and seed.
+     *
+     * @return Results in Profession order
+     */
+    public Map<Profession, CampaignResult> simulateAll(PlayerPolicy policy, int campaigns, long seed) {
+        Map<Profession, CampaignResult> results = new EnumMap<>(Profession.class);
+        for (Profession profession : Profession.values()) {
+            results.put(profession, simulate(profession, policy, campaigns, seed));
+        }
+        return results;
+    }
+
+    /**
+     * Simulate many campaigns of one profession.
+     * The same seed always produces the same result.
+     *
+     * @param profession Player profession (default starting stats, profession skills)
+     * @param policy Chooses the stat trained each cycle and the skill used each turn
+     * @param campaigns Number of campaigns to run
+     * @param seed Seed for enemy order, cycle counts, training and hit rolls
+     * @return CampaignResult with the completion funnel
+     */
+    public CampaignResult simulate(Profession profession, PlayerPolicy policy, int campaigns, long seed) {
+        if (profession == null || policy == null) {
+            throw new IllegalArgumentException("Profession and policy must be non-null");
+        }
+
+        long start = System.nanoTime();
+        Tally tally = campaigns <= 0
+            ? new Tally()
+            : pool.invoke(new CampaignTask(profession, policy, seed, 0, campaigns));
+        long elapsed = System.nanoTime() - start;
+
+        return new CampaignResult(profession, tally, elapsed);
+    }
+
+    /**
+     * Fork/join task over a range of campaign indices.
+     */
+    private class CampaignTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+        private final Profession profession;
+        private final PlayerPolicy policy;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        CampaignTask(Profession profession, PlayerPolicy policy, long seed, int from, int to) {
+            this.profession = profession;
+            this.policy = policy;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= batchSize) {
+                CampaignRunner runner = new CampaignRunner(profession);
+                Tally tally = new Tally();
+                for (int i = from; i < to; i++) {
+                    SplittableRandom random = new SplittableRandom(BattleSimulationSystem.battleSeed(seed, i));
+                    runner.runCampaign(policy, random, tally);
+                }
+                return tally;
+            }
+
+            int mid = (from + to) >>> 1;
+            CampaignTask left = new CampaignTask(profession, policy, seed, from, mid);
+            CampaignTask right = new CampaignTask(profession, policy, seed, mid, to);
+            left.fork();
+            Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+    }
+
+    // ===== CAMPAIGN RUNNER =====
+
+    /**
+     * Runs campaigns on one thread. Stateless systems are shared across its
+     * campaigns; GameFlowSystem and the enemy trainer (which holds the
+     * specialization random) are rebuilt per campaign.
+     */
+    private static class CampaignRunner {
+        private final Profession profession;
+        private final Skill[] playerSkills;
+
+        private final EntitySystem entitySystem = new EntitySystem();
+        private final SkillSystem skillSystem = new SkillSystem();
+        private final CooldownSystem cooldownSystem = new CooldownSystem();
+        private final CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        private final EnemyAISystem enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        private final PlayerTrainingSystem playerTrainingSystem = new PlayerTrainingSystem(entitySystem);
+
+        CampaignRunner(Profession profession) {
+            this.profession = profession;
+            this.playerSkills = SkillsData.getSkillsForProfession(profession);
+        }
+
+        void runCampaign(PlayerPolicy policy, SplittableRandom random, Tally tally) {
+            combatSystem.setRandom(random.split());
+            GameFlowSystem flow = new GameFlowSystem(entitySystem, playerTrainingSystem,
+                new EnemyTrainingSystem(entitySystem, random.split()),
+                skillSystem, cooldownSystem, combatSystem, enemyAISystem);
+
+            Enemy[] enemies = EnemiesData.getAllEnemyTypes();
+            shuffle(enemies, random);
+            flow.initializeGame(PLAYER_NAME, profession, playerSkills, enemies);
+
+            int won = 0;
+            int cycles = 0;
+            long actions = 0;
+            boolean timedOut = false;
+            Enemy killer = null;
+
+            while (!flow.isGameOver()) {
+                // Training phase
+                flow.startTrainingPhase(MIN_TRAINING_CYCLES
+                    + random.nextInt(MAX_TRAINING_CYCLES - MIN_TRAINING_CYCLES + 1));
+                while (flow.getCurrentPhase() == GameFlowSystem.GamePhase.TRAINING) {
+                    String stat = policy.chooseTrainingStat(flow.getPlayer(), flow.getCurrentEnemy(), random);
+                    flow.trainPlayer(stat, PLAYER_TRAINING_AMOUNT);
+                    flow.trainEnemies(ENEMY_TRAINING_AMOUNT);
+                    flow.completeTrainingCycle();
+                    cycles++;
+                }
+
+                // Battle phase
+                Enemy enemy = flow.getCurrentEnemy();
+                flow.startBattlePhase();
+                actions += fight(flow, policy);
+
+                GameFlowSystem.BattleOutcome outcome = flow.completeBattle();
+                if (outcome == GameFlowSystem.BattleOutcome.PLAYER_WIN) {
+                    won++;
+                } else if (outcome == GameFlowSystem.BattleOutcome.ENEMY_WIN) {
+                    killer = enemy;
+                } else {
+                    timedOut = true;
+                    break;
+                }
+            }
+
+            tally.record(won, enemies.length, killer, timedOut, cycles, actions, flow.getPlayer().getStats());
+        }
+
+        /**
+         * One battle in GameFlowSystem order: player acts, cooldowns tick, enemy acts.
+         *
+         * @return Actions taken by either side
+         */
+        private int fight(GameFlowSystem flow, PlayerPolicy policy) {
+            Player player = flow.getPlayer();
+            Enemy enemy = flow.getCurrentEnemy();
+
+            int actions = 0;
+            while (actions < MAX_TURNS) {
+                actions++;
+                flow.playerAttack(PlayerPolicySystem.chooseUsableSkillIndex(policy, player, enemy, playerSkills, cooldownSystem));
+                if (flow.isBattleOver()) break;
+
+                flow.tickCooldowns();
+
+                actions++;
+                flow.enemyAttack();
+                if (flow.isBattleOver()) break;
+            }
+            return actions;
+        }
+
+        private static void shuffle(Enemy[] enemies, SplittableRandom random) {
+            for (int i = enemies.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Enemy swap = enemies[i];
+                enemies[i] = enemies[j];
+                enemies[j] = swap;
+            }
+        }
+    }
+
+    // ===== TALLY =====
+
+    /**
+     * Mergeable per-task funnel counts.
+     */
+    private static class Tally {
+        private int campaigns;
+        private int timeouts;
+        private int[] cleared = new int[EnemiesData.getEnemyCount() + 1]; // index = battles won
+        private int[] defeatsByEnemy = new int[EnemiesData.getEnemyCount()];
+        private int[] defeatsByStage = new int[EnemiesData.getEnemyCount()];
+
+        private long cyclesSum;
+        private long actionsSum;
+        private final long[] statSums = new long[3];
+
+        void record(int won, int stages, Enemy killer, boolean timedOut,
+                    int cycles, long actions, Stat finalStats) {
+            campaigns++;
+            cleared = ensure(cleared, stages + 1);
+            cleared[won]++;
+
+            if (timedOut) {
+                timeouts++;
+            } else if (killer != null) {
+                defeatsByStage = ensure(defeatsByStage, stages);
+                defeatsByStage[won]++;
+                int typeId = killer.getTypeId();
+                if (typeId >= 0) {
+                    defeatsByEnemy = ensure(defeatsByEnemy, typeId + 1);
+                    defeatsByEnemy[typeId]++;
+                }
+            }
+
+            cyclesSum += cycles;
+            actionsSum += actions;
+            statSums[0] += finalStats.getStrength();
+            statSums[1] += finalStats.getAgility();
+            statSums[2] += finalStats.getIntelligence();
+        }
+
+        Tally merge(Tally other) {
+            campaigns += other.campaigns;
+            timeouts += other.timeouts;
+            cleared = add(cleared, other.cleared);
+            defeatsByEnemy = add(defeatsByEnemy, other.defeatsByEnemy);
+            defeatsByStage = add(defeatsByStage, other.defeatsByStage);
+
+            cyclesSum += other.cyclesSum;
+            actionsSum += other.actionsSum;
+            for (int i = 0; i < statSums.length; i++) {
+                statSums[i] += other.statSums[i];
+            }
+            return this;
+        }
+
+        private static int[] ensure(int[] counts, int length) {
+            if (counts.length >= length) return counts;
+            int[] grown = new int[length];
+            System.arraycopy(counts, 0, grown, 0, counts.length);
+            return grown;
+        }
+
+        private static int[] add(int[] a, int[] b) {
+            int[] result = ensure(a, b.length);
+            for (int i = 0; i < b.length; i++) {
+                result[i] += b[i];
+            }
+            return result;
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static double mean(long sum, int count) {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    private static double rate(int part, int whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+
+    // ===== ACCESSORS =====
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getBatchSize() { return batchSize; }
+}
@@ -1,8 +1,10 @@
 package game.system;
 
+import game.core.BalanceProfile;
 import game.core.Player;
 import game.core.Enemy;
 import game.core.Skill;
+import java.util.SplittableRandom;
 
 /**
  * CombatSystem handles all battle mechanics and combat interactions.
@@ -17,6 +19,14 @@ import game.core.Skill;
  * - Validate combat actions
  * - Provide combat state queries
  * 
+ * Two entry points per attack:
+ * - playerAttack / enemyAttack / enemyBasicAttack return a CombatResult with
+ *   names and a message (UI, console)
+ * - resolvePlayerAttack / resolveEnemyAttack / resolveEnemyBasicAttack fill a
+ *   caller-owned AttackOutcome (status, hit, damage) and allocate nothing
+ *   (simulations)
+ * Both run the same rules and consume the same random rolls.
+ * 
  * Design: Uses composition - depends on other systems to do the work.
  * GUI-Friendly: Returns simple combat result objects for easy UI display.
  */
@@ -26,18 +36,34 @@ public class CombatSystem {
     private final SkillSystem skillSystem;
     private final CooldownSystem cooldownSystem;
 
-    // Combat constants
-    private static final int MIN_HIT_CHANCE = 5;   // Minimum 5% hit chance
-    private static final int MAX_HIT_CHANCE = 95;  // Maximum 95% hit chance
+    // Random source for hit rolls (one per session/simulation - never shared across threads)
+    private SplittableRandom random;
+
+    // Hit chance clamp (5%-95% by default) comes from the attacker's BalanceProfile
 
     public CombatSystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem) {
+        this(entitySystem, skillSystem, cooldownSystem, new SplittableRandom());
+    }
+
+    /**
+     * Creates a combat system with an injected random source.
+     * Use a seeded source for reproducible battles.
+     * 
+     * @param random Random source for hit rolls
+     */
+    public CombatSystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem,
+                        SplittableRandom random) {
         if (entitySystem == null || skillSystem == null || cooldownSystem == null) {
             throw new IllegalArgumentException("All systems must be non-null");
         }
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
         
         this.entitySystem = entitySystem;
         this.skillSystem = skillSystem;
         this.cooldownSystem = cooldownSystem;
+        this.random = random;
     }
 
     // ===== COMBAT RESULT CLASS =====
@@ -45,102 +71,312 @@ public class CombatSystem {
     /**
      * CombatResult holds the outcome of a combat action.
      * Perfect for GUI display - contains all relevant information.
+     * Carries a Code plus raw values; the message is formatted on first getMessage().
      */
     public static class CombatResult {
-        private final boolean success;      // Was the action successful?
-        private final boolean hit;          // Did the attack hit? (false if missed)
+
+        /**
+         * What happened, with the message template for it.
+         * Slots: {0} attacker, {1} target, {2} skill, {3} damage
+         */
+        public enum Code {
+            HIT("{0} used {2} and dealt {3} damage to {1}!"),
+            MISS("{0} used {2} but missed {1}!"),
+            INVALID_ACTION("Invalid combat action"),
+            INVALID_SKILL_INDEX("Invalid skill index"),
+            WRONG_PROFESSION("{0} cannot use {2} (Wrong profession)"),
+            SKILL_ON_COOLDOWN("{0} cannot use {2} (Skill on cooldown)"),
+            ENEMY_SKILL_ON_COOLDOWN("{0} cannot use {2} (on cooldown)"),
+            TARGET_DEFEATED("{1} is already defeated"),
+            GAME_NOT_INITIALIZED("Game not initialized"),
+            NOT_IN_BATTLE("Not in battle phase"),
+            NO_ENEMY("No enemy available");
+
+            private final MessageTemplate template;
+
+            Code(String pattern) {
+                this.template = MessageTemplate.compile(pattern);
+            }
+
+            /**
+             * @return true if the attack happened (hit or miss)
+             */
+            public boolean isSuccess() {
+                return this == HIT || this == MISS;
+            }
+        }
+
+        private final Code code;            // What happened
         private final int damageDealt;      // Actual damage dealt
         private final String attackerName;  // Who attacked
         private final String targetName;    // Who was targeted
         private final String skillName;     // Skill used
-        private final String message;       // Human-readable message
-
-        public CombatResult(boolean success, boolean hit, int damageDealt, 
-                           String attackerName, String targetName, String skillName, String message) {
-            this.success = success;
-            this.hit = hit;
+        private String message;             // Human-readable message (built on demand)
+
+        public CombatResult(Code code, int damageDealt,
+                           String attackerName, String targetName, String skillName) {
+            if (code == null) {
+                throw new IllegalArgumentException("Code cannot be null");
+            }
+            this.code = code;
             this.damageDealt = damageDealt;
             this.attackerName = attackerName;
             this.targetName = targetName;
             this.skillName = skillName;
-            this.message = message;
         }
 
         // Getters
-        public boolean isSuccess() { return success; }
-        public boolean isHit() { return hit; }
+        public Code getCode() { return code; }
+        public boolean isSuccess() { return code.isSuccess(); }
+        public boolean isHit() { return code == Code.HIT; }
         public int getDamageDealt() { return damageDealt; }
         public String getAttackerName() { return attackerName; }
         public String getTargetName() { return targetName; }
         public String getSkillName() { return skillName; }
-        public String getMessage() { return message; }
+
+        public String getMessage() {
+            if (message == null) {
+                message = code.template.format(attackerName, targetName, skillName, damageDealt);
+            }
+            return message;
+        }
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
-    // ===== PLAYER ATTACKS =====
+    // ===== ATTACK OUTCOME CLASS =====
 
     /**
-     * Player attacks enemy with a skill.
-     * Handles validation, hit calculation, damage application, and cooldown.
-     * 
+     * AttackOutcome is a reusable, mutable record of one attack.
+     * Filled by the resolve* methods without creating strings or objects,
+     * so bulk simulations keep one instance per runner and reuse it every turn.
+     */
+    public static final class AttackOutcome {
+
+        /**
+         * Why an attack did or did not happen.
+         */
+        public enum Status {
+            OK,                 // Attack resolved (hit or miss)
+            INVALID,            // Null attacker, target or skill
+            WRONG_PROFESSION,   // Player skill of another profession
+            ON_COOLDOWN,        // Skill not ready
+            TARGET_DEFEATED     // Target already at 0 HP
+        }
+
+        private Status status = Status.INVALID;
+        private boolean hit;
+        private int damage;
+
+        private void set(Status status, boolean hit, int damage) {
+            this.status = status;
+            this.hit = hit;
+            this.damage = damage;
+        }
+
+        public Status getStatus() { return status; }
+        public boolean isSuccess() { return status == Status.OK; }
+        public boolean isHit() { return hit; }
+        public int getDamage() { return damage; }
+
+        @Override
+        public String toString() {
+            return "AttackOutcome{" + status + ", hit=" + hit + ", damage=" + damage + "}";
+        }
+    }
+
+    // ===== FAST PATH (NO ALLOCATION) =====
+
+    /**
+     * Resolve a player attack into a reusable outcome.
+     * Same rules and random rolls as playerAttack(), without building a CombatResult.
+     *
      * @param player The attacking player
      * @param enemy The target enemy
      * @param skill The skill to use
-     * @return CombatResult with all combat information
+     * @param outcome Filled with status, hit flag and damage
+     * @return true if the attack happened (hit or miss)
      */
-    public CombatResult playerAttack(Player player, Enemy enemy, Skill skill) {
-        // Validation
+    public boolean resolvePlayerAttack(Player player, Enemy enemy, Skill skill, AttackOutcome outcome) {
         if (player == null || enemy == null || skill == null) {
-            return new CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown", 
-                "Invalid combat action");
+            outcome.set(AttackOutcome.Status.INVALID, false, 0);
+            return false;
         }
-
-        String playerName = player.getName();
-        String enemyName = enemy.getName();
-        String skillName = skill.getName();
-
-        // Check if player can use skill
         if (!skillSystem.canUseSkill(player, skill)) {
-            String reason = !skillSystem.matchesProfession(player, skill) 
-                ? "Wrong profession" 
-                : "Skill on cooldown";
-            return new CombatResult(false, false, 0, playerName, enemyName, skillName,
-                playerName + " cannot use " + skillName + " (" + reason + ")");
+            outcome.set(skillSystem.matchesProfession(player, skill)
+                ? AttackOutcome.Status.ON_COOLDOWN : AttackOutcome.Status.WRONG_PROFESSION, false, 0);
+            return false;
         }
-
-        // Check if enemy is alive
         if (!entitySystem.isAlive(enemy)) {
-            return new CombatResult(false, false, 0, playerName, enemyName, skillName,
-                enemyName + " is already defeated");
+            outcome.set(AttackOutcome.Status.TARGET_DEFEATED, false, 0);
+            return false;
         }
 
-        // Calculate hit chance
-        int accuracy = entitySystem.getAccuracy(player);
-        int evasion = entitySystem.getEvasion(enemy);
-        boolean hit = attemptHit(accuracy, evasion);
-
+        boolean hit = rollHit(calculateHitChance(player, enemy));
         int damage = 0;
-        String message;
-
         if (hit) {
-            // Hit: calculate and apply damage
             damage = skillSystem.calculateDamage(player, skill);
             entitySystem.applyDamage(enemy, damage);
-            message = playerName + " used " + skillName + " and dealt " + damage + " damage to " + enemyName + "!";
-        } else {
-            // Miss: no damage
-            damage = 0;
-            message = playerName + " used " + skillName + " but missed " + enemyName + "!";
         }
 
         // Apply cooldown (regardless of hit/miss)
         cooldownSystem.applySkillCooldown(player, skill);
 
-        return new CombatResult(true, hit, damage, playerName, enemyName, skillName, message);
+        outcome.set(AttackOutcome.Status.OK, hit, damage);
+        return true;
+    }
+
+    /**
+     * Resolve an enemy skill attack into a reusable outcome.
+     *
+     * @return true if the attack happened (hit or miss)
+     */
+    public boolean resolveEnemyAttack(Enemy enemy, Player player, Skill skill, AttackOutcome outcome) {
+        if (enemy == null || player == null || skill == null) {
+            outcome.set(AttackOutcome.Status.INVALID, false, 0);
+            return false;
+        }
+        if (!skillSystem.canUseSkill(enemy, skill)) {
+            outcome.set(AttackOutcome.Status.ON_COOLDOWN, false, 0);
+            return false;
+        }
+        if (!entitySystem.isAlive(player)) {
+            outcome.set(AttackOutcome.Status.TARGET_DEFEATED, false, 0);
+            return false;
+        }
+
+        boolean hit = rollHit(calculateHitChance(enemy, player));
+        int damage = 0;
+        if (hit) {
+            damage = skillSystem.calculateDamage(enemy, skill);
+            entitySystem.applyDamage(player, damage);
+        }
+
+        cooldownSystem.applySkillCooldown(enemy, skill);
+
+        outcome.set(AttackOutcome.Status.OK, hit, damage);
+        return true;
+    }
+
+    /**
+     * Resolve an enemy basic attack (damage = STR, no cooldown) into a reusable outcome.
+     *
+     * @return true if the attack happened (hit or miss)
+     */
+    public boolean resolveEnemyBasicAttack(Enemy enemy, Player player, AttackOutcome outcome) {
+        if (enemy == null || player == null) {
+            outcome.set(AttackOutcome.Status.INVALID, false, 0);
+            return false;
+        }
+        if (!entitySystem.isAlive(player)) {
+            outcome.set(AttackOutcome.Status.TARGET_DEFEATED, false, 0);
+            return false;
+        }
+
+        boolean hit = rollHit(calculateHitChance(enemy, player));
+        int damage = 0;
+        if (hit) {
+            damage = enemy.getStats().getStrength();
+            entitySystem.applyDamage(player, damage);
+        }
+
+        outcome.set(AttackOutcome.Status.OK, hit, damage);
+        return true;
+    }
+
+    // ===== ARENA ATTACKS (OFF-HEAP) =====
+
+    /**
+     * Resolve a skill attack between two BattleArena views.
+     * Same hit roll, damage and cooldown rules as resolvePlayerAttack / resolveEnemyAttack
+     * (the arena has no professions, so there is no profession check).
+     *
+     * @param attacker View of the attacking side
+     * @param target View of the target side
+     * @param skill The skill to use
+     * @param slot Cooldown slot of the skill (its index in the attacker's skill array)
+     * @param outcome Filled with status, hit flag and damage
+     * @return true if the attack happened (hit or miss)
+     */
+    public boolean resolveAttack(BattleArena.Combatant attacker, BattleArena.Combatant target,
+                                 Skill skill, int slot, AttackOutcome outcome) {
+        if (attacker == null || target == null || skill == null) {
+            outcome.set(AttackOutcome.Status.INVALID, false, 0);
+            return false;
+        }
+        if (!attacker.isSkillReady(slot)) {
+            outcome.set(AttackOutcome.Status.ON_COOLDOWN, false, 0);
+            return false;
+        }
+        if (!target.isAlive()) {
+            outcome.set(AttackOutcome.Status.TARGET_DEFEATED, false, 0);
+            return false;
+        }
+
+        boolean hit = attemptHit(attacker.getAccuracy(), target.getEvasion());
+        int damage = 0;
+        if (hit) {
+            damage = skillSystem.calculateDamage(attacker, skill);
+            target.takeDamage(damage);
+        }
+
+        attacker.setCooldown(slot, cooldownSystem.calculateFinalCooldown(skill, attacker.getCooldownReduction()));
+
+        outcome.set(AttackOutcome.Status.OK, hit, damage);
+        return true;
+    }
+
+    /**
+     * Resolve a basic attack (damage = STR, no cooldown) between two BattleArena views.
+     *
+     * @return true if the attack happened (hit or miss)
+     */
+    public boolean resolveBasicAttack(BattleArena.Combatant attacker, BattleArena.Combatant target,
+                                      AttackOutcome outcome) {
+        if (attacker == null || target == null) {
+            outcome.set(AttackOutcome.Status.INVALID, false, 0);
+            return false;
+        }
+        if (!target.isAlive()) {
+            outcome.set(AttackOutcome.Status.TARGET_DEFEATED, false, 0);
+            return false;
+        }
+
+        boolean hit = attemptHit(attacker.getAccuracy(), target.getEvasion());
+        int damage = 0;
+        if (hit) {
+            damage = attacker.getStrength();
+            target.takeDamage(damage);
+        }
+
+        outcome.set(AttackOutcome.Status.OK, hit, damage);
+        return true;
+    }
+
+    // ===== PLAYER ATTACKS =====
+
+    /**
+     * Player attacks enemy with a skill.
+     * Handles validation, hit calculation, damage application, and cooldown.
+     * 
+     * @param player The attacking player
+     * @param enemy The target enemy
+     * @param skill The skill to use
+     * @return CombatResult with all combat information
+     */
+    public CombatResult playerAttack(Player player, Enemy enemy, Skill skill) {
+        AttackOutcome outcome = new AttackOutcome();
+        resolvePlayerAttack(player, enemy, skill, outcome);
+
+        // Validation
+        if (outcome.getStatus() == AttackOutcome.Status.INVALID) {
+            return new CombatResult(CombatResult.Code.INVALID_ACTION, 0, "Unknown", "Unknown", "Unknown");
+        }
+
+        return toResult(outcome, player.getName(), enemy.getName(), skill.getName());
     }
 
     /**
@@ -155,11 +391,10 @@ public class CombatSystem {
      */
     public CombatResult playerAttack(Player player, Enemy enemy, Skill[] skills, int skillIndex) {
         if (!skillSystem.isValidSkillIndex(skills, skillIndex)) {
-            return new CombatResult(false, false, 0, 
+            return new CombatResult(CombatResult.Code.INVALID_SKILL_INDEX, 0,
                 player != null ? player.getName() : "Unknown",
                 enemy != null ? enemy.getName() : "Unknown",
-                "Unknown",
-                "Invalid skill index");
+                "Unknown");
         }
 
         Skill skill = skills[skillIndex];
@@ -177,51 +412,20 @@ public class CombatSystem {
      * @return CombatResult
      */
     public CombatResult enemyAttack(Enemy enemy, Player player, Skill skill) {
-        // Validation
-        if (enemy == null || player == null || skill == null) {
-            return new CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown",
-                "Invalid combat action");
-        }
-
-        String enemyName = enemy.getName();
-        String playerName = player.getName();
-        String skillName = skill.getName();
+        AttackOutcome outcome = new AttackOutcome();
+        resolveEnemyAttack(enemy, player, skill, outcome);
 
-        // Check if enemy can use skill
-        if (!skillSystem.canUseSkill(enemy, skill)) {
-            return new CombatResult(false, false, 0, enemyName, playerName, skillName,
-                enemyName + " cannot use " + skillName + " (on cooldown)");
+        // Validation
+        if (outcome.getStatus() == AttackOutcome.Status.INVALID) {
+            return new CombatResult(CombatResult.Code.INVALID_ACTION, 0, "Unknown", "Unknown", "Unknown");
         }
 
-        // Check if player is alive
-        if (!entitySystem.isAlive(player)) {
-            return new CombatResult(false, false, 0, enemyName, playerName, skillName,
-                playerName + " is already defeated");
+        if (outcome.getStatus() == AttackOutcome.Status.ON_COOLDOWN) {
+            return new CombatResult(CombatResult.Code.ENEMY_SKILL_ON_COOLDOWN, 0,
+                enemy.getName(), player.getName(), skill.getName());
         }
 
-        // Calculate hit chance
-        int accuracy = entitySystem.getAccuracy(enemy);
-        int evasion = entitySystem.getEvasion(player);
-        boolean hit = attemptHit(accuracy, evasion);
-
-        int damage = 0;
-        String message;
-
-        if (hit) {
-            // Hit: calculate and apply damage
-            damage = skillSystem.calculateDamage(enemy, skill);
-            entitySystem.applyDamage(player, damage);
-            message = enemyName + " used " + skillName + " and dealt " + damage + " damage to " + playerName + "!";
-        } else {
-            // Miss: no damage
-            damage = 0;
-            message = enemyName + " used " + skillName + " but missed " + playerName + "!";
-        }
-
-        // Apply cooldown
-        cooldownSystem.applySkillCooldown(enemy, skill);
-
-        return new CombatResult(true, hit, damage, enemyName, playerName, skillName, message);
+        return toResult(outcome, enemy.getName(), player.getName(), skill.getName());
     }
 
     /**
@@ -233,74 +437,74 @@ public class CombatSystem {
      * @return CombatResult
      */
     public CombatResult enemyBasicAttack(Enemy enemy, Player player) {
-        if (enemy == null || player == null) {
-            return new CombatResult(false, false, 0, "Unknown", "Unknown", "Basic Attack",
-                "Invalid combat action");
-        }
+        AttackOutcome outcome = new AttackOutcome();
+        resolveEnemyBasicAttack(enemy, player, outcome);
 
-        String enemyName = enemy.getName();
-        String playerName = player.getName();
-
-        // Check if player is alive
-        if (!entitySystem.isAlive(player)) {
-            return new CombatResult(false, false, 0, enemyName, playerName, "Basic Attack",
-                playerName + " is already defeated");
+        if (outcome.getStatus() == AttackOutcome.Status.INVALID) {
+            return new CombatResult(CombatResult.Code.INVALID_ACTION, 0, "Unknown", "Unknown", "Basic Attack");
         }
 
-        // Calculate hit chance
-        int accuracy = entitySystem.getAccuracy(enemy);
-        int evasion = entitySystem.getEvasion(player);
-        boolean hit = attemptHit(accuracy, evasion);
-
-        int damage = 0;
-        String message;
+        return toResult(outcome, enemy.getName(), player.getName(), "Basic Attack");
+    }
 
-        if (hit) {
-            // Basic attack damage = strength only
-            damage = enemy.getStats().getStrength();
-            entitySystem.applyDamage(player, damage);
-            message = enemyName + " used Basic Attack and dealt " + damage + " damage to " + playerName + "!";
-        } else {
-            message = enemyName + " used Basic Attack but missed " + playerName + "!";
+    /**
+     * Turn a resolved outcome into a CombatResult (message formatted later, on demand).
+     */
+    private CombatResult toResult(AttackOutcome outcome, String attackerName, String targetName, String skillName) {
+        CombatResult.Code code;
+        switch (outcome.getStatus()) {
+            case OK:               code = outcome.isHit() ? CombatResult.Code.HIT : CombatResult.Code.MISS; break;
+            case WRONG_PROFESSION: code = CombatResult.Code.WRONG_PROFESSION; break;
+            case ON_COOLDOWN:      code = CombatResult.Code.SKILL_ON_COOLDOWN; break;
+            case TARGET_DEFEATED:  code = CombatResult.Code.TARGET_DEFEATED; break;
+            default:               code = CombatResult.Code.INVALID_ACTION; break;
         }
-
-        return new CombatResult(true, hit, damage, enemyName, playerName, "Basic Attack", message);
+        return new CombatResult(code, outcome.getDamage(), attackerName, targetName, skillName);
     }
 
     // ===== HIT CALCULATION =====
 
     /**
      * Calculate if an attack hits based on accuracy vs evasion.
-     * Formula: hitChance = accuracy - evasion (clamped to 5%-95%)
+     * Formula: hitChance = accuracy - evasion (clamped to BalanceProfile range, 5%-95% by default)
      * 
      * @param accuracy Attacker's accuracy stat
      * @param evasion Defender's evasion stat
      * @return true if attack hits
      */
     public boolean attemptHit(int accuracy, int evasion) {
-        int hitChance = accuracy - evasion;
-        hitChance = Math.max(MIN_HIT_CHANCE, Math.min(MAX_HIT_CHANCE, hitChance));
-        
-        int roll = (int)(Math.random() * 100) + 1; // 1-100
+        return rollHit(calculateHitChance(accuracy, evasion));
+    }
+
+    private boolean rollHit(int hitChance) {
+        int roll = random.nextInt(100) + 1; // 1-100
         return roll <= hitChance;
     }
 
     /**
      * Calculate hit chance percentage.
-     * Returns the actual % chance to hit (5-95).
+     * Returns the actual % chance to hit (5-95 with the default BalanceProfile).
      * Perfect for GUI display.
      * 
      * @param accuracy Attacker's accuracy
      * @param evasion Defender's evasion
-     * @return Hit chance as percentage (5-95)
+     * @return Hit chance as percentage (clamped to BalanceProfile.DEFAULT's range)
      */
     public int calculateHitChance(int accuracy, int evasion) {
+        return calculateHitChance(BalanceProfile.DEFAULT, accuracy, evasion);
+    }
+
+    /**
+     * @param balance Profile whose hit chance range applies
+     */
+    public int calculateHitChance(BalanceProfile balance, int accuracy, int evasion) {
         int hitChance = accuracy - evasion;
-        return Math.max(MIN_HIT_CHANCE, Math.min(MAX_HIT_CHANCE, hitChance));
+        return Math.max(balance.getMinHitChance(), Math.min(balance.getMaxHitChance(), hitChance));
     }
 
     /**
      * Calculate hit chance for player attacking enemy.
+     * Clamped to the range of the player's balance profile.
      * 
      * @param player The attacker
      * @param enemy The defender
@@ -309,6 +513,7 @@ public class CombatSystem {
     public int calculateHitChance(Player player, Enemy enemy) {
         if (player == null || enemy == null) return 0;
         return calculateHitChance(
+            player.getStats().getBalance(),
             entitySystem.getAccuracy(player),
             entitySystem.getEvasion(enemy)
         );
@@ -316,6 +521,7 @@ public class CombatSystem {
 
     /**
      * Calculate hit chance for enemy attacking player.
+     * Clamped to the range of the enemy's balance profile.
      * 
      * @param enemy The attacker
      * @param player The defender
@@ -324,6 +530,7 @@ public class CombatSystem {
     public int calculateHitChance(Enemy enemy, Player player) {
         if (enemy == null || player == null) return 0;
         return calculateHitChance(
+            enemy.getStats().getBalance(),
             entitySystem.getAccuracy(enemy),
             entitySystem.getEvasion(player)
         );
@@ -467,6 +674,23 @@ public class CombatSystem {
         return skillSystem.canUseSkill(enemy, skill);
     }
 
+    // ===== RANDOM SOURCE =====
+
+    /**
+     * Replace the random source used for hit rolls.
+     * Simulations call this once per battle with a battle-specific seed.
+     * 
+     * @param random New random source
+     */
+    public void setRandom(SplittableRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        this.random = random;
+    }
+
+    public SplittableRandom getRandom() { return random; }
+
     // ===== ACCESSORS =====
 
     public EntitySystem getEntitySystem() { return entitySystem; }
@@ -0,0 +1,433 @@
+package game.system;
+
+import game.core.BalanceProfile;
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import game.core.Stat;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * CombatantStore keeps many combatants as columns (struct-of-arrays).
+ * Used alongside EntitySystem when thousands of battles run at once: a
+ * Player/Enemy is an object graph (entity -> Stat -> CooldownTable) scattered
+ * over the heap, here every field is one int[] indexed by entity.
+ * BatchBattleKernel.runStore() keeps its lane state here.
+ *
+ * LAYOUT:
+ * - One int[] per field: STR, AGI, INT, HP, max HP, speed, accuracy, evasion, CDR
+ * - Entity i lives at index i of every column
+ * - Cooldowns are one packed column: COOLDOWN_SLOTS remaining-turn counters
+ *   per entity, entity i at [i * COOLDOWN_SLOTS, (i + 1) * COOLDOWN_SLOTS)
+ * - Slot s is the skill at index s of the entity's skill array
+ *
+ * BULK OPERATIONS:
+ * - Range versions (from inclusive, to exclusive) sweep the columns linearly
+ * - Same rules as Stat / EntitySystem / CooldownSystem: STR changes move HP
+ *   with max HP, damage floors HP at 0, cooldown = max(1, base - CDR)
+ * - Derived stats follow the store's BalanceProfile (DEFAULT unless given);
+ *   adding a Player/Enemy built under another profile is rejected
+ *
+ * Responsibilities:
+ * - Add entities (from stats, a Player or an Enemy)
+ * - Bulk damage, heal, stat changes and cooldown ticks
+ * - Per-entity queries
+ *
+ * Design: Plain arrays grown by doubling; not thread-safe (one store per worker,
+ * or disjoint ranges per thread).
+ */
+public class CombatantStore {
+
+    public static final int COOLDOWN_SLOTS = 4;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] strength;
+    private int[] agility;
+    private int[] intelligence;
+    private int[] hp;
+    private int[] maxHp;
+    private int[] speed;
+    private int[] accuracy;
+    private int[] evasion;
+    private int[] cooldownReduction;
+    private int[] cooldowns;    // Packed: COOLDOWN_SLOTS per entity
+
+    private int size;
+    private final BalanceProfile balance; // Derived-stat formulas of every entity in the store
+
+    public CombatantStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param capacity Initial number of entities (grows as needed)
+     */
+    public CombatantStore(int capacity) {
+        this(capacity, BalanceProfile.DEFAULT);
+    }
+
+    /**
+     * @param capacity Initial number of entities (grows as needed)
+     * @param balance Balance profile the derived stats follow
+     */
+    public CombatantStore(int capacity, BalanceProfile balance) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (balance == null) {
+            throw new IllegalArgumentException("Balance profile cannot be null");
+        }
+        this.balance = balance;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        strength = new int[capacity];
+        agility = new int[capacity];
+        intelligence = new int[capacity];
+        hp = new int[capacity];
+        maxHp = new int[capacity];
+        speed = new int[capacity];
+        accuracy = new int[capacity];
+        evasion = new int[capacity];
+        cooldownReduction = new int[capacity];
+        cooldowns = new int[capacity * COOLDOWN_SLOTS];
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= strength.length) return;
+
+        int capacity = Math.max(needed, strength.length * 2);
+        strength = Arrays.copyOf(strength, capacity);
+        agility = Arrays.copyOf(agility, capacity);
+        intelligence = Arrays.copyOf(intelligence, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        maxHp = Arrays.copyOf(maxHp, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        accuracy = Arrays.copyOf(accuracy, capacity);
+        evasion = Arrays.copyOf(evasion, capacity);
+        cooldownReduction = Arrays.copyOf(cooldownReduction, capacity);
+        cooldowns = Arrays.copyOf(cooldowns, capacity * COOLDOWN_SLOTS);
+    }
+
+    // ===== ADDING ENTITIES =====
+
+    /**
+     * Add an entity at full HP with no cooldowns.
+     *
+     * @return Entity index
+     */
+    public int add(int str, int agi, int intel) {
+        ensureCapacity(size + 1);
+        int i = size++;
+
+        strength[i] = Math.max(0, str);
+        agility[i] = Math.max(0, agi);
+        intelligence[i] = Math.max(0, intel);
+        deriveStats(i);
+        hp[i] = maxHp[i];
+        Arrays.fill(cooldowns, i * COOLDOWN_SLOTS, (i + 1) * COOLDOWN_SLOTS, 0);
+        return i;
+    }
+
+    /**
+     * Add a copy of a player's current state (stats, HP, cooldowns).
+     *
+     * @param player The player
+     * @param skills Player skills; skill s goes to cooldown slot s
+     * @return Entity index
+     */
+    public int add(Player player, Skill[] skills) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player cannot be null");
+        }
+
+        int i = addStats(player.getStats());
+        if (skills != null) {
+            for (int s = 0; s < Math.min(skills.length, COOLDOWN_SLOTS); s++) {
+                cooldowns[i * COOLDOWN_SLOTS + s] = player.getSkillCooldown(skills[s]);
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Add a copy of an enemy's current state (stats, HP, cooldowns).
+     * Enemy skill s goes to cooldown slot s.
+     *
+     * @param enemy The enemy
+     * @return Entity index
+     */
+    public int add(Enemy enemy) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("Enemy cannot be null");
+        }
+
+        int i = addStats(enemy.getStats());
+        Skill[] skills = enemy.getSkills();
+        for (int s = 0; s < Math.min(skills.length, COOLDOWN_SLOTS); s++) {
+            cooldowns[i * COOLDOWN_SLOTS + s] = enemy.getSkillCooldown(skills[s]);
+        }
+        return i;
+    }
+
+    private int addStats(Stat stats) {
+        if (!stats.getBalance().equals(balance)) {
+            throw new IllegalArgumentException("Entity was built under another balance profile than this store");
+        }
+        int i = add(stats.getStrength(), stats.getAgility(), stats.getIntelligence());
+        hp[i] = stats.getHp();
+        return i;
+    }
+
+    /**
+     * Drop all entities (capacity is kept).
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ===== HEALTH (BULK) =====
+
+    /**
+     * Restore one entity to full HP.
+     */
+    public void fullHeal(int index) {
+        checkIndex(index);
+        hp[index] = maxHp[index];
+    }
+
+    /**
+     * Restore entities [from, to) to full HP.
+     */
+    public void fullHeal(int from, int to) {
+        checkRange(from, to);
+        System.arraycopy(maxHp, from, hp, from, to - from);
+    }
+
+    /**
+     * Apply damage to one entity (HP floors at 0, non-positive damage ignored).
+     */
+    public void applyDamage(int index, int damage) {
+        checkIndex(index);
+        if (damage > 0) {
+            hp[index] = Math.max(0, hp[index] - damage);
+        }
+    }
+
+    /**
+     * Apply damage[i - from] to every entity i in [from, to).
+     *
+     * @param damage Damage per entity, aligned with the range
+     */
+    public void applyDamage(int from, int to, int[] damage) {
+        checkRange(from, to);
+        if (damage.length < to - from) {
+            throw new IllegalArgumentException("Damage array shorter than range");
+        }
+
+        for (int i = from; i < to; i++) {
+            hp[i] = Math.max(0, hp[i] - Math.max(0, damage[i - from]));
+        }
+    }
+
+    /**
+     * Apply damage[k] to entity targets[k] for k in [0, count).
+     *
+     * @param targets Entity indexes
+     * @param damage Damage per target
+     * @param count Number of pairs
+     */
+    public void applyDamage(int[] targets, int[] damage, int count) {
+        if (count > targets.length || count > damage.length) {
+            throw new IllegalArgumentException("Count exceeds array length");
+        }
+
+        for (int k = 0; k < count; k++) {
+            int i = targets[k];
+            checkIndex(i);
+            hp[i] = Math.max(0, hp[i] - Math.max(0, damage[k]));
+        }
+    }
+
+    // ===== STAT MANAGEMENT (BULK) =====
+
+    /**
+     * Increase strength (HP moves with max HP, as in Stat).
+     */
+    public void modifyStrength(int index, int amount) {
+        checkIndex(index);
+        changeStrength(index, amount);
+    }
+
+    /**
+     * Increase strength of entities [from, to).
+     */
+    public void modifyStrength(int from, int to, int amount) {
+        checkRange(from, to);
+        if (amount == 0) return;
+        for (int i = from; i < to; i++) {
+            changeStrength(i, amount);
+        }
+    }
+
+    public void modifyAgility(int index, int amount) {
+        checkIndex(index);
+        changeAgility(index, amount);
+    }
+
+    /**
+     * Increase agility of entities [from, to).
+     */
+    public void modifyAgility(int from, int to, int amount) {
+        checkRange(from, to);
+        if (amount == 0) return;
+        for (int i = from; i < to; i++) {
+            changeAgility(i, amount);
+        }
+    }
+
+    public void modifyIntelligence(int index, int amount) {
+        checkIndex(index);
+        changeIntelligence(index, amount);
+    }
+
+    /**
+     * Increase intelligence of entities [from, to).
+     */
+    public void modifyIntelligence(int from, int to, int amount) {
+        checkRange(from, to);
+        if (amount == 0) return;
+        for (int i = from; i < to; i++) {
+            changeIntelligence(i, amount);
+        }
+    }
+
+    private void changeStrength(int i, int amount) {
+        if (amount == 0) return;
+        int oldMaxHp = maxHp[i];
+        strength[i] = Math.max(0, strength[i] + amount);
+        maxHp[i] = Stat.maxHpFor(balance, strength[i]);
+        hp[i] = Math.max(0, Math.min(maxHp[i], hp[i] + maxHp[i] - oldMaxHp));
+    }
+
+    private void changeAgility(int i, int amount) {
+        if (amount == 0) return;
+        agility[i] = Math.max(0, agility[i] + amount);
+        evasion[i] = Stat.evasionFor(balance, agility[i]);
+        speed[i] = Stat.speedFor(balance, agility[i]);
+    }
+
+    private void changeIntelligence(int i, int amount) {
+        if (amount == 0) return;
+        intelligence[i] = Math.max(0, intelligence[i] + amount);
+        accuracy[i] = Stat.accuracyFor(balance, intelligence[i]);
+        cooldownReduction[i] = Stat.cooldownReductionFor(balance, intelligence[i]);
+    }
+
+    private void deriveStats(int i) {
+        maxHp[i] = Stat.maxHpFor(balance, strength[i]);
+        evasion[i] = Stat.evasionFor(balance, agility[i]);
+        speed[i] = Stat.speedFor(balance, agility[i]);
+        accuracy[i] = Stat.accuracyFor(balance, intelligence[i]);
+        cooldownReduction[i] = Stat.cooldownReductionFor(balance, intelligence[i]);
+    }
+
+    // ===== COOLDOWNS (BULK) =====
+
+    /**
+     * Put a skill on cooldown after use: max(1, base - CDR), or 0 for no-cooldown skills.
+     *
+     * @param index Entity index
+     * @param slot Skill slot
+     * @param skill The skill used
+     */
+    public void applySkillCooldown(int index, int slot, Skill skill) {
+        checkIndex(index);
+        checkSlot(slot);
+        int base = skill.getBaseCooldown();
+        cooldowns[index * COOLDOWN_SLOTS + slot] = base == 0 ? 0 : Math.max(1, base - cooldownReduction[index]);
+    }
+
+    public void setCooldown(int index, int slot, int turns) {
+        checkIndex(index);
+        checkSlot(slot);
+        cooldowns[index * COOLDOWN_SLOTS + slot] = Math.max(0, turns);
+    }
+
+    public int getCooldown(int index, int slot) {
+        checkIndex(index);
+        checkSlot(slot);
+        return cooldowns[index * COOLDOWN_SLOTS + slot];
+    }
+
+    public boolean isSkillReady(int index, int slot) {
+        return getCooldown(index, slot) == 0;
+    }
+
+    /**
+     * Tick every cooldown of entities [from, to) down by one turn.
+     */
+    public void tickCooldowns(int from, int to) {
+        checkRange(from, to);
+        for (int k = from * COOLDOWN_SLOTS; k < to * COOLDOWN_SLOTS; k++) {
+            cooldowns[k] = Math.max(0, cooldowns[k] - 1);
+        }
+    }
+
+    /**
+     * Clear every cooldown of entities [from, to).
+     */
+    public void resetCooldowns(int from, int to) {
+        checkRange(from, to);
+        Arrays.fill(cooldowns, from * COOLDOWN_SLOTS, to * COOLDOWN_SLOTS, 0);
+    }
+
+    // ===== QUERIES =====
+
+    public boolean isAlive(int index) {
+        checkIndex(index);
+        return hp[index] > 0;
+    }
+
+    /**
+     * Count living entities in [from, to).
+     */
+    public int countAlive(int from, int to) {
+        checkRange(from, to);
+        int alive = 0;
+        for (int i = from; i < to; i++) {
+            alive += hp[i] > 0 ? 1 : 0;
+        }
+        return alive;
+    }
+
+    public int getStrength(int index) { checkIndex(index); return strength[index]; }
+    public int getAgility(int index) { checkIndex(index); return agility[index]; }
+    public int getIntelligence(int index) { checkIndex(index); return intelligence[index]; }
+    public int getHp(int index) { checkIndex(index); return hp[index]; }
+    public int getMaxHp(int index) { checkIndex(index); return maxHp[index]; }
+    public int getSpeed(int index) { checkIndex(index); return speed[index]; }
+    public int getAccuracy(int index) { checkIndex(index); return accuracy[index]; }
+    public int getEvasion(int index) { checkIndex(index); return evasion[index]; }
+    public int getCooldownReduction(int index) { checkIndex(index); return cooldownReduction[index]; }
+
+    // ===== VALIDATION =====
+
+    private void checkIndex(int index) {
+        Objects.checkIndex(index, size);
+    }
+
+    private void checkRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+    }
+
+    private static void checkSlot(int slot) {
+        Objects.checkIndex(slot, COOLDOWN_SLOTS);
+    }
+}
@@ -3,6 +3,7 @@ package game.system;
 import game.core.Player;
 import game.core.Enemy;
 import game.core.Skill;
+import game.core.CooldownTable;
 
 /**
  * CooldownSystem manages all cooldown-related operations for skills.
@@ -22,6 +23,11 @@ import game.core.Skill;
  * 4. TICK (each turn start) → Cooldown decreases by 1
  * 5. BACK TO READY → When cooldown reaches 0
  * 
+ * STORAGE: Cooldowns live in each entity's CooldownTable (int array + ready bitmask).
+ * Enemy skills use slot == skill index, so index-based checks are a single bit test.
+ * Cooldowns are stored as "ready at turn T" against the entity's turn counter:
+ * a tick just advances the counter, and remaining turns are computed on demand.
+ * 
  * Design: Stateless utility system - all operations on passed entities.
  * GUI-Friendly: All methods return simple types for easy UI binding.
  */
@@ -53,6 +59,39 @@ public class CooldownSystem {
         return enemy.getSkillCooldown(skill) == 0;
     }
 
+    /**
+     * Check if an enemy skill is ready by its index in enemy.getSkills().
+     * Fast path for AI: a single bit test on the ready mask.
+     * 
+     * @param enemy The enemy
+     * @param skillIndex Index into enemy.getSkills()
+     * @return true if skill exists and is ready
+     */
+    public boolean isSkillReady(Enemy enemy, int skillIndex) {
+        if (enemy == null) return false;
+        
+        Skill[] skills = enemy.getSkills();
+        if (skillIndex < 0 || skillIndex >= skills.length) return false;
+        
+        CooldownTable table = enemy.getCooldowns();
+        if (table.getSlotCount() != skills.length) {
+            return isSkillReady(enemy, skills[skillIndex]); // Slots don't line up with indices
+        }
+        return table.isReady(skillIndex);
+    }
+
+    /**
+     * Get the enemy's ready mask: bit N set = skill N is ready.
+     * Covers the first 64 skills; isSkillReady() works for any index.
+     * 
+     * @param enemy The enemy
+     * @return Bitmask of ready skills (0 if none)
+     */
+    public long getReadyMask(Enemy enemy) {
+        if (enemy == null) return 0L;
+        return enemy.getCooldowns().getReadyMask();
+    }
+
     /**
      * Check if any player skills are on cooldown.
      * 
@@ -80,12 +119,8 @@ public class CooldownSystem {
     public boolean hasActiveEnemyCooldowns(Enemy enemy) {
         if (enemy == null || !enemy.hasSkills()) return false;
         
-        for (Skill skill : enemy.getSkills()) {
-            if (skill != null && enemy.getSkillCooldown(skill) > 0) {
-                return true;
-            }
-        }
-        return false;
+        CooldownTable table = enemy.getCooldowns();
+        return table.getReadyCount() < table.getSlotCount();
     }
 
     // ===== COOLDOWN QUERIES =====
@@ -489,13 +524,8 @@ public class CooldownSystem {
     public int countReadySkills(Enemy enemy) {
         if (enemy == null || !enemy.hasSkills()) return 0;
         
-        int count = 0;
-        for (Skill skill : enemy.getSkills()) {
-            if (skill != null && isSkillReady(enemy, skill)) {
-                count++;
-            }
-        }
-        return count;
+        // Every non-null enemy skill is registered, so count the ready bits
+        return enemy.getCooldowns().getReadyCount();
     }
 
     // ===== VALIDATION =====
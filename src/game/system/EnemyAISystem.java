@@ -12,6 +12,13 @@ import game.core.Skill;
  * - Killer Bunny: Aggressive burst - always uses highest damage available skill
  * - Minotaur: Strategic execute - uses ultimate on first turn and for kills
  * - Mindflayer: Adaptive intelligence - adjusts strategy based on player HP
+ * - Hard mode (SearchAISystem): looks ahead with expectiminimax, any enemy type
+ * - Perfect play (PolicyTableSystem): reads the solved optimal move from a table
+ * 
+ * Strategies are bound to enemy types in EnemyArchetypeRegistry, so dispatch
+ * is an array lookup on the enemy's type ID rather than a name comparison.
+ * Each EnemyAISystem reads its own registry (the shipped DEFAULTS unless one
+ * with overrides is passed in).
  * 
  * Responsibilities:
  * - Choose which skill enemy should use
@@ -19,7 +26,13 @@ import game.core.Skill;
  * - Provide AI intent prediction (what enemy will do)
  * - Query AI information
  * 
- * Design: Stateless decision system - makes decisions based on current state.
+ * Design: Decisions depend only on current state. The last evaluation is kept
+ * in a TurnContext and reused by every query until either side's stats or
+ * cooldowns change (version counters) or a turn passes (bound turn order's
+ * turn count, else both sides' cooldown turn counters), since search and
+ * perfect play also read the player's cooldowns and the AV phase.
+ * Because of that cache an instance is mutable and NOT thread-safe: give each
+ * thread (simulation worker, UI session) its own EnemyAISystem.
  * GUI-Friendly: Returns simple indices and provides intent descriptions.
  */
 public class EnemyAISystem {
@@ -27,15 +40,27 @@ public class EnemyAISystem {
     private final EntitySystem entitySystem;
     private final SkillSystem skillSystem;
     private final CooldownSystem cooldownSystem;
+    private final EnemyArchetypeRegistry archetypes;
+    private final TurnContext context = new TurnContext();
+    private ActionValueSystem actionValueSystem; // Optional: live turn order for the cache key
 
     public EnemyAISystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem) {
-        if (entitySystem == null || skillSystem == null || cooldownSystem == null) {
+        this(entitySystem, skillSystem, cooldownSystem, EnemyArchetypeRegistry.DEFAULTS);
+    }
+
+    /**
+     * @param archetypes Registry that binds enemy types to strategies
+     */
+    public EnemyAISystem(EntitySystem entitySystem, SkillSystem skillSystem, CooldownSystem cooldownSystem,
+                         EnemyArchetypeRegistry archetypes) {
+        if (entitySystem == null || skillSystem == null || cooldownSystem == null || archetypes == null) {
             throw new IllegalArgumentException("All systems must be non-null");
         }
         
         this.entitySystem = entitySystem;
         this.skillSystem = skillSystem;
         this.cooldownSystem = cooldownSystem;
+        this.archetypes = archetypes;
     }
 
     // ===== AI DECISION CLASS =====
@@ -43,36 +68,234 @@ public class EnemyAISystem {
     /**
      * AIDecision holds the result of AI decision-making.
      * Contains skill choice and reasoning.
+     * Reasoning is a Reason code plus numbers; the text is formatted on first getReasoning().
      */
     public static class AIDecision {
+
+        /**
+         * Why a skill was chosen, with the text template for it.
+         * Slots: {0} first detail value, {1} second detail value
+         */
+        public enum Reason {
+            INVALID_STATE("Invalid state"),
+            NO_SKILLS("No skills available"),
+            ALL_ON_COOLDOWN("All skills on cooldown"),
+            HIGHEST_AVAILABLE("Highest available skill"),
+
+            // Killer Bunny
+            MAXIMUM_BURST("Maximum burst damage"),
+            HIGH_DAMAGE("High damage attack"),
+            BASIC_ATTACK("Basic attack"),
+
+            // Minotaur
+            EXECUTE("Execute! ({0} damage >= {1} HP)"),
+            OPENING_STRIKE("Opening intimidation strike"),
+            STEADY_PRESSURE("Steady pressure"),
+            WAITING_FOR_ULTIMATE("Waiting for ultimate"),
+
+            // Mindflayer
+            LETHAL("Lethal: {0} damage for kill!"),
+            GOING_FOR_KILL("Maximum damage - going for kill"),
+            HIGH_DAMAGE_PRESSURE("High damage pressure"),
+            WAITING_FOR_COOLDOWNS("Waiting for cooldowns"),
+            KILL_COMBO_SETUP("Setting up kill combo"),
+            STEADY_BUILDUP("Steady damage buildup"),
+            EFFICIENT_COOLDOWN("Efficient cooldown usage"),
+            RESOURCE_MANAGEMENT("Efficient resource management"),
+            POKE("Efficient poke damage"),
+            AVOID_WASTED_COOLDOWN("Avoiding wasted cooldown uptime"),
+            CONSERVATIVE("Conservative approach"),
+
+            // Hard mode / perfect play
+            SEARCHED("Searched {0} turns ahead (score {1:%+.2f})"),
+            OPTIMAL_PLAY("Optimal play");
+
+            private final MessageTemplate template;
+
+            Reason(String pattern) {
+                this.template = MessageTemplate.compile(pattern);
+            }
+        }
+
         private final int skillIndex;
         private final String skillName;
-        private final String reasoning;
+        private final Reason reason;
+        private final double detail0;
+        private final double detail1;
         private final boolean isBasicAttack;
+        private String reasoning; // Built on demand
+
+        public AIDecision(int skillIndex, String skillName, Reason reason, boolean isBasicAttack) {
+            this(skillIndex, skillName, reason, 0, 0, isBasicAttack);
+        }
 
-        public AIDecision(int skillIndex, String skillName, String reasoning, boolean isBasicAttack) {
+        /**
+         * @param detail0 First value shown in the reasoning (e.g. damage)
+         * @param detail1 Second value shown in the reasoning (e.g. player HP)
+         */
+        public AIDecision(int skillIndex, String skillName, Reason reason,
+                          double detail0, double detail1, boolean isBasicAttack) {
+            if (reason == null) {
+                throw new IllegalArgumentException("Reason cannot be null");
+            }
             this.skillIndex = skillIndex;
             this.skillName = skillName;
-            this.reasoning = reasoning;
+            this.reason = reason;
+            this.detail0 = detail0;
+            this.detail1 = detail1;
             this.isBasicAttack = isBasicAttack;
         }
 
         public int getSkillIndex() { return skillIndex; }
         public String getSkillName() { return skillName; }
-        public String getReasoning() { return reasoning; }
+        public Reason getReason() { return reason; }
         public boolean isBasicAttack() { return isBasicAttack; }
 
+        public String getReasoning() {
+            if (reasoning == null) {
+                reasoning = reason.template.format(detail0, detail1);
+            }
+            return reasoning;
+        }
+
         @Override
         public String toString() {
-            return skillName + " - " + reasoning;
+            return skillName + " - " + getReasoning();
+        }
+    }
+
+    // ===== TURN CONTEXT =====
+
+    /**
+     * Everything the AI queries need for one enemy turn, computed once.
+     * Valid while the same enemy/player pair keeps the same state versions
+     * and the same turn.
+     */
+    private static class TurnContext {
+        private Enemy enemy;
+        private Player player;
+        private int enemyStatVersion;
+        private int playerStatVersion;
+        private int cooldownVersion;
+        private int playerCooldownVersion;
+        private long turn;
+
+        private int[] skillDamage = new int[0];
+        private long readyMask;
+        private int playerHP;
+        private double playerHPRatio;
+        private AIDecision decision;
+        private int executeSkillIndex; // First ready skill that kills, -1 if none
+
+        boolean matches(Enemy enemy, Player player, long turn) {
+            return this.enemy == enemy && this.player == player
+                && this.turn == turn
+                && enemyStatVersion == enemy.getStats().getVersion()
+                && playerStatVersion == player.getStats().getVersion()
+                && cooldownVersion == enemy.getCooldowns().getVersion()
+                && playerCooldownVersion == player.getCooldowns().getVersion();
+        }
+    }
+
+    /**
+     * Current turn for the cache key: the bound turn order's turn count, or
+     * the sum of both sides' cooldown turn counters (each side ticks once per turn).
+     */
+    private long currentTurn(Enemy enemy, Player player) {
+        ActionValueSystem turnOrder = actionValueSystem;
+        if (turnOrder != null && turnOrder.isBattleActive()) {
+            return turnOrder.getScheduler().getTurnCount();
+        }
+        return (long) enemy.getCooldowns().getTurn() + player.getCooldowns().getTurn();
+    }
+
+    /**
+     * Get the evaluation for the current turn, computing it if state changed.
+     * Requires non-null enemy and player with at least one skill.
+     */
+    private TurnContext evaluate(Enemy enemy, Player player) {
+        long turn = currentTurn(enemy, player);
+        if (context.matches(enemy, player, turn)) {
+            return context;
+        }
+
+        Skill[] skills = enemy.getSkills();
+        if (context.skillDamage.length < skills.length) {
+            context.skillDamage = new int[skills.length];
+        }
+
+        context.playerHP = entitySystem.getCurrentHP(player);
+        context.playerHPRatio = (double) context.playerHP / entitySystem.getMaxHP(player);
+        context.readyMask = cooldownSystem.getReadyMask(enemy);
+        context.executeSkillIndex = -1;
+
+        for (int i = 0; i < skills.length; i++) {
+            int damage = skills[i] != null ? skillSystem.calculateDamage(enemy, skills[i]) : 0;
+            context.skillDamage[i] = damage;
+            if (context.executeSkillIndex < 0 && damage >= context.playerHP
+                    && cooldownSystem.isSkillReady(enemy, skills[i])) {
+                context.executeSkillIndex = i;
+            }
         }
+
+        context.decision = archetypes.get(enemy).getStrategy().decide(this, enemy, player, skills);
+
+        context.enemy = enemy;
+        context.player = player;
+        context.enemyStatVersion = enemy.getStats().getVersion();
+        context.playerStatVersion = player.getStats().getVersion();
+        context.cooldownVersion = enemy.getCooldowns().getVersion();
+        context.playerCooldownVersion = player.getCooldowns().getVersion();
+        context.turn = turn;
+        return context;
+    }
+
+    /**
+     * Drop the cached turn evaluation (e.g. after registering a new archetype).
+     */
+    public void invalidateContext() {
+        context.enemy = null;
+        context.player = null;
+    }
+
+    /**
+     * Bind the live turn order so a new turn always re-evaluates
+     * (null = use the cooldown turn counters).
+     */
+    public void setActionValueSystem(ActionValueSystem actionValueSystem) {
+        this.actionValueSystem = actionValueSystem;
+        invalidateContext();
     }
 
+    // ===== AI STRATEGY =====
+
+    /**
+     * AIStrategy picks a skill for an enemy.
+     * Register new strategies through EnemyArchetypeRegistry.
+     */
+    @FunctionalInterface
+    public interface AIStrategy {
+        /**
+         * @param ai The AI system (for damage, HP and cooldown queries)
+         * @param enemy The enemy choosing (has at least one skill)
+         * @param player The player target
+         * @param skills The enemy's skills
+         * @return AIDecision with skill choice and reasoning
+         */
+        AIDecision decide(EnemyAISystem ai, Enemy enemy, Player player, Skill[] skills);
+    }
+
+    // Built-in strategies
+    public static final AIStrategy AGGRESSIVE_STRATEGY = (ai, enemy, player, skills) -> ai.killerBunnyAI(enemy, player, skills);
+    public static final AIStrategy STRATEGIC_STRATEGY = (ai, enemy, player, skills) -> ai.minotaurAI(enemy, player, skills);
+    public static final AIStrategy ADAPTIVE_STRATEGY = (ai, enemy, player, skills) -> ai.mindflayerAI(enemy, player, skills);
+    public static final AIStrategy DEFAULT_STRATEGY = (ai, enemy, player, skills) -> ai.defaultAI(enemy, skills);
+
     // ===== MAIN AI DECISION =====
 
     /**
      * Choose which skill the enemy should use.
-     * Routes to specific AI based on enemy type.
+     * Routes to the strategy registered for the enemy's archetype.
      * 
      * @param enemy The enemy choosing
      * @param player The player target
@@ -80,27 +303,15 @@ public class EnemyAISystem {
      */
     public AIDecision chooseSkill(Enemy enemy, Player player) {
         if (enemy == null || player == null) {
-            return new AIDecision(-1, "Basic Attack", "Invalid state", true);
+            return new AIDecision(-1, "Basic Attack", AIDecision.Reason.INVALID_STATE, true);
         }
 
         if (!enemy.hasSkills()) {
-            return new AIDecision(-1, "Basic Attack", "No skills available", true);
-        }
-
-        String enemyName = enemy.getName();
-        Skill[] skills = enemy.getSkills();
-
-        // Route to specific AI
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return killerBunnyAI(enemy, player, skills);
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return minotaurAI(enemy, player, skills);
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return mindflayerAI(enemy, player, skills);
+            return new AIDecision(-1, "Basic Attack", AIDecision.Reason.NO_SKILLS, true);
         }
 
-        // Default AI
-        return defaultAI(enemy, skills);
+        // Route to the archetype's AI (default AI for unknown enemies), cached per turn
+        return evaluate(enemy, player).decision;
     }
 
     /**
@@ -131,26 +342,22 @@ public class EnemyAISystem {
      */
     private AIDecision killerBunnyAI(Enemy enemy, Player player, Skill[] skills) {
         // Try ultimate first (highest damage)
-        if (skills.length > 2 && cooldownSystem.isSkillReady(enemy, skills[2])) {
-            return new AIDecision(2, skills[2].getName(), 
-                "Maximum burst damage", false);
+        if (skills.length > 2 && cooldownSystem.isSkillReady(enemy, 2)) {
+            return new AIDecision(2, skills[2].getName(), AIDecision.Reason.MAXIMUM_BURST, false);
         }
 
         // Try 2nd skill
-        if (skills.length > 1 && cooldownSystem.isSkillReady(enemy, skills[1])) {
-            return new AIDecision(1, skills[1].getName(), 
-                "High damage attack", false);
+        if (skills.length > 1 && cooldownSystem.isSkillReady(enemy, 1)) {
+            return new AIDecision(1, skills[1].getName(), AIDecision.Reason.HIGH_DAMAGE, false);
         }
 
         // Fall back to basic attack
-        if (skills.length > 0 && cooldownSystem.isSkillReady(enemy, skills[0])) {
-            return new AIDecision(0, skills[0].getName(), 
-                "Basic attack", false);
+        if (skills.length > 0 && cooldownSystem.isSkillReady(enemy, 0)) {
+            return new AIDecision(0, skills[0].getName(), AIDecision.Reason.BASIC_ATTACK, false);
         }
 
         // All skills on cooldown
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+        return new AIDecision(-1, "Basic Attack", AIDecision.Reason.ALL_ON_COOLDOWN, true);
     }
 
     // ===== MINOTAUR AI =====
@@ -175,41 +382,37 @@ public class EnemyAISystem {
         Skill secondSkill = skills[1];
         Skill basic = skills[0];
 
-        boolean ultimateReady = cooldownSystem.isSkillReady(enemy, ultimate);
+        boolean ultimateReady = cooldownSystem.isSkillReady(enemy, 2);
 
         if (ultimateReady) {
-            // Calculate if ultimate can kill
-            int ultimateDamage = skillSystem.calculateDamage(enemy, ultimate);
-            int playerHP = entitySystem.getCurrentHP(player);
+            // Calculate if ultimate can kill (precomputed in the turn context)
+            int ultimateDamage = context.skillDamage[2];
+            int playerHP = context.playerHP;
 
             // Use ultimate if it can kill
             if (ultimateDamage >= playerHP) {
                 return new AIDecision(2, ultimate.getName(), 
-                    "Execute! (" + ultimateDamage + " damage >= " + playerHP + " HP)", false);
+                    AIDecision.Reason.EXECUTE, ultimateDamage, playerHP, false);
             }
 
             // First turn logic: use ultimate if player at full HP
             if (playerHP == entitySystem.getMaxHP(player)) {
-                return new AIDecision(2, ultimate.getName(), 
-                    "Opening intimidation strike", false);
+                return new AIDecision(2, ultimate.getName(), AIDecision.Reason.OPENING_STRIKE, false);
             }
         }
 
         // Conservative rotation: 2nd skill if available
-        if (cooldownSystem.isSkillReady(enemy, secondSkill)) {
-            return new AIDecision(1, secondSkill.getName(), 
-                "Steady pressure", false);
+        if (cooldownSystem.isSkillReady(enemy, 1)) {
+            return new AIDecision(1, secondSkill.getName(), AIDecision.Reason.STEADY_PRESSURE, false);
         }
 
         // Basic attack
-        if (cooldownSystem.isSkillReady(enemy, basic)) {
-            return new AIDecision(0, basic.getName(), 
-                "Waiting for ultimate", false);
+        if (cooldownSystem.isSkillReady(enemy, 0)) {
+            return new AIDecision(0, basic.getName(), AIDecision.Reason.WAITING_FOR_ULTIMATE, false);
         }
 
         // Fallback
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+        return new AIDecision(-1, "Basic Attack", AIDecision.Reason.ALL_ON_COOLDOWN, true);
     }
 
     // ===== MINDFLAYER AI =====
@@ -246,17 +449,15 @@ public class EnemyAISystem {
         Skill secondSkill = skills[1];
         Skill basic = skills[0];
 
-        // Calculate HP percentage
-        int playerHP = entitySystem.getCurrentHP(player);
-        int playerMaxHP = entitySystem.getMaxHP(player);
-        double hpPercent = (double) playerHP / playerMaxHP;
+        // HP percentage and potential damages (precomputed in the turn context)
+        int playerHP = context.playerHP;
+        double hpPercent = context.playerHPRatio;
 
-        // Calculate potential damages
-        int ultimateDamage = skillSystem.calculateDamage(enemy, ultimate);
-        int secondDamage = skillSystem.calculateDamage(enemy, secondSkill);
+        int ultimateDamage = context.skillDamage[2];
+        int secondDamage = context.skillDamage[1];
 
-        boolean ultimateReady = cooldownSystem.isSkillReady(enemy, ultimate);
-        boolean secondReady = cooldownSystem.isSkillReady(enemy, secondSkill);
+        boolean ultimateReady = cooldownSystem.isSkillReady(enemy, 2);
+        boolean secondReady = cooldownSystem.isSkillReady(enemy, 1);
 
         // === LOW HP PHASE: Aggressive Finisher (<40%) ===
         if (hpPercent < 0.4) {
@@ -264,23 +465,20 @@ public class EnemyAISystem {
             if (ultimateReady) {
                 if (ultimateDamage >= playerHP) {
                     return new AIDecision(2, ultimate.getName(), 
-                        "Lethal: " + ultimateDamage + " damage for kill!", false);
+                        AIDecision.Reason.LETHAL, ultimateDamage, 0, false);
                 } else {
-                    return new AIDecision(2, ultimate.getName(), 
-                        "Maximum damage - going for kill", false);
+                    return new AIDecision(2, ultimate.getName(), AIDecision.Reason.GOING_FOR_KILL, false);
                 }
             }
 
             // Use 2nd skill for high damage
             if (secondReady) {
-                return new AIDecision(1, secondSkill.getName(), 
-                    "High damage pressure", false);
+                return new AIDecision(1, secondSkill.getName(), AIDecision.Reason.HIGH_DAMAGE_PRESSURE, false);
             }
 
             // Spam basic
-            if (cooldownSystem.isSkillReady(enemy, basic)) {
-                return new AIDecision(0, basic.getName(), 
-                    "Waiting for cooldowns", false);
+            if (cooldownSystem.isSkillReady(enemy, 0)) {
+                return new AIDecision(0, basic.getName(), AIDecision.Reason.WAITING_FOR_COOLDOWNS, false);
             }
         }
 
@@ -290,52 +488,44 @@ public class EnemyAISystem {
             if (ultimateReady) {
                 int remainingHP = playerHP - ultimateDamage;
                 if (remainingHP > 0 && remainingHP < secondDamage * 2) {
-                    return new AIDecision(2, ultimate.getName(), 
-                        "Setting up kill combo", false);
+                    return new AIDecision(2, ultimate.getName(), AIDecision.Reason.KILL_COMBO_SETUP, false);
                 }
             }
 
             // Prefer 2nd skill for steady pressure
             if (secondReady) {
-                return new AIDecision(1, secondSkill.getName(), 
-                    "Steady damage buildup", false);
+                return new AIDecision(1, secondSkill.getName(), AIDecision.Reason.STEADY_BUILDUP, false);
             }
 
             // Use ultimate if 2nd skill on cooldown
             if (ultimateReady) {
-                return new AIDecision(2, ultimate.getName(), 
-                    "Efficient cooldown usage", false);
+                return new AIDecision(2, ultimate.getName(), AIDecision.Reason.EFFICIENT_COOLDOWN, false);
             }
 
             // Basic filler
-            if (cooldownSystem.isSkillReady(enemy, basic)) {
-                return new AIDecision(0, basic.getName(), 
-                    "Efficient resource management", false);
+            if (cooldownSystem.isSkillReady(enemy, 0)) {
+                return new AIDecision(0, basic.getName(), AIDecision.Reason.RESOURCE_MANAGEMENT, false);
             }
         }
 
         // === HIGH HP PHASE: Conservative Poke (>70%) ===
         // Use 2nd skill for poke damage
         if (secondReady) {
-            return new AIDecision(1, secondSkill.getName(), 
-                "Efficient poke damage", false);
+            return new AIDecision(1, secondSkill.getName(), AIDecision.Reason.POKE, false);
         }
 
         // Use ultimate if 2nd unavailable (don't waste it sitting ready)
         if (ultimateReady && !secondReady) {
-            return new AIDecision(2, ultimate.getName(), 
-                "Avoiding wasted cooldown uptime", false);
+            return new AIDecision(2, ultimate.getName(), AIDecision.Reason.AVOID_WASTED_COOLDOWN, false);
         }
 
         // Default to basic
-        if (cooldownSystem.isSkillReady(enemy, basic)) {
-            return new AIDecision(0, basic.getName(), 
-                "Conservative approach", false);
+        if (cooldownSystem.isSkillReady(enemy, 0)) {
+            return new AIDecision(0, basic.getName(), AIDecision.Reason.CONSERVATIVE, false);
         }
 
         // Fallback
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+        return new AIDecision(-1, "Basic Attack", AIDecision.Reason.ALL_ON_COOLDOWN, true);
     }
 
     // ===== DEFAULT AI =====
@@ -347,14 +537,12 @@ public class EnemyAISystem {
     private AIDecision defaultAI(Enemy enemy, Skill[] skills) {
         // Try skills from highest to lowest index
         for (int i = skills.length - 1; i >= 0; i--) {
-            if (cooldownSystem.isSkillReady(enemy, skills[i])) {
-                return new AIDecision(i, skills[i].getName(), 
-                    "Highest available skill", false);
+            if (cooldownSystem.isSkillReady(enemy, i)) {
+                return new AIDecision(i, skills[i].getName(), AIDecision.Reason.HIGHEST_AVAILABLE, false);
             }
         }
 
-        return new AIDecision(-1, "Basic Attack", 
-            "All skills on cooldown", true);
+        return new AIDecision(-1, "Basic Attack", AIDecision.Reason.ALL_ON_COOLDOWN, true);
     }
 
     // ===== AI INTENT (PREDICTION) =====
@@ -394,42 +582,46 @@ public class EnemyAISystem {
      */
     public String getAIDescription(String enemyName) {
         if (enemyName == null) return "Standard AI";
+        return archetypes.get(enemyName).getAIDescription();
+    }
 
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return "Aggressive: Prioritizes burst damage";
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return "Strategic: Uses ultimate for executes";
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return "Adaptive: Adjusts strategy based on your HP";
-        }
-
-        return "Standard: Uses available skills";
+    /**
+     * Get AI strategy description for an enemy.
+     * 
+     * @param enemy The enemy
+     * @return AI strategy description
+     */
+    public String getAIDescription(Enemy enemy) {
+        if (enemy == null) return "Standard AI";
+        return archetypes.get(enemy).getAIDescription();
     }
 
     /**
      * Get AI type/category.
      * 
      * @param enemyName Enemy name
-     * @return AI type (AGGRESSIVE, STRATEGIC, ADAPTIVE, DEFAULT)
+     * @return AI type (AGGRESSIVE, STRATEGIC, ADAPTIVE, SEARCH, PERFECT, DEFAULT)
      */
     public AIType getAIType(String enemyName) {
-        if (enemyName == null) return AIType.DEFAULT;
-
-        if (enemyName.equalsIgnoreCase("Killer Bunny")) {
-            return AIType.AGGRESSIVE;
-        } else if (enemyName.equalsIgnoreCase("Minotaur")) {
-            return AIType.STRATEGIC;
-        } else if (enemyName.equalsIgnoreCase("Mindflayer")) {
-            return AIType.ADAPTIVE;
-        }
+        return archetypes.get(enemyName).getAIType();
+    }
 
-        return AIType.DEFAULT;
+    /**
+     * Get AI type/category for an enemy.
+     * 
+     * @param enemy The enemy
+     * @return AI type (AGGRESSIVE, STRATEGIC, ADAPTIVE, SEARCH, PERFECT, DEFAULT)
+     */
+    public AIType getAIType(Enemy enemy) {
+        return archetypes.get(enemy).getAIType();
     }
 
     public enum AIType {
         AGGRESSIVE,
         STRATEGIC,
         ADAPTIVE,
+        SEARCH,
+        PERFECT,
         DEFAULT
     }
 
@@ -445,18 +637,7 @@ public class EnemyAISystem {
             return false;
         }
 
-        int playerHP = entitySystem.getCurrentHP(player);
-
-        for (Skill skill : enemy.getSkills()) {
-            if (cooldownSystem.isSkillReady(enemy, skill)) {
-                int damage = skillSystem.calculateDamage(enemy, skill);
-                if (damage >= playerHP) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return evaluate(enemy, player).executeSkillIndex >= 0;
     }
 
     /**
@@ -472,18 +653,8 @@ public class EnemyAISystem {
             return null;
         }
 
-        int playerHP = entitySystem.getCurrentHP(player);
-
-        for (Skill skill : enemy.getSkills()) {
-            if (cooldownSystem.isSkillReady(enemy, skill)) {
-                int damage = skillSystem.calculateDamage(enemy, skill);
-                if (damage >= playerHP) {
-                    return skill;
-                }
-            }
-        }
-
-        return null;
+        int index = evaluate(enemy, player).executeSkillIndex;
+        return index >= 0 ? enemy.getSkills()[index] : null;
     }
 
     // ===== GUI HELPER METHODS =====
@@ -506,11 +677,11 @@ public class EnemyAISystem {
 
         int skillIndex = decision.getSkillIndex();
         if (skillIndex >= 0 && skillIndex < enemy.getSkills().length) {
-            Skill skill = enemy.getSkills()[skillIndex];
-            int damage = skillSystem.calculateDamage(enemy, skill);
+            TurnContext turn = evaluate(enemy, player);
+            int damage = turn.skillDamage[skillIndex];
             
             // Add warning if it can kill
-            if (damage >= entitySystem.getCurrentHP(player)) {
+            if (damage >= turn.playerHP) {
                 return "⚠ " + decision.getSkillName() + " (" + damage + " DMG - LETHAL!)";
             }
             
@@ -533,13 +704,17 @@ public class EnemyAISystem {
      */
     public int getThreatLevel(Enemy enemy, Player player) {
         if (enemy == null || player == null) return 0;
+        if (!enemy.hasSkills()) return 0;
+
+        // One evaluation serves both the execute check and the decision
+        TurnContext turn = evaluate(enemy, player);
 
         // Critical: Can execute
-        if (canExecute(enemy, player)) {
+        if (turn.executeSkillIndex >= 0) {
             return 3;
         }
 
-        AIDecision decision = chooseSkill(enemy, player);
+        AIDecision decision = turn.decision;
 
         // Basic attack only
         if (decision.isBasicAttack()) {
@@ -566,4 +741,6 @@ public class EnemyAISystem {
     public EntitySystem getEntitySystem() { return entitySystem; }
     public SkillSystem getSkillSystem() { return skillSystem; }
     public CooldownSystem getCooldownSystem() { return cooldownSystem; }
+    public EnemyArchetypeRegistry getArchetypes() { return archetypes; }
+    public ActionValueSystem getActionValueSystem() { return actionValueSystem; }
 }
\ No newline at end of file
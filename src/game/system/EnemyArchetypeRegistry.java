@@ -0,0 +1,217 @@
+package game.system;
+
+import game.core.Enemy;
+import game.data.EnemiesData;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * EnemyArchetypeRegistry binds each enemy type to its behavior, once.
+ * Replaces name-string dispatch in the AI and training systems.
+ *
+ * An archetype holds:
+ * - AI strategy (how the enemy picks skills)
+ * - AI type (AGGRESSIVE, STRATEGIC, ADAPTIVE, SEARCH, PERFECT, DEFAULT)
+ * - Training specialization (null = use highest stat)
+ * - AI description for the UI
+ *
+ * HOW LOOKUP WORKS:
+ * - Archetypes are indexed by the enemy's template type ID (array read)
+ * - Ad-hoc enemies (no type ID) are matched by name once, then the result
+ *   is cached on the Enemy - no string compares on later turns (the cache
+ *   holds a type ID, so it stays valid in every registry)
+ * - Unknown enemies get the DEFAULT archetype
+ *
+ * New enemy types register with register() - no if/else chains to edit.
+ *
+ * INSTANCES:
+ * - DEFAULTS holds the shipped archetypes and is frozen (register() throws)
+ * - new EnemyArchetypeRegistry() starts as a copy of DEFAULTS; a session or
+ *   simulation owns it, registers its overrides (hard mode, perfect play)
+ *   and passes it to its EnemyAISystem
+ * - Overrides therefore never reach other sessions or running simulations
+ *
+ * Design: Copy-on-write table; lookups are lock-free and safe for parallel simulations.
+ */
+public final class EnemyArchetypeRegistry {
+
+    private static final Archetype DEFAULT_ARCHETYPE = new Archetype(Enemy.NO_TYPE, "Default",
+        EnemyAISystem.AIType.DEFAULT, EnemyAISystem.DEFAULT_STRATEGY, null,
+        "Standard: Uses available skills");
+
+    /**
+     * The shipped archetypes (immutable).
+     */
+    public static final EnemyArchetypeRegistry DEFAULTS = createDefaults();
+
+    private volatile Archetype[] archetypesByTypeId = new Archetype[0];
+    private final ConcurrentHashMap<String, Archetype> archetypesByName = new ConcurrentHashMap<>();
+    private boolean frozen;
+
+    /**
+     * Create a registry holding the shipped archetypes, open for overrides.
+     */
+    public EnemyArchetypeRegistry() {
+        this(DEFAULTS);
+    }
+
+    /**
+     * Create a registry holding a copy of another registry's archetypes.
+     */
+    public EnemyArchetypeRegistry(EnemyArchetypeRegistry base) {
+        if (base != null) {
+            this.archetypesByTypeId = base.archetypesByTypeId.clone();
+            this.archetypesByName.putAll(base.archetypesByName);
+        }
+    }
+
+    private static EnemyArchetypeRegistry createDefaults() {
+        EnemyArchetypeRegistry registry = new EnemyArchetypeRegistry(null);
+        registry.registerTemplate(EnemiesData.KILLER_BUNNY, EnemyAISystem.AIType.AGGRESSIVE, EnemyAISystem.AGGRESSIVE_STRATEGY);
+        registry.registerTemplate(EnemiesData.MINOTAUR, EnemyAISystem.AIType.STRATEGIC, EnemyAISystem.STRATEGIC_STRATEGY);
+        registry.registerTemplate(EnemiesData.MINDFLAYER, EnemyAISystem.AIType.ADAPTIVE, EnemyAISystem.ADAPTIVE_STRATEGY);
+        registry.frozen = true;
+        return registry;
+    }
+
+    // ===== ARCHETYPE CLASS =====
+
+    /**
+     * Archetype holds everything that depends on an enemy's type.
+     */
+    public static final class Archetype {
+        private final int typeId;
+        private final String name;
+        private final EnemyAISystem.AIType aiType;
+        private final EnemyAISystem.AIStrategy strategy;
+        private final EnemyTrainingSystem.Specialization specialization;
+        private final String aiDescription;
+
+        public Archetype(int typeId, String name, EnemyAISystem.AIType aiType, EnemyAISystem.AIStrategy strategy,
+                         EnemyTrainingSystem.Specialization specialization, String aiDescription) {
+            if (name == null || aiType == null || strategy == null) {
+                throw new IllegalArgumentException("Name, AI type and strategy must be non-null");
+            }
+
+            this.typeId = typeId;
+            this.name = name;
+            this.aiType = aiType;
+            this.strategy = strategy;
+            this.specialization = specialization;
+            this.aiDescription = aiDescription != null ? aiDescription : "Standard AI";
+        }
+
+        public int getTypeId() { return typeId; }
+        public String getName() { return name; }
+        public EnemyAISystem.AIType getAIType() { return aiType; }
+        public EnemyAISystem.AIStrategy getStrategy() { return strategy; }
+        public EnemyTrainingSystem.Specialization getSpecialization() { return specialization; }
+        public String getAIDescription() { return aiDescription; }
+
+        @Override
+        public String toString() {
+            return name + " [" + aiType + "]";
+        }
+    }
+
+    // ===== REGISTRATION =====
+
+    /**
+     * Register an archetype for an enemy type.
+     * Replaces any previous archetype with the same type ID or name.
+     *
+     * @param archetype The archetype (typeId must be >= 0)
+     * @throws IllegalStateException if this is the frozen DEFAULTS registry
+     */
+    public synchronized void register(Archetype archetype) {
+        if (archetype == null || archetype.getTypeId() < 0) {
+            throw new IllegalArgumentException("Archetype must have a valid type ID");
+        }
+        if (frozen) {
+            throw new IllegalStateException("The default archetypes are immutable; register on a copy");
+        }
+
+        Archetype[] table = archetypesByTypeId;
+        if (archetype.getTypeId() >= table.length) {
+            table = Arrays.copyOf(table, archetype.getTypeId() + 1);
+        } else {
+            table = table.clone();
+        }
+        table[archetype.getTypeId()] = archetype;
+        archetypesByTypeId = table;
+
+        archetypesByName.put(key(archetype.getName()), archetype);
+    }
+
+    /**
+     * Register a template from EnemiesData with the given AI.
+     * Name, specialization and description come from the template.
+     */
+    private void registerTemplate(int typeId, EnemyAISystem.AIType aiType, EnemyAISystem.AIStrategy strategy) {
+        EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(typeId);
+        register(new Archetype(typeId, template.getName(), aiType, strategy,
+            EnemyTrainingSystem.Specialization.valueOf(template.getSpecialization()),
+            template.getAIDescription()));
+    }
+
+    // ===== LOOKUP =====
+
+    /**
+     * Get the archetype of an enemy.
+     * First call for an ad-hoc enemy matches by name and caches the result.
+     *
+     * @param enemy The enemy
+     * @return Archetype (DEFAULT archetype if none matches)
+     */
+    public Archetype get(Enemy enemy) {
+        if (enemy == null) return DEFAULT_ARCHETYPE;
+
+        int id = enemy.getArchetypeId();
+        if (id == Enemy.UNRESOLVED) {
+            Archetype byName = archetypesByName.get(key(enemy.getName()));
+            id = byName != null ? byName.getTypeId() : Enemy.NO_TYPE;
+            enemy.setArchetypeId(id);
+        }
+
+        return get(id);
+    }
+
+    /**
+     * Get an archetype by type ID.
+     *
+     * @return Archetype (DEFAULT archetype if not registered)
+     */
+    public Archetype get(int typeId) {
+        Archetype[] table = archetypesByTypeId;
+        if (typeId >= 0 && typeId < table.length && table[typeId] != null) {
+            return table[typeId];
+        }
+        return DEFAULT_ARCHETYPE;
+    }
+
+    /**
+     * Get an archetype by enemy name (case-insensitive).
+     *
+     * @return Archetype (DEFAULT archetype if not registered)
+     */
+    public Archetype get(String enemyName) {
+        if (enemyName == null) return DEFAULT_ARCHETYPE;
+        Archetype archetype = archetypesByName.get(key(enemyName));
+        return archetype != null ? archetype : DEFAULT_ARCHETYPE;
+    }
+
+    public static Archetype getDefault() {
+        return DEFAULT_ARCHETYPE;
+    }
+
+    /**
+     * Check whether this registry rejects register() (true only for DEFAULTS).
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase();
+    }
+}
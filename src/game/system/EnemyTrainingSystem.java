@@ -3,6 +3,7 @@ package game.system;
 import game.core.Enemy;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * EnemyTrainingSystem manages enemy stat progression with specialized training patterns.
@@ -20,6 +21,9 @@ public class EnemyTrainingSystem {
 
     private final EntitySystem entitySystem;
 
+    // Random source for specialization rolls
+    private final SplittableRandom random;
+
     // Training constants
     private static final int MIN_TRAINING_AMOUNT = 1;
     private static final int MAX_TRAINING_AMOUNT = 100;
@@ -29,53 +33,101 @@ public class EnemyTrainingSystem {
     private static final double SECONDARY_WEIGHT = 0.2;    // 20% for each other stat
 
     public EnemyTrainingSystem(EntitySystem entitySystem) {
+        this(entitySystem, new SplittableRandom());
+    }
+
+    /**
+     * Creates a training system with an injected random source.
+     * Use a seeded source for reproducible training rolls.
+     * 
+     * @param random Random source for specialization rolls
+     */
+    public EnemyTrainingSystem(EntitySystem entitySystem, SplittableRandom random) {
         if (entitySystem == null) {
             throw new IllegalArgumentException("EntitySystem cannot be null");
         }
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
         this.entitySystem = entitySystem;
+        this.random = random;
     }
 
     // ===== TRAINING RESULT CLASSES =====
 
     /**
      * Single enemy training result.
+     * Carries a Code plus raw values; the message is formatted on first getMessage().
      */
     public static class EnemyTrainingResult {
-        private final boolean success;
+
+        /**
+         * What happened, with the message template for it.
+         * Slots: {0} enemy, {1} stat, {2} amount, {3} old value, {4} new value, {5} specialization
+         */
+        public enum Code {
+            TRAINED("{0} trained {1} +{2} ({3} → {4})"),
+            TRAINED_SPECIALIZED("{0} trained {1} +{2} ({3} → {4}) [{5} specialist]"),
+            INVALID_ENEMY("Invalid enemy"),
+            AMOUNT_OUT_OF_RANGE("Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT),
+            INVALID_AMOUNT("Invalid training amount"),
+            INVALID_STAT("Invalid stat: {1}");
+
+            private final MessageTemplate template;
+
+            Code(String pattern) {
+                this.template = MessageTemplate.compile(pattern);
+            }
+
+            public boolean isSuccess() {
+                return this == TRAINED || this == TRAINED_SPECIALIZED;
+            }
+        }
+
+        private final Code code;
         private final String enemyName;
         private final String statTrained;
         private final int amountTrained;
         private final int oldValue;
         private final int newValue;
         private final String specialization;
-        private final String message;
+        private String message; // Built on demand
 
-        public EnemyTrainingResult(boolean success, String enemyName, String statTrained,
+        public EnemyTrainingResult(Code code, String enemyName, String statTrained,
                                   int amountTrained, int oldValue, int newValue,
-                                  String specialization, String message) {
-            this.success = success;
+                                  String specialization) {
+            if (code == null) {
+                throw new IllegalArgumentException("Code cannot be null");
+            }
+            this.code = code;
             this.enemyName = enemyName;
             this.statTrained = statTrained;
             this.amountTrained = amountTrained;
             this.oldValue = oldValue;
             this.newValue = newValue;
             this.specialization = specialization;
-            this.message = message;
         }
 
         // Getters
-        public boolean isSuccess() { return success; }
+        public Code getCode() { return code; }
+        public boolean isSuccess() { return code.isSuccess(); }
         public String getEnemyName() { return enemyName; }
         public String getStatTrained() { return statTrained; }
         public int getAmountTrained() { return amountTrained; }
         public int getOldValue() { return oldValue; }
         public int getNewValue() { return newValue; }
         public String getSpecialization() { return specialization; }
-        public String getMessage() { return message; }
+
+        public String getMessage() {
+            if (message == null) {
+                message = code.template.format(enemyName, statTrained, amountTrained, oldValue, newValue, specialization);
+            }
+            return message;
+        }
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
@@ -145,8 +197,7 @@ public class EnemyTrainingSystem {
     // ===== ENEMY SPECIALIZATION DETECTION =====
 
     /**
-     * Detect enemy's specialization based on their name.
-     * This maps enemy names to their specialized stat.
+     * Detect enemy's specialization from its archetype.
      * 
      * Default specializations:
      * - "Killer Bunny" → AGILITY
@@ -159,15 +210,9 @@ public class EnemyTrainingSystem {
     public Specialization detectSpecialization(Enemy enemy) {
         if (enemy == null) return Specialization.STRENGTH;
 
-        String name = enemy.getName();
-
-        // Map enemy names to specializations
-        if (name.equalsIgnoreCase("Killer Bunny")) {
-            return Specialization.AGILITY;
-        } else if (name.equalsIgnoreCase("Minotaur")) {
-            return Specialization.STRENGTH;
-        } else if (name.equalsIgnoreCase("Mindflayer")) {
-            return Specialization.INTELLIGENCE;
+        Specialization specialization = EnemyArchetypeRegistry.DEFAULTS.get(enemy).getSpecialization();
+        if (specialization != null) {
+            return specialization;
         }
 
         // Default: check highest stat
@@ -176,7 +221,7 @@ public class EnemyTrainingSystem {
 
     /**
      * Detect specialization by checking which stat is highest.
-     * Fallback method when name matching fails.
+     * Fallback when the archetype has no specialization.
      * 
      * @param enemy The enemy
      * @return Specialization based on highest stat
@@ -210,20 +255,19 @@ public class EnemyTrainingSystem {
      */
     public EnemyTrainingResult trainSpecialized(Enemy enemy, int amount) {
         if (enemy == null) {
-            return new EnemyTrainingResult(false, "Unknown", "", 0, 0, 0, "NONE",
-                "Invalid enemy");
+            return new EnemyTrainingResult(EnemyTrainingResult.Code.INVALID_ENEMY, "Unknown", "", 0, 0, 0, "NONE");
         }
 
         if (amount < MIN_TRAINING_AMOUNT || amount > MAX_TRAINING_AMOUNT) {
-            return new EnemyTrainingResult(false, enemy.getName(), "", 0, 0, 0, "NONE",
-                "Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT);
+            return new EnemyTrainingResult(EnemyTrainingResult.Code.AMOUNT_OUT_OF_RANGE, enemy.getName(), "", 0, 0, 0,
+                "NONE");
         }
 
         // Detect specialization
         Specialization spec = detectSpecialization(enemy);
 
         // Roll for which stat to train
-        double roll = Math.random();
+        double roll = random.nextDouble();
         String statToTrain;
 
         switch (spec) {
@@ -283,11 +327,8 @@ public class EnemyTrainingSystem {
         // Get new value
         int newValue = getStat(enemy, statToTrain);
 
-        String message = enemy.getName() + " trained " + statToTrain + " +" + amount +
-                        " (" + oldValue + " → " + newValue + ") [" + spec + " specialist]";
-
-        return new EnemyTrainingResult(true, enemy.getName(), statToTrain, amount,
-                                      oldValue, newValue, spec.toString(), message);
+        return new EnemyTrainingResult(EnemyTrainingResult.Code.TRAINED_SPECIALIZED, enemy.getName(), statToTrain,
+                                      amount, oldValue, newValue, spec.toString());
     }
 
     /**
@@ -300,19 +341,16 @@ public class EnemyTrainingSystem {
      */
     public EnemyTrainingResult trainStat(Enemy enemy, String stat, int amount) {
         if (enemy == null) {
-            return new EnemyTrainingResult(false, "Unknown", "", 0, 0, 0, "NONE",
-                "Invalid enemy");
+            return new EnemyTrainingResult(EnemyTrainingResult.Code.INVALID_ENEMY, "Unknown", "", 0, 0, 0, "NONE");
         }
 
         String normalizedStat = normalizeStat(stat);
         if (normalizedStat == null) {
-            return new EnemyTrainingResult(false, enemy.getName(), stat, 0, 0, 0, "NONE",
-                "Invalid stat: " + stat);
+            return new EnemyTrainingResult(EnemyTrainingResult.Code.INVALID_STAT, enemy.getName(), stat, 0, 0, 0, "NONE");
         }
 
         if (amount < MIN_TRAINING_AMOUNT || amount > MAX_TRAINING_AMOUNT) {
-            return new EnemyTrainingResult(false, enemy.getName(), stat, 0, 0, 0, "NONE",
-                "Invalid training amount");
+            return new EnemyTrainingResult(EnemyTrainingResult.Code.INVALID_AMOUNT, enemy.getName(), stat, 0, 0, 0, "NONE");
         }
 
         Specialization spec = detectSpecialization(enemy);
@@ -332,11 +370,8 @@ public class EnemyTrainingSystem {
 
         int newValue = getStat(enemy, normalizedStat);
 
-        String message = enemy.getName() + " trained " + normalizedStat + " +" + amount +
-                        " (" + oldValue + " → " + newValue + ")";
-
-        return new EnemyTrainingResult(true, enemy.getName(), normalizedStat, amount,
-                                      oldValue, newValue, spec.toString(), message);
+        return new EnemyTrainingResult(EnemyTrainingResult.Code.TRAINED, enemy.getName(), normalizedStat,
+                                      amount, oldValue, newValue, spec.toString());
     }
 
     // ===== GROUP TRAINING =====
@@ -1,5 +1,6 @@
 package game.system;
 
+import game.core.BalanceProfile;
 import game.core.Player;
 import game.core.Enemy;
 import game.core.Stat;
@@ -43,6 +44,17 @@ public class EntitySystem {
      * @throws IllegalArgumentException if name is invalid or profession is null
      */
     public Player createPlayer(String name, Profession profession) {
+        return createPlayer(name, profession, BalanceProfile.DEFAULT);
+    }
+
+    /**
+     * Creates a new player with profession-based stat bonuses whose derived
+     * stats follow the given balance profile (balance tuning).
+     *
+     * @param balance Balance profile for the player's Stat
+     * @return Newly created player
+     */
+    public Player createPlayer(String name, Profession profession, BalanceProfile balance) {
         // Base stats
         int str = 20, agi = 20, intel = 20;
         
@@ -61,7 +73,7 @@ public class EntitySystem {
             }
         }
         
-        return createPlayer(name, profession, str, agi, intel);
+        return createPlayer(name, profession, str, agi, intel, balance);
     }
 
     /**
@@ -77,7 +89,19 @@ public class EntitySystem {
      */
     public Player createPlayer(String name, Profession profession, 
                                int strength, int agility, int intelligence) {
-        Stat stats = new Stat(strength, agility, intelligence);
+        return createPlayer(name, profession, strength, agility, intelligence, BalanceProfile.DEFAULT);
+    }
+
+    /**
+     * Creates a new player with custom stats under the given balance profile.
+     * Copies of an existing build pass build.getStats().getBalance().
+     *
+     * @param balance Balance profile for the player's Stat
+     * @return Newly created player
+     */
+    public Player createPlayer(String name, Profession profession,
+                               int strength, int agility, int intelligence, BalanceProfile balance) {
+        Stat stats = new Stat(strength, agility, intelligence, balance);
         return new Player(name, profession, stats);
     }
 
@@ -117,6 +141,8 @@ public class EntitySystem {
     /**
      * Creates a copy of an existing enemy with fresh state.
      * Useful for creating multiple instances of the same enemy type.
+     * Only mutable state (stats) is copied - the skill array, type ID and
+     * balance profile are shared.
      * 
      * @param template Enemy to copy
      * @return New enemy with same stats and skills but fresh state
@@ -130,10 +156,11 @@ public class EntitySystem {
         Stat newStats = new Stat(
             originalStats.getStrength(),
             originalStats.getAgility(),
-            originalStats.getIntelligence()
+            originalStats.getIntelligence(),
+            originalStats.getBalance()
         );
 
-        return new Enemy(template.getName(), newStats, template.getSkills());
+        return new Enemy(template.getName(), newStats, template.getSkills(), template.getTypeId());
     }
 
     // ===== HEALTH MANAGEMENT =====
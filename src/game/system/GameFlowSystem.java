@@ -191,13 +191,13 @@ public class GameFlowSystem {
      */
     public PlayerTrainingSystem.TrainingResult trainPlayer(String stat, int amount) {
         if (!gameInitialized || gameOver) {
-            return new PlayerTrainingSystem.TrainingResult(false, "Unknown", "", 0, 0, 0,
-                "Game not initialized");
+            return new PlayerTrainingSystem.TrainingResult(
+                PlayerTrainingSystem.TrainingResult.Code.GAME_NOT_INITIALIZED, "Unknown", "", 0, 0, 0);
         }
 
         if (currentPhase != GamePhase.TRAINING) {
-            return new PlayerTrainingSystem.TrainingResult(false, player.getName(), "", 0, 0, 0,
-                "Not in training phase");
+            return new PlayerTrainingSystem.TrainingResult(
+                PlayerTrainingSystem.TrainingResult.Code.NOT_IN_TRAINING, player.getName(), "", 0, 0, 0);
         }
 
         return playerTrainingSystem.trainStat(player, stat, amount);
@@ -282,18 +282,18 @@ public class GameFlowSystem {
      */
     public CombatSystem.CombatResult playerAttack(int skillIndex) {
         if (!gameInitialized || gameOver) {
-            return new CombatSystem.CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown",
-                "Game not initialized");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.GAME_NOT_INITIALIZED, 0,
+                "Unknown", "Unknown", "Unknown");
         }
 
         if (currentPhase != GamePhase.BATTLE) {
-            return new CombatSystem.CombatResult(false, false, 0, player.getName(), "Unknown", "Unknown",
-                "Not in battle phase");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.NOT_IN_BATTLE, 0,
+                player.getName(), "Unknown", "Unknown");
         }
 
         if (currentEnemyIndex >= enemies.length) {
-            return new CombatSystem.CombatResult(false, false, 0, player.getName(), "Unknown", "Unknown",
-                "No enemy available");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.NO_ENEMY, 0,
+                player.getName(), "Unknown", "Unknown");
         }
 
         Enemy currentEnemy = enemies[currentEnemyIndex];
@@ -308,19 +308,19 @@ public class GameFlowSystem {
      */
     public CombatSystem.CombatResult playerAttack(Skill skill) {
         if (!gameInitialized || gameOver) {
-            return new CombatSystem.CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown",
-                "Game not initialized");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.GAME_NOT_INITIALIZED, 0,
+                "Unknown", "Unknown", "Unknown");
         }
 
         if (currentPhase != GamePhase.BATTLE) {
-            return new CombatSystem.CombatResult(false, false, 0, player.getName(), "Unknown", "Unknown",
-                "Not in battle phase");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.NOT_IN_BATTLE, 0,
+                player.getName(), "Unknown", "Unknown");
         }
 
         Enemy currentEnemy = getCurrentEnemy();
         if (currentEnemy == null) {
-            return new CombatSystem.CombatResult(false, false, 0, player.getName(), "Unknown", "Unknown",
-                "No enemy available");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.NO_ENEMY, 0,
+                player.getName(), "Unknown", "Unknown");
         }
 
         return combatSystem.playerAttack(player, currentEnemy, skill);
@@ -333,19 +333,19 @@ public class GameFlowSystem {
      */
     public CombatSystem.CombatResult enemyAttack() {
         if (!gameInitialized || gameOver) {
-            return new CombatSystem.CombatResult(false, false, 0, "Unknown", "Unknown", "Unknown",
-                "Game not initialized");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.GAME_NOT_INITIALIZED, 0,
+                "Unknown", "Unknown", "Unknown");
         }
 
         if (currentPhase != GamePhase.BATTLE) {
-            return new CombatSystem.CombatResult(false, false, 0, "Unknown", player.getName(), "Unknown",
-                "Not in battle phase");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.NOT_IN_BATTLE, 0,
+                "Unknown", player.getName(), "Unknown");
         }
 
         Enemy currentEnemy = getCurrentEnemy();
         if (currentEnemy == null) {
-            return new CombatSystem.CombatResult(false, false, 0, "Unknown", player.getName(), "Unknown",
-                "No enemy available");
+            return new CombatSystem.CombatResult(CombatSystem.CombatResult.Code.NO_ENEMY, 0,
+                "Unknown", player.getName(), "Unknown");
         }
 
         // Use AI to choose skill
@@ -514,7 +514,7 @@ public class GameFlowSystem {
         Enemy currentEnemy = getCurrentEnemy();
         if (currentEnemy == null) return "Unknown";
 
-        return enemyAISystem.getAIDescription(currentEnemy.getName());
+        return enemyAISystem.getAIDescription(currentEnemy);
     }
 
     // ===== GAME STATE QUERIES =====
@@ -0,0 +1,109 @@
+package game.system;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MessageTemplate is a message pattern parsed once and filled on demand.
+ * Result objects keep a code (with its template) plus raw values, and only
+ * build text when getMessage() / toString() asks for it - AI previews and
+ * headless simulations never pay for strings they throw away.
+ *
+ * PATTERN:
+ * - "{0}", "{1}", ... insert argument i (whole numbers print without ".0")
+ * - "{1:%+.2f}" inserts argument 1 through String.format
+ * - Everything else is literal text
+ *
+ * Design: Immutable, parsed once per code (enum constant), safe to share.
+ */
+final class MessageTemplate {
+
+    private final String[] literals;   // literals[i] precedes slot i, last one trails
+    private final int[] argIndex;      // argument index of each slot
+    private final String[] formats;    // String.format spec per slot, or null
+
+    private MessageTemplate(String[] literals, int[] argIndex, String[] formats) {
+        this.literals = literals;
+        this.argIndex = argIndex;
+        this.formats = formats;
+    }
+
+    /**
+     * Parse a pattern.
+     *
+     * @param pattern Message pattern with {i} / {i:spec} slots
+     * @return Compiled template
+     */
+    static MessageTemplate compile(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Pattern cannot be null");
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<String> formats = new ArrayList<>();
+
+        int start = 0;
+        int open = pattern.indexOf('{');
+        while (open >= 0) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed slot in pattern: " + pattern);
+            }
+
+            String slot = pattern.substring(open + 1, close);
+            int colon = slot.indexOf(':');
+            try {
+                indexes.add(Integer.parseInt(colon < 0 ? slot : slot.substring(0, colon)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad slot {" + slot + "} in pattern: " + pattern);
+            }
+            formats.add(colon < 0 ? null : slot.substring(colon + 1));
+            literals.add(pattern.substring(start, open));
+
+            start = close + 1;
+            open = pattern.indexOf('{', start);
+        }
+        literals.add(pattern.substring(start));
+
+        int[] argIndex = new int[indexes.size()];
+        for (int i = 0; i < argIndex.length; i++) {
+            argIndex[i] = indexes.get(i);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), argIndex, formats.toArray(new String[0]));
+    }
+
+    /**
+     * Fill the template.
+     *
+     * @param args Slot values (missing ones print as empty)
+     * @return Formatted message
+     */
+    String format(Object... args) {
+        if (argIndex.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder sb = new StringBuilder(64);
+        for (int i = 0; i < argIndex.length; i++) {
+            sb.append(literals[i]);
+            Object arg = argIndex[i] < args.length ? args[argIndex[i]] : null;
+            if (arg == null) {
+                continue;
+            }
+            if (formats[i] != null) {
+                sb.append(String.format(formats[i], arg));
+            } else if (arg instanceof Double && isWhole((Double) arg)) {
+                sb.append(((Double) arg).longValue());
+            } else {
+                sb.append(arg);
+            }
+        }
+        sb.append(literals[argIndex.length]);
+        return sb.toString();
+    }
+
+    private static boolean isWhole(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15;
+    }
+}
@@ -0,0 +1,56 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import java.util.SplittableRandom;
+
+/**
+ * PlayerPolicy makes the player's decisions without a human at the buttons:
+ * which skill to use on a battle turn and which stat to train each cycle.
+ * The player-side counterpart of EnemyAISystem.
+ *
+ * CONTRACT:
+ * - Arguments are read-only: a policy must not change HP, stats or cooldowns
+ * - Called once per turn inside simulations, so keep it allocation-free and
+ *   stateless (one instance is shared by every simulation thread)
+ * - An unusable skill index is not an error: callers fall back through
+ *   PlayerPolicySystem.chooseUsableSkillIndex
+ *
+ * Built-ins live in PlayerPolicySystem (HIGHEST_READY, GREEDY_DAMAGE, ROTATION,
+ * LOOKAHEAD); any lambda over chooseSkillIndex is a policy that trains its
+ * profession's main stat.
+ */
+@FunctionalInterface
+public interface PlayerPolicy {
+
+    /**
+     * @param player The acting player
+     * @param enemy The current enemy
+     * @param skills Player's skills
+     * @param cooldownSystem Cooldown queries for the player's skills
+     * @return Index into skills
+     */
+    int chooseSkillIndex(Player player, Enemy enemy, Skill[] skills, CooldownSystem cooldownSystem);
+
+    /**
+     * Choose the stat to train this cycle.
+     *
+     * @param player The training player
+     * @param nextEnemy The enemy fought after this training phase (may be null)
+     * @param random Caller's random (use it for any randomness to stay reproducible)
+     * @return "STR", "AGI" or "INT"
+     */
+    default String chooseTrainingStat(Player player, Enemy nextEnemy, SplittableRandom random) {
+        return PlayerPolicySystem.TrainingStyle.MAIN_STAT.chooseStat(player, random);
+    }
+
+    /**
+     * Whether decisions read remaining cooldown turns, not just which skills are
+     * ready. Table-driven runners (BatchBattleKernel) only support policies that
+     * return false.
+     */
+    default boolean readsCooldownTimers() {
+        return false;
+    }
+}
@@ -0,0 +1,293 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Profession;
+import game.core.Skill;
+import game.core.Stat;
+import java.util.SplittableRandom;
+
+/**
+ * PlayerPolicySystem provides the built-in player policies and the shared
+ * rule for turning a policy's pick into a usable skill.
+ *
+ * BATTLE POLICIES:
+ * - HIGHEST_READY: highest-index ready skill (skills are listed weakest first)
+ * - GREEDY_DAMAGE: ready skill with the most damage right now, capped at the
+ *   enemy's HP (so among skills that all kill, the shortest cooldown)
+ * - ROTATION: cooldown-aware, in order:
+ *   1. a ready skill kills on a hit -> the one with the shortest cooldown
+ *      (a miss leaves the bigger skills ready)
+ *   2. the longest-cooldown skill is ready next turn -> the shortest-cooldown
+ *      ready skill, keeping the middle skills for the turns after the big hit
+ *   3. otherwise the ready skill with the longest cooldown first
+ * - LOOKAHEAD: two own turns deep, expected damage capped at the enemy's HP,
+ *   over hit/miss branches and the cooldowns each choice leaves behind
+ *   (next-turn damage weighted 0.9; undiscounted it delays big hits and loses
+ *   races it should win)
+ *
+ * TRAINING STYLES (TrainingStyle, attach with withTraining):
+ * - MAIN_STAT: the profession's main stat (Warrior STR, Mage INT, Rogue AGI)
+ * - RANDOM_STAT: uniform pick
+ * - LOWEST_STAT: whichever stat is lowest
+ *
+ * Design: Stateless - every built-in is a shared constant, safe across threads,
+ * and allocates nothing per decision.
+ * GUI-Friendly: chooseUsableSkillIndex drives the UI's auto-battle the same way
+ * it drives the simulators.
+ */
+public final class PlayerPolicySystem {
+
+    private static final String[] TRAINABLE_STATS = {"STR", "AGI", "INT"};
+    private static final double NEXT_TURN_WEIGHT = 0.9; // Damage now beats damage later in a race
+
+    // Pure formula helpers (no RNG or state is touched)
+    private static final SkillSystem SKILLS = new SkillSystem();
+    private static final CombatSystem COMBAT =
+        new CombatSystem(new EntitySystem(), SKILLS, new CooldownSystem());
+
+    private PlayerPolicySystem() {
+    }
+
+    // ===== BATTLE POLICIES =====
+
+    /**
+     * Uses the highest-index skill that is ready (usually the highest damage).
+     */
+    public static final PlayerPolicy HIGHEST_READY = (player, enemy, skills, cooldownSystem) -> {
+        for (int i = skills.length - 1; i >= 0; i--) {
+            if (cooldownSystem.isSkillReady(player, skills[i])) {
+                return i;
+            }
+        }
+        return 0;
+    };
+
+    /**
+     * Uses the ready skill that deals the most damage this turn, counting no
+     * damage past the enemy's HP (ties: shorter cooldown).
+     */
+    public static final PlayerPolicy GREEDY_DAMAGE = (player, enemy, skills, cooldownSystem) -> {
+        int enemyHp = enemy.getStats().getHp();
+        int best = -1;
+        int bestDamage = 0;
+        for (int i = 0; i < skills.length; i++) {
+            if (!cooldownSystem.isSkillReady(player, skills[i])) continue;
+            int damage = Math.min(SKILLS.calculateDamage(player, skills[i]), enemyHp);
+            if (best < 0 || compare(damage, bestDamage,
+                    SKILLS.calculateFinalCooldown(player, skills[best]), SKILLS.calculateFinalCooldown(player, skills[i])) > 0) {
+                best = i;
+                bestDamage = damage;
+            }
+        }
+        return Math.max(best, 0);
+    };
+
+    /**
+     * Cooldown-aware rotation (see class comment). Reads cooldown timers.
+     */
+    public static final PlayerPolicy ROTATION = new PlayerPolicy() {
+        @Override
+        public int chooseSkillIndex(Player player, Enemy enemy, Skill[] skills, CooldownSystem cooldownSystem) {
+            int enemyHp = enemy.getStats().getHp();
+            int longest = -1;     // Ready skill with the longest cooldown (ties: more damage)
+            int shortest = -1;    // Ready skill with the shortest cooldown (ties: more damage)
+            int finisher = -1;    // Ready skill that kills on a hit, shortest cooldown
+            boolean bigSkillNext = false;
+            int bigCooldown = -1;
+
+            for (int i = 0; i < skills.length; i++) {
+                int cooldown = SKILLS.calculateFinalCooldown(player, skills[i]);
+                int damage = SKILLS.calculateDamage(player, skills[i]);
+                int remaining = cooldownSystem.getRemainingCooldown(player, skills[i]);
+
+                if (cooldown > bigCooldown) {
+                    bigCooldown = cooldown;
+                    bigSkillNext = remaining == 1;
+                }
+                if (remaining > 0) continue;
+
+                if (longest < 0 || compare(cooldown, SKILLS.calculateFinalCooldown(player, skills[longest]),
+                        damage, SKILLS.calculateDamage(player, skills[longest])) > 0) {
+                    longest = i;
+                }
+                if (shortest < 0 || compare(SKILLS.calculateFinalCooldown(player, skills[shortest]), cooldown,
+                        damage, SKILLS.calculateDamage(player, skills[shortest])) > 0) {
+                    shortest = i;
+                }
+                if (damage >= enemyHp && (finisher < 0
+                        || cooldown < SKILLS.calculateFinalCooldown(player, skills[finisher]))) {
+                    finisher = i;
+                }
+            }
+
+            if (finisher >= 0) return finisher;
+            if (bigSkillNext && shortest >= 0) return shortest;
+            return Math.max(longest, 0);
+        }
+
+        @Override
+        public boolean readsCooldownTimers() {
+            return true;
+        }
+    };
+
+    /**
+     * Looks two own turns ahead (see class comment). Ties: more damage now.
+     */
+    public static final PlayerPolicy LOOKAHEAD = new PlayerPolicy() {
+        @Override
+        public int chooseSkillIndex(Player player, Enemy enemy, Skill[] skills, CooldownSystem cooldownSystem) {
+            double hit = COMBAT.calculateHitChance(player, enemy) / 100.0;
+            int enemyHp = enemy.getStats().getHp();
+
+            int best = -1;
+            double bestScore = 0.0;
+            for (int i = 0; i < skills.length; i++) {
+                if (!cooldownSystem.isSkillReady(player, skills[i])) continue;
+
+                int damage = SKILLS.calculateDamage(player, skills[i]);
+                double score = hit * (Math.min(damage, enemyHp)
+                        + nextTurnDamage(player, skills, cooldownSystem, i, enemyHp - damage, hit))
+                    + (1.0 - hit) * nextTurnDamage(player, skills, cooldownSystem, i, enemyHp, hit);
+
+                if (best < 0 || score > bestScore
+                        || (score == bestScore && damage > SKILLS.calculateDamage(player, skills[best]))) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            return Math.max(best, 0);
+        }
+
+        @Override
+        public boolean readsCooldownTimers() {
+            return true;
+        }
+    };
+
+    /**
+     * Best expected (HP-capped) damage on the next own turn after using skill
+     * {@code used} now. Exactly one player cooldown tick happens in between.
+     */
+    private static double nextTurnDamage(Player player, Skill[] skills, CooldownSystem cooldownSystem,
+                                         int used, int enemyHp, double hit) {
+        if (enemyHp <= 0) return 0.0;
+
+        int best = 0;
+        for (int k = 0; k < skills.length; k++) {
+            int remaining = k == used
+                ? SKILLS.calculateFinalCooldown(player, skills[k])
+                : cooldownSystem.getRemainingCooldown(player, skills[k]);
+            if (remaining <= 1) {
+                best = Math.max(best, Math.min(SKILLS.calculateDamage(player, skills[k]), enemyHp));
+            }
+        }
+        return NEXT_TURN_WEIGHT * hit * best;
+    }
+
+    // ===== TRAINING =====
+
+    /**
+     * TrainingStyle picks the stat trained each cycle.
+     */
+    public enum TrainingStyle {
+        MAIN_STAT,
+        RANDOM_STAT,
+        LOWEST_STAT;
+
+        /**
+         * @param player The training player
+         * @param random Random for RANDOM_STAT (unused by the others)
+         * @return "STR", "AGI" or "INT"
+         */
+        public String chooseStat(Player player, SplittableRandom random) {
+            switch (this) {
+                case RANDOM_STAT:
+                    return TRAINABLE_STATS[random.nextInt(TRAINABLE_STATS.length)];
+                case LOWEST_STAT: {
+                    Stat s = player.getStats();
+                    if (s.getStrength() <= s.getAgility() && s.getStrength() <= s.getIntelligence()) return "STR";
+                    if (s.getAgility() <= s.getIntelligence()) return "AGI";
+                    return "INT";
+                }
+                default:
+                    return mainStat(player.getProfession());
+            }
+        }
+    }
+
+    /**
+     * Combine a battle policy with a training style.
+     *
+     * @param battle Policy for battle turns
+     * @param style Training style
+     * @return Policy that battles like {@code battle} and trains by {@code style}
+     */
+    public static PlayerPolicy withTraining(PlayerPolicy battle, TrainingStyle style) {
+        if (battle == null || style == null) {
+            throw new IllegalArgumentException("Policy and training style cannot be null");
+        }
+
+        return new PlayerPolicy() {
+            @Override
+            public int chooseSkillIndex(Player player, Enemy enemy, Skill[] skills, CooldownSystem cooldownSystem) {
+                return battle.chooseSkillIndex(player, enemy, skills, cooldownSystem);
+            }
+
+            @Override
+            public String chooseTrainingStat(Player player, Enemy nextEnemy, SplittableRandom random) {
+                return style.chooseStat(player, random);
+            }
+
+            @Override
+            public boolean readsCooldownTimers() {
+                return battle.readsCooldownTimers();
+            }
+        };
+    }
+
+    /**
+     * Main stat of a profession.
+     *
+     * @return "STR" (Warrior), "INT" (Mage) or "AGI" (Rogue)
+     */
+    public static String mainStat(Profession profession) {
+        if (profession == null) return "STR";
+        switch (profession) {
+            case MAGE: return "INT";
+            case ROGUE: return "AGI";
+            default: return "STR";
+        }
+    }
+
+    // ===== DECISION HELPERS =====
+
+    /**
+     * Ask a policy for a skill and make the answer usable.
+     * Unusable pick -> first ready skill -> skill 0 (which fails on cooldown,
+     * exactly like a player clicking a greyed-out button).
+     *
+     * @return Valid index into skills
+     */
+    public static int chooseUsableSkillIndex(PlayerPolicy policy, Player player, Enemy enemy,
+                                             Skill[] skills, CooldownSystem cooldownSystem) {
+        int index = policy.chooseSkillIndex(player, enemy, skills, cooldownSystem);
+        if (SKILLS.isValidSkillIndex(skills, index) && cooldownSystem.isSkillReady(player, skills[index])) {
+            return index;
+        }
+
+        // Policy picked an unusable skill - fall back to first ready one
+        for (int i = 0; i < skills.length; i++) {
+            if (cooldownSystem.isSkillReady(player, skills[i])) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    // Lexicographic compare: (a1, a2) vs (b1, b2)
+    private static int compare(int a1, int b1, int a2, int b2) {
+        return a1 != b1 ? Integer.compare(a1, b1) : Integer.compare(a2, b2);
+    }
+}
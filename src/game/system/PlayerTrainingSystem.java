@@ -35,39 +35,70 @@ public class PlayerTrainingSystem {
     /**
      * TrainingResult holds the outcome of a training action.
      * Perfect for GUI display - contains all relevant information.
+     * Carries a Code plus raw values; the message is formatted on first getMessage().
      */
     public static class TrainingResult {
-        private final boolean success;
+
+        /**
+         * What happened, with the message template for it.
+         * Slots: {0} player, {1} stat, {2} amount, {3} old value, {4} new value
+         */
+        public enum Code {
+            TRAINED("{0} trained {1} +{2} ({3} → {4})"),
+            INVALID_PLAYER("Invalid player"),
+            INVALID_STAT("Invalid stat specified"),
+            INVALID_AMOUNT("Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT),
+            UNKNOWN_STAT("Unknown stat: {1}. Use STR, AGI, or INT"),
+            GAME_NOT_INITIALIZED("Game not initialized"),
+            NOT_IN_TRAINING("Not in training phase");
+
+            private final MessageTemplate template;
+
+            Code(String pattern) {
+                this.template = MessageTemplate.compile(pattern);
+            }
+        }
+
+        private final Code code;
         private final String playerName;
         private final String statTrained;
         private final int amountTrained;
         private final int oldValue;
         private final int newValue;
-        private final String message;
-
-        public TrainingResult(boolean success, String playerName, String statTrained,
-                            int amountTrained, int oldValue, int newValue, String message) {
-            this.success = success;
+        private String message; // Built on demand
+
+        public TrainingResult(Code code, String playerName, String statTrained,
+                            int amountTrained, int oldValue, int newValue) {
+            if (code == null) {
+                throw new IllegalArgumentException("Code cannot be null");
+            }
+            this.code = code;
             this.playerName = playerName;
             this.statTrained = statTrained;
             this.amountTrained = amountTrained;
             this.oldValue = oldValue;
             this.newValue = newValue;
-            this.message = message;
         }
 
         // Getters
-        public boolean isSuccess() { return success; }
+        public Code getCode() { return code; }
+        public boolean isSuccess() { return code == Code.TRAINED; }
         public String getPlayerName() { return playerName; }
         public String getStatTrained() { return statTrained; }
         public int getAmountTrained() { return amountTrained; }
         public int getOldValue() { return oldValue; }
         public int getNewValue() { return newValue; }
-        public String getMessage() { return message; }
+
+        public String getMessage() {
+            if (message == null) {
+                message = code.template.format(playerName, statTrained, amountTrained, oldValue, newValue);
+            }
+            return message;
+        }
 
         @Override
         public String toString() {
-            return message;
+            return getMessage();
         }
     }
 
@@ -84,24 +115,21 @@ public class PlayerTrainingSystem {
     public TrainingResult trainStat(Player player, String stat, int amount) {
         // Validation
         if (player == null) {
-            return new TrainingResult(false, "Unknown", "", 0, 0, 0, "Invalid player");
+            return new TrainingResult(TrainingResult.Code.INVALID_PLAYER, "Unknown", "", 0, 0, 0);
         }
 
         if (stat == null || stat.trim().isEmpty()) {
-            return new TrainingResult(false, player.getName(), "", 0, 0, 0,
-                "Invalid stat specified");
+            return new TrainingResult(TrainingResult.Code.INVALID_STAT, player.getName(), "", 0, 0, 0);
         }
 
         if (amount < MIN_TRAINING_AMOUNT || amount > MAX_TRAINING_AMOUNT) {
-            return new TrainingResult(false, player.getName(), stat, 0, 0, 0,
-                "Training amount must be between " + MIN_TRAINING_AMOUNT + " and " + MAX_TRAINING_AMOUNT);
+            return new TrainingResult(TrainingResult.Code.INVALID_AMOUNT, player.getName(), stat, 0, 0, 0);
         }
 
         // Normalize stat name
         String normalizedStat = normalizeStat(stat);
         if (normalizedStat == null) {
-            return new TrainingResult(false, player.getName(), stat, 0, 0, 0,
-                "Unknown stat: " + stat + ". Use STR, AGI, or INT");
+            return new TrainingResult(TrainingResult.Code.UNKNOWN_STAT, player.getName(), stat, 0, 0, 0);
         }
 
         // Get old value
@@ -123,10 +151,8 @@ public class PlayerTrainingSystem {
         // Get new value
         int newValue = getStat(player, normalizedStat);
 
-        String message = player.getName() + " trained " + normalizedStat + " +" + amount +
-                        " (" + oldValue + " → " + newValue + ")";
-
-        return new TrainingResult(true, player.getName(), normalizedStat, amount, oldValue, newValue, message);
+        return new TrainingResult(TrainingResult.Code.TRAINED, player.getName(), normalizedStat,
+            amount, oldValue, newValue);
     }
 
     /**
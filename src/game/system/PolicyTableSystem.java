@@ -0,0 +1,757 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Profession;
+import game.core.Skill;
+import game.core.Stat;
+import game.data.EnemiesData;
+import game.data.SkillsData;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PolicyTableSystem precomputes optimal play for fixed matchups and serves it
+ * from a memory-mapped file. Lookups are one indexed byte read; nothing is
+ * solved at runtime.
+ *
+ * OFFLINE (solve + write):
+ * - For a player build vs an enemy at fixed stats, enumerate every state:
+ *   (player HP level, enemy HP level, player cooldowns, enemy cooldowns, AV phase)
+ * - HP levels are only the reachable HP values (max HP minus sums of the
+ *   opponent's damage values), so the table stays small
+ * - Solve the zero-sum game by value iteration: V = P(player wins),
+ *   player turns maximize, enemy turns minimize, hits/misses are chance nodes
+ * - HP blocks are solved from low HP up (a hit always lands in a solved block);
+ *   inside a block, misses loop, so the block is swept until it converges
+ * - Store one byte per state: the best action of the side to move
+ *
+ * ONLINE (load + lookup):
+ * - load() maps the file read-only and parses only the small matchup headers
+ * - A live battle is captured as a BattleState; its model signature selects
+ *   the matchup and its fields give the index
+ * - bind() does that capture once per battle; the returned LiveTable then
+ *   reads HP and cooldowns from the entities and the phase from the live
+ *   turn order, so each lookup is an index computation and one byte read
+ * - States outside the table (other stats, unreachable HP) return NO_ENTRY
+ *
+ * FILE FORMAT (big-endian):
+ * - Header: magic, format version, matchup count
+ * - Per matchup: signature, profession, enemy type, win probability, turn cycle
+ *   length, cooldown radix per skill, HP levels per side, data offset, state count
+ * - Data: one byte per state (action + 1, 0xFF = none)
+ *
+ * Tables cover the stats they were solved for (default builds by solveAll());
+ * trained builds fall back to the regular AI.
+ *
+ * Design: Loaded tables are read-only and safe to share between threads.
+ * GUI-Friendly: LiveTable.bestPlayerSkill() returns a skill index for a hint, or NO_ENTRY.
+ */
+public class PolicyTableSystem {
+
+    public static final int NO_ENTRY = -2;
+    public static final String DEFAULT_FILE = "policy_tables.bin";
+
+    private static final int MAGIC = 0x50544231;     // "PTB1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_ACTION = 0xFF;
+    private static final double CONVERGENCE = 1e-12;
+    private static final int MAX_SWEEPS = 100_000;
+    private static final double TIE_EPSILON = 1e-12;
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+
+    private volatile Map<Long, Matchup> matchups = new HashMap<>();
+    private volatile MappedByteBuffer data;
+
+    public PolicyTableSystem() {
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+    }
+
+    // ===== MATCHUP LAYOUT CLASS =====
+
+    /**
+     * Matchup describes how states of one matchup map to table indices.
+     * index = ((((playerLevel * E + enemyLevel) * PC + playerCd) * EC + enemyCd) * L + phase)
+     */
+    public static final class Matchup {
+        private final long signature;
+        private final Profession profession;
+        private final int enemyTypeId;
+        private double winProbability;     // From the initial state (set after solving)
+        private final int cycleLength;
+        private final int[] playerRadix;   // finalCooldown + 1 per player skill
+        private final int[] enemyRadix;
+        private final int[] playerLevelHp; // level -> HP, ascending (level 0 = 0 HP)
+        private final int[] enemyLevelHp;
+        private final int[] playerLevelOf; // HP -> level, -1 if unreachable
+        private final int[] enemyLevelOf;
+        private final int playerCdSpace;
+        private final int enemyCdSpace;
+        private final int stateCount;
+        private long dataOffset;
+
+        Matchup(long signature, Profession profession, int enemyTypeId, double winProbability, int cycleLength,
+                int[] playerRadix, int[] enemyRadix, int[] playerLevelHp, int[] enemyLevelHp) {
+            this.signature = signature;
+            this.profession = profession;
+            this.enemyTypeId = enemyTypeId;
+            this.winProbability = winProbability;
+            this.cycleLength = cycleLength;
+            this.playerRadix = playerRadix;
+            this.enemyRadix = enemyRadix;
+            this.playerLevelHp = playerLevelHp;
+            this.enemyLevelHp = enemyLevelHp;
+            this.playerLevelOf = levelMap(playerLevelHp);
+            this.enemyLevelOf = levelMap(enemyLevelHp);
+            this.playerCdSpace = product(playerRadix);
+            this.enemyCdSpace = product(enemyRadix);
+
+            long count = (long) playerLevelHp.length * enemyLevelHp.length * playerCdSpace * enemyCdSpace * cycleLength;
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("State space too large for a policy table: " + count);
+            }
+            this.stateCount = (int) count;
+        }
+
+        private static int[] levelMap(int[] levelHp) {
+            int[] map = new int[levelHp[levelHp.length - 1] + 1];
+            Arrays.fill(map, -1);
+            for (int level = 0; level < levelHp.length; level++) {
+                map[levelHp[level]] = level;
+            }
+            return map;
+        }
+
+        private static int product(int[] radix) {
+            int product = 1;
+            for (int r : radix) product *= r;
+            return product;
+        }
+
+        /**
+         * Table index of a state, or -1 if the state is outside the table.
+         */
+        public int indexOf(BattleState state) {
+            int playerCd = 0;
+            for (int i = 0; i < playerRadix.length; i++) {
+                int cd = state.getPlayerCooldown(i);
+                if (cd >= playerRadix[i]) return -1;
+                playerCd = playerCd * playerRadix[i] + cd;
+            }
+            int enemyCd = 0;
+            for (int i = 0; i < enemyRadix.length; i++) {
+                int cd = state.getEnemyCooldown(i);
+                if (cd >= enemyRadix[i]) return -1;
+                enemyCd = enemyCd * enemyRadix[i] + cd;
+            }
+            return indexOf(state.getPlayerHp(), state.getEnemyHp(), playerCd, enemyCd, state.getPhase());
+        }
+
+        /**
+         * Table index from HP values, mixed-radix cooldown codes and phase, or -1.
+         */
+        int indexOf(int playerHp, int enemyHp, int playerCd, int enemyCd, int phase) {
+            if (playerHp < 0 || playerHp >= playerLevelOf.length || enemyHp < 0 || enemyHp >= enemyLevelOf.length) {
+                return -1;
+            }
+            int playerLevel = playerLevelOf[playerHp];
+            int enemyLevel = enemyLevelOf[enemyHp];
+            if (playerLevel < 0 || enemyLevel < 0) return -1;
+
+            return (((playerLevel * enemyLevelHp.length + enemyLevel) * playerCdSpace + playerCd)
+                * enemyCdSpace + enemyCd) * cycleLength + phase;
+        }
+
+        /**
+         * Load the state at a block offset (cooldowns and phase) and HP levels.
+         */
+        void decode(BattleState state, int playerLevel, int enemyLevel, int offset, int[] playerCd, int[] enemyCd) {
+            int phase = offset % cycleLength;
+            int rest = offset / cycleLength;
+            for (int i = enemyRadix.length - 1; i >= 0; i--) {
+                enemyCd[i] = rest % enemyRadix[i];
+                rest /= enemyRadix[i];
+            }
+            for (int i = playerRadix.length - 1; i >= 0; i--) {
+                playerCd[i] = rest % playerRadix[i];
+                rest /= playerRadix[i];
+            }
+            state.load(playerLevelHp[playerLevel], enemyLevelHp[enemyLevel], playerCd, enemyCd, phase);
+        }
+
+        int blockSize() {
+            return playerCdSpace * enemyCdSpace * cycleLength;
+        }
+
+        public long getSignature() { return signature; }
+        public Profession getProfession() { return profession; }
+        public int getEnemyTypeId() { return enemyTypeId; }
+        public double getWinProbability() { return winProbability; }
+        public int getCycleLength() { return cycleLength; }
+        public int getPlayerLevels() { return playerLevelHp.length; }
+        public int getEnemyLevels() { return enemyLevelHp.length; }
+        public int getStateCount() { return stateCount; }
+
+        @Override
+        public String toString() {
+            return String.format("%s vs %s | States: %d (%d x %d HP levels) | Win: %.4f%%",
+                profession, enemyName(enemyTypeId), stateCount, playerLevelHp.length, enemyLevelHp.length,
+                winProbability * 100);
+        }
+
+        private static String enemyName(int typeId) {
+            EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(typeId);
+            return template != null ? template.getName() : "Enemy #" + typeId;
+        }
+    }
+
+    // ===== SOLVED TABLE CLASS =====
+
+    /**
+     * SolvedTable holds one solved matchup before it is written.
+     */
+    public static class SolvedTable {
+        private final Matchup matchup;
+        private final byte[] actions;
+        private final int sweeps;
+        private final long elapsedNanos;
+
+        public SolvedTable(Matchup matchup, byte[] actions, int sweeps, long elapsedNanos) {
+            this.matchup = matchup;
+            this.actions = actions;
+            this.sweeps = sweeps;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Matchup getMatchup() { return matchup; }
+        public int getSweeps() { return sweeps; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /**
+         * Best action for a state of this matchup, or NO_ENTRY.
+         */
+        public int getAction(BattleState state) {
+            if (state.getModel().getSignature() != matchup.signature) return NO_ENTRY;
+            int index = matchup.indexOf(state);
+            return index >= 0 ? decodeAction(actions[index]) : NO_ENTRY;
+        }
+
+        @Override
+        public String toString() {
+            return matchup + String.format(" | Sweeps: %d | %.2f ms", sweeps, elapsedNanos / 1_000_000.0);
+        }
+    }
+
+    // ===== LIVE TABLE CLASS =====
+
+    /**
+     * LiveTable is one matchup's table bound to a running battle.
+     * The model is built once at bind time; each lookup reads HP and cooldowns
+     * from the entities, takes the phase from the live turn order's turn count,
+     * and does one byte read - no captures, models or turn previews.
+     *
+     * Valid while the bound battle runs with unchanged stats and speeds.
+     */
+    public static final class LiveTable {
+        private final Matchup matchup;
+        private final MappedByteBuffer data;
+        private final Player player;
+        private final Skill[] playerSkills;
+        private final Enemy enemy;
+        private final Skill[] enemySkills;
+        private final ActionValueSystem turnOrder;
+        private final int startPhase;
+        private final long startTurn;
+
+        LiveTable(Matchup matchup, MappedByteBuffer data, Player player, Skill[] playerSkills, Enemy enemy,
+                  ActionValueSystem turnOrder, int startPhase) {
+            this.matchup = matchup;
+            this.data = data;
+            this.player = player;
+            this.playerSkills = playerSkills.clone();
+            this.enemy = enemy;
+            this.enemySkills = enemy.getSkills().clone();
+            this.turnOrder = turnOrder;
+            this.startPhase = startPhase;
+            this.startTurn = turnOrder.getScheduler().getTurnCount();
+        }
+
+        /**
+         * Best action for the side to move on the current turn.
+         *
+         * @return Skill index, BattleState.BASIC_ATTACK, or NO_ENTRY if not covered
+         */
+        public int bestAction() {
+            int playerCd = 0;
+            for (int i = 0; i < playerSkills.length; i++) {
+                int cd = player.getSkillCooldown(playerSkills[i]);
+                if (cd >= matchup.playerRadix[i]) return NO_ENTRY;
+                playerCd = playerCd * matchup.playerRadix[i] + cd;
+            }
+            int enemyCd = 0;
+            for (int i = 0; i < enemySkills.length; i++) {
+                int cd = enemy.getSkillCooldown(enemySkills[i]);
+                if (cd >= matchup.enemyRadix[i]) return NO_ENTRY;
+                enemyCd = enemyCd * matchup.enemyRadix[i] + cd;
+            }
+
+            long turns = turnOrder.getScheduler().getTurnCount() - startTurn;
+            int phase = (int) ((startPhase + turns) % matchup.cycleLength);
+            int index = matchup.indexOf(player.getStats().getHp(), enemy.getStats().getHp(), playerCd, enemyCd, phase);
+            return index >= 0 ? decodeAction(data.get((int) (matchup.dataOffset + index))) : NO_ENTRY;
+        }
+
+        /**
+         * Best skill for the player, or NO_ENTRY if it is not the player's turn
+         * or the state is not covered.
+         */
+        public int bestPlayerSkill() {
+            return turnOrder.isPlayerTurn() ? bestAction() : NO_ENTRY;
+        }
+
+        public Matchup getMatchup() { return matchup; }
+    }
+
+    // ===== SOLVING (OFFLINE) =====
+
+    /**
+     * Solve every profession (default stats) against every enemy template.
+     */
+    public List<SolvedTable> solveAll() {
+        List<SolvedTable> tables = new ArrayList<>();
+        for (Profession profession : Profession.values()) {
+            Player build = entitySystem.createPlayer("Hero", profession);
+            Skill[] skills = SkillsData.getSkillsForProfession(profession);
+            for (EnemiesData.EnemyTemplate template : EnemiesData.getTemplates()) {
+                tables.add(solve(build, skills, template.instantiate()));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Solve one matchup at the given stats by value iteration.
+     *
+     * @param build Player build (not modified)
+     * @param playerSkills Player's skills
+     * @param enemyTemplate Enemy to fight (not modified)
+     * @return SolvedTable with the best action of the side to move in every state
+     */
+    public SolvedTable solve(Player build, Skill[] playerSkills, Enemy enemyTemplate) {
+        if (build == null || enemyTemplate == null || playerSkills == null || playerSkills.length == 0) {
+            throw new IllegalArgumentException("Build, skills and enemy must be non-null");
+        }
+
+        long start = System.nanoTime();
+        Stat s = build.getStats();
+        Player player = entitySystem.createPlayer(build.getName(), build.getProfession(),
+            s.getStrength(), s.getAgility(), s.getIntelligence(), s.getBalance());
+        Enemy enemy = entitySystem.copyEnemy(enemyTemplate);
+
+        ActionValueSystem turnOrder = new ActionValueSystem(entitySystem);
+        turnOrder.initializeBattle(player, enemy);
+        BattleState initial = BattleState.captureLive(player, playerSkills, enemy, turnOrder.isPlayerTurn(),
+            turnOrder, entitySystem, skillSystem, cooldownSystem, combatSystem);
+        BattleState.Model model = initial.getModel();
+
+        int[] playerRadix = new int[model.getPlayerSkillCount()];
+        int[] enemyRadix = new int[model.getEnemySkillCount()];
+        int[] playerHits = new int[model.getEnemySkillCount() + 1]; // Damage the player can take
+        int[] enemyHits = new int[model.getPlayerSkillCount()];
+        for (int i = 0; i < playerRadix.length; i++) {
+            playerRadix[i] = model.getPlayerCooldown(i) + 1;
+            enemyHits[i] = model.getPlayerDamage(i);
+        }
+        for (int i = 0; i < enemyRadix.length; i++) {
+            enemyRadix[i] = model.getEnemyCooldown(i) + 1;
+            playerHits[i] = model.getEnemyDamage(i);
+        }
+        playerHits[enemyRadix.length] = model.getEnemyDamage(BattleState.BASIC_ATTACK);
+
+        int[] playerLevels = reachableHp(model.getPlayerMaxHp(), playerHits);
+        int[] enemyLevels = reachableHp(model.getEnemyMaxHp(), enemyHits);
+
+        Matchup matchup = new Matchup(model.getSignature(), player.getProfession(), enemy.getTypeId(), 0.0,
+            model.getCycleLength(), playerRadix, enemyRadix, playerLevels, enemyLevels);
+        double[] values = new double[matchup.stateCount];
+        byte[] actions = new byte[matchup.stateCount];
+        Arrays.fill(actions, (byte) NO_ACTION);
+
+        int sweeps = solveBlocks(matchup, model, values, actions);
+        matchup.winProbability = values[matchup.indexOf(initial)];
+        return new SolvedTable(matchup, actions, sweeps, System.nanoTime() - start);
+    }
+
+    /**
+     * All HP values reachable from max HP by subtracting damage values (clamped at 0).
+     */
+    private static int[] reachableHp(int maxHp, int[] damages) {
+        boolean[] reachable = new boolean[maxHp + 1];
+        reachable[maxHp] = true;
+        reachable[0] = true;
+        for (int hp = maxHp; hp > 0; hp--) {
+            if (!reachable[hp]) continue;
+            for (int damage : damages) {
+                if (damage > 0) reachable[Math.max(0, hp - damage)] = true;
+            }
+        }
+
+        int count = 0;
+        for (boolean r : reachable) if (r) count++;
+        int[] levels = new int[count];
+        for (int hp = 0, level = 0; hp <= maxHp; hp++) {
+            if (reachable[hp]) levels[level++] = hp;
+        }
+        return levels;
+    }
+
+    /**
+     * Value iteration, one HP block at a time from low HP up.
+     *
+     * @return Total sweeps over all blocks
+     */
+    private static int solveBlocks(Matchup layout, BattleState.Model model, double[] values, byte[] actions) {
+        int block = layout.blockSize();
+        int width = Math.max(model.getPlayerSkillCount(), model.getEnemySkillCount()) + 1;
+        BattleState state = new BattleState(model);
+        BattleState child = new BattleState(model);
+        int[] playerCd = new int[model.getPlayerSkillCount()];
+        int[] enemyCd = new int[model.getEnemySkillCount()];
+        int[] moves = new int[width];
+
+        // Per-block transitions, reused for every block
+        int[] moveCount = new int[block];
+        int[] moveAction = new int[block * width];
+        int[] hitIndex = new int[block * width];
+        int[] missIndex = new int[block * width];
+        int[] moveDamage = new int[block * width];
+        double[] hitChance = new double[block];
+        boolean[] maximize = new boolean[block];
+        int totalSweeps = 0;
+
+        for (int playerLevel = 0; playerLevel < layout.getPlayerLevels(); playerLevel++) {
+            for (int enemyLevel = 0; enemyLevel < layout.getEnemyLevels(); enemyLevel++) {
+                int base = (playerLevel * layout.getEnemyLevels() + enemyLevel) * block;
+
+                // Terminal blocks: player dead = 0, enemy dead = 1
+                if (playerLevel == 0 || enemyLevel == 0) {
+                    Arrays.fill(values, base, base + block, playerLevel == 0 ? 0.0 : 1.0);
+                    continue;
+                }
+
+                for (int k = 0; k < block; k++) {
+                    layout.decode(state, playerLevel, enemyLevel, k, playerCd, enemyCd);
+                    int count = state.legalActions(moves);
+                    moveCount[k] = count;
+                    hitChance[k] = state.hitProbability();
+                    maximize[k] = state.isPlayerTurn();
+                    for (int m = 0; m < count; m++) {
+                        int slot = k * width + m;
+                        moveAction[slot] = moves[m];
+                        moveDamage[slot] = state.damageOf(moves[m]);
+                        child.copyFrom(state);
+                        child.apply(moves[m], true);
+                        hitIndex[slot] = layout.indexOf(child);
+                        child.copyFrom(state);
+                        child.apply(moves[m], false);
+                        missIndex[slot] = layout.indexOf(child);
+                    }
+                    values[base + k] = 0.5;
+                }
+
+                // Gauss-Seidel sweeps until the block converges
+                double delta;
+                int sweeps = 0;
+                do {
+                    delta = 0.0;
+                    for (int k = 0; k < block; k++) {
+                        double p = hitChance[k];
+                        double best = maximize[k] ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                        int bestSlot = k * width;
+                        for (int m = 0; m < moveCount[k]; m++) {
+                            int slot = k * width + m;
+                            double value = p * values[hitIndex[slot]] + (1 - p) * values[missIndex[slot]];
+                            double diff = maximize[k] ? value - best : best - value;
+                            if (diff > TIE_EPSILON || (diff > -TIE_EPSILON && moveDamage[slot] > moveDamage[bestSlot])) {
+                                best = value;
+                                bestSlot = slot;
+                            }
+                        }
+                        delta = Math.max(delta, Math.abs(best - values[base + k]));
+                        values[base + k] = best;
+                        actions[base + k] = (byte) (moveAction[bestSlot] + 1);
+                    }
+                    sweeps++;
+                } while (delta > CONVERGENCE && sweeps < MAX_SWEEPS);
+                totalSweeps += sweeps;
+            }
+        }
+        return totalSweeps;
+    }
+
+    // ===== FILE I/O =====
+
+    /**
+     * Write solved tables to a binary file.
+     *
+     * @param file Output file (overwritten)
+     * @param tables Solved matchups
+     */
+    public void write(Path file, List<SolvedTable> tables) throws IOException {
+        long offset = 12;
+        for (SolvedTable table : tables) {
+            offset += headerSize(table.matchup);
+        }
+        for (SolvedTable table : tables) {
+            table.matchup.dataOffset = offset;
+            offset += table.actions.length;
+        }
+
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(tables.size());
+            for (SolvedTable table : tables) {
+                writeHeader(out, table.matchup);
+            }
+            for (SolvedTable table : tables) {
+                out.write(table.actions);
+            }
+        }
+    }
+
+    private static int headerSize(Matchup m) {
+        return 8 + 4 + 4 + 8 + 4
+            + 4 + 4 * m.playerRadix.length
+            + 4 + 4 * m.enemyRadix.length
+            + 4 + 4 * m.playerLevelHp.length
+            + 4 + 4 * m.enemyLevelHp.length
+            + 8 + 4;
+    }
+
+    private static void writeHeader(DataOutputStream out, Matchup m) throws IOException {
+        out.writeLong(m.signature);
+        out.writeInt(m.profession.ordinal());
+        out.writeInt(m.enemyTypeId);
+        out.writeDouble(m.winProbability);
+        out.writeInt(m.cycleLength);
+        writeInts(out, m.playerRadix);
+        writeInts(out, m.enemyRadix);
+        writeInts(out, m.playerLevelHp);
+        writeInts(out, m.enemyLevelHp);
+        out.writeLong(m.dataOffset);
+        out.writeInt(m.stateCount);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) out.writeInt(value);
+    }
+
+    /**
+     * Memory-map a table file and replace the loaded tables.
+     *
+     * @param file File written by write()
+     * @return Number of matchups loaded
+     * @throws IOException if the file cannot be read or has the wrong format
+     */
+    public int load(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a policy table file: " + file);
+            }
+
+            int count = buffer.getInt();
+            Map<Long, Matchup> loaded = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                long signature = buffer.getLong();
+                Profession profession = Profession.values()[buffer.getInt()];
+                int enemyTypeId = buffer.getInt();
+                double winProbability = buffer.getDouble();
+                int cycleLength = buffer.getInt();
+                Matchup matchup = new Matchup(signature, profession, enemyTypeId, winProbability, cycleLength,
+                    readInts(buffer), readInts(buffer), readInts(buffer), readInts(buffer));
+                matchup.dataOffset = buffer.getLong();
+                if (buffer.getInt() != matchup.stateCount
+                        || matchup.dataOffset + matchup.stateCount > buffer.capacity()) {
+                    throw new IOException("Corrupt policy table header in " + file);
+                }
+                loaded.put(signature, matchup);
+            }
+
+            this.data = buffer;
+            this.matchups = loaded;
+            return count;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt policy table file: " + file, e);
+        }
+    }
+
+    private static int[] readInts(MappedByteBuffer buffer) {
+        int[] values = new int[buffer.getInt()];
+        for (int i = 0; i < values.length; i++) values[i] = buffer.getInt();
+        return values;
+    }
+
+    // ===== LOOKUP =====
+
+    /**
+     * Best action for the side to move (one indexed read).
+     *
+     * @param state Captured battle state
+     * @return Skill index, BattleState.BASIC_ATTACK, or NO_ENTRY if not covered
+     */
+    public int lookup(BattleState state) {
+        MappedByteBuffer buffer = data;
+        Matchup matchup = matchups.get(state.getModel().getSignature());
+        if (buffer == null || matchup == null) return NO_ENTRY;
+
+        int index = matchup.indexOf(state);
+        return index >= 0 ? decodeAction(buffer.get((int) (matchup.dataOffset + index))) : NO_ENTRY;
+    }
+
+    private static int decodeAction(byte value) {
+        int action = value & 0xFF;
+        return action == NO_ACTION ? NO_ENTRY : action - 1;
+    }
+
+    /**
+     * Bind the tables to a running battle for repeated lookups.
+     * The turn order must already be initialized for this battle; its current
+     * turn fixes the phase, and later turns advance it.
+     *
+     * @return LiveTable, or null if the matchup (at these stats) is not covered
+     */
+    public LiveTable bind(Player player, Skill[] playerSkills, Enemy enemy, ActionValueSystem turnOrder) {
+        if (player == null || playerSkills == null || enemy == null || turnOrder == null) {
+            throw new IllegalArgumentException("Player, skills, enemy and turn order must be non-null");
+        }
+        MappedByteBuffer buffer = data;
+        if (buffer == null || !turnOrder.isBattleActive()) return null;
+
+        BattleState state = BattleState.captureLive(player, playerSkills, enemy, turnOrder.isPlayerTurn(),
+            turnOrder, entitySystem, skillSystem, cooldownSystem, combatSystem);
+        Matchup matchup = matchups.get(state.getModel().getSignature());
+        if (matchup == null || matchup.cycleLength != state.getModel().getCycleLength()) return null;
+        return new LiveTable(matchup, buffer, player, playerSkills, enemy, turnOrder, state.getPhase());
+    }
+
+    /**
+     * Best skill for the player right now (one-off: captures the whole battle;
+     * use bind() to look up every turn of a running battle).
+     *
+     * @param turnOrder Live turn order, or null for the opening turn of a fresh
+     *        battle (the order is then rebuilt from speeds, which is only
+     *        right before anyone has acted)
+     * @return Skill index, or NO_ENTRY if the matchup is not covered
+     */
+    public int bestPlayerSkill(Player player, Skill[] playerSkills, Enemy enemy, ActionValueSystem turnOrder) {
+        if (player == null || playerSkills == null || enemy == null || matchups.isEmpty()) return NO_ENTRY;
+        return lookup(BattleState.captureLive(player, playerSkills, enemy, true, turnOrder,
+            entitySystem, skillSystem, cooldownSystem, combatSystem));
+    }
+
+    /**
+     * Best skill for the enemy right now.
+     *
+     * @param turnOrder Live turn order, or null for the opening turn of a fresh battle
+     * @return Skill index, BattleState.BASIC_ATTACK, or NO_ENTRY if not covered
+     */
+    public int bestEnemySkill(Enemy enemy, Player player, ActionValueSystem turnOrder) {
+        if (player == null || enemy == null || matchups.isEmpty()) return NO_ENTRY;
+        Skill[] playerSkills = SkillsData.getSkillsForProfession(player.getProfession());
+        return lookup(BattleState.captureLive(player, playerSkills, enemy, false, turnOrder,
+            entitySystem, skillSystem, cooldownSystem, combatSystem));
+    }
+
+    public boolean isLoaded() { return data != null; }
+    public int getMatchupCount() { return matchups.size(); }
+
+    // ===== AI INTEGRATION =====
+
+    /**
+     * Build a perfect-play copy of an archetype.
+     * The phase comes from the turn order bound to the deciding EnemyAISystem;
+     * without one (the phase is unknown mid-battle) and in states outside the
+     * tables, the archetype's own strategy decides.
+     */
+    public EnemyArchetypeRegistry.Archetype createArchetype(EnemyArchetypeRegistry.Archetype base) {
+        EnemyAISystem.AIStrategy fallback = base.getStrategy();
+        EnemyAISystem.AIStrategy strategy = (ai, enemy, player, skills) -> {
+            ActionValueSystem turnOrder = ai.getActionValueSystem();
+            if (turnOrder == null || !turnOrder.isBattleActive()) {
+                return fallback.decide(ai, enemy, player, skills);
+            }
+            int index = bestEnemySkill(enemy, player, turnOrder);
+            if (index == NO_ENTRY || index >= skills.length) {
+                return fallback.decide(ai, enemy, player, skills);
+            }
+            if (index == BattleState.BASIC_ATTACK) {
+                return new EnemyAISystem.AIDecision(-1, "Basic Attack",
+                    EnemyAISystem.AIDecision.Reason.OPTIMAL_PLAY, true);
+            }
+            return new EnemyAISystem.AIDecision(index, skills[index].getName(),
+                EnemyAISystem.AIDecision.Reason.OPTIMAL_PLAY, false);
+        };
+
+        return new EnemyArchetypeRegistry.Archetype(base.getTypeId(), base.getName(),
+            EnemyAISystem.AIType.PERFECT, strategy, base.getSpecialization(),
+            "Perfect: Plays the solved optimal move");
+    }
+
+    /**
+     * Switch every enemy template in a registry to perfect play.
+     * Call EnemyAISystem.invalidateContext() afterwards if a battle is running.
+     *
+     * @param registry Registry owned by the caller (not DEFAULTS)
+     */
+    public void enablePerfectPlay(EnemyArchetypeRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        for (EnemiesData.EnemyTemplate template : EnemiesData.getTemplates()) {
+            EnemyArchetypeRegistry.Archetype current = registry.get(template.getId());
+            if (current.getAIType() == EnemyAISystem.AIType.PERFECT) continue;
+            registry.register(createArchetype(EnemyArchetypeRegistry.DEFAULTS.get(template.getId())));
+        }
+    }
+
+    /**
+     * Restore the shipped archetype for every template enablePerfectPlay() replaced.
+     */
+    public void disablePerfectPlay(EnemyArchetypeRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        for (EnemiesData.EnemyTemplate template : EnemiesData.getTemplates()) {
+            if (registry.get(template.getId()).getAIType() == EnemyAISystem.AIType.PERFECT) {
+                registry.register(EnemyArchetypeRegistry.DEFAULTS.get(template.getId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package game.system;
+
+import game.core.Enemy;
+import game.core.Player;
+import game.core.Skill;
+import game.data.EnemiesData;
+import game.data.SkillsData;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SearchAISystem is a "hard mode" enemy AI that looks ahead instead of
+ * following fixed rules. Its strength scales with the CPU time it is given.
+ *
+ * HOW IT SEARCHES (expectiminimax):
+ * - Enemy turns are MAX nodes: the enemy picks the best ready skill
+ * - Player turns are MIN nodes: the player is assumed to reply as well as possible
+ * - Every attack is a CHANCE node: hit (hit chance) or miss (1 - hit chance)
+ * - Leaves are scored by BattleState.evaluateForEnemy() (win/loss or HP difference)
+ *
+ * TIME BUDGET:
+ * - Iterative deepening: depth 1, 2, 3, ... until the per-decision deadline
+ * - The deepest fully completed depth decides; an unfinished depth is discarded
+ * - Depth 1 always completes, so there is always a legal answer
+ * - Stops early when the whole tree is solved (no leaf hit the depth limit)
+ *
+ * TRANSPOSITIONS:
+ * - Positions are keyed by BattleState's Zobrist hash in a shared TranspositionTable
+ * - A stored value is reused when it was searched at least as deep, or is exact
+ * - The table outlives a decision, so next turn's search starts from what
+ *   this turn's search already proved (a solved root returns immediately)
+ * - BattleState.captureLive() stores the turn cycle in canonical rotation, so
+ *   the same position hashes the same on every turn
+ *
+ * PARALLELISM:
+ * - The first SPLIT_PLIES plies are forked as fork/join tasks
+ * - Below that each task searches sequentially on its own stack of BattleStates
+ *   (no allocation per node)
+ *
+ * USING IT:
+ * - asStrategy() plugs into EnemyArchetypeRegistry like any other AIStrategy
+ * - enableHardMode(registry) swaps every enemy template in a session-owned
+ *   registry to the search AI (AIType.SEARCH); disableHardMode(registry)
+ *   restores the shipped archetypes
+ * - As a strategy it searches on the turn order bound to the deciding
+ *   EnemyAISystem; otherwise on its own setActionValueSystem() binding, or
+ *   a turn order rebuilt from the combatants' speeds
+ * - GameSession.setHardMode() and ConsoleUITest's hard mode prompt turn it
+ *   on for a game; SearchAITest plays it against the shipped AI
+ *
+ * BLOCKING:
+ * - decide() and search() block the calling thread for up to the deadline
+ *   (pool.invoke waits for the search), so a UI must call them off its
+ *   event thread - BattleScreen asks the enemy AI on a background thread
+ *
+ * Design: Searches are independent; the only shared state is the pool.
+ * GUI-Friendly: The deadline bounds each decision's latency.
+ */
+public class SearchAISystem {
+
+    public static final long DEFAULT_DEADLINE_MILLIS = 50;
+    public static final int MAX_DEPTH = 64;
+
+    private static final int SPLIT_PLIES = 2;       // Plies forked as parallel tasks
+    private static final int CHECK_INTERVAL = 1023; // Nodes between deadline checks (mask)
+    private static final double TIE_EPSILON = 1e-9;
+
+    private final EntitySystem entitySystem;
+    private final SkillSystem skillSystem;
+    private final CooldownSystem cooldownSystem;
+    private final CombatSystem combatSystem;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private volatile long deadlineNanos;
+    private volatile ActionValueSystem actionValueSystem;
+
+    public SearchAISystem() {
+        this(ForkJoinPool.commonPool(), DEFAULT_DEADLINE_MILLIS);
+    }
+
+    public SearchAISystem(ForkJoinPool pool, long deadlineMillis) {
+        this(pool, deadlineMillis, new TranspositionTable());
+    }
+
+    public SearchAISystem(ForkJoinPool pool, long deadlineMillis, TranspositionTable table) {
+        if (pool == null || table == null) {
+            throw new IllegalArgumentException("ForkJoinPool and transposition table must be non-null");
+        }
+
+        this.entitySystem = new EntitySystem();
+        this.skillSystem = new SkillSystem();
+        this.cooldownSystem = new CooldownSystem();
+        this.combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+        this.pool = pool;
+        this.table = table;
+        setDeadlineMillis(deadlineMillis);
+    }
+
+    // ===== SEARCH RESULT CLASS =====
+
+    /**
+     * SearchResult holds the chosen action and search statistics.
+     */
+    public static class SearchResult {
+        private final int skillIndex;
+        private final double value;
+        private final int depth;
+        private final boolean solved;
+        private final long nodes;
+        private final long elapsedNanos;
+
+        public SearchResult(int skillIndex, double value, int depth, boolean solved, long nodes, long elapsedNanos) {
+            this.skillIndex = skillIndex;
+            this.value = value;
+            this.depth = depth;
+            this.solved = solved;
+            this.nodes = nodes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getSkillIndex() { return skillIndex; }
+        public boolean isBasicAttack() { return skillIndex == BattleState.BASIC_ATTACK; }
+        public double getValue() { return value; }
+        public int getDepth() { return depth; }
+        public boolean isSolved() { return solved; }
+        public long getNodes() { return nodes; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        @Override
+        public String toString() {
+            return String.format("Skill %d | Score %+.3f | Depth %d%s | Nodes %d | %.2f ms",
+                skillIndex, value, depth, solved ? " (solved)" : "", nodes, elapsedNanos / 1_000_000.0);
+        }
+    }
+
+    // ===== CONFIGURATION =====
+
+    /**
+     * Set the time budget per decision.
+     *
+     * @param deadlineMillis Milliseconds per decision (at least 1)
+     */
+    public void setDeadlineMillis(long deadlineMillis) {
+        if (deadlineMillis < 1) {
+            throw new IllegalArgumentException("Deadline must be at least 1 ms");
+        }
+        this.deadlineNanos = deadlineMillis * 1_000_000L;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineNanos / 1_000_000L;
+    }
+
+    /**
+     * Bind the live turn order (null = rebuild it from speeds).
+     */
+    public void setActionValueSystem(ActionValueSystem actionValueSystem) {
+        this.actionValueSystem = actionValueSystem;
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public TranspositionTable getTranspositionTable() { return table; }
+
+    // ===== AI INTEGRATION =====
+
+    /**
+     * Get this search as an AIStrategy for EnemyArchetypeRegistry.
+     */
+    public EnemyAISystem.AIStrategy asStrategy() {
+        return (ai, enemy, player, skills) -> decide(enemy, player, ai.getActionValueSystem());
+    }
+
+    /**
+     * Build a search-driven copy of an archetype (same type, name and specialization).
+     */
+    public EnemyArchetypeRegistry.Archetype createArchetype(EnemyArchetypeRegistry.Archetype base) {
+        return new EnemyArchetypeRegistry.Archetype(base.getTypeId(), base.getName(),
+            EnemyAISystem.AIType.SEARCH, asStrategy(), base.getSpecialization(),
+            "Hard: Searches " + getDeadlineMillis() + " ms ahead every turn");
+    }
+
+    /**
+     * Switch every enemy template in a registry to the search AI.
+     * Call EnemyAISystem.invalidateContext() afterwards if a battle is running.
+     *
+     * @param registry Registry owned by the caller (not DEFAULTS)
+     */
+    public void enableHardMode(EnemyArchetypeRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        for (EnemiesData.EnemyTemplate template : EnemiesData.getTemplates()) {
+            EnemyArchetypeRegistry.Archetype current = registry.get(template.getId());
+            if (current.getAIType() == EnemyAISystem.AIType.SEARCH) continue;
+            registry.register(createArchetype(EnemyArchetypeRegistry.DEFAULTS.get(template.getId())));
+        }
+    }
+
+    /**
+     * Restore the shipped archetype for every template enableHardMode() replaced.
+     */
+    public void disableHardMode(EnemyArchetypeRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        for (EnemiesData.EnemyTemplate template : EnemiesData.getTemplates()) {
+            if (registry.get(template.getId()).getAIType() == EnemyAISystem.AIType.SEARCH) {
+                registry.register(EnemyArchetypeRegistry.DEFAULTS.get(template.getId()));
+            }
+        }
+    }
+
+    /**
+     * Choose the enemy's skill by searching from the live battle.
+     * Blocks the calling thread for up to the deadline.
+     *
+     * @param enemy The enemy (acting now)
+     * @param player The player target
+     * @return AIDecision with skill choice and search summary
+     */
+    public EnemyAISystem.AIDecision decide(Enemy enemy, Player player) {
+        return decide(enemy, player, null);
+    }
+
+    /**
+     * @param turnOrder Live turn order (null = this system's binding)
+     */
+    public EnemyAISystem.AIDecision decide(Enemy enemy, Player player, ActionValueSystem turnOrder) {
+        Skill[] playerSkills = SkillsData.getSkillsForProfession(player.getProfession());
+        SearchResult result = search(BattleState.captureLive(player, playerSkills, enemy, false,
+            turnOrder != null ? turnOrder : actionValueSystem,
+            entitySystem, skillSystem, cooldownSystem, combatSystem));
+
+        EnemyAISystem.AIDecision.Reason reason = EnemyAISystem.AIDecision.Reason.SEARCHED;
+        if (result.isBasicAttack()) {
+            return new EnemyAISystem.AIDecision(-1, "Basic Attack", reason, result.getDepth(), result.getValue(), true);
+        }
+        return new EnemyAISystem.AIDecision(result.getSkillIndex(), enemy.getSkills()[result.getSkillIndex()].getName(),
+            reason, result.getDepth(), result.getValue(), false);
+    }
+
+    // ===== SEARCH =====
+
+    /**
+     * Search for the best action of the side to move.
+     * Blocks the calling thread for up to the deadline.
+     *
+     * @param root State to search from (not modified)
+     * @return SearchResult with the best action of the deepest completed depth
+     */
+    public SearchResult search(BattleState root) {
+        if (root == null || root.isTerminal()) {
+            throw new IllegalArgumentException("Root state must be a live battle");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + deadlineNanos;
+        int[] actions = new int[Math.max(root.getModel().getPlayerSkillCount(), root.getModel().getEnemySkillCount()) + 1];
+        int actionCount = root.legalActions(actions);
+        table.newSearch();
+
+        // Already solved by an earlier search?
+        long known = table.probe(root.getHash());
+        if (TranspositionTable.isExact(known) && isLegal(actions, actionCount, TranspositionTable.actionOf(known))) {
+            return new SearchResult(TranspositionTable.actionOf(known), TranspositionTable.valueOf(known),
+                0, true, 0, System.nanoTime() - start);
+        }
+
+        double[] values = null;
+        int depthReached = 0;
+        boolean solved = false;
+        long nodes = 0;
+
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            SearchContext context = new SearchContext(depth == 1 ? Long.MAX_VALUE : deadline);
+            double[] result = pool.invoke(new RootTask(context, table, root.copy(), actions, actionCount, depth));
+            nodes += context.nodes.sum();
+            if (result == null) break; // Deadline hit mid-depth
+
+            values = result;
+            depthReached = depth;
+            if (!context.cutoff) {
+                solved = true;
+                break;
+            }
+            if (System.nanoTime() >= deadline) break;
+        }
+
+        // Best value; ties go to the harder-hitting action
+        boolean maximize = !root.isPlayerTurn();
+        int best = 0;
+        for (int i = 1; i < actionCount; i++) {
+            double diff = maximize ? values[i] - values[best] : values[best] - values[i];
+            if (diff > TIE_EPSILON || (diff > -TIE_EPSILON && root.damageOf(actions[i]) > root.damageOf(actions[best]))) {
+                best = i;
+            }
+        }
+
+        table.store(root.getHash(), values[best], solved ? TranspositionTable.EXACT_DEPTH : depthReached, actions[best]);
+        return new SearchResult(actions[best], values[best], depthReached, solved, nodes, System.nanoTime() - start);
+    }
+
+    private static boolean isLegal(int[] actions, int actionCount, int action) {
+        for (int i = 0; i < actionCount; i++) {
+            if (actions[i] == action) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Shared flags for one iteration (one depth).
+     */
+    private static class SearchContext {
+        private final long deadline;
+        private final LongAdder nodes = new LongAdder();
+        private volatile boolean aborted;
+        private volatile boolean cutoff; // Some leaf was scored by the heuristic
+
+        SearchContext(long deadline) {
+            this.deadline = deadline;
+        }
+
+        boolean expired() {
+            if (!aborted && System.nanoTime() >= deadline) {
+                aborted = true;
+            }
+            return aborted;
+        }
+    }
+
+    /**
+     * Thrown inside a sequential search when the deadline passes.
+     * Never crosses a task boundary.
+     */
+    private static final class Timeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private static final Timeout INSTANCE = new Timeout();
+
+        private Timeout() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Value of each action at a node: p * V(hit) + (1 - p) * V(miss).
+     * Children are forked while splitPlies > 0.
+     *
+     * @return Value per action, or null if the deadline passed
+     */
+    private static double[] actionValues(SearchContext context, TranspositionTable table, BattleState state,
+                                         int[] actions, int actionCount, int depth, int splitPlies) {
+        double p = state.hitProbability();
+        SearchTask[] hits = new SearchTask[actionCount];
+        SearchTask[] misses = new SearchTask[actionCount];
+        int taskCount = 0;
+        SearchTask[] tasks = new SearchTask[actionCount * 2];
+
+        for (int i = 0; i < actionCount; i++) {
+            if (p > 0) {
+                BattleState child = state.copy();
+                child.apply(actions[i], true);
+                hits[i] = tasks[taskCount++] = new SearchTask(context, table, child, depth - 1, splitPlies - 1);
+            }
+            if (p < 1) {
+                BattleState child = state.copy();
+                child.apply(actions[i], false);
+                misses[i] = tasks[taskCount++] = new SearchTask(context, table, child, depth - 1, splitPlies - 1);
+            }
+        }
+
+        for (int i = taskCount - 1; i > 0; i--) tasks[i].fork();
+        boolean aborted = Double.isNaN(tasks[0].invoke());
+        for (int i = 1; i < taskCount; i++) {
+            aborted |= Double.isNaN(tasks[i].join());
+        }
+        if (aborted) return null;
+
+        double[] values = new double[actionCount];
+        for (int i = 0; i < actionCount; i++) {
+            double hit = hits[i] != null ? hits[i].getRawResult() : 0.0;
+            double miss = misses[i] != null ? misses[i].getRawResult() : 0.0;
+            values[i] = p * hit + (1 - p) * miss;
+        }
+        return values;
+    }
+
+    /**
+     * Root of one iteration: value of each root action.
+     */
+    private static class RootTask extends RecursiveTask<double[]> {
+        private static final long serialVersionUID = 1L;
+        private final SearchContext context;
+        private final TranspositionTable table;
+        private final BattleState root;
+        private final int[] actions;
+        private final int actionCount;
+        private final int depth;
+
+        RootTask(SearchContext context, TranspositionTable table, BattleState root, int[] actions,
+                 int actionCount, int depth) {
+            this.context = context;
+            this.table = table;
+            this.root = root;
+            this.actions = actions;
+            this.actionCount = actionCount;
+            this.depth = depth;
+        }
+
+        @Override
+        protected double[] compute() {
+            return actionValues(context, table, root, actions, actionCount, depth, SPLIT_PLIES);
+        }
+    }
+
+    /**
+     * Value of one state (enemy's point of view). NaN if the deadline passed.
+     */
+    private static class SearchTask extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+        private final SearchContext context;
+        private final TranspositionTable table;
+        private final BattleState state;
+        private final int depth;
+        private final int splitPlies;
+
+        SearchTask(SearchContext context, TranspositionTable table, BattleState state, int depth, int splitPlies) {
+            this.context = context;
+            this.table = table;
+            this.state = state;
+            this.depth = depth;
+            this.splitPlies = splitPlies;
+        }
+
+        @Override
+        protected Double compute() {
+            if (context.expired()) return Double.NaN;
+
+            if (splitPlies > 0 && depth > 0 && !state.isTerminal()) {
+                int[] actions = new int[state.getModel().getPlayerSkillCount() + state.getModel().getEnemySkillCount() + 1];
+                int count = state.legalActions(actions);
+                double[] values = actionValues(context, table, state, actions, count, depth, splitPlies);
+                if (values == null) return Double.NaN;
+
+                boolean maximize = !state.isPlayerTurn();
+                double best = values[0];
+                for (int i = 1; i < count; i++) {
+                    best = maximize ? Math.max(best, values[i]) : Math.min(best, values[i]);
+                }
+                return best;
+            }
+
+            Searcher searcher = new Searcher(context, table, state, depth);
+            try {
+                return searcher.value(0, depth);
+            } catch (Timeout timeout) {
+                context.aborted = true;
+                return Double.NaN;
+            } finally {
+                context.nodes.add(searcher.nodes);
+                if (searcher.cutoffs > 0) context.cutoff = true;
+            }
+        }
+    }
+
+    /**
+     * Sequential expectiminimax on a preallocated stack of states.
+     * A subtree is exact if none of its leaves was cut off by depth.
+     */
+    private static class Searcher {
+        private final SearchContext context;
+        private final TranspositionTable table;
+        private final BattleState[] stack;
+        private final int[][] actions;
+        private long nodes;
+        private long cutoffs; // Leaves scored by the heuristic so far
+
+        Searcher(SearchContext context, TranspositionTable table, BattleState root, int depth) {
+            this.context = context;
+            this.table = table;
+            this.stack = new BattleState[depth + 1];
+            this.actions = new int[depth + 1][];
+            int width = root.getModel().getPlayerSkillCount() + root.getModel().getEnemySkillCount() + 1;
+            stack[0] = root;
+            for (int i = 0; i <= depth; i++) {
+                if (i > 0) stack[i] = new BattleState(root.getModel());
+                actions[i] = new int[width];
+            }
+        }
+
+        double value(int ply, int depth) {
+            BattleState state = stack[ply];
+            if (state.isTerminal()) return state.evaluateForEnemy();
+            if (depth == 0) {
+                cutoffs++;
+                return state.evaluateForEnemy();
+            }
+            if ((++nodes & CHECK_INTERVAL) == 0 && context.expired()) {
+                throw Timeout.INSTANCE;
+            }
+
+            long hash = state.getHash();
+            long known = table.probe(hash);
+            if (known != 0 && TranspositionTable.depthOf(known) >= depth) {
+                if (!TranspositionTable.isExact(known)) cutoffs++;
+                return TranspositionTable.valueOf(known);
+            }
+            long cutoffsBefore = cutoffs;
+
+            int[] moves = actions[ply];
+            int count = state.legalActions(moves);
+            boolean maximize = !state.isPlayerTurn();
+            double p = state.hitProbability();
+            BattleState child = stack[ply + 1];
+            double best = maximize ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            int bestAction = moves[0];
+
+            for (int i = 0; i < count; i++) {
+                double value = 0.0;
+                if (p > 0) {
+                    child.copyFrom(state);
+                    child.apply(moves[i], true);
+                    value += p * value(ply + 1, depth - 1);
+                }
+                if (p < 1) {
+                    child.copyFrom(state);
+                    child.apply(moves[i], false);
+                    value += (1 - p) * value(ply + 1, depth - 1);
+                }
+                if (maximize ? value > best : value < best) {
+                    best = value;
+                    bestAction = moves[i];
+                }
+            }
+
+            table.store(hash, best, cutoffs == cutoffsBefore ? TranspositionTable.EXACT_DEPTH : depth, bestAction);
+            return best;
+        }
+    }
+}
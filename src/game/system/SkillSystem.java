@@ -150,6 +150,19 @@ public class SkillSystem {
         return skill.getBaseDamage() + enemy.getStats().getStrength();
     }
 
+    /**
+     * Calculate final damage a skill would deal from an arena combatant.
+     * Same formula as for players and enemies.
+     * 
+     * @param attacker View of the attacking side
+     * @param skill The skill being used
+     * @return Calculated damage value
+     */
+    public int calculateDamage(BattleArena.Combatant attacker, Skill skill) {
+        if (attacker == null || skill == null) return 0;
+        return skill.getBaseDamage() + attacker.getStrength();
+    }
+
     /**
      * Calculate final cooldown after CDR (Cooldown Reduction) is applied.
      * Minimum cooldown is 1 turn for non-zero base cooldowns.
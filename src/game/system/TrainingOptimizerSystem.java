@@ -0,0 +1,702 @@
+package game.system;
+
+import game.core.*;
+import game.data.EnemiesData;
+import game.data.SkillsData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TrainingOptimizerSystem searches the training plan that maximizes the
+ * chance to clear the whole EnemiesData roster.
+ *
+ * MODEL:
+ * - The roster is fought in a uniformly shuffled order (GameSession shuffles it)
+ * - Before every battle the player trains a fixed number of cycles (+5 each)
+ *   and knows which enemy is next (TrainingScreen shows it)
+ * - EnemyGrowth.MIRROR: that enemy gains +3 in every stat the player trained
+ *   during the phase (TrainingScreen rule); NONE: enemies keep template stats
+ * - HP and cooldowns reset before each battle, so battles are independent
+ *   and P(clear) is the product of the battle win probabilities
+ *
+ * ALLOCATIONS, NOT SEQUENCES:
+ * - Within a phase only the counts matter (a cycles STR, b AGI, c INT), so the
+ *   3^n cycle sequences collapse to (n+1)(n+2)/2 allocations
+ *
+ * SEARCH (expectimax, bottom-up from the last battle):
+ * - V(trained, remaining) = mean over the next enemy e of
+ *   max over allocation A of P(win vs e | trained + A) * V(trained + A, remaining - e)
+ * - Branch and bound: allocations are tried best future value first; P(win) <= 1,
+ *   so once a future value is no better than the best score the rest are cut
+ * - Dominated builds: A is dropped if another allocation gives the player at
+ *   least as much of every derived stat (HP, damage, speed, evasion, accuracy,
+ *   CDR), the enemy no more of any, and an equal or better future
+ *   (assumes more of a stat never hurts its owner)
+ *
+ * EVALUATION:
+ * - Exact win probability from BattleSolverSystem (one solver per worker);
+ *   builds too large to solve exactly fall back to a fixed-seed Monte Carlo run
+ *   (common random numbers, so candidates are compared on the same rolls)
+ * - Memoized by derived stats: AGI/INT values on the same square-root step
+ *   share one evaluation, and the memo is kept across optimize calls
+ *   (every build uses BalanceProfile.DEFAULT, so the memo never mixes profiles)
+ * - All states of a phase are searched in parallel with fork/join
+ *
+ * Responsibilities:
+ * - Best training plan per profession and cycle count
+ * - Score any PlayerPolicy's training in the same model for comparison
+ *
+ * Design: Thread-safe; evaluations are shared through a concurrent memo.
+ * GUI-Friendly: Returns a TrainingPlan with the allocation for every enemy order.
+ */
+public class TrainingOptimizerSystem {
+
+    // Training constants (same numbers as TrainingScreen)
+    private static final int PLAYER_TRAINING_AMOUNT = 5;
+    private static final int ENEMY_TRAINING_AMOUNT = 3;
+    private static final int MAX_CYCLES = 20;            // Per phase
+    private static final int MAX_ROSTER = 6;             // Enemy orders = roster size factorial
+    private static final int FALLBACK_BATTLES = 20_000;  // Monte Carlo when the exact solve is too large
+    private static final long FALLBACK_SEED = 42L;       // Common random numbers for every candidate
+    private static final int STATES_PER_TASK = 4;        // States per fork/join leaf
+    private static final String PLAYER_NAME = "Hero";
+
+    private static final String[] STAT_NAMES = {"STR", "AGI", "INT"};
+
+    private final ForkJoinPool pool;
+    private final BattleSimulationSystem simulationSystem;
+    private final Map<BattleKey, Double> memo = new ConcurrentHashMap<>();
+
+    public TrainingOptimizerSystem() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TrainingOptimizerSystem(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        this.pool = pool;
+        this.simulationSystem = new BattleSimulationSystem(pool, 1024);
+    }
+
+    // ===== ENEMY GROWTH =====
+
+    /**
+     * How enemies respond to the player's training.
+     */
+    public enum EnemyGrowth {
+        NONE,   // Enemies fight at template stats
+        MIRROR  // Next enemy gains +3 per player cycle in the same stat (TrainingScreen)
+    }
+
+    // ===== TRAINING PLAN CLASS =====
+
+    /**
+     * TrainingPlan holds the chosen allocations for every enemy order.
+     * Allocations are cycle counts {STR, AGI, INT} for one training phase.
+     */
+    public static class TrainingPlan {
+        private final Profession profession;
+        private final int cyclesPerPhase;
+        private final EnemyGrowth growth;
+        private final List<int[]> orders;
+        private final List<int[][]> allocations;
+        private final List<double[]> winProbabilities;
+        private final SearchStats stats;
+        private final long elapsedNanos;
+
+        private TrainingPlan(Profession profession, int cyclesPerPhase, EnemyGrowth growth,
+                             List<int[]> orders, List<int[][]> allocations,
+                             List<double[]> winProbabilities, SearchStats stats, long elapsedNanos) {
+            this.profession = profession;
+            this.cyclesPerPhase = cyclesPerPhase;
+            this.growth = growth;
+            this.orders = orders;
+            this.allocations = allocations;
+            this.winProbabilities = winProbabilities;
+            this.stats = stats;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Profession getProfession() { return profession; }
+        public int getCyclesPerPhase() { return cyclesPerPhase; }
+        public EnemyGrowth getGrowth() { return growth; }
+        public int getOrderCount() { return orders.size(); }
+
+        /**
+         * Enemy type ids in battle order for order i.
+         */
+        public int[] getOrder(int i) { return orders.get(i).clone(); }
+
+        /**
+         * Allocation {STR, AGI, INT} (in cycles) before battle k of order i.
+         */
+        public int[] getAllocation(int i, int battle) { return allocations.get(i)[battle].clone(); }
+
+        /**
+         * Win probability of battle k of order i under the plan.
+         */
+        public double getWinProbability(int i, int battle) { return winProbabilities.get(i)[battle]; }
+
+        /**
+         * Probability to clear the roster in order i.
+         */
+        public double getClearProbability(int i) {
+            double clear = 1.0;
+            for (double p : winProbabilities.get(i)) clear *= p;
+            return clear;
+        }
+
+        /**
+         * Probability to clear the roster, averaged over all enemy orders.
+         */
+        public double getClearProbability() {
+            if (orders.isEmpty()) return 0.0;
+            double sum = 0.0;
+            for (int i = 0; i < orders.size(); i++) sum += getClearProbability(i);
+            return sum / orders.size();
+        }
+
+        // Search statistics (zero for scored policies)
+        public long getEvaluations() { return stats.evaluations.get(); }
+        public long getMemoHits() { return stats.memoHits.get(); }
+        public long getPrunedByBound() { return stats.prunedByBound.get(); }
+        public long getPrunedByDominance() { return stats.prunedByDominance.get(); }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /**
+         * Get formatted plan for console display.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(profession).append(" | ").append(cyclesPerPhase).append(" cycles per battle | growth ")
+              .append(growth).append(" | Clear: ").append(String.format("%.2f%%", getClearProbability() * 100))
+              .append("\n");
+
+            for (int i = 0; i < orders.size(); i++) {
+                int[] order = orders.get(i);
+                sb.append("  ");
+                for (int k = 0; k < order.length; k++) {
+                    int[] a = allocations.get(i)[k];
+                    EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(order[k]);
+                    sb.append(template != null ? template.getName() : "#" + order[k])
+                      .append(" [").append(STAT_NAMES[0]).append(" ").append(a[0])
+                      .append(" ").append(STAT_NAMES[1]).append(" ").append(a[1])
+                      .append(" ").append(STAT_NAMES[2]).append(" ").append(a[2]).append("] ")
+                      .append(String.format("%.1f%%", winProbabilities.get(i)[k] * 100));
+                    if (k < order.length - 1) sb.append(" -> ");
+                }
+                sb.append(" = ").append(String.format("%.2f%%", getClearProbability(i) * 100)).append("\n");
+            }
+
+            sb.append("Search: ").append(getEvaluations()).append(" solves, ")
+              .append(getMemoHits()).append(" memo hits, pruned ")
+              .append(getPrunedByBound()).append(" by bound / ")
+              .append(getPrunedByDominance()).append(" dominated | ")
+              .append(String.format("%.2f s", elapsedNanos / 1_000_000_000.0));
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    // ===== OPTIMIZATION =====
+
+    /**
+     * Optimize with the TrainingScreen rules (MIRROR growth) and LOOKAHEAD battles.
+     *
+     * @see #optimize(Profession, int, EnemyGrowth, PlayerPolicy)
+     */
+    public TrainingPlan optimize(Profession profession, int cyclesPerPhase) {
+        return optimize(profession, cyclesPerPhase, EnemyGrowth.MIRROR, PlayerPolicySystem.LOOKAHEAD);
+    }
+
+    /**
+     * Find the training plan with the highest chance to clear the roster.
+     *
+     * @param profession Player profession (default starting stats)
+     * @param cyclesPerPhase Training cycles before every battle (1 to 20)
+     * @param growth How the next enemy responds to the player's training
+     * @param battlePolicy Player battle policy used to score builds
+     * @return TrainingPlan with the best allocation for every enemy order
+     */
+    public TrainingPlan optimize(Profession profession, int cyclesPerPhase, EnemyGrowth growth,
+                                 PlayerPolicy battlePolicy) {
+        Search search = new Search(profession, cyclesPerPhase, growth, battlePolicy);
+        long start = System.nanoTime();
+
+        // Bottom-up: the last battle first, so every future value is known
+        for (int layer = search.roster - 1; layer >= 0; layer--) {
+            List<long[]> states = search.statesOfLayer(layer);
+            pool.invoke(new LayerTask(search, states, 0, states.size()));
+        }
+
+        return search.buildPlan(null, start);
+    }
+
+    /**
+     * Score a policy's training choices in the same model.
+     * Randomized policies are scored on one seeded draw per enemy order.
+     *
+     * @param profession Player profession
+     * @param cyclesPerPhase Training cycles before every battle
+     * @param growth How the next enemy responds to the player's training
+     * @param policy Policy whose chooseTrainingStat picks each cycle (and plays the battles)
+     * @return TrainingPlan holding the policy's allocations
+     */
+    public TrainingPlan evaluate(Profession profession, int cyclesPerPhase, EnemyGrowth growth,
+                                 PlayerPolicy policy) {
+        Search search = new Search(profession, cyclesPerPhase, growth, policy);
+        long start = System.nanoTime();
+        return search.buildPlan(policy, start);
+    }
+
+    /**
+     * Fork/join task over the states of one layer.
+     */
+    private class LayerTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Search search;
+        private final List<long[]> states;
+        private final int from;
+        private final int to;
+
+        LayerTask(Search search, List<long[]> states, int from, int to) {
+            this.search = search;
+            this.states = states;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= STATES_PER_TASK) {
+                Evaluator evaluator = new Evaluator();
+                for (int i = from; i < to; i++) {
+                    long[] state = states.get(i);
+                    search.solveState((int) state[0], (int) state[1], (int) state[2], (int) state[3], evaluator);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new LayerTask(search, states, from, mid), new LayerTask(search, states, mid, to));
+        }
+    }
+
+    // ===== SEARCH =====
+
+    /**
+     * One optimization: model, value table and chosen allocations.
+     */
+    private class Search {
+        private final Profession profession;
+        private final Skill[] skills;
+        private final int[] baseStats;
+        private final int cycles;
+        private final EnemyGrowth growth;
+        private final PlayerPolicy battlePolicy;
+        private final int roster;
+        private final int[][] allocations;   // Every {STR, AGI, INT} split of one phase
+        private final SearchStats stats = new SearchStats();
+
+        // Keyed by (trained STR, AGI, INT, remaining mask) / plus next enemy for choices
+        private final Map<Long, Double> values = new ConcurrentHashMap<>();
+        private final Map<Long, int[]> choices = new ConcurrentHashMap<>();
+
+        Search(Profession profession, int cycles, EnemyGrowth growth, PlayerPolicy battlePolicy) {
+            if (profession == null || growth == null || battlePolicy == null) {
+                throw new IllegalArgumentException("Profession, growth and policy must be non-null");
+            }
+            if (cycles < 1 || cycles > MAX_CYCLES) {
+                throw new IllegalArgumentException("Cycles per phase must be between 1 and " + MAX_CYCLES);
+            }
+
+            this.roster = EnemiesData.getEnemyCount();
+            if (roster < 1 || roster > MAX_ROSTER) {
+                throw new IllegalArgumentException("Roster must have between 1 and " + MAX_ROSTER + " enemies");
+            }
+
+            this.profession = profession;
+            this.skills = SkillsData.getSkillsForProfession(profession);
+            Stat s = new EntitySystem().createPlayer(PLAYER_NAME, profession).getStats();
+            this.baseStats = new int[]{s.getStrength(), s.getAgility(), s.getIntelligence()};
+            this.cycles = cycles;
+            this.growth = growth;
+            this.battlePolicy = battlePolicy;
+            this.allocations = splits(cycles);
+        }
+
+        /**
+         * States {STR, AGI, INT, remaining mask} before battle number {@code layer}.
+         */
+        List<long[]> statesOfLayer(int layer) {
+            List<long[]> states = new ArrayList<>();
+            int remainingCount = roster - layer;
+            for (int mask = 0; mask < (1 << roster); mask++) {
+                if (Integer.bitCount(mask) != remainingCount) continue;
+                for (int[] trained : splits(layer * cycles)) {
+                    states.add(new long[]{trained[0], trained[1], trained[2], mask});
+                }
+            }
+            return states;
+        }
+
+        /**
+         * Solve one state: best allocation for each possible next enemy.
+         */
+        void solveState(int str, int agi, int intel, int mask, Evaluator evaluator) {
+            int m = allocations.length;
+            double[] future = new double[m];
+            double total = 0.0;
+
+            for (int enemyId = 0; enemyId < roster; enemyId++) {
+                if ((mask >> enemyId & 1) == 0) continue;
+                int nextMask = mask & ~(1 << enemyId);
+
+                for (int a = 0; a < m; a++) {
+                    int[] alloc = allocations[a];
+                    future[a] = value(str + alloc[0], agi + alloc[1], intel + alloc[2], nextMask);
+                }
+
+                boolean[] dominated = findDominated(str, agi, intel, enemyId, future);
+
+                // Best future first: once it can't beat the best score, stop
+                Integer[] orderIdx = new Integer[m];
+                for (int a = 0; a < m; a++) orderIdx[a] = a;
+                Arrays.sort(orderIdx, (x, y) -> Double.compare(future[y], future[x]));
+
+                int best = -1;
+                double bestScore = -1.0;
+                for (int rank = 0; rank < m; rank++) {
+                    int a = orderIdx[rank];
+                    if (dominated[a]) continue;
+                    if (best >= 0 && future[a] <= bestScore) {
+                        for (int rest = rank; rest < m; rest++) {
+                            if (!dominated[orderIdx[rest]]) stats.prunedByBound.incrementAndGet();
+                        }
+                        break;
+                    }
+
+                    int[] alloc = allocations[a];
+                    double win = evaluator.winProbability(this,
+                        str + alloc[0], agi + alloc[1], intel + alloc[2], enemyId, alloc);
+                    double score = win * future[a];
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = a;
+                    }
+                }
+
+                choices.put(choiceKey(str, agi, intel, mask, enemyId), allocations[best]);
+                total += bestScore;
+            }
+
+            values.put(stateKey(str, agi, intel, mask), total / Integer.bitCount(mask));
+        }
+
+        /**
+         * Mark allocations whose build is dominated by another allocation's.
+         */
+        private boolean[] findDominated(int str, int agi, int intel, int enemyId, double[] future) {
+            int m = allocations.length;
+            int[][] signatures = new int[m][];
+            for (int a = 0; a < m; a++) {
+                int[] alloc = allocations[a];
+                int[] player = playerStats(str + alloc[0], agi + alloc[1], intel + alloc[2]);
+                int[] enemy = enemyStats(enemyId, alloc);
+                signatures[a] = concat(derived(player), derived(enemy));
+            }
+
+            boolean[] dominated = new boolean[m];
+            for (int a = 0; a < m; a++) {
+                for (int b = 0; b < m && !dominated[a]; b++) {
+                    if (a == b || dominated[b] || future[b] < future[a]) continue;
+                    if (dominates(signatures[b], signatures[a])
+                            && (!Arrays.equals(signatures[a], signatures[b]) || future[b] > future[a] || b < a)) {
+                        dominated[a] = true;
+                        stats.prunedByDominance.incrementAndGet();
+                    }
+                }
+            }
+            return dominated;
+        }
+
+        double value(int str, int agi, int intel, int mask) {
+            if (mask == 0) return 1.0;
+            Double v = values.get(stateKey(str, agi, intel, mask));
+            if (v == null) {
+                throw new IllegalStateException("Layer solved out of order");
+            }
+            return v;
+        }
+
+        int[] playerStats(int str, int agi, int intel) {
+            return new int[]{
+                baseStats[0] + PLAYER_TRAINING_AMOUNT * str,
+                baseStats[1] + PLAYER_TRAINING_AMOUNT * agi,
+                baseStats[2] + PLAYER_TRAINING_AMOUNT * intel
+            };
+        }
+
+        int[] enemyStats(int enemyId, int[] alloc) {
+            EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(enemyId);
+            int grow = growth == EnemyGrowth.MIRROR ? ENEMY_TRAINING_AMOUNT : 0;
+            return new int[]{
+                template.getStrength() + grow * alloc[0],
+                template.getAgility() + grow * alloc[1],
+                template.getIntelligence() + grow * alloc[2]
+            };
+        }
+
+        /**
+         * Follow the chosen allocations (or a policy's choices) through every
+         * enemy order and collect the battle win probabilities.
+         */
+        TrainingPlan buildPlan(PlayerPolicy trainingPolicy, long startNanos) {
+            List<int[]> orders = new ArrayList<>();
+            permutations(new int[roster], 0, 0, orders);
+
+            Evaluator evaluator = new Evaluator();
+            List<int[][]> planAllocations = new ArrayList<>();
+            List<double[]> planWins = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                int[] order = orders.get(i);
+                SplittableRandom random = new SplittableRandom(BattleSimulationSystem.battleSeed(FALLBACK_SEED, i));
+                int[] trained = new int[3];
+                int mask = (1 << roster) - 1;
+                int[][] allocs = new int[roster][];
+                double[] wins = new double[roster];
+
+                for (int k = 0; k < roster; k++) {
+                    int enemyId = order[k];
+                    int[] alloc = trainingPolicy == null
+                        ? choices.get(choiceKey(trained[0], trained[1], trained[2], mask, enemyId))
+                        : policyAllocation(trainingPolicy, trained, enemyId, random);
+
+                    for (int s = 0; s < 3; s++) trained[s] += alloc[s];
+                    allocs[k] = alloc.clone();
+                    wins[k] = evaluator.winProbability(this, trained[0], trained[1], trained[2], enemyId, alloc);
+                    mask &= ~(1 << enemyId);
+                }
+                planAllocations.add(allocs);
+                planWins.add(wins);
+            }
+
+            return new TrainingPlan(profession, cycles, growth, orders, planAllocations, planWins,
+                stats, System.nanoTime() - startNanos);
+        }
+
+        /**
+         * Replay a policy's training for one phase on a scratch player.
+         */
+        private int[] policyAllocation(PlayerPolicy policy, int[] trained, int enemyId, SplittableRandom random) {
+            int[] start = playerStats(trained[0], trained[1], trained[2]);
+            Player player = new EntitySystem().createPlayer(PLAYER_NAME, profession, start[0], start[1], start[2]);
+            Enemy nextEnemy = EnemiesData.getEnemyByIndex(enemyId);
+
+            int[] alloc = new int[3];
+            for (int cycle = 0; cycle < cycles; cycle++) {
+                String stat = policy.chooseTrainingStat(player, nextEnemy, random);
+                int index = statIndex(stat);
+                alloc[index]++;
+                switch (index) {
+                    case 0: player.getStats().increaseStrength(PLAYER_TRAINING_AMOUNT); break;
+                    case 1: player.getStats().increaseAgility(PLAYER_TRAINING_AMOUNT); break;
+                    default: player.getStats().increaseIntelligence(PLAYER_TRAINING_AMOUNT); break;
+                }
+            }
+            return alloc;
+        }
+    }
+
+    // ===== EVALUATOR =====
+
+    /**
+     * Per-worker battle evaluation (BattleSolverSystem is not thread-safe).
+     */
+    private class Evaluator {
+        private final EntitySystem entitySystem = new EntitySystem();
+        private final BattleSolverSystem solver = new BattleSolverSystem();
+
+        /**
+         * Win probability of the trained player against the grown enemy.
+         */
+        double winProbability(Search search, int str, int agi, int intel, int enemyId, int[] alloc) {
+            int[] p = search.playerStats(str, agi, intel);
+            int[] e = search.enemyStats(enemyId, alloc);
+            BattleKey key = new BattleKey(search.profession, search.battlePolicy, enemyId, concat(derived(p), derived(e)));
+
+            Double known = memo.get(key);
+            if (known != null) {
+                search.stats.memoHits.incrementAndGet();
+                return known;
+            }
+
+            Player player = entitySystem.createPlayer(PLAYER_NAME, search.profession, p[0], p[1], p[2]);
+            Enemy enemy = EnemiesData.getEnemyByIndex(enemyId);
+            Stat es = enemy.getStats();
+            es.increaseStrength(e[0] - es.getStrength());
+            es.increaseAgility(e[1] - es.getAgility());
+            es.increaseIntelligence(e[2] - es.getIntelligence());
+
+            double win;
+            try {
+                win = solver.solve(player, search.skills, enemy, search.battlePolicy).getWinProbability();
+            } catch (IllegalArgumentException tooLarge) {
+                win = simulationSystem.simulate(player, search.skills, enemy, search.battlePolicy,
+                    FALLBACK_BATTLES, FALLBACK_SEED).getWinRate();
+            }
+
+            search.stats.evaluations.incrementAndGet();
+            memo.putIfAbsent(key, win);
+            return win;
+        }
+    }
+
+    /**
+     * Memo key: profession, battle policy, enemy and both sides' derived stats.
+     */
+    private static final class BattleKey {
+        private final Profession profession;
+        private final PlayerPolicy policy;
+        private final int enemyId;
+        private final int[] derived;
+        private final int hash;
+
+        BattleKey(Profession profession, PlayerPolicy policy, int enemyId, int[] derived) {
+            this.profession = profession;
+            this.policy = policy;
+            this.enemyId = enemyId;
+            this.derived = derived;
+            this.hash = 31 * (31 * (31 * profession.hashCode() + System.identityHashCode(policy)) + enemyId)
+                + Arrays.hashCode(derived);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof BattleKey)) return false;
+            BattleKey other = (BattleKey) o;
+            return profession == other.profession && policy == other.policy
+                && enemyId == other.enemyId && Arrays.equals(derived, other.derived);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Search counters (shared by the workers of one optimization).
+     */
+    private static final class SearchStats {
+        private final AtomicLong evaluations = new AtomicLong();
+        private final AtomicLong memoHits = new AtomicLong();
+        private final AtomicLong prunedByBound = new AtomicLong();
+        private final AtomicLong prunedByDominance = new AtomicLong();
+    }
+
+    // ===== HELPER METHODS =====
+
+    /**
+     * Everything a battle depends on: max HP / damage (STR), speed, evasion,
+     * accuracy and CDR. Higher is better for the owner in every component.
+     */
+    private static int[] derived(int[] stats) {
+        return new int[]{
+            stats[0],
+            Stat.speedFor(stats[1]),
+            Stat.evasionFor(stats[1]),
+            Stat.accuracyFor(stats[2]),
+            Stat.cooldownReductionFor(stats[2])
+        };
+    }
+
+    /**
+     * Whether signature b = (player derived, enemy derived) is at least as good
+     * for the player as a in every component.
+     */
+    private static boolean dominates(int[] b, int[] a) {
+        int half = b.length / 2;
+        for (int i = 0; i < half; i++) {
+            if (b[i] < a[i]) return false;
+        }
+        for (int i = half; i < b.length; i++) {
+            if (b[i] > a[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Every {STR, AGI, INT} split of n cycles.
+     */
+    private static int[][] splits(int n) {
+        int[][] result = new int[(n + 1) * (n + 2) / 2][];
+        int i = 0;
+        for (int str = n; str >= 0; str--) {
+            for (int agi = n - str; agi >= 0; agi--) {
+                result[i++] = new int[]{str, agi, n - str - agi};
+            }
+        }
+        return result;
+    }
+
+    private static void permutations(int[] order, int depth, int used, List<int[]> out) {
+        if (depth == order.length) {
+            out.add(order.clone());
+            return;
+        }
+        for (int id = 0; id < order.length; id++) {
+            if ((used >> id & 1) != 0) continue;
+            order[depth] = id;
+            permutations(order, depth + 1, used | (1 << id), out);
+        }
+    }
+
+    private static long stateKey(int str, int agi, int intel, int mask) {
+        return (((long) str * 1024 + agi) * 1024 + intel) * 64 + mask;
+    }
+
+    private static long choiceKey(int str, int agi, int intel, int mask, int enemyId) {
+        return stateKey(str, agi, intel, mask) * 8 + enemyId;
+    }
+
+    private static int statIndex(String stat) {
+        String upper = stat == null ? "" : stat.trim().toUpperCase();
+        switch (upper) {
+            case "STR": case "STRENGTH": return 0;
+            case "AGI": case "AGILITY": return 1;
+            case "INT": case "INTELLIGENCE": return 2;
+            default: throw new IllegalArgumentException("Unknown stat: " + stat);
+        }
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    // ===== ACCESSORS =====
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getMemoSize() { return memo.size(); }
+
+    /**
+     * Drop every memoized evaluation.
+     */
+    public void clearMemo() {
+        memo.clear();
+    }
+}
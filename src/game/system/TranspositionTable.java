@@ -0,0 +1,157 @@
+package game.system;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TranspositionTable caches evaluated battle positions by their Zobrist hash.
+ * Search reaches the same position through different move orders (hit-miss
+ * vs miss-hit, skills in either order); the table evaluates each one once.
+ *
+ * LAYOUT:
+ * - Fixed number of buckets (power of two), chosen by the low bits of the hash
+ * - Each bucket has 2 entries of 2 longs: (hash ^ data, data)
+ * - data packs: value (float bits) | depth | best action | generation
+ *
+ * LOCK-FREE:
+ * - Entries are written as two plain stores, no locks
+ * - A torn entry (two threads writing at once) fails the hash ^ data check
+ *   and reads as a miss - never as a wrong value
+ *
+ * REPLACEMENT (two-tier):
+ * - Entry 0 is depth-preferred: replaced by deeper results or by results
+ *   from a newer search generation
+ * - Entry 1 is always-replace: keeps the most recent result
+ * - EXACT_DEPTH marks values that are exact (subtree fully solved)
+ *
+ * Design: Shared by all search threads and kept across turns.
+ */
+public class TranspositionTable {
+
+    public static final int EXACT_DEPTH = 255;
+    public static final int DEFAULT_BUCKETS = 1 << 17; // 4 MB
+    private static final int NO_ACTION = 0xFF;
+
+    private final AtomicLongArray entries;
+    private final int mask;
+    private volatile int generation;
+
+    public TranspositionTable() {
+        this(DEFAULT_BUCKETS);
+    }
+
+    /**
+     * @param buckets Number of buckets (rounded up to a power of two)
+     */
+    public TranspositionTable(int buckets) {
+        if (buckets < 1 || buckets > (1 << 26)) {
+            throw new IllegalArgumentException("Bucket count must be between 1 and 2^26");
+        }
+
+        int size = Integer.highestOneBit(buckets);
+        if (size < buckets) size <<= 1;
+
+        this.entries = new AtomicLongArray(size * 4);
+        this.mask = size - 1;
+    }
+
+    // ===== PROBE / STORE =====
+
+    /**
+     * Look up a position.
+     *
+     * @param hash Zobrist hash
+     * @return Packed entry data, or 0 if not found
+     */
+    public long probe(long hash) {
+        int base = bucketOf(hash);
+        for (int slot = base; slot < base + 4; slot += 2) {
+            long data = entries.getOpaque(slot + 1);
+            if (data != 0 && (entries.getOpaque(slot) ^ data) == hash) {
+                return data;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Store an evaluated position.
+     *
+     * @param hash Zobrist hash
+     * @param value Value (enemy's point of view)
+     * @param depth Remaining depth searched, or EXACT_DEPTH
+     * @param action Best action at this position (BattleState.BASIC_ATTACK allowed)
+     */
+    public void store(long hash, double value, int depth, int action) {
+        long data = pack(value, depth, action, generation);
+        int base = bucketOf(hash);
+
+        long old = entries.getOpaque(base + 1);
+        boolean sameKey = old != 0 && (entries.getOpaque(base) ^ old) == hash;
+        if (old == 0 || sameKey || generationOf(old) != generation || depth >= depthOf(old)) {
+            write(base, hash, data);
+        } else {
+            write(base + 2, hash, data);
+        }
+    }
+
+    private void write(int slot, long hash, long data) {
+        entries.setOpaque(slot, hash ^ data);
+        entries.setOpaque(slot + 1, data);
+    }
+
+    private int bucketOf(long hash) {
+        return (int) (hash & mask) << 2;
+    }
+
+    /**
+     * Start a new search generation (older entries become replaceable).
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    /**
+     * Drop every entry.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.setOpaque(i, 0L);
+        }
+    }
+
+    public int getBucketCount() {
+        return mask + 1;
+    }
+
+    // ===== ENTRY PACKING =====
+
+    // data = value float bits (32) | depth (8) | action + 1 (8) | generation (8) | 1 (marks non-empty)
+    private static long pack(double value, int depth, int action, int generation) {
+        long bits = Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL;
+        return bits << 32
+            | (long) (Math.min(depth, EXACT_DEPTH) & 0xFF) << 24
+            | (long) ((action + 1) & NO_ACTION) << 16
+            | (long) (generation & 0xFF) << 8
+            | 1L;
+    }
+
+    public static double valueOf(long data) {
+        return Float.intBitsToFloat((int) (data >>> 32));
+    }
+
+    public static int depthOf(long data) {
+        return (int) (data >>> 24) & 0xFF;
+    }
+
+    public static boolean isExact(long data) {
+        return depthOf(data) == EXACT_DEPTH;
+    }
+
+    public static int actionOf(long data) {
+        return ((int) (data >>> 16) & 0xFF) - 1;
+    }
+
+    private static int generationOf(long data) {
+        return (int) (data >>> 8) & 0xFF;
+    }
+}
@@ -0,0 +1,644 @@
+package game.system;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * TurnScheduler orders any number of combatants by Action Value.
+ * Backing structure for ActionValueSystem, usable directly for party-vs-horde battles.
+ *
+ * HOW IT WORKS:
+ * - The scheduler keeps a global clock ("now")
+ * - Each combatant stores the absolute time of its next action
+ * - Current AV = next action time - now (never stored, never decremented)
+ * - An indexed min-heap keeps the next actor on top
+ *
+ * INTEGER TIMELINE:
+ * - Time is counted in long ticks, TICKS_PER_AV ticks per AV point
+ * - TICKS_PER_AV = 720720 (lcm of 1..16), so a full gauge of
+ *   BASE_AV * TICKS_PER_AV / speed ticks is exact for every realistic speed
+ * - Comparisons are integer compares: no drift, exact ties, deterministic replays
+ * - Double AV values are only produced at the API boundary for display
+ *
+ * COSTS:
+ * - Peek next actor: O(1)
+ * - Advance, add, remove, speed change: O(log n)
+ * - Preview k turns: O(n + k log n), does not touch live state
+ *
+ * TURN CYCLE CACHE:
+ * - With fixed speeds the timeline is periodic: every BASE_AV / gcd(speeds)
+ *   time units each unit has acted exactly speed / gcd times
+ * - So the turn sequence repeats every sum(speeds) / gcd(speeds) turns
+ * - The cycle is built once per roster or speed change and a rotating offset
+ *   follows advance(), making lookahead queries O(1) or O(log n) with no allocation
+ * - Cycles longer than MAX_CYCLE_LENGTH fall back to step-by-step simulation
+ *
+ * TIE-BREAKING (same action tick):
+ * 1. Players before enemies (matches the original player-first rule)
+ * 2. Earlier-added combatants first
+ *
+ * Design: Combatants are referred to by int handles returned from add().
+ * Handles are recycled after remove(). Not thread-safe.
+ */
+public class TurnScheduler {
+
+    private static final int MIN_SPEED = 1;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int MAX_CYCLE_LENGTH = 4096;
+    public static final long TICKS_PER_AV = 720720L;
+
+    private final int baseAV;
+    private long now;
+    private long nextSequence;
+    private long turnCount;   // Turns taken since the last clear()
+
+    // Per-handle data (struct of arrays)
+    private String[] names;
+    private boolean[] players;
+    private int[] speeds;
+    private long[] nextActionTimes;
+    private long[] sequences;
+    private int[] heapIndex;   // Position in heap, -1 if handle is free
+
+    // Heap of handles
+    private int[] heap;
+    private int size;
+
+    // Free handle stack
+    private int[] freeHandles;
+    private int freeCount;
+    private int highWater;
+
+    // Turn cycle cache
+    private int[] cycleActors;        // Actor for each cycle position
+    private long[] cycleTimes;        // Action tick relative to cycleBase
+    private int[][] cyclePositions;   // Sorted cycle positions per handle
+    private int cycleLength;
+    private int cycleOffset;          // Cycle position of the next turn
+    private long cycleBase;           // Absolute tick the current cycle lap started
+    private long cyclePeriod;         // Ticks in one lap
+    private boolean cycleValid;
+    private boolean cycleTooLong;
+
+    public TurnScheduler(int baseAV) {
+        if (baseAV <= 0) {
+            throw new IllegalArgumentException("Base AV must be positive");
+        }
+
+        this.baseAV = baseAV;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    // ===== COMBATANT MANAGEMENT =====
+
+    /**
+     * Add a combatant with a full AV gauge.
+     *
+     * @param name Display name
+     * @param isPlayer true for player-side units (win ties)
+     * @param speed Speed stat (clamped to at least 1)
+     * @return Handle for later queries
+     */
+    public int add(String name, boolean isPlayer, int speed) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            if (highWater == names.length) {
+                grow();
+            }
+            handle = highWater++;
+        }
+
+        int clamped = Math.max(MIN_SPEED, speed);
+        names[handle] = name;
+        players[handle] = isPlayer;
+        speeds[handle] = clamped;
+        nextActionTimes[handle] = now + fullAV(clamped);
+        sequences[handle] = nextSequence++;
+
+        heap[size] = handle;
+        heapIndex[handle] = size;
+        size++;
+        siftUp(size - 1);
+        invalidateCycle();
+
+        return handle;
+    }
+
+    /**
+     * Remove a combatant (e.g. defeated unit).
+     *
+     * @param handle Combatant handle
+     * @return true if the handle was active
+     */
+    public boolean remove(int handle) {
+        if (!isActive(handle)) {
+            return false;
+        }
+
+        int position = heapIndex[handle];
+        int last = heap[--size];
+        heapIndex[handle] = -1;
+        names[handle] = null;
+        freeHandles[freeCount++] = handle;
+        invalidateCycle();
+
+        if (position < size) {
+            heap[position] = last;
+            heapIndex[last] = position;
+            siftDown(position);
+            siftUp(heapIndex[last]);
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove all combatants and reset the clock.
+     */
+    public void clear() {
+        Arrays.fill(heapIndex, -1);
+        Arrays.fill(names, null);
+        size = 0;
+        freeCount = 0;
+        highWater = 0;
+        now = 0;
+        nextSequence = 0;
+        turnCount = 0;
+        invalidateCycle();
+    }
+
+    /**
+     * Change a combatant's speed, keeping its gauge progress.
+     * A unit halfway to acting stays halfway to acting.
+     *
+     * @param handle Combatant handle
+     * @param speed New speed (clamped to at least 1)
+     */
+    public void setSpeed(int handle, int speed) {
+        if (!isActive(handle)) {
+            return;
+        }
+
+        int newSpeed = Math.max(MIN_SPEED, speed);
+        long remaining = nextActionTimes[handle] - now;
+        long oldFull = fullAV(speeds[handle]);
+        speeds[handle] = newSpeed;
+        nextActionTimes[handle] = now + scale(remaining, fullAV(newSpeed), oldFull);
+
+        int position = heapIndex[handle];
+        siftUp(position);
+        siftDown(heapIndex[handle]);
+        invalidateCycle();
+    }
+
+    // ===== TURN ADVANCEMENT =====
+
+    /**
+     * Get the combatant who acts next.
+     *
+     * @return Handle, or -1 if empty
+     */
+    public int peek() {
+        return size > 0 ? heap[0] : -1;
+    }
+
+    /**
+     * Move time to the next actor and reset its gauge.
+     *
+     * @return Handle of the combatant who acted, or -1 if empty
+     */
+    public int advance() {
+        if (size == 0) {
+            return -1;
+        }
+
+        int actor = heap[0];
+        turnCount++;
+        now = nextActionTimes[actor];
+        nextActionTimes[actor] = now + fullAV(speeds[actor]);
+        siftDown(0);
+
+        if (cycleValid) {
+            if (cycleActors[cycleOffset] != actor) {
+                invalidateCycle(); // Out of sync - rebuild on next query
+            } else if (++cycleOffset == cycleLength) {
+                cycleOffset = 0;
+                cycleBase += cyclePeriod;
+            }
+        }
+
+        return actor;
+    }
+
+    // ===== PREVIEW =====
+
+    /**
+     * Preview the next turns without changing live state.
+     *
+     * @param turns Number of turns to preview
+     * @param actors Output: handle of each actor (length >= turns)
+     * @param actionValues Output: AV (relative to now) when each actor acts, may be null
+     * @return Number of entries written
+     */
+    public int preview(int turns, int[] actors, double[] actionValues) {
+        if (size == 0 || turns <= 0) {
+            return 0;
+        }
+
+        if (!ensureCycle()) {
+            long[] ticks = actionValues != null ? new long[turns] : null;
+            int produced = simulate(turns, actors, ticks, now);
+            for (int i = 0; actionValues != null && i < produced; i++) {
+                actionValues[i] = toAV(ticks[i]);
+            }
+            return produced;
+        }
+
+        for (int i = 0; i < turns; i++) {
+            actors[i] = peekAhead(i);
+            if (actionValues != null) {
+                actionValues[i] = getActionValueAhead(i);
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * Get who acts a number of turns from now.
+     *
+     * @param turnsAhead 0 = next actor
+     * @return Handle, or -1 if empty
+     */
+    public int peekAhead(int turnsAhead) {
+        if (size == 0 || turnsAhead < 0) {
+            return -1;
+        }
+        if (turnsAhead == 0) {
+            return heap[0];
+        }
+        if (ensureCycle()) {
+            return cycleActors[(int) ((cycleOffset + (long) turnsAhead) % cycleLength)];
+        }
+
+        int[] actors = new int[turnsAhead + 1];
+        simulate(turnsAhead + 1, actors, null, now);
+        return actors[turnsAhead];
+    }
+
+    /**
+     * Get the AV (relative to now) at which a future turn happens.
+     *
+     * @param turnsAhead 0 = next actor
+     */
+    public double getActionValueAhead(int turnsAhead) {
+        return toAV(getTicksAhead(turnsAhead));
+    }
+
+    /**
+     * Get the exact tick count (relative to now) at which a future turn happens.
+     *
+     * @param turnsAhead 0 = next actor
+     */
+    public long getTicksAhead(int turnsAhead) {
+        if (size == 0 || turnsAhead < 0) {
+            return 0;
+        }
+        if (turnsAhead == 0) {
+            return nextActionTimes[heap[0]] - now;
+        }
+        if (ensureCycle()) {
+            long position = cycleOffset + (long) turnsAhead;
+            long laps = position / cycleLength;
+            int index = (int) (position % cycleLength);
+            return cycleBase + laps * cyclePeriod + cycleTimes[index] - now;
+        }
+
+        long[] ticks = new long[turnsAhead + 1];
+        simulate(turnsAhead + 1, new int[turnsAhead + 1], ticks, now);
+        return ticks[turnsAhead];
+    }
+
+    /**
+     * Count turns until a combatant acts for the k-th time.
+     * Example: occurrence 1 returns 0 if the combatant acts next.
+     *
+     * @param handle Combatant handle
+     * @param occurrence Which action to look for (1 = next one)
+     * @return Turns before that action, or -1 if unknown
+     */
+    public int turnsUntil(int handle, int occurrence) {
+        if (!isActive(handle) || occurrence < 1) {
+            return -1;
+        }
+
+        if (ensureCycle()) {
+            int[] positions = cyclePositions[handle];
+            int count = positions.length;
+            int first = lowerBound(positions, cycleOffset);
+            long target = first + (long) occurrence - 1;
+            long laps = target / count;
+            int index = (int) (target % count);
+            long turns = positions[index] + laps * cycleLength - cycleOffset;
+            return turns > Integer.MAX_VALUE ? -1 : (int) turns;
+        }
+
+        // Fallback: step until found (bounded)
+        int limit = MAX_CYCLE_LENGTH * 4;
+        int[] actors = new int[limit];
+        int produced = simulate(limit, actors, null, now);
+        int seen = 0;
+        for (int i = 0; i < produced; i++) {
+            if (actors[i] == handle && ++seen == occurrence) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the length of the cached turn cycle.
+     *
+     * @return Turns per cycle, or 0 if the cycle is too long to cache
+     */
+    public int getCycleLength() {
+        return ensureCycle() ? cycleLength : 0;
+    }
+
+    // ===== TURN CYCLE CACHE =====
+
+    private void invalidateCycle() {
+        cycleValid = false;
+        cycleTooLong = false;
+    }
+
+    /**
+     * Build the turn cycle from the current state if needed.
+     *
+     * @return true if the cache is usable
+     */
+    private boolean ensureCycle() {
+        if (cycleValid) return true;
+        if (cycleTooLong || size == 0) return false;
+
+        int g = 0;
+        long speedSum = 0;
+        for (int i = 0; i < size; i++) {
+            int speed = speeds[heap[i]];
+            g = gcd(g, speed);
+            speedSum += speed;
+        }
+
+        long length = speedSum / g;
+        if (length > MAX_CYCLE_LENGTH) {
+            cycleTooLong = true;
+            return false;
+        }
+
+        // Lap = speed / gcd full gauges for everyone; only periodic if gauges are exact
+        long period = fullAV(speeds[heap[0]]) * (speeds[heap[0]] / g);
+        for (int i = 1; i < size; i++) {
+            int speed = speeds[heap[i]];
+            if (fullAV(speed) * (speed / g) != period) {
+                cycleTooLong = true;
+                return false;
+            }
+        }
+
+        cycleLength = (int) length;
+        cyclePeriod = period;
+        cycleBase = now;
+        cycleOffset = 0;
+        if (cycleActors == null || cycleActors.length < cycleLength) {
+            cycleActors = new int[cycleLength];
+            cycleTimes = new long[cycleLength];
+        }
+
+        simulate(cycleLength, cycleActors, cycleTimes, now); // Relative to cycleBase
+
+        // Positions of each combatant within the cycle
+        int[] counts = new int[highWater];
+        for (int i = 0; i < cycleLength; i++) {
+            counts[cycleActors[i]]++;
+        }
+        cyclePositions = new int[highWater][];
+        for (int handle = 0; handle < highWater; handle++) {
+            cyclePositions[handle] = new int[counts[handle]];
+            counts[handle] = 0;
+        }
+        for (int i = 0; i < cycleLength; i++) {
+            int actor = cycleActors[i];
+            cyclePositions[actor][counts[actor]++] = i;
+        }
+
+        cycleValid = true;
+        return true;
+    }
+
+    /**
+     * Step through turns on a detached copy of the heap.
+     *
+     * @param origin Time subtracted from each reported action time
+     */
+    private int simulate(int turns, int[] actors, long[] times, long origin) {
+        int[] simHeap = Arrays.copyOf(heap, size);
+        long[] simTimes = Arrays.copyOf(nextActionTimes, highWater);
+
+        for (int i = 0; i < turns; i++) {
+            int actor = simHeap[0];
+            long actionTime = simTimes[actor];
+            actors[i] = actor;
+            if (times != null) {
+                times[i] = actionTime - origin;
+            }
+            simTimes[actor] = actionTime + fullAV(speeds[actor]);
+            siftDown(simHeap, size, simTimes, 0);
+        }
+
+        return turns;
+    }
+
+    private static int lowerBound(int[] sorted, int key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    // ===== QUERIES =====
+
+    public boolean isActive(int handle) {
+        return handle >= 0 && handle < highWater && heapIndex[handle] >= 0;
+    }
+
+    /**
+     * Get current AV (time until this combatant acts).
+     */
+    public double getActionValue(int handle) {
+        return toAV(getActionTicks(handle));
+    }
+
+    /**
+     * Get exact ticks until this combatant acts.
+     */
+    public long getActionTicks(int handle) {
+        return isActive(handle) ? nextActionTimes[handle] - now : 0;
+    }
+
+    /**
+     * Get AV of a full gauge for this combatant (BASE_AV / speed).
+     */
+    public double getFullActionValue(int handle) {
+        return isActive(handle) ? toAV(fullAV(speeds[handle])) : 0;
+    }
+
+    public String getName(int handle) { return isActive(handle) ? names[handle] : null; }
+    public boolean isPlayer(int handle) { return isActive(handle) && players[handle]; }
+    public int getSpeed(int handle) { return isActive(handle) ? speeds[handle] : 0; }
+    public double getNow() { return toAV(now); }
+    public long getNowTicks() { return now; }
+    public long getTurnCount() { return turnCount; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int getBaseAV() { return baseAV; }
+
+    // ===== HEAP OPERATIONS =====
+
+    private long fullAV(int speed) {
+        return baseAV * TICKS_PER_AV / speed;
+    }
+
+    /**
+     * value * numerator / denominator (rounded down) for non-negative values.
+     * Full gauges reach BASE_AV * TICKS_PER_AV ticks (7.2e9 at speed 1), so the
+     * product can pass Long.MAX_VALUE; then the exact 128-bit path is used.
+     */
+    private static long scale(long value, long numerator, long denominator) {
+        long high = Math.multiplyHigh(value, numerator);
+        long low = value * numerator;
+        if (high == 0 && low >= 0) {
+            return low / denominator;
+        }
+        return BigInteger.valueOf(value).multiply(BigInteger.valueOf(numerator))
+            .divide(BigInteger.valueOf(denominator)).longValueExact();
+    }
+
+    private static double toAV(long ticks) {
+        return (double) ticks / TICKS_PER_AV;
+    }
+
+    /**
+     * Heap order: earlier time, then player side, then earlier added.
+     */
+    private boolean before(int a, int b, long[] times) {
+        if (times[a] != times[b]) {
+            return times[a] < times[b];
+        }
+        if (players[a] != players[b]) {
+            return players[a];
+        }
+        return sequences[a] < sequences[b];
+    }
+
+    private void siftUp(int position) {
+        int handle = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentHandle = heap[parent];
+            if (!before(handle, parentHandle, nextActionTimes)) {
+                break;
+            }
+            heap[position] = parentHandle;
+            heapIndex[parentHandle] = position;
+            position = parent;
+        }
+        heap[position] = handle;
+        heapIndex[handle] = position;
+    }
+
+    private void siftDown(int position) {
+        int handle = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && before(heap[right], heap[child], nextActionTimes)) {
+                child = right;
+            }
+            if (!before(heap[child], handle, nextActionTimes)) {
+                break;
+            }
+            heap[position] = heap[child];
+            heapIndex[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = handle;
+        heapIndex[handle] = position;
+    }
+
+    /**
+     * Sift on a detached heap (used by preview).
+     */
+    private void siftDown(int[] simHeap, int simSize, long[] times, int position) {
+        int handle = simHeap[position];
+        int half = simSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < simSize && before(simHeap[right], simHeap[child], times)) {
+                child = right;
+            }
+            if (!before(simHeap[child], handle, times)) {
+                break;
+            }
+            simHeap[position] = simHeap[child];
+            position = child;
+        }
+        simHeap[position] = handle;
+    }
+
+    // ===== STORAGE =====
+
+    private void allocate(int capacity) {
+        names = new String[capacity];
+        players = new boolean[capacity];
+        speeds = new int[capacity];
+        nextActionTimes = new long[capacity];
+        sequences = new long[capacity];
+        heapIndex = new int[capacity];
+        heap = new int[capacity];
+        freeHandles = new int[capacity];
+        Arrays.fill(heapIndex, -1);
+    }
+
+    private void grow() {
+        int oldCapacity = names.length;
+        int capacity = oldCapacity * 2;
+        names = Arrays.copyOf(names, capacity);
+        players = Arrays.copyOf(players, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        nextActionTimes = Arrays.copyOf(nextActionTimes, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        heapIndex = Arrays.copyOf(heapIndex, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        freeHandles = Arrays.copyOf(freeHandles, capacity);
+        Arrays.fill(heapIndex, oldCapacity, capacity, -1);
+    }
+}
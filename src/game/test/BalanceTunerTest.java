@@ -0,0 +1,68 @@
+package game.test;
+
+import game.core.*;
+import game.data.EnemiesData;
+import game.system.*;
+import java.util.EnumSet;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * BalanceTunerTest tunes the balance numbers towards one target win rate for
+ * every profession x enemy pair (starting builds, HIGHEST_READY policy) and
+ * prints the shipped win rates, the tuned numbers and a validation run.
+ *
+ * Usage: BalanceTunerTest [targetWinRate] [battlesPerPair] [maxEvaluations] [groups]
+ * groups: comma-separated ParameterGroup names (default: all)
+ */
+public class BalanceTunerTest {
+
+    private static final double DEFAULT_TARGET = 0.5;
+
+    public static void main(String[] args) {
+        double target = args.length > 0 ? Double.parseDouble(args[0]) : DEFAULT_TARGET;
+        int battles = args.length > 1 ? Integer.parseInt(args[1]) : BalanceTunerSystem.DEFAULT_BATTLES;
+        int maxEvaluations = args.length > 2 ? Integer.parseInt(args[2]) : BalanceTunerSystem.DEFAULT_MAX_EVALUATIONS;
+        EnumSet<BalanceTunerSystem.ParameterGroup> groups = EnumSet.allOf(BalanceTunerSystem.ParameterGroup.class);
+        if (args.length > 3) {
+            groups.clear();
+            for (String name : args[3].split(",")) {
+                groups.add(BalanceTunerSystem.ParameterGroup.valueOf(name.trim().toUpperCase()));
+            }
+        }
+
+        BalanceTunerSystem tuner = new BalanceTunerSystem(ForkJoinPool.commonPool(),
+            PlayerPolicySystem.HIGHEST_READY, battles, 42L);
+
+        printSeparator("=");
+        System.out.println("       BALANCE TUNER - target " + String.format("%.1f%%", target * 100)
+            + " | " + battles + " battles per pair");
+        System.out.println("       Parameters: " + tuner.getParameterCount() + " | Groups: " + groups
+            + " | Threads: " + tuner.getPool().getParallelism());
+        printSeparator("=");
+
+        double[][] shipped = tuner.evaluateShipped();
+        System.out.println("Shipped balance: " + BalanceProfile.DEFAULT);
+        for (Profession profession : Profession.values()) {
+            StringBuilder row = new StringBuilder(String.format("  %-8s", profession));
+            for (int id = 0; id < EnemiesData.getEnemyCount(); id++) {
+                row.append(String.format(" | %s %.1f%%", EnemiesData.getTemplate(id).getName(),
+                    shipped[profession.ordinal()][id] * 100));
+            }
+            System.out.println(row);
+        }
+        printSeparator("-");
+
+        BalanceTunerSystem.TuningResult result = tuner.tune(BalanceTunerSystem.uniformTargets(target),
+            groups, maxEvaluations, BalanceTunerSystem.DEFAULT_TOLERANCE);
+        System.out.println(result.getSummary());
+        System.out.println("Tuned balance: " + result.getProfile());
+        printSeparator("=");
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
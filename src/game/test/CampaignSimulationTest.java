@@ -0,0 +1,49 @@
+package game.test;
+
+import game.core.*;
+import game.system.*;
+
+/**
+ * CampaignSimulationTest runs whole campaigns headlessly from the console.
+ * For every training style (battles played by the LOOKAHEAD policy), plays
+ * each profession through shuffled enemy queues and prints the completion funnel.
+ *
+ * Usage: CampaignSimulationTest [campaignsPerProfession] [seed]
+ */
+public class CampaignSimulationTest {
+
+    private static final int DEFAULT_CAMPAIGNS = 100_000;
+    private static final long DEFAULT_SEED = 42L;
+
+    public static void main(String[] args) {
+        int campaigns = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CAMPAIGNS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        CampaignSimulationSystem campaignSystem = new CampaignSimulationSystem();
+
+        printSeparator("=");
+        System.out.println("       CAMPAIGN SIMULATION - " + campaigns + " campaigns per profession");
+        System.out.println("       Threads: " + campaignSystem.getPool().getParallelism() + " | Seed: " + seed);
+        printSeparator("=");
+
+        for (PlayerPolicySystem.TrainingStyle style : PlayerPolicySystem.TrainingStyle.values()) {
+            System.out.println("Training style: " + style);
+            printSeparator("-");
+
+            PlayerPolicy policy = PlayerPolicySystem.withTraining(PlayerPolicySystem.LOOKAHEAD, style);
+            for (Profession profession : Profession.values()) {
+                CampaignSimulationSystem.CampaignResult result = campaignSystem.simulate(
+                    profession, policy, campaigns, seed);
+                System.out.println(result.getSummary());
+                printSeparator("-");
+            }
+        }
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
@@ -19,10 +19,14 @@ import java.util.*;
  * - Player stat training
  * - Combat with hit/miss mechanics
  * - Real-time AV readiness bars
+ * - "A" lets the auto-play policy pick a skill or training stat
+ * - Optional hard mode: enemies search ahead (SearchAISystem)
  */
 public class ConsoleUITest {
 
     private static final Scanner scanner = new Scanner(System.in);
+    private static SplittableRandom random;
+    private static final PlayerPolicy autoPolicy = PlayerPolicySystem.LOOKAHEAD;
     
     // Systems
     private static EntitySystem entitySystem;
@@ -32,6 +36,7 @@ public class ConsoleUITest {
     private static CooldownSystem cooldownSystem;
     private static CombatSystem combatSystem;
     private static EnemyAISystem enemyAISystem;
+    private static EnemyArchetypeRegistry archetypes; // This game's enemy AIs (hard mode swaps them)
     private static ActionValueSystem actionValueSystem;
     private static GameFlowSystem gameFlowSystem;
     
@@ -42,6 +47,9 @@ public class ConsoleUITest {
     private static int currentEnemyIndex = 0;
 
     public static void main(String[] args) {
+        // Optional seed argument for reproducible runs
+        random = args.length > 0 ? new SplittableRandom(Long.parseLong(args[0])) : new SplittableRandom();
+
         initializeSystems();
         displayWelcome();
         
@@ -57,12 +65,14 @@ public class ConsoleUITest {
     private static void initializeSystems() {
         entitySystem = new EntitySystem();
         playerTrainingSystem = new PlayerTrainingSystem(entitySystem);
-        enemyTrainingSystem = new EnemyTrainingSystem(entitySystem);
+        enemyTrainingSystem = new EnemyTrainingSystem(entitySystem, random.split());
         skillSystem = new SkillSystem();
         cooldownSystem = new CooldownSystem();
-        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
-        enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, random.split());
+        archetypes = new EnemyArchetypeRegistry();
+        enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem, archetypes);
         actionValueSystem = new ActionValueSystem(entitySystem);
+        enemyAISystem.setActionValueSystem(actionValueSystem);
         gameFlowSystem = new GameFlowSystem(
             entitySystem, playerTrainingSystem, enemyTrainingSystem,
             skillSystem, cooldownSystem, combatSystem, enemyAISystem
@@ -92,6 +102,14 @@ public class ConsoleUITest {
         String playerName = scanner.nextLine().trim();
         if (playerName.isEmpty()) playerName = "Hero";
         
+        // Hard mode
+        System.out.print("Hard mode - enemies search ahead? (y/N): ");
+        if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            new SearchAISystem().enableHardMode(archetypes);
+            enemyAISystem.invalidateContext();
+            System.out.println("→ Hard mode on");
+        }
+        
         // Create player
         player = entitySystem.createPlayer(playerName, profession);
         playerSkills = SkillsData.getSkillsForProfession(profession);
@@ -115,7 +133,6 @@ public class ConsoleUITest {
      * Shuffle enemy array using Fisher-Yates algorithm.
      */
     private static void shuffleEnemies(Enemy[] array) {
-        Random random = new Random();
         for (int i = array.length - 1; i > 0; i--) {
             int j = random.nextInt(i + 1);
             // Swap
@@ -183,7 +200,7 @@ public class ConsoleUITest {
         printSeparator("=");
         System.out.println("Next opponent: " + enemy.getName());
         System.out.println("Specialization: " + EnemiesData.getEnemySpecialization(enemy.getName()));
-        System.out.println("AI Strategy: " + EnemiesData.getEnemyAIDescription(enemy.getName()));
+        System.out.println("AI Strategy: " + enemyAISystem.getAIDescription(enemy));
         printSeparator("-");
         displayStats(player, enemy);
         printSeparator("=");
@@ -192,7 +209,6 @@ public class ConsoleUITest {
 
     private static void runTrainingPhase(Enemy enemy) {
         // Randomize training cycles from 3 to 7
-        Random random = new Random();
         int trainingCycles = 3 + random.nextInt(5); // 3 to 7 (inclusive)
         
         System.out.println("\nThis training phase will have " + trainingCycles + " cycles.");
@@ -231,11 +247,12 @@ public class ConsoleUITest {
             System.out.println("1. Strength (STR) - Increases HP and Damage");
             System.out.println("2. Agility (AGI) - Increases Speed and Evasion");
             System.out.println("3. Intelligence (INT) - Increases Accuracy and CDR");
-            System.out.print("Enter choice (1-3): ");
+            System.out.println("A. Auto (let the policy choose)");
+            System.out.print("Enter choice (1-3, A): ");
             
             String choice = scanner.nextLine().trim();
             
-            switch (choice) {
+            switch (choice.toUpperCase()) {
                 case "1": 
                     stat = "STRENGTH";
                     validChoice = true;
@@ -248,8 +265,12 @@ public class ConsoleUITest {
                     stat = "INTELLIGENCE";
                     validChoice = true;
                     break;
+                case "A":
+                    stat = autoPolicy.chooseTrainingStat(player, enemies[currentEnemyIndex], random);
+                    validChoice = true;
+                    break;
                 default:
-                    System.out.println("\n❌ Invalid choice! Please enter 1, 2, or 3.\n");
+                    System.out.println("\n❌ Invalid choice! Please enter 1, 2, 3 or A.\n");
             }
         }
         
@@ -281,7 +302,7 @@ public class ConsoleUITest {
                          "/" + enemies.length);
         printSeparator("=");
         System.out.println("Opponent: " + enemy.getName());
-        System.out.println("AI: " + EnemiesData.getEnemyAIDescription(enemy.getName()));
+        System.out.println("AI: " + enemyAISystem.getAIDescription(enemy));
         printSeparator("=");
         
         // Prepare for battle
@@ -409,12 +430,14 @@ public class ConsoleUITest {
             System.out.println("   Reasoning: " + intent.getReasoning());
             
             // Get player choice
-            System.out.print("\nChoose skill (1-" + playerSkills.length + "): ");
+            System.out.print("\nChoose skill (1-" + playerSkills.length + ", A = auto): ");
             String choice = scanner.nextLine().trim();
             
             int skillIndex;
             try {
-                skillIndex = Integer.parseInt(choice) - 1;
+                skillIndex = choice.equalsIgnoreCase("A")
+                    ? PlayerPolicySystem.chooseUsableSkillIndex(autoPolicy, player, enemy, playerSkills, cooldownSystem)
+                    : Integer.parseInt(choice) - 1;
             } catch (NumberFormatException e) {
                 System.out.println("\n❌ Invalid input! Please enter a number.");
                 pressEnterToContinue();
@@ -0,0 +1,144 @@
+package game.test;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * PolicyTableGenerator solves every default matchup offline and writes the
+ * policy table file that the game memory-maps at startup.
+ * Reloads the written file and checks it against the in-memory tables, then
+ * plays each matchup on the live AV turn order and checks that the bound
+ * LiveTable hint matches a full capture of the battle on every player turn.
+ *
+ * Usage: PolicyTableGenerator [outputFile]
+ */
+public class PolicyTableGenerator {
+
+    private static final int LIVE_BATTLES = 100; // Per matchup
+
+    public static void main(String[] args) throws Exception {
+        Path file = Paths.get(args.length > 0 ? args[0] : PolicyTableSystem.DEFAULT_FILE);
+        PolicyTableSystem tableSystem = new PolicyTableSystem();
+
+        printSeparator("=");
+        System.out.println("       POLICY TABLES - value iteration per matchup");
+        printSeparator("=");
+
+        List<PolicyTableSystem.SolvedTable> tables = tableSystem.solveAll();
+        for (PolicyTableSystem.SolvedTable table : tables) {
+            System.out.println(table);
+        }
+
+        tableSystem.write(file, tables);
+        int loaded = tableSystem.load(file);
+        printSeparator("-");
+        System.out.println("Wrote " + loaded + " matchups to " + file + " (" + Files.size(file) + " bytes)");
+
+        // Spot check: every matchup's opening move reads back from the mapped file
+        EntitySystem entitySystem = new EntitySystem();
+        int mismatches = 0;
+        for (Profession profession : Profession.values()) {
+            Player player = entitySystem.createPlayer("Hero", profession);
+            Skill[] skills = SkillsData.getSkillsForProfession(profession);
+            for (Enemy enemy : EnemiesData.getAllEnemyTypes()) {
+                int hint = tableSystem.bestPlayerSkill(player, skills, enemy, null);
+                int enemyMove = tableSystem.bestEnemySkill(enemy, player, null);
+                System.out.println(profession + " vs " + enemy.getName()
+                    + " | Player opening: " + hint + " | Enemy opening: " + enemyMove);
+                if (hint == PolicyTableSystem.NO_ENTRY || enemyMove == PolicyTableSystem.NO_ENTRY) {
+                    mismatches++;
+                }
+            }
+        }
+        System.out.println(mismatches == 0 ? "All matchups covered" : mismatches + " matchups missing!");
+
+        printSeparator("-");
+        checkLiveHints(tableSystem, LIVE_BATTLES, 42);
+    }
+
+    /**
+     * Play every matchup like BattleScreen (AV turn order, cooldowns tick at the
+     * start of each side's turn, enemy uses its first skill or a basic attack)
+     * and compare the bound hint with a lookup on a full capture of the battle.
+     * Also counts turns where a capture without the live turn order (rebuilt
+     * from speeds) would have read a different phase's move.
+     */
+    private static void checkLiveHints(PolicyTableSystem tableSystem, int battles, long seed) {
+        EntitySystem entitySystem = new EntitySystem();
+        SkillSystem skillSystem = new SkillSystem();
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem,
+            new SplittableRandom(seed));
+        ActionValueSystem turnOrder = new ActionValueSystem(entitySystem);
+
+        int[] counts = new int[3]; // Player turns, mismatches, turns where a rebuilt order differs
+        for (Profession profession : Profession.values()) {
+            Skill[] skills = SkillsData.getSkillsForProfession(profession);
+            for (Enemy enemy : EnemiesData.getAllEnemyTypes()) {
+                for (int battle = 0; battle < battles; battle++) {
+                    Player player = entitySystem.createPlayer("Hero", profession);
+                    combatSystem.prepareBattle(player, enemy);
+                    turnOrder.initializeBattle(player, enemy);
+                    PolicyTableSystem.LiveTable live = tableSystem.bind(player, skills, enemy, turnOrder);
+                    if (live == null) {
+                        System.out.println(profession + " vs " + enemy.getName() + " | not covered");
+                        counts[1]++;
+                        break;
+                    }
+                    playLiveBattle(tableSystem, live, player, skills, enemy, turnOrder,
+                        entitySystem, skillSystem, cooldownSystem, combatSystem, counts);
+                    turnOrder.endBattle();
+                }
+            }
+        }
+        System.out.println("Live hints: " + counts[0] + " player turns, " + counts[1] + " mismatches"
+            + " | Rebuilt turn order would differ on " + counts[2] + " turns");
+        System.out.println(counts[1] == 0 ? "Live hints OK" : "Live hints FAILED!");
+    }
+
+    private static void playLiveBattle(PolicyTableSystem tableSystem, PolicyTableSystem.LiveTable live,
+                                       Player player, Skill[] skills, Enemy enemy, ActionValueSystem turnOrder,
+                                       EntitySystem entitySystem, SkillSystem skillSystem,
+                                       CooldownSystem cooldownSystem, CombatSystem combatSystem, int[] counts) {
+        while (!combatSystem.isCombatOver(player, enemy)) {
+            if (turnOrder.isPlayerTurn()) {
+                cooldownSystem.tickPlayerCooldowns(player);
+                int hint = live.bestPlayerSkill();
+                int expected = tableSystem.lookup(BattleState.captureLive(player, skills, enemy, true,
+                    turnOrder, entitySystem, skillSystem, cooldownSystem, combatSystem));
+                int rebuilt = tableSystem.lookup(BattleState.captureLive(player, skills, enemy, true,
+                    null, entitySystem, skillSystem, cooldownSystem, combatSystem));
+                counts[0]++;
+                if (hint != expected) counts[1]++;
+                if (rebuilt != expected) counts[2]++;
+
+                int move = hint >= 0 && cooldownSystem.getRemainingCooldown(player, skills[hint]) == 0
+                    ? hint : PlayerPolicySystem.chooseUsableSkillIndex(PlayerPolicySystem.HIGHEST_READY,
+                        player, enemy, skills, cooldownSystem);
+                combatSystem.playerAttack(player, enemy, skills[move]);
+            } else {
+                cooldownSystem.tickEnemyCooldowns(enemy);
+                Skill skill = enemy.hasSkills() ? enemy.getSkills()[0] : null;
+                if (skill != null && cooldownSystem.getRemainingCooldown(enemy, skill) == 0) {
+                    combatSystem.enemyAttack(enemy, player, skill);
+                } else {
+                    combatSystem.enemyBasicAttack(enemy, player);
+                }
+            }
+            turnOrder.advanceToNextTurn();
+        }
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
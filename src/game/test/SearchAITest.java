@@ -0,0 +1,172 @@
+package game.test;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * SearchAITest plays the hard-mode search AI against a greedy player from the console.
+ * Every profession meets every enemy type twice per battle seed: once with
+ * the shipped enemy AI and once with the search AI, both picked through
+ * EnemyAISystem on the live turn order (the same path the game uses).
+ * Prints both enemy win rates and the search's decision latency.
+ *
+ * Passes when every hard-mode decision was made by the search within its
+ * deadline (plus slack). Win rates are reported, not asserted: the search
+ * stops on a wall-clock deadline, so its depth varies from run to run.
+ *
+ * Usage: SearchAITest [battlesPerMatchup] [deadlineMillis] [seed]
+ */
+public class SearchAITest {
+
+    private static final int DEFAULT_BATTLES = 20;
+    private static final long DEFAULT_DEADLINE_MILLIS = 5;
+    private static final long DEFAULT_SEED = 42L;
+    private static final long LATENCY_SLACK_MILLIS = 250;
+    private static final int MAX_TURNS = 500;
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATTLES;
+        long deadlineMillis = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_DEADLINE_MILLIS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        EntitySystem entitySystem = new EntitySystem();
+        SkillSystem skillSystem = new SkillSystem();
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        ActionValueSystem turnOrder = new ActionValueSystem(entitySystem);
+
+        EnemyAISystem shippedAI = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem,
+            EnemyArchetypeRegistry.DEFAULTS);
+        shippedAI.setActionValueSystem(turnOrder);
+
+        SearchAISystem searchAI = new SearchAISystem(ForkJoinPool.commonPool(), deadlineMillis);
+        EnemyArchetypeRegistry hardMode = new EnemyArchetypeRegistry();
+        searchAI.enableHardMode(hardMode);
+        EnemyAISystem hardAI = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem, hardMode);
+        hardAI.setActionValueSystem(turnOrder);
+
+        printSeparator("=");
+        System.out.println("       SEARCH AI vs GREEDY PLAYER - " + battles + " battles per matchup");
+        System.out.println("       Deadline: " + deadlineMillis + " ms | Seed: " + seed);
+        printSeparator("=");
+
+        long[] shippedTotals = new long[2]; // {enemy wins, battles}
+        long[] hardTotals = new long[2];
+        long[] latency = new long[3];       // {decisions, total nanos, max nanos}
+        long[] unsearched = new long[1];
+
+        for (Profession profession : Profession.values()) {
+            Skill[] skills = SkillsData.getSkillsForProfession(profession);
+            for (Enemy enemy : EnemiesData.getAllEnemyTypes()) {
+                long[] shipped = new long[2];
+                long[] hard = new long[2];
+                for (int b = 0; b < battles; b++) {
+                    long battleSeed = seed + b;
+                    playBattle(shippedAI, profession, skills, enemy, turnOrder, battleSeed,
+                        entitySystem, skillSystem, cooldownSystem, shipped, null, null);
+                    playBattle(hardAI, profession, skills, enemy, turnOrder, battleSeed,
+                        entitySystem, skillSystem, cooldownSystem, hard, latency, unsearched);
+                }
+
+                System.out.printf("%-8s vs %-14s shipped AI %5.1f%% | search AI %5.1f%%%n",
+                    profession, enemy.getName(), percent(shipped), percent(hard));
+                shippedTotals[0] += shipped[0];
+                shippedTotals[1] += shipped[1];
+                hardTotals[0] += hard[0];
+                hardTotals[1] += hard[1];
+            }
+        }
+
+        printSeparator("-");
+        double avgMillis = latency[0] == 0 ? 0 : latency[1] / 1e6 / latency[0];
+        System.out.printf("Enemy win rate: shipped AI %.1f%% | search AI %.1f%% (%+.1f points)%n",
+            percent(shippedTotals), percent(hardTotals), percent(hardTotals) - percent(shippedTotals));
+        System.out.printf("Search decisions: %d | avg %.2f ms | max %.2f ms%n",
+            latency[0], avgMillis, latency[2] / 1e6);
+
+        report("Every hard-mode decision came from the search", unsearched[0] == 0);
+        report("Decisions stay within the deadline", latency[2] <= (deadlineMillis + LATENCY_SLACK_MILLIS) * 1_000_000L);
+
+        searchAI.disableHardMode(hardMode);
+        report("disableHardMode restores the shipped archetypes",
+            hardMode.get(EnemiesData.MINOTAUR).getAIType() == EnemyAISystem.AIType.STRATEGIC);
+
+        printSeparator("=");
+        if (failures == 0) {
+            System.out.println("All search AI checks passed");
+        } else {
+            System.out.println(failures + " search AI check(s) FAILED!");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Play one battle in AV turn order: greedy player, enemy chosen by the given AI.
+     * Adds {enemy win, 1} to result; times every decision into latency when given.
+     */
+    private static void playBattle(EnemyAISystem ai, Profession profession, Skill[] skills, Enemy enemy,
+                                   ActionValueSystem turnOrder, long seed, EntitySystem entitySystem,
+                                   SkillSystem skillSystem, CooldownSystem cooldownSystem,
+                                   long[] result, long[] latency, long[] unsearched) {
+        Player player = entitySystem.createPlayer("Hero", profession);
+        CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem,
+            new SplittableRandom(seed));
+
+        combatSystem.prepareBattle(player, enemy);
+        turnOrder.initializeBattle(player, enemy);
+        ai.invalidateContext();
+
+        for (int turn = 0; turn < MAX_TURNS && !combatSystem.isCombatOver(player, enemy); turn++) {
+            if (turnOrder.isPlayerTurn()) {
+                cooldownSystem.tickPlayerCooldowns(player);
+                int move = PlayerPolicySystem.chooseUsableSkillIndex(PlayerPolicySystem.GREEDY_DAMAGE,
+                    player, enemy, skills, cooldownSystem);
+                combatSystem.playerAttack(player, enemy, skills[move]);
+            } else {
+                cooldownSystem.tickEnemyCooldowns(enemy);
+                long start = System.nanoTime();
+                EnemyAISystem.AIDecision decision = ai.chooseSkill(enemy, player);
+                long elapsed = System.nanoTime() - start;
+                if (latency != null) {
+                    latency[0]++;
+                    latency[1] += elapsed;
+                    latency[2] = Math.max(latency[2], elapsed);
+                    if (decision.getReason() != EnemyAISystem.AIDecision.Reason.SEARCHED) unsearched[0]++;
+                }
+
+                if (decision.isBasicAttack()) {
+                    combatSystem.enemyBasicAttack(enemy, player);
+                } else {
+                    combatSystem.enemyAttack(enemy, player, enemy.getSkills()[decision.getSkillIndex()]);
+                }
+            }
+            turnOrder.advanceToNextTurn();
+        }
+        turnOrder.endBattle();
+
+        if (!entitySystem.isAlive(player)) result[0]++;
+        result[1]++;
+    }
+
+    private static double percent(long[] winsAndBattles) {
+        return winsAndBattles[1] == 0 ? 0 : 100.0 * winsAndBattles[0] / winsAndBattles[1];
+    }
+
+    private static void report(String label, boolean passed) {
+        System.out.println((passed ? "PASS  " : "FAIL  ") + label);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
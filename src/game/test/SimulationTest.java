@@ -0,0 +1,95 @@
+package game.test;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+
+/**
+ * SimulationTest runs a headless balance pass from the console.
+ * Simulates every profession against every enemy type with default stats,
+ * then prints the exact solver result, a lockstep batch-kernel run and a
+ * column-store run of the same matchup as cross-checks, and the exact win
+ * rate of every built-in player policy.
+ *
+ * Usage: SimulationTest [battlesPerMatchup] [seed]
+ */
+public class SimulationTest {
+
+    private static final int DEFAULT_BATTLES = 100_000;
+    private static final long DEFAULT_SEED = 42L;
+
+    private static final String[] POLICY_NAMES = {"highest-ready", "greedy", "rotation", "lookahead"};
+    private static final PlayerPolicy[] POLICIES = {
+        PlayerPolicySystem.HIGHEST_READY,
+        PlayerPolicySystem.GREEDY_DAMAGE,
+        PlayerPolicySystem.ROTATION,
+        PlayerPolicySystem.LOOKAHEAD
+    };
+
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATTLES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        EntitySystem entitySystem = new EntitySystem();
+        BattleSimulationSystem simulationSystem = new BattleSimulationSystem();
+        BattleSolverSystem solverSystem = new BattleSolverSystem();
+        BatchBattleKernel batchKernel = new BatchBattleKernel();
+
+        printSeparator("=");
+        System.out.println("       BALANCE SIMULATION - " + battles + " battles per matchup");
+        System.out.println("       Threads: " + simulationSystem.getPool().getParallelism() + " | Seed: " + seed);
+        printSeparator("=");
+
+        int[] differs = new int[POLICIES.length]; // Matchups where a policy's exact win rate differs from POLICIES[0]
+        for (Profession profession : Profession.values()) {
+            Player build = entitySystem.createPlayer("Hero", profession);
+            Skill[] skills = SkillsData.getSkillsForProfession(profession);
+
+            for (Enemy enemy : EnemiesData.getAllEnemyTypes()) {
+                BattleSimulationSystem.SimulationResult result = simulationSystem.simulate(
+                    build, skills, enemy, PlayerPolicySystem.HIGHEST_READY, battles, seed);
+
+                System.out.println(profession + " vs " + enemy.getName());
+                System.out.println(result.getSummary());
+
+                BattleSolverSystem.SolverResult exact = solverSystem.solve(
+                    build, skills, enemy, PlayerPolicySystem.HIGHEST_READY);
+                System.out.println("Exact: " + exact);
+
+                BatchBattleKernel.BatchResult batch = batchKernel.run(
+                    build, skills, enemy, PlayerPolicySystem.HIGHEST_READY, battles, seed);
+                System.out.println("Batch: " + batch);
+
+                BatchBattleKernel.BatchResult store = batchKernel.runStore(
+                    build, skills, enemy, PlayerPolicySystem.HIGHEST_READY, battles, seed);
+                boolean same = store.getPlayerWins() == batch.getPlayerWins()
+                    && store.getEnemyWins() == batch.getEnemyWins()
+                    && store.getAverageTurns() == batch.getAverageTurns();
+                System.out.println("Store: " + store + (same ? " | matches batch" : " | MISMATCH"));
+
+                StringBuilder policies = new StringBuilder("Policies:");
+                for (int p = 0; p < POLICIES.length; p++) {
+                    BattleSolverSystem.SolverResult policyResult = solverSystem.solve(build, skills, enemy, POLICIES[p]);
+                    if (policyResult.getWinProbability() != exact.getWinProbability()) differs[p]++;
+                    policies.append(" ").append(POLICY_NAMES[p]).append(" ")
+                        .append(String.format("%.2f%%", policyResult.getWinProbability() * 100));
+                }
+                System.out.println(policies);
+                printSeparator("-");
+            }
+        }
+
+        StringBuilder summary = new StringBuilder("Matchups where a policy differs from " + POLICY_NAMES[0] + ":");
+        for (int p = 1; p < POLICIES.length; p++) {
+            summary.append(" ").append(POLICY_NAMES[p]).append(" ").append(differs[p]);
+        }
+        System.out.println(summary);
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,51 @@
+package game.test;
+
+import game.core.*;
+import game.system.*;
+
+/**
+ * TrainingOptimizerTest prints the best training plan per profession and
+ * compares it with the built-in training styles in the same model
+ * (TrainingScreen rules, battles played by the LOOKAHEAD policy).
+ *
+ * Usage: TrainingOptimizerTest [cyclesPerBattle] [NONE|MIRROR]
+ */
+public class TrainingOptimizerTest {
+
+    private static final int DEFAULT_CYCLES = 5;
+
+    public static void main(String[] args) {
+        int cycles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CYCLES;
+        TrainingOptimizerSystem.EnemyGrowth growth = args.length > 1
+            ? TrainingOptimizerSystem.EnemyGrowth.valueOf(args[1].toUpperCase())
+            : TrainingOptimizerSystem.EnemyGrowth.MIRROR;
+
+        TrainingOptimizerSystem optimizer = new TrainingOptimizerSystem();
+
+        printSeparator("=");
+        System.out.println("       TRAINING OPTIMIZER - " + cycles + " cycles per battle, growth " + growth);
+        System.out.println("       Threads: " + optimizer.getPool().getParallelism());
+        printSeparator("=");
+
+        for (Profession profession : Profession.values()) {
+            TrainingOptimizerSystem.TrainingPlan plan = optimizer.optimize(
+                profession, cycles, growth, PlayerPolicySystem.LOOKAHEAD);
+            System.out.println(plan.getSummary());
+
+            for (PlayerPolicySystem.TrainingStyle style : PlayerPolicySystem.TrainingStyle.values()) {
+                TrainingOptimizerSystem.TrainingPlan scored = optimizer.evaluate(profession, cycles, growth,
+                    PlayerPolicySystem.withTraining(PlayerPolicySystem.LOOKAHEAD, style));
+                System.out.println(String.format("  vs %-12s %.2f%%", style, scored.getClearProbability() * 100));
+            }
+            printSeparator("-");
+        }
+        System.out.println("Memoized battles: " + optimizer.getMemoSize());
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,171 @@
+package game.test;
+
+import game.core.*;
+import game.data.*;
+import game.system.*;
+
+/**
+ * TranspositionTableTest checks the search's position cache from the console.
+ * Entries must round-trip through their packed form, the two-tier
+ * replacement policy must keep the deepest result of the current search
+ * next to the most recent one, and BattleState's Zobrist keys must tell
+ * apart positions that differ only in a cooldown or in the turn phase.
+ *
+ * Usage: TranspositionTableTest
+ */
+public class TranspositionTableTest {
+
+    private static final long HASH_A = 0x1234_5678_9ABC_DEF0L;
+    private static final long HASH_B = 0x0FED_CBA9_8765_4320L;
+    private static final long HASH_C = 0x7777_0000_7777_0000L;
+    private static final long HASH_D = 0x0101_0101_0101_0101L;
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        printSeparator("=");
+        System.out.println("       TRANSPOSITION TABLE CHECKS");
+        printSeparator("=");
+
+        checkRoundTrip();
+        checkReplacement();
+        checkNewSearchReplacesDeepEntry();
+        checkClear();
+        checkZobristKeys();
+
+        printSeparator("-");
+        System.out.println(failures == 0 ? "All checks passed" : failures + " check(s) FAILED");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Value, depth and action come back as stored; EXACT_DEPTH reads as exact.
+     */
+    private static void checkRoundTrip() {
+        TranspositionTable table = new TranspositionTable(1024);
+        table.store(HASH_A, 0.625, 7, 2);
+        table.store(HASH_C, -1.0, TranspositionTable.EXACT_DEPTH, BattleState.BASIC_ATTACK);
+
+        long a = table.probe(HASH_A);
+        report("Stored entry is found", a != 0);
+        report("Value, depth and action round-trip",
+            TranspositionTable.valueOf(a) == 0.625 && TranspositionTable.depthOf(a) == 7
+                && TranspositionTable.actionOf(a) == 2 && !TranspositionTable.isExact(a));
+
+        long c = table.probe(HASH_C);
+        report("Exact entry keeps BASIC_ATTACK and reads as exact",
+            TranspositionTable.valueOf(c) == -1.0 && TranspositionTable.isExact(c)
+                && TranspositionTable.actionOf(c) == BattleState.BASIC_ATTACK);
+
+        report("Unknown hash misses", table.probe(HASH_D) == 0 && table.probe(HASH_A ^ 1) == 0);
+        report("Bucket count rounds up to a power of two", new TranspositionTable(1000).getBucketCount() == 1024);
+    }
+
+    /**
+     * One bucket, one generation: entry 0 keeps the deepest result,
+     * entry 1 always takes the latest shallower one.
+     */
+    private static void checkReplacement() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(HASH_A, 0.5, 5, 0);
+        table.store(HASH_B, 0.25, 3, 1);  // Shallower: goes to entry 1
+        report("Shallower result lands next to the deeper one",
+            depth(table, HASH_A) == 5 && depth(table, HASH_B) == 3);
+
+        table.store(HASH_C, 0.75, 2, 2);  // Shallower again: replaces entry 1
+        report("Always-replace entry takes the latest result",
+            depth(table, HASH_C) == 2 && table.probe(HASH_B) == 0 && depth(table, HASH_A) == 5);
+
+        table.store(HASH_D, 0.0, 6, 0);   // Deeper: replaces entry 0
+        report("Deeper result replaces the depth-preferred entry",
+            depth(table, HASH_D) == 6 && table.probe(HASH_A) == 0 && depth(table, HASH_C) == 2);
+
+        table.store(HASH_D, 0.125, 1, 1); // Same position: refreshed in place
+        report("Same position is refreshed in place, even when shallower",
+            depth(table, HASH_D) == 1 && depth(table, HASH_C) == 2);
+    }
+
+    /**
+     * After newSearch(), a shallow result may evict last search's deep entry.
+     */
+    private static void checkNewSearchReplacesDeepEntry() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(HASH_A, 0.5, 9, 0);
+        table.store(HASH_B, 0.25, 1, 1);
+        report("Same generation keeps the deep entry", depth(table, HASH_A) == 9);
+
+        table.newSearch();
+        table.store(HASH_C, 0.75, 1, 2);
+        report("New generation replaces the old deep entry",
+            depth(table, HASH_C) == 1 && table.probe(HASH_A) == 0 && depth(table, HASH_B) == 1);
+    }
+
+    private static void checkClear() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(HASH_A, 0.5, 4, 0);
+        table.store(HASH_C, 0.5, 4, 0);
+        table.clear();
+        report("clear() drops every entry", table.probe(HASH_A) == 0 && table.probe(HASH_C) == 0);
+    }
+
+    /**
+     * Positions that differ in one field only must hash differently,
+     * and the incremental hash must match a full recompute.
+     */
+    private static void checkZobristKeys() {
+        EntitySystem entitySystem = new EntitySystem();
+        SkillSystem skillSystem = new SkillSystem();
+        CooldownSystem cooldownSystem = new CooldownSystem();
+        CombatSystem combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
+
+        Player player = entitySystem.createPlayer("Hero", Profession.WARRIOR);
+        Skill[] skills = SkillsData.getSkillsForProfession(Profession.WARRIOR);
+        Enemy enemy = EnemiesData.getEnemyByIndex(EnemiesData.MINOTAUR);
+        BattleState.Model model = BattleState.createModel(player, skills, enemy, new boolean[]{true, false, true},
+            entitySystem, skillSystem, cooldownSystem, combatSystem);
+
+        int[] noCooldowns = new int[model.getPlayerSkillCount()];
+        int[] enemyCooldowns = new int[model.getEnemySkillCount()];
+        int[] oneCooldown = noCooldowns.clone();
+        oneCooldown[1] = 1;
+
+        BattleState base = new BattleState(model);
+        base.load(50, 60, noCooldowns, enemyCooldowns, 0);
+        BattleState twin = new BattleState(model);
+        twin.load(50, 60, noCooldowns, enemyCooldowns, 0);
+        BattleState cooling = new BattleState(model);
+        cooling.load(50, 60, oneCooldown, enemyCooldowns, 0);
+        BattleState laterPhase = new BattleState(model);
+        laterPhase.load(50, 60, noCooldowns, enemyCooldowns, 2);
+
+        report("Equal positions hash equal", base.getHash() == twin.getHash());
+        report("Positions differing only in a cooldown hash differently", base.getHash() != cooling.getHash());
+        report("Positions differing only in phase hash differently", base.getHash() != laterPhase.getHash());
+
+        BattleState played = base.copy();
+        played.apply(1, true);  // Player hits, enemy's turn begins
+        played.apply(BattleState.BASIC_ATTACK, false);
+        report("Incremental hash matches a full recompute", played.getHash() == played.computeHash());
+    }
+
+    private static int depth(TranspositionTable table, long hash) {
+        long data = table.probe(hash);
+        return data != 0 ? TranspositionTable.depthOf(data) : -1;
+    }
+
+    private static void report(String label, boolean passed) {
+        System.out.println((passed ? "PASS  " : "FAIL  ") + label);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,118 @@
+package game.test;
+
+import game.system.TurnScheduler;
+
+/**
+ * TurnSchedulerTest cross-checks the cached turn cycle from the console.
+ * Cycles are rebuilt mid-battle (after turns have passed and after a speed
+ * change), then every preview is compared with a twin scheduler that is
+ * simply stepped forward with advance(). Speed changes at the slowest speeds
+ * must keep gauge progress (no tick overflow).
+ *
+ * Usage: TurnSchedulerTest
+ */
+public class TurnSchedulerTest {
+
+    private static final int BASE_AV = 10000;
+    private static final int PREVIEW_TURNS = 40;
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        printSeparator("=");
+        System.out.println("       TURN SCHEDULER CHECKS");
+        printSeparator("=");
+
+        checkMidBattleCycle("Warrior vs Killer Bunny", new int[]{6, 8}, 5, -1, 0);
+        checkMidBattleCycle("Party of three", new int[]{7, 6, 9}, 11, -1, 0);
+        checkMidBattleCycle("Speed change mid-battle", new int[]{6, 8}, 3, 0, 9);
+        checkSlowSpeedChange(1, 2);
+        checkSlowSpeedChange(3, 1);
+
+        printSeparator("-");
+        System.out.println(failures == 0 ? "All checks passed" : failures + " check(s) FAILED");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Advance both twins, optionally change a speed, then compare the cached
+     * preview of one with the step-by-step timeline of the other.
+     */
+    private static void checkMidBattleCycle(String label, int[] speeds, int turnsBefore,
+                                            int speedHandle, int newSpeed) {
+        TurnScheduler cached = build(speeds);
+        TurnScheduler stepped = build(speeds);
+        for (int i = 0; i < turnsBefore; i++) {
+            cached.advance();
+            stepped.advance();
+        }
+        if (speedHandle >= 0) {
+            cached.setSpeed(speedHandle, newSpeed);
+            stepped.setSpeed(speedHandle, newSpeed);
+        }
+
+        int[] actors = new int[PREVIEW_TURNS];
+        double[] actionValues = new double[PREVIEW_TURNS];
+        cached.preview(PREVIEW_TURNS, actors, actionValues);
+        long start = stepped.getNowTicks();
+
+        int mismatches = 0;
+        for (int i = 0; i < PREVIEW_TURNS; i++) {
+            long expectedTicks = cached.getTicksAhead(i);
+            int actor = stepped.advance();
+            long actualTicks = stepped.getNowTicks() - start;
+            if (actor != actors[i] || actualTicks != expectedTicks
+                    || Math.abs(actionValues[i] - (double) actualTicks / TurnScheduler.TICKS_PER_AV) > 1e-9) {
+                if (mismatches++ == 0) {
+                    System.out.println("  turn " + i + ": preview " + actors[i] + " @ " + expectedTicks
+                        + " ticks, stepped " + actor + " @ " + actualTicks + " ticks");
+                }
+            }
+        }
+
+        report(label + " (cycle " + cached.getCycleLength() + ", from tick " + start + ")", mismatches == 0);
+    }
+
+    /**
+     * Halfway to acting at one speed must stay halfway at another, even when
+     * remaining * new full gauge exceeds a long (slow speeds).
+     */
+    private static void checkSlowSpeedChange(int oldSpeed, int newSpeed) {
+        TurnScheduler scheduler = new TurnScheduler(BASE_AV);
+        int slow = scheduler.add("Slow", true, oldSpeed);
+        int fast = scheduler.add("Fast", false, oldSpeed * 2);
+        scheduler.advance(); // Fast acts: Slow is now halfway
+
+        double before = scheduler.getActionValue(slow) / scheduler.getFullActionValue(slow);
+        scheduler.setSpeed(slow, newSpeed);
+        double after = scheduler.getActionValue(slow) / scheduler.getFullActionValue(slow);
+
+        report(String.format("Speed %d -> %d keeps gauge progress (%.4f -> %.4f, AV %.2f)", oldSpeed, newSpeed,
+            before, after, scheduler.getActionValue(slow)),
+            scheduler.getActionValue(slow) > 0 && Math.abs(before - after) < 1e-9 && scheduler.isActive(fast));
+    }
+
+    private static TurnScheduler build(int[] speeds) {
+        TurnScheduler scheduler = new TurnScheduler(BASE_AV);
+        for (int i = 0; i < speeds.length; i++) {
+            scheduler.add("Unit " + i, i == 0, speeds[i]);
+        }
+        return scheduler;
+    }
+
+    private static void report(String label, boolean passed) {
+        System.out.println((passed ? "PASS  " : "FAIL  ") + label);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    private static void printSeparator(String symbol) {
+        for (int i = 0; i < 60; i++) {
+            System.out.print(symbol);
+        }
+        System.out.println();
+    }
+}
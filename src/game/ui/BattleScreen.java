@@ -3,20 +3,25 @@ package game.ui;
 import game.core.*;
 import game.system.*;
 import game.data.*;
+import javafx.animation.PauseTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
+import javafx.util.Duration;
 
 public class BattleScreen {
 
+    private static final int AUTO_TURN_DELAY_MS = 700; // Pause between auto-battle moves
+
     private final Player player;
     private final Enemy enemy;
     private final CombatSystem combatSystem;
@@ -26,8 +31,11 @@ public class BattleScreen {
     private VBox enemyStatsBox;
     private VBox logBox;
     private HBox skillButtonsBox;
+    private ToggleButton autoBtn;
 
-    private boolean playerTurn = true;
+    private boolean playerTurn = false;
+    private boolean battleOver = false;
+    private boolean autoTurnPending = false;
 
     public BattleScreen(Player player, Enemy enemy, CombatSystem combatSystem,
                         java.util.function.Consumer<Boolean> afterBattle) {
@@ -79,14 +87,26 @@ public class BattleScreen {
         ));
         logBox.setPrefHeight(150);
 
-        // Skill buttons
+        // Skill buttons (filled when the player's first turn begins)
         skillButtonsBox = new HBox(10);
         skillButtonsBox.setAlignment(Pos.CENTER);
-        updateSkillButtons(); // initial creation
 
-        main.getChildren().addAll(title, characters, statsBox, skillButtonsBox, logBox);
+        // Auto-battle: the session's PlayerPolicy takes the player's turns
+        autoBtn = new ToggleButton("Auto-battle");
+        autoBtn.setStyle("-fx-background-color:#3b2f2f;-fx-text-fill:#d4af37;-fx-font-weight:bold;");
+        autoBtn.setOnAction(e -> {
+            if (autoBtn.isSelected()) scheduleAutoTurn();
+        });
+        HBox autoBox = new HBox(autoBtn);
+        autoBox.setAlignment(Pos.CENTER);
+
+        main.getChildren().addAll(title, characters, statsBox, skillButtonsBox, autoBox, logBox);
         root.getChildren().addAll(bg, main);
 
+        // Turn order by AV (a faster enemy may act first or several times in a row)
+        GameSession.beginBattle(player, enemy);
+        nextTurn();
+
         return new Scene(root, 800, 600);
     }
 
@@ -126,6 +146,7 @@ public class BattleScreen {
     private void updateSkillButtons() {
         skillButtonsBox.getChildren().clear();
         Skill[] skills = SkillsData.getSkillsForProfession(player.getProfession());
+        int hint = GameSession.getBestSkillHint();
 
         for (int i = 0; i < skills.length; i++) {
             Skill skill = skills[i];
@@ -133,6 +154,7 @@ public class BattleScreen {
 
             int cd = GameSession.getCooldownSystem().getRemainingCooldown(player, skill);
             if (cd > 0) btn.setText(skill.getName() + " (CD " + cd + ")");
+            if (i == hint) btn.setText("★ " + btn.getText()); // Best move from policy tables
 
             final int index = i;
             btn.setOnAction(e -> usePlayerSkill(index));
@@ -144,8 +166,8 @@ public class BattleScreen {
     private void usePlayerSkill(int skillIndex) {
         if (!playerTurn) return;
 
-        Skill[] skills = SkillsData.getSkillsForProfession(player.getProfession());
-        Skill skill = skills[skillIndex];
+        Skill skill = SkillsData.getSkill(player.getProfession(), skillIndex);
+        if (skill == null) return;
 
         if (GameSession.getCooldownSystem().getRemainingCooldown(player, skill) > 0) return;
 
@@ -161,23 +183,56 @@ public class BattleScreen {
             return;
         }
 
-        // Tick cooldowns
+        playerTurn = false;
+        GameSession.getActionValueSystem().advanceToNextTurn();
+        nextTurn();
+    }
+
+    /**
+     * Start the next turn in AV order. An enemy turn is decided in the
+     * background and comes back here; a player turn enables the skills.
+     * Each side's cooldowns tick at the start of its own turn.
+     */
+    private void nextTurn() {
+        if (GameSession.getActionValueSystem().isEnemyTurn()) {
+            GameSession.getCooldownSystem().tickEnemyCooldowns(enemy);
+            decideEnemyTurn();
+            return;
+        }
+
         GameSession.getCooldownSystem().tickPlayerCooldowns(player);
-        GameSession.getCooldownSystem().tickEnemyCooldowns(enemy);
+        playerTurn = true;
+        updateSkillButtons();
+        if (autoBtn.isSelected()) scheduleAutoTurn();
+    }
 
-        // Enemy turn
-        playerTurn = false;
-        handleEnemyTurn();
+    /**
+     * Ask the enemy AI on a background thread (hard mode searches for up to
+     * its deadline), then play the move on the JavaFX thread.
+     */
+    private void decideEnemyTurn() {
+        EnemyAISystem ai = GameSession.getEnemyAISystem();
+        Thread thinker = new Thread(() -> {
+            EnemyAISystem.AIDecision decision = ai.chooseSkill(enemy, player);
+            javafx.application.Platform.runLater(() -> {
+                if (handleEnemyTurn(decision)) return; // Battle over
+                GameSession.getActionValueSystem().advanceToNextTurn();
+                nextTurn();
+            });
+        }, "enemy-ai");
+        thinker.setDaemon(true);
+        thinker.start();
     }
 
-    private void handleEnemyTurn() {
+    /**
+     * @return true if the battle ended
+     */
+    private boolean handleEnemyTurn(EnemyAISystem.AIDecision decision) {
         CombatSystem.CombatResult result;
-        Skill skill = enemy.hasSkills() ? enemy.getSkills()[0] : null;
-
-        if (skill != null && GameSession.getCooldownSystem().getRemainingCooldown(enemy, skill) == 0) {
-            result = combatSystem.enemyAttack(enemy, player, skill);
-        } else {
+        if (decision.isBasicAttack()) {
             result = combatSystem.enemyBasicAttack(enemy, player);
+        } else {
+            result = combatSystem.enemyAttack(enemy, player, enemy.getSkills()[decision.getSkillIndex()]);
         }
 
         appendLog(result.getMessage());
@@ -186,19 +241,35 @@ public class BattleScreen {
 
         if (combatSystem.isCombatOver(player, enemy)) {
             endCombat();
-            return;
+            return true;
         }
+        return false;
+    }
 
-        // Restore player's turn
-        playerTurn = true;
-        updateSkillButtons();
+    private void scheduleAutoTurn() {
+        if (autoTurnPending || battleOver) return;
+        autoTurnPending = true;
+
+        PauseTransition delay = new PauseTransition(Duration.millis(AUTO_TURN_DELAY_MS));
+        delay.setOnFinished(e -> {
+            autoTurnPending = false;
+            if (!autoBtn.isSelected() || !playerTurn || battleOver) return;
+
+            Skill[] skills = SkillsData.getSkillsForProfession(player.getProfession());
+            usePlayerSkill(PlayerPolicySystem.chooseUsableSkillIndex(
+                    GameSession.getAutoPolicy(), player, enemy, skills, GameSession.getCooldownSystem()));
+        });
+        delay.play();
     }
 
     private void endCombat() {
         boolean playerWon = combatSystem.didPlayerWin(player, enemy);
 
         appendLog(playerWon ? "🎉 You won!" : "💀 You were defeated!");
+        battleOver = true;
+        GameSession.endBattle();
         skillButtonsBox.setDisable(true);
+        autoBtn.setDisable(true);
 
         // Use callback to SceneManager for EndScreen transition
         if (afterBattleCallback != null) {
@@ -2,9 +2,11 @@ package game.ui;
 
 import game.core.Player;
 import game.core.Profession;
+import game.core.Skill;
 import game.core.Stat;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.image.ImageView;
@@ -14,6 +16,7 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import java.util.List;
 import game.core.Enemy;
+import game.data.EnemiesData;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.paint.Color;
 
@@ -77,6 +80,22 @@ public class CharacterCreation extends StackPane {
         TextField nameField = new TextField("Hero");
         nameBox.getChildren().addAll(nameLabel, nameField);
 
+        // Optional seed input (blank = random run)
+        HBox seedBox = new HBox(10);
+        seedBox.setAlignment(Pos.CENTER);
+        Label seedLabel = new Label("Seed:");
+        seedLabel.setFont(Font.font("Consolas", FontWeight.BOLD, 16));
+        seedLabel.setTextFill(Color.LIGHTGRAY);
+        TextField seedField = new TextField();
+        seedField.setPromptText("optional");
+        seedBox.getChildren().addAll(seedLabel, seedField);
+
+        // Hard mode: enemies search ahead instead of following fixed rules
+        CheckBox hardModeBox = new CheckBox("Hard mode");
+        hardModeBox.setFont(Font.font("Consolas", FontWeight.BOLD, 16));
+        hardModeBox.setTextFill(Color.LIGHTGRAY);
+        hardModeBox.setSelected(GameSession.isHardMode());
+
         // Start button
         Button startBtn = createButton("Start Adventure");
         startBtn.setOnAction(e -> {
@@ -84,22 +103,45 @@ public class CharacterCreation extends StackPane {
             if (name.isEmpty()) name = "Hero";
             Player player = new Player(name, selected[0], new Stat(5, 5, 5));
 
-            // Initialize enemies for the training session
+            // Initialize enemies for the training session (template skills and AI, session stats)
             List<Enemy> enemies = List.of(
-                new Enemy("Minotaur", new Stat(20, 20, 30)),
-                new Enemy("Killer Rabbit", new Stat(25, 25, 20)),
-                new Enemy("Mindflayer", new Stat(15, 30, 20))
+                templateEnemy("Minotaur", new Stat(20, 20, 30), EnemiesData.MINOTAUR),
+                templateEnemy("Killer Rabbit", new Stat(25, 25, 20), EnemiesData.KILLER_BUNNY),
+                templateEnemy("Mindflayer", new Stat(15, 30, 20), EnemiesData.MINDFLAYER)
             );
-            GameSession.init(player, enemies);
+            GameSession.setHardMode(hardModeBox.isSelected());
+            GameSession.init(player, enemies, parseSeed(seedField.getText()));
 
             // Show training screen
             SceneManager.showTrainingScreen(player);
         });
 
-        center.getChildren().addAll(title, charDisplay, profButtons, profDesc, nameBox, startBtn);
+        center.getChildren().addAll(title, charDisplay, profButtons, profDesc, nameBox, seedBox, hardModeBox, startBtn);
         getChildren().addAll(bg, center);
     }
 
+    /**
+     * Enemy with a template's skills and type (so its AI applies) under its own name and stats.
+     * The name picks the battle image.
+     */
+    private static Enemy templateEnemy(String name, Stat stats, int typeId) {
+        EnemiesData.EnemyTemplate template = EnemiesData.getTemplate(typeId);
+        Skill[] skills = new Skill[template.getSkillCount()];
+        for (int i = 0; i < skills.length; i++) {
+            skills[i] = template.getSkill(i);
+        }
+        return new Enemy(name, stats, skills, typeId);
+    }
+
+    private Long parseSeed(String text) {
+        if (text == null || text.trim().isEmpty()) return null;
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            return (long) text.trim().hashCode(); // Any text works as a seed
+        }
+    }
+
     private Button createButton(String text) {
         Button btn = new Button(text);
         btn.setStyle(
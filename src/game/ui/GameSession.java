@@ -4,6 +4,10 @@ import game.core.*;
 import game.data.*;
 import game.system.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class GameSession {
@@ -15,32 +19,78 @@ public class GameSession {
     private static CombatSystem combatSystem;
     private static EnemyAISystem enemyAISystem;
     private static ActionValueSystem actionValueSystem;
+    private static PolicyTableSystem policyTables; // Optional, memory-mapped once
+    private static PolicyTableSystem.LiveTable hintTable; // Policy tables bound to the running battle
+    private static PlayerPolicy autoPolicy = PlayerPolicySystem.LOOKAHEAD; // Auto-battle / auto-train
+    private static SearchAISystem searchAI; // Hard mode, created on first use
+    private static boolean hardMode = false;
 
     // ================== GAME STATE ==================
     private static Player player;
     private static Queue<Enemy> enemies;
 
+    // ================== RANDOMNESS ==================
+    private static SplittableRandom random;
+    private static Long seed;
+
     /**
      * Call ONCE when starting a new game
      * (after character creation)
      */
     public static void init(Player p, List<Enemy> enemyPool) {
+        init(p, enemyPool, null);
+    }
+
+    /**
+     * Start a new game with an optional seed.
+     * The same seed replays the same enemy order, training cycles and hit rolls.
+     *
+     * @param gameSeed Seed for the session, or null for a random one
+     */
+    public static void init(Player p, List<Enemy> enemyPool, Long gameSeed) {
         player = p;
+        seed = gameSeed;
+        random = gameSeed != null ? new SplittableRandom(gameSeed) : new SplittableRandom();
 
         // Initialize systems (same as ConsoleUITest)
         entitySystem = new EntitySystem();
         skillSystem = new SkillSystem();
         cooldownSystem = new CooldownSystem();
-        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem);
-        enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem);
+        combatSystem = new CombatSystem(entitySystem, skillSystem, cooldownSystem, random.split());
+        EnemyArchetypeRegistry archetypes = new EnemyArchetypeRegistry(); // This session's enemy AIs
+        if (hardMode) getSearchAI().enableHardMode(archetypes);
+        enemyAISystem = new EnemyAISystem(entitySystem, skillSystem, cooldownSystem, archetypes);
         actionValueSystem = new ActionValueSystem(entitySystem);
+        enemyAISystem.setActionValueSystem(actionValueSystem); // Perfect play / search read the live phase
+        if (policyTables == null) policyTables = loadPolicyTables();
+        hintTable = null;
 
-        // Shuffle enemies
+        // Shuffle enemies (Fisher-Yates on the session random)
         List<Enemy> shuffled = new ArrayList<>(enemyPool);
-        Collections.shuffle(shuffled);
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            Collections.swap(shuffled, i, random.nextInt(i + 1));
+        }
         enemies = new ArrayDeque<>(shuffled);
     }
 
+    /**
+     * Map the precomputed policy tables if the file exists.
+     * Missing or unreadable file = no best-move hints.
+     */
+    private static PolicyTableSystem loadPolicyTables() {
+        Path file = Paths.get(PolicyTableSystem.DEFAULT_FILE);
+        if (!Files.exists(file)) return null;
+
+        PolicyTableSystem tables = new PolicyTableSystem();
+        try {
+            tables.load(file);
+            return tables;
+        } catch (IOException e) {
+            System.err.println("Policy tables not loaded: " + e.getMessage());
+            return null;
+        }
+    }
+
     // ================== ENEMY FLOW ==================
 
     public static Enemy nextEnemy() {
@@ -82,6 +132,83 @@ public class GameSession {
         return actionValueSystem;
     }
 
+    // ================== BATTLE TURN ORDER ==================
+
+    /**
+     * Start the AV turn order for a battle and bind the policy tables to it.
+     * Call once per battle, before the first turn.
+     */
+    public static void beginBattle(Player p, Enemy enemy) {
+        actionValueSystem.initializeBattle(p, enemy);
+        hintTable = policyTables != null
+            ? policyTables.bind(p, SkillsData.getSkillsForProfession(p.getProfession()), enemy, actionValueSystem)
+            : null;
+    }
+
+    /**
+     * Clear the turn order and hint binding after a battle.
+     */
+    public static void endBattle() {
+        actionValueSystem.endBattle();
+        hintTable = null;
+    }
+
+    /**
+     * Best skill for the player on the current turn according to the policy tables.
+     *
+     * @return Skill index, or -1 if no hint is available
+     */
+    public static int getBestSkillHint() {
+        if (hintTable == null) return -1;
+        int hint = hintTable.bestPlayerSkill();
+        return hint >= 0 ? hint : -1;
+    }
+
+    // ================== DIFFICULTY ==================
+
+    /**
+     * Hard mode: every enemy template searches ahead (SearchAISystem) instead
+     * of following its fixed rules. Applies to the running session and to
+     * later sessions; call it between battles, not while the enemy AI is
+     * deciding. Only this session's archetypes change.
+     * Each enemy decision then takes up to the search deadline, so call the
+     * enemy AI off the JavaFX thread (BattleScreen does).
+     */
+    public static void setHardMode(boolean enabled) {
+        hardMode = enabled;
+        if (enemyAISystem == null) return;
+
+        if (enabled) {
+            getSearchAI().enableHardMode(enemyAISystem.getArchetypes());
+        } else {
+            getSearchAI().disableHardMode(enemyAISystem.getArchetypes());
+        }
+        enemyAISystem.invalidateContext();
+    }
+
+    public static boolean isHardMode() {
+        return hardMode;
+    }
+
+    private static SearchAISystem getSearchAI() {
+        if (searchAI == null) searchAI = new SearchAISystem();
+        return searchAI;
+    }
+
+    /**
+     * Policy that plays for the player in auto-battle and auto-train.
+     */
+    public static PlayerPolicy getAutoPolicy() {
+        return autoPolicy;
+    }
+
+    public static void setAutoPolicy(PlayerPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        }
+        autoPolicy = policy;
+    }
+
     public static CooldownSystem getCooldownSystem() {
         return cooldownSystem;
     }
@@ -89,4 +216,19 @@ public class GameSession {
     public static EntitySystem getEntitySystem() {
         return entitySystem;
     }
+
+    /**
+     * Session random source (training cycle counts etc.).
+     */
+    public static SplittableRandom getRandom() {
+        if (random == null) random = new SplittableRandom();
+        return random;
+    }
+
+    /**
+     * Seed the session was started with, or null if unseeded.
+     */
+    public static Long getSeed() {
+        return seed;
+    }
 }
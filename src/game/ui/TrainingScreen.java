@@ -15,8 +15,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.util.Random;
-
 public class TrainingScreen {
 
     private final Player player;
@@ -28,7 +26,7 @@ public class TrainingScreen {
     private Label playerStatsLabel;
     private VBox enemyStatsBox;
 
-    private Button trainStrBtn, trainAgiBtn, trainIntBtn, nextBtn;
+    private Button trainStrBtn, trainAgiBtn, trainIntBtn, autoTrainBtn, nextBtn;
 
     public TrainingScreen(Player player) {
         this.player = player;
@@ -37,7 +35,7 @@ public class TrainingScreen {
     }
 
     private void randomizeCycles() {
-        totalCycles = new Random().nextInt(5) + 3; // 3–7 cycles
+        totalCycles = GameSession.getRandom().nextInt(5) + 3; // 3–7 cycles
         currentCycle = 1;
     }
 
@@ -71,12 +69,15 @@ public class TrainingScreen {
         trainStrBtn = createTrainingButton("Train Strength");
         trainAgiBtn = createTrainingButton("Train Agility");
         trainIntBtn = createTrainingButton("Train Intelligence");
+        autoTrainBtn = createTrainingButton("Auto Train");
 
         trainStrBtn.setOnAction(e -> train("STR"));
         trainAgiBtn.setOnAction(e -> train("AGI"));
         trainIntBtn.setOnAction(e -> train("INT"));
+        autoTrainBtn.setOnAction(e -> train(
+                GameSession.getAutoPolicy().chooseTrainingStat(player, currentEnemy, GameSession.getRandom())));
 
-        HBox trainBtns = new HBox(10, trainStrBtn, trainAgiBtn, trainIntBtn);
+        HBox trainBtns = new HBox(10, trainStrBtn, trainAgiBtn, trainIntBtn, autoTrainBtn);
         trainBtns.setAlignment(Pos.CENTER);
 
         nextBtn = new Button("Next Cycle");
@@ -133,6 +134,7 @@ public class TrainingScreen {
         trainStrBtn.setDisable(false);
         trainAgiBtn.setDisable(false);
         trainIntBtn.setDisable(false);
+        autoTrainBtn.setDisable(false);
         nextBtn.setDisable(true);
     }
 
@@ -140,6 +142,7 @@ public class TrainingScreen {
         trainStrBtn.setDisable(true);
         trainAgiBtn.setDisable(true);
         trainIntBtn.setDisable(true);
+        autoTrainBtn.setDisable(true);
     }
 
     private void updateStatsDisplay() {